@@ -43,6 +43,9 @@ public final class HttpClientConfiguration {
 	/// Default value for [HttpClientConfiguration#followRedirect].
 	private static final boolean DEFAULT_FOLLOW_REDIRECT = true;
 
+	/// Default value for [HttpClientConfiguration#http2PriorKnowledge].
+	private static final boolean DEFAULT_HTTP2_PRIOR_KNOWLEDGE = false;
+
 	/// The default configuration.
 	/// Since the [HttpClientConfiguration] is immutable, it is safe to use a singleton.
 	private static final HttpClientConfiguration DEFAULT_CONFIGURATION = new HttpClientConfiguration.Builder().build();
@@ -63,13 +66,19 @@ public final class HttpClientConfiguration {
 	/// Flag that can enable/disable automatic redirection handling.
 	private final boolean followRedirect;
 
+	/// Flag that can be used to speak HTTP/2 over cleartext connections (a.k.a `h2c`)
+	/// without any prior HTTP/1.1 upgrade (i.e "prior knowledge" mode).
+	private final boolean http2PriorKnowledge;
+
 	// Private constructor: use the builder instead.
 	private HttpClientConfiguration(
 		boolean followRedirect,
+		boolean http2PriorKnowledge,
 		Map<String, HttpHeader> defaultHeaders,
 		List<Cookie> defaultCookies
 	) {
 		this.followRedirect = followRedirect;
+		this.http2PriorKnowledge = http2PriorKnowledge;
 		this.defaultHeaders = unmodifiableMap(new LinkedHashMap<>(defaultHeaders));
 		this.defaultCookies = unmodifiableList(new ArrayList<>(defaultCookies));
 	}
@@ -95,11 +104,22 @@ public final class HttpClientConfiguration {
 		return followRedirect;
 	}
 
+	/// Get [#http2PriorKnowledge] flag.
+	///
+	/// @return [#http2PriorKnowledge].
+	public boolean isHttp2PriorKnowledge() {
+		return http2PriorKnowledge;
+	}
+
 	/// Get builder from given instance.
 	///
 	/// @return The builder.
 	public Builder builder() {
-		return new Builder().followRedirect(followRedirect).addDefaultHeaders(defaultHeaders.values()).addDefaultCookies(defaultCookies);
+		return new Builder()
+			.followRedirect(followRedirect)
+			.http2PriorKnowledge(http2PriorKnowledge)
+			.addDefaultHeaders(defaultHeaders.values())
+			.addDefaultCookies(defaultCookies);
 	}
 
 	@Override
@@ -111,6 +131,7 @@ public final class HttpClientConfiguration {
 		if (o instanceof HttpClientConfiguration) {
 			HttpClientConfiguration c = (HttpClientConfiguration) o;
 			return followRedirect == c.followRedirect &&
+				http2PriorKnowledge == c.http2PriorKnowledge &&
 				Objects.equals(defaultHeaders, c.defaultHeaders) &&
 				Objects.equals(defaultCookies, c.defaultCookies);
 		}
@@ -120,13 +141,14 @@ public final class HttpClientConfiguration {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(followRedirect, defaultHeaders, defaultCookies);
+		return Objects.hash(followRedirect, http2PriorKnowledge, defaultHeaders, defaultCookies);
 	}
 
 	@Override
 	public String toString() {
 		return ToStringBuilder.create(getClass())
 			.append("followRedirect", followRedirect)
+			.append("http2PriorKnowledge", http2PriorKnowledge)
 			.append("defaultHeaders", defaultHeaders)
 			.append("defaultCookies", defaultCookies)
 			.build();
@@ -138,6 +160,10 @@ public final class HttpClientConfiguration {
 		/// @see HttpClientConfiguration#DEFAULT_FOLLOW_REDIRECT
 		private boolean followRedirect;
 
+		/// Flag that can be used to enable/disable HTTP/2 "prior knowledge" mode.
+		/// @see HttpClientConfiguration#DEFAULT_HTTP2_PRIOR_KNOWLEDGE
+		private boolean http2PriorKnowledge;
+
 		/// The set of default headers that will be added for each HTTP request.
 		private final Map<String, HttpHeader> defaultHeaders;
 
@@ -147,8 +173,10 @@ public final class HttpClientConfiguration {
 		/// Create builder with default values.
 		///
 		/// @see HttpClientConfiguration#DEFAULT_FOLLOW_REDIRECT
+		/// @see HttpClientConfiguration#DEFAULT_HTTP2_PRIOR_KNOWLEDGE
 		public Builder() {
 			this.followRedirect = DEFAULT_FOLLOW_REDIRECT;
+			this.http2PriorKnowledge = DEFAULT_HTTP2_PRIOR_KNOWLEDGE;
 			this.defaultHeaders = new LinkedHashMap<>();
 			this.defaultCookies = new ArrayList<>();
 		}
@@ -248,11 +276,38 @@ public final class HttpClientConfiguration {
 			return this;
 		}
 
+		/// Enable HTTP/2 "prior knowledge" mode: the client will speak HTTP/2 over cleartext
+		/// connections (a.k.a `h2c`) without any HTTP/1.1 upgrade, so the server must have
+		/// HTTP/2 enabled.
+		///
+		/// Note that this mode is only supported by [HttpClientStrategy#OK_HTTP3].
+		///
+		/// @return The builder (for chaining).
+		public Builder enableHttp2PriorKnowledge() {
+			return http2PriorKnowledge(true);
+		}
+
+		/// Disable HTTP/2 "prior knowledge" mode.
+		///
+		/// @return The builder (for chaining).
+		public Builder disableHttp2PriorKnowledge() {
+			return http2PriorKnowledge(false);
+		}
+
+		/// Update [#http2PriorKnowledge]
+		///
+		/// @param http2PriorKnowledge New [#http2PriorKnowledge]
+		/// @return The builder (for chaining).
+		public Builder http2PriorKnowledge(boolean http2PriorKnowledge) {
+			this.http2PriorKnowledge = http2PriorKnowledge;
+			return this;
+		}
+
 		/// Create new client configuration.
 		///
 		/// @return The HTTP client configuration.
 		public HttpClientConfiguration build() {
-			return new HttpClientConfiguration(followRedirect, defaultHeaders, defaultCookies);
+			return new HttpClientConfiguration(followRedirect, http2PriorKnowledge, defaultHeaders, defaultCookies);
 		}
 	}
 }
@@ -62,6 +62,11 @@ public enum HttpClientStrategy {
 			return SUPPORT_OK_HTTP3_CLIENT;
 		}
 
+		@Override
+		boolean supportHttp2PriorKnowledge() {
+			return true;
+		}
+
 		@Override
 		HttpClient instantiate(EmbeddedServer<? extends AbstractConfiguration> server) {
 			return OkHttpClient.defaultOkHttpClient(server);
@@ -147,6 +152,11 @@ public enum HttpClientStrategy {
 			return false;
 		}
 
+		@Override
+		boolean supportHttp2PriorKnowledge() {
+			return OK_HTTP3.support();
+		}
+
 		@Override
 		HttpClient instantiate(EmbeddedServer<? extends AbstractConfiguration> server) {
 			// First, look into available providers.
@@ -177,7 +187,7 @@ public enum HttpClientStrategy {
 
 			// Then, use classpath detection.
 			for (HttpClientStrategy strategy : HttpClientStrategy.values()) {
-				if (strategy.support()) {
+				if (strategy != this && strategy.support() && strategy.checkConfiguration(configuration)) {
 					return strategy.instantiate(configuration, server);
 				}
 			}
@@ -270,9 +280,24 @@ public enum HttpClientStrategy {
 	/// @throws UnsupportedOperationException If the runtime environment does not allow the strategy (such as: the library has not been imported).
 	public HttpClient build(HttpClientConfiguration configuration, EmbeddedServer<? extends AbstractConfiguration> server) {
 		checkSupport();
+
+		if (!checkConfiguration(configuration)) {
+			throw new UnsupportedOperationException(
+				"HTTP Client cannot be created because HTTP/2 prior knowledge mode is not supported by " + library
+			);
+		}
+
 		return instantiate(configuration, server);
 	}
 
+	/// Check that given configuration can be used with this strategy.
+	///
+	/// @param configuration HTTP Client configuration.
+	/// @return `true` if the configuration is supported, `false` otherwise.
+	private boolean checkConfiguration(HttpClientConfiguration configuration) {
+		return !configuration.isHttp2PriorKnowledge() || supportHttp2PriorKnowledge();
+	}
+
 	/// Ensure that the strategy is supported, throw [UnsupportedOperationException] otherwise.
 	///
 	/// @throws UnsupportedOperationException If the strategy is not supported by the runtime environment.
@@ -289,6 +314,14 @@ public enum HttpClientStrategy {
 	/// @return `true` if the strategy can be instantiated, `false` otherwise.
 	public abstract boolean support();
 
+	/// Check if the strategy can speak HTTP/2 over cleartext connections with prior knowledge.
+	///
+	/// @return `true` if HTTP/2 prior knowledge mode is supported, `false` otherwise.
+	/// @see HttpClientConfiguration#isHttp2PriorKnowledge()
+	boolean supportHttp2PriorKnowledge() {
+		return false;
+	}
+
 	/// Instantiate strategy.
 	///
 	/// @param server The target server.
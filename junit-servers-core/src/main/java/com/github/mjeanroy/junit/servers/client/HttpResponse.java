@@ -61,6 +61,21 @@ public interface HttpResponse {
 	/// @return Body.
 	String body();
 
+	/// Get the size (in bytes) of the response body as it has been sent by the server, i.e before
+	/// content decoding (`gzip`, `deflate`, etc.), so that it can be compared with [#getDecodedBodySize()]
+	/// to measure the compression ratio.
+	///
+	/// Some http clients decode compressed responses transparently without exposing the encoded payload: in
+	/// this case, `-1` is returned.
+	///
+	/// @return Encoded body size, `-1` if it is unknown.
+	long getEncodedBodySize();
+
+	/// Get the size (in bytes) of the decoded response body, i.e the `UTF-8` representation of [#body()].
+	///
+	/// @return Decoded body size.
+	long getDecodedBodySize();
+
 	/// Get the list of headers ([RFC 2616](https://tools.ietf.org/html/rfc2616#section-6.2)).
 	///
 	/// @return Header list.
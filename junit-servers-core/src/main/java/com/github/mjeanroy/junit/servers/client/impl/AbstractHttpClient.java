@@ -36,6 +36,7 @@ import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.TraceContext;
 
 import static com.github.mjeanroy.junit.servers.commons.core.Urls.concatenatePath;
 import static com.github.mjeanroy.junit.servers.commons.core.Urls.startsWithHttpScheme;
@@ -168,6 +169,13 @@ public abstract class AbstractHttpClient implements HttpClient {
 			rq = rq.addCookie(cookie);
 		}
 
+		// Propagate the trace of the running test, if any, to the server when it records spans.
+		final TraceContext trace = server.isTracing() ? TraceContext.current() : null;
+		if (trace != null && isServerUrl(requestEndpoint)) {
+			log.trace("Adding traceparent header of test: {}", trace.getTestName());
+			rq = rq.addHeader(TraceContext.TRACEPARENT, trace.newTraceparent());
+		}
+
 		return rq;
 	}
 
@@ -184,6 +192,17 @@ public abstract class AbstractHttpClient implements HttpClient {
 		}
 	}
 
+	/// Check if given request url targets the embedded server: an absolute url may target another host, which
+	/// should not receive the trace of the running test.
+	///
+	/// @param endpoint Request url.
+	/// @return `true` if the url targets the embedded server, `false` otherwise.
+	private boolean isServerUrl(HttpUrl endpoint) {
+		return endpoint.getPort() == server.getPort()
+			&& endpoint.getScheme().equalsIgnoreCase(server.getScheme())
+			&& endpoint.getHost().equalsIgnoreCase(server.getHost());
+	}
+
 	/// Build request object.
 	///
 	/// @param httpMethod Http method.
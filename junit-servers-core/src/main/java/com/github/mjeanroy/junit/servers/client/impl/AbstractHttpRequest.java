@@ -35,6 +35,8 @@ import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.MediaType;
 import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
+import com.github.mjeanroy.junit.servers.servers.Span;
+import com.github.mjeanroy.junit.servers.servers.TraceContext;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -280,12 +282,21 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 
 	@Override
 	public HttpResponse execute() {
+		final HttpHeader traceparent = headers.get(TraceContext.TRACEPARENT);
+		final long start = System.nanoTime();
+
 		try {
 			return doExecute();
 		}
 		catch (Exception ex) {
 			throw new HttpClientException(ex);
 		}
+		finally {
+			if (traceparent != null) {
+				String name = method.getVerb() + " " + endpoint.getPath();
+				TraceContext.record(traceparent.getFirstValue(), Span.Kind.CLIENT, name, start, System.nanoTime() - start);
+			}
+		}
 	}
 
 	@Override
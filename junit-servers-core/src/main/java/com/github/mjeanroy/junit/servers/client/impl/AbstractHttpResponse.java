@@ -30,6 +30,7 @@ import com.github.mjeanroy.junit.servers.client.HttpResponse;
 import com.github.mjeanroy.junit.servers.exceptions.HttpClientException;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -120,6 +121,30 @@ public abstract class AbstractHttpResponse implements HttpResponse {
 	/// @throws IOException If an error occurred while reading _body.
 	protected abstract String readResponseBody() throws IOException;
 
+	@Override
+	public long getEncodedBodySize() {
+		// Ensure the body has been fully read, so that bytes have been counted.
+		body();
+		return readEncodedBodySize();
+	}
+
+	/// Read the size (in bytes) of the response body, before content decoding: this method is
+	/// called once the response body has been read.
+	///
+	/// Default implementation returns `-1` (i.e unknown), implementations should override it when
+	/// the encoded size is available.
+	///
+	/// @return The encoded body size, `-1` if it is unknown.
+	protected long readEncodedBodySize() {
+		return -1;
+	}
+
+	@Override
+	public long getDecodedBodySize() {
+		String body = body();
+		return body == null ? 0 : body.getBytes(StandardCharsets.UTF_8).length;
+	}
+
 	@Override
 	public boolean containsHeader(String name) {
 		return getHeader(name) != null;
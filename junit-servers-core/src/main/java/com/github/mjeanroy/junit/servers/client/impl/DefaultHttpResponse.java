@@ -44,7 +44,19 @@ public final class DefaultHttpResponse extends AbstractHttpResponse {
 	/// @param headers The response headers.
 	/// @return The HTTP response.
 	public static DefaultHttpResponse of(long duration, int status, String body, Collection<HttpHeader> headers) {
-		return new DefaultHttpResponse(duration, status, body, headers);
+		return new DefaultHttpResponse(duration, status, body, headers, -1);
+	}
+
+	/// Create a default HTTP Response from given values.
+	///
+	/// @param duration Request-Response duration.
+	/// @param status The response status code.
+	/// @param body The response body.
+	/// @param headers The response headers.
+	/// @param encodedBodySize The size (in bytes) of the body sent by the server, before content decoding.
+	/// @return The HTTP response.
+	public static DefaultHttpResponse of(long duration, int status, String body, Collection<HttpHeader> headers, long encodedBodySize) {
+		return new DefaultHttpResponse(duration, status, body, headers, encodedBodySize);
 	}
 
 	/// The response status code.
@@ -56,10 +68,14 @@ public final class DefaultHttpResponse extends AbstractHttpResponse {
 	/// The response headers.
 	private final Map<String, HttpHeader> headers;
 
-	private DefaultHttpResponse(long duration, int status, String body, Collection<HttpHeader> headers) {
+	/// The size (in bytes) of the body sent by the server, `-1` if it is unknown.
+	private final long encodedBodySize;
+
+	private DefaultHttpResponse(long duration, int status, String body, Collection<HttpHeader> headers, long encodedBodySize) {
 		super(duration);
 		this.status = status;
 		this.body = body;
+		this.encodedBodySize = encodedBodySize;
 
 		this.headers = new LinkedHashMap<>();
 		for (HttpHeader header : headers) {
@@ -77,6 +93,11 @@ public final class DefaultHttpResponse extends AbstractHttpResponse {
 		return body;
 	}
 
+	@Override
+	protected long readEncodedBodySize() {
+		return encodedBodySize;
+	}
+
 	@Override
 	public Collection<HttpHeader> getHeaders() {
 		return headers.values();
@@ -98,7 +119,8 @@ public final class DefaultHttpResponse extends AbstractHttpResponse {
 			return super.equals(o)
 				&& Objects.equals(status, r.status)
 				&& Objects.equals(body, r.body)
-				&& Objects.equals(headers, r.headers);
+				&& Objects.equals(headers, r.headers)
+				&& Objects.equals(encodedBodySize, r.encodedBodySize);
 		}
 
 		return false;
@@ -106,7 +128,7 @@ public final class DefaultHttpResponse extends AbstractHttpResponse {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(super.hashCode(), status, body, headers);
+		return Objects.hash(super.hashCode(), status, body, headers, encodedBodySize);
 	}
 
 	@Override
@@ -116,6 +138,7 @@ public final class DefaultHttpResponse extends AbstractHttpResponse {
 			.append("status", status)
 			.append("body", body)
 			.append("headers", headers)
+			.append("encodedBodySize", encodedBodySize)
 			.build();
 	}
 
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.client.impl;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+
+/// Static utilities to trust the self-signed certificate of an embedded server (see
+/// [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getCertificate()]): only this certificate is
+/// trusted, and host names are still verified.
+public final class TrustedCertificates {
+
+	// Ensure non instantiation.
+	private TrustedCertificates() {
+	}
+
+	/// Create a trust manager trusting given certificate.
+	///
+	/// @param certificate The certificate.
+	/// @return The trust manager.
+	public static X509TrustManager trustManager(X509Certificate certificate) {
+		try {
+			final KeyStore trustStore = KeyStore.getInstance("PKCS12");
+			trustStore.load(null, null);
+			trustStore.setCertificateEntry("junit-servers", certificate);
+
+			final TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+			trustManagerFactory.init(trustStore);
+
+			for (TrustManager trustManager : trustManagerFactory.getTrustManagers()) {
+				if (trustManager instanceof X509TrustManager) {
+					return (X509TrustManager) trustManager;
+				}
+			}
+
+			throw new IllegalStateException("Cannot find X509 trust manager");
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/// Create a client SSL context trusting given certificate.
+	///
+	/// @param certificate The certificate.
+	/// @return The SSL context.
+	public static SSLContext sslContext(X509Certificate certificate) {
+		return sslContext(trustManager(certificate));
+	}
+
+	/// Create a client SSL context using given trust manager.
+	///
+	/// @param trustManager The trust manager.
+	/// @return The SSL context.
+	public static SSLContext sslContext(X509TrustManager trustManager) {
+		try {
+			final SSLContext sslContext = SSLContext.getInstance("TLS");
+			sslContext.init(null, new TrustManager[]{trustManager}, null);
+			return sslContext;
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
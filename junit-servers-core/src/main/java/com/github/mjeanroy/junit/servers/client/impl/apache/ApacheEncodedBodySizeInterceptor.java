@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.client.impl.apache;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// Response interceptor counting the bytes of the response body sent by the server: this interceptor
+/// must be registered first, so that it runs before the entity is transparently decoded (i.e `gzip` responses).
+///
+/// Bytes are counted into the [AtomicLong] stored in the [#ATTRIBUTE] attribute of the execution
+/// context, responses without this attribute are left untouched.
+final class ApacheEncodedBodySizeInterceptor implements HttpResponseInterceptor {
+
+	/// The name of the context attribute holding the byte counter.
+	static final String ATTRIBUTE = ApacheEncodedBodySizeInterceptor.class.getName() + ".counter";
+
+	@Override
+	public void process(HttpResponse response, HttpContext context) {
+		Object counter = context.getAttribute(ATTRIBUTE);
+		HttpEntity entity = response.getEntity();
+		if (counter instanceof AtomicLong && entity != null) {
+			response.setEntity(new CountingEntity(entity, (AtomicLong) counter));
+		}
+	}
+
+	private static final class CountingEntity extends HttpEntityWrapper {
+
+		/// The byte counter.
+		private final AtomicLong counter;
+
+		private CountingEntity(HttpEntity entity, AtomicLong counter) {
+			super(entity);
+			this.counter = counter;
+		}
+
+		@Override
+		public InputStream getContent() throws IOException {
+			return new CountingInputStream(super.getContent(), counter);
+		}
+	}
+
+	private static final class CountingInputStream extends FilterInputStream {
+
+		/// The byte counter.
+		private final AtomicLong counter;
+
+		private CountingInputStream(InputStream in, AtomicLong counter) {
+			super(in);
+			this.counter = counter;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) {
+				counter.incrementAndGet();
+			}
+
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				counter.addAndGet(read);
+			}
+
+			return read;
+		}
+	}
+}
@@ -30,11 +30,13 @@ import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
+import com.github.mjeanroy.junit.servers.client.impl.TrustedCertificates;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 
+import java.security.cert.X509Certificate;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
@@ -62,11 +64,18 @@ public class ApacheHttpClient extends AbstractHttpClient {
 	/// @return Http client.
 	/// @throws NullPointerException If `server` or `configuration` are `null`.
 	public static ApacheHttpClient newApacheHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
-		HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
+		HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+			.addInterceptorFirst(new ApacheEncodedBodySizeInterceptor());
+
 		if (!configuration.isFollowRedirect()) {
 			httpClientBuilder.disableRedirectHandling();
 		}
 
+		X509Certificate certificate = server.getCertificate();
+		if (certificate != null) {
+			httpClientBuilder.setSSLContext(TrustedCertificates.sslContext(certificate));
+		}
+
 		CloseableHttpClient client = httpClientBuilder.build();
 		return new ApacheHttpClient(configuration, server, client);
 	}
@@ -47,11 +47,14 @@ import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.github.mjeanroy.junit.servers.client.HttpHeaders.COOKIE;
 import static java.lang.System.nanoTime;
@@ -92,11 +95,15 @@ class ApacheHttpRequest extends AbstractHttpRequest {
 		handleHeaders(httpRequest);
 		handleCookies(httpRequest);
 
+		final AtomicLong encodedBodySize = new AtomicLong(0);
+		final HttpContext context = new BasicHttpContext();
+		context.setAttribute(ApacheEncodedBodySizeInterceptor.ATTRIBUTE, encodedBodySize);
+
 		final long start = nanoTime();
-		final org.apache.http.HttpResponse httpResponse = client.execute(httpRequest);
+		final org.apache.http.HttpResponse httpResponse = client.execute(httpRequest, context);
 		final long duration = nanoTime() - start;
 
-		return ApacheHttpResponseFactory.of(httpResponse, duration);
+		return ApacheHttpResponseFactory.of(httpResponse, duration, encodedBodySize);
 	}
 
 	/// Add request body.
@@ -39,6 +39,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
 import static java.util.Collections.emptyList;
@@ -51,13 +52,26 @@ final class ApacheHttpResponse extends AbstractHttpResponse {
 	/// The original response.
 	private final org.apache.http.HttpResponse response;
 
+	/// The counter of the body bytes sent by the server, updated while the body is read.
+	private final AtomicLong encodedBodySize;
+
 	/// Create the response from Apache HTTP Component.
 	///
 	/// @param response The original response.
 	/// @param duration Request duration.
 	ApacheHttpResponse(org.apache.http.HttpResponse response, long duration) {
+		this(response, duration, null);
+	}
+
+	/// Create the response from Apache HTTP Component.
+	///
+	/// @param response The original response.
+	/// @param duration Request duration.
+	/// @param encodedBodySize The counter of the body bytes sent by the server, `null` if bytes are not counted.
+	ApacheHttpResponse(org.apache.http.HttpResponse response, long duration, AtomicLong encodedBodySize) {
 		super(duration);
 		this.response = notNull(response, "Response");
+		this.encodedBodySize = encodedBodySize;
 	}
 
 	@Override
@@ -71,6 +85,11 @@ final class ApacheHttpResponse extends AbstractHttpResponse {
 		return entity == null ? "" : EntityUtils.toString(entity);
 	}
 
+	@Override
+	protected long readEncodedBodySize() {
+		return encodedBodySize == null ? -1 : encodedBodySize.get();
+	}
+
 	@Override
 	public Collection<HttpHeader> getHeaders() {
 		final Header[] headers = response.getAllHeaders();
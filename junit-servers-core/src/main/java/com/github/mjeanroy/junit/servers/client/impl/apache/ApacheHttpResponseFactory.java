@@ -27,6 +27,8 @@ package com.github.mjeanroy.junit.servers.client.impl.apache;
 import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponse;
 import org.apache.http.HttpResponse;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /// Factory to produce [com.github.mjeanroy.junit.servers.client.HttpResponse] from [HttpResponse].
 ///
 /// @see com.github.mjeanroy.junit.servers.client.HttpClientStrategy#APACHE_HTTP_CLIENT
@@ -44,4 +46,14 @@ final class ApacheHttpResponseFactory {
 	static com.github.mjeanroy.junit.servers.client.HttpResponse of(HttpResponse response, long duration) {
 		return new ApacheHttpResponse(response, duration);
 	}
+
+	/// Create the final [DefaultHttpResponse] instance.
+	///
+	/// @param response The Apache response.
+	/// @param duration The request duration.
+	/// @param encodedBodySize The counter of the body bytes sent by the server, updated while the body is read.
+	/// @return The HTTP response.
+	static com.github.mjeanroy.junit.servers.client.HttpResponse of(HttpResponse response, long duration, AtomicLong encodedBodySize) {
+		return new ApacheHttpResponse(response, duration, encodedBodySize);
+	}
 }
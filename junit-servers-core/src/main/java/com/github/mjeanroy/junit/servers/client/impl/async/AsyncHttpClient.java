@@ -30,12 +30,17 @@ import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
+import com.github.mjeanroy.junit.servers.client.impl.TrustedCertificates;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
-import org.asynchttpclient.AsyncHttpClientConfig;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
 import org.asynchttpclient.DefaultAsyncHttpClient;
 import org.asynchttpclient.DefaultAsyncHttpClientConfig;
 
+import javax.net.ssl.SSLException;
+import java.security.cert.X509Certificate;
+
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
 
 /// Implementation of [HttpClient] using [async-http-client](https://asynchttpclient.github.io)
@@ -61,11 +66,15 @@ public class AsyncHttpClient extends AbstractHttpClient {
 	/// @return Http client.
 	/// @throws NullPointerException If `server` or `configuration` are `null`.
 	public static AsyncHttpClient newAsyncHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
-		AsyncHttpClientConfig config = new DefaultAsyncHttpClientConfig.Builder()
-			.setFollowRedirect(configuration.isFollowRedirect())
-			.build();
+		DefaultAsyncHttpClientConfig.Builder builder = new DefaultAsyncHttpClientConfig.Builder()
+			.setFollowRedirect(configuration.isFollowRedirect());
+
+		X509Certificate certificate = server.getCertificate();
+		if (certificate != null) {
+			builder.setSslContext(newSslContext(certificate));
+		}
 
-		DefaultAsyncHttpClient client = new DefaultAsyncHttpClient(config);
+		DefaultAsyncHttpClient client = new DefaultAsyncHttpClient(builder.build());
 		return new AsyncHttpClient(configuration, server, client);
 	}
 
@@ -101,4 +110,15 @@ public class AsyncHttpClient extends AbstractHttpClient {
 			.append("client", client)
 			.build();
 	}
+
+	private static SslContext newSslContext(X509Certificate certificate) {
+		try {
+			return SslContextBuilder.forClient()
+				.trustManager(TrustedCertificates.trustManager(certificate))
+				.build();
+		}
+		catch (SSLException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
 }
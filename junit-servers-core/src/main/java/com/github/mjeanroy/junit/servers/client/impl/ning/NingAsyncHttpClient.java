@@ -30,11 +30,14 @@ import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
+import com.github.mjeanroy.junit.servers.client.impl.TrustedCertificates;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
 import com.ning.http.client.AsyncHttpClient;
 import com.ning.http.client.AsyncHttpClientConfig;
 
+import java.security.cert.X509Certificate;
+
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
 
 /// Implementation of [HttpClient] using [(Ning) async-http-client](https://github.com/ning/async-http-client)
@@ -53,11 +56,7 @@ public class NingAsyncHttpClient extends AbstractHttpClient {
 	/// @throws NullPointerException If `server` is `null`.
 	public static NingAsyncHttpClient defaultAsyncHttpClient(EmbeddedServer<?> server) {
 		HttpClientConfiguration configuration = HttpClientConfiguration.defaultConfiguration();
-		AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder()
-			.setFollowRedirect(configuration.isFollowRedirect())
-			.build();
-
-		return new NingAsyncHttpClient(configuration, server, new com.ning.http.client.AsyncHttpClient(config));
+		return newAsyncHttpClient(configuration, server);
 	}
 
 	/// Create new http client using custom configuration.
@@ -67,11 +66,15 @@ public class NingAsyncHttpClient extends AbstractHttpClient {
 	/// @return Http client.
 	/// @throws NullPointerException If `server` or `configuration` is `null`.
 	public static NingAsyncHttpClient newAsyncHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
-		AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder()
-			.setFollowRedirect(configuration.isFollowRedirect())
-			.build();
+		AsyncHttpClientConfig.Builder builder = new AsyncHttpClientConfig.Builder()
+			.setFollowRedirect(configuration.isFollowRedirect());
+
+		X509Certificate certificate = server.getCertificate();
+		if (certificate != null) {
+			builder.setSSLContext(TrustedCertificates.sslContext(certificate));
+		}
 
-		AsyncHttpClient client = new AsyncHttpClient(config);
+		AsyncHttpClient client = new AsyncHttpClient(builder.build());
 		return new NingAsyncHttpClient(configuration, server, client);
 	}
 
@@ -30,11 +30,17 @@ import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.client.HttpUrl;
 import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
+import com.github.mjeanroy.junit.servers.client.impl.TrustedCertificates;
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import okhttp3.Protocol;
 
+import javax.net.ssl.X509TrustManager;
+import java.security.cert.X509Certificate;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static java.util.Collections.singletonList;
+
 /// Implementation of [HttpClient] using [OkHttp](http://square.github.io/okhttp) library from Square.
 ///
 /// @see com.github.mjeanroy.junit.servers.client.HttpClientStrategy#OK_HTTP3
@@ -57,10 +63,21 @@ public class OkHttpClient extends AbstractHttpClient {
 	/// @return Http client.
 	/// @throws NullPointerException If `server` or `configuration` are `null`.
 	public static OkHttpClient newOkHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
-		okhttp3.OkHttpClient client = new okhttp3.OkHttpClient.Builder()
+		okhttp3.OkHttpClient.Builder builder = new okhttp3.OkHttpClient.Builder()
 			.followRedirects(configuration.isFollowRedirect())
-			.build();
+			.addNetworkInterceptor(new OkHttpEncodedBodySizeInterceptor());
+
+		if (configuration.isHttp2PriorKnowledge()) {
+			builder.protocols(singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+		}
+
+		X509Certificate certificate = server.getCertificate();
+		if (certificate != null) {
+			X509TrustManager trustManager = TrustedCertificates.trustManager(certificate);
+			builder.sslSocketFactory(TrustedCertificates.sslContext(trustManager).getSocketFactory(), trustManager);
+		}
 
+		okhttp3.OkHttpClient client = builder.build();
 		return new OkHttpClient(configuration, server, client);
 	}
 
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.client.impl.okhttp3;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// Network interceptor counting the bytes of the response body sent by the server, before
+/// OkHttp transparently decodes it (i.e `gzip` responses).
+///
+/// Bytes are counted into the [AtomicLong] set as a tag of the request, requests without this
+/// tag are left untouched.
+final class OkHttpEncodedBodySizeInterceptor implements Interceptor {
+
+	@Override
+	public Response intercept(Chain chain) throws IOException {
+		Response response = chain.proceed(chain.request());
+		AtomicLong counter = chain.request().tag(AtomicLong.class);
+		ResponseBody body = response.body();
+		if (counter == null || body == null) {
+			return response;
+		}
+
+		Source source = new CountingSource(body.source(), counter);
+		ResponseBody countingBody = ResponseBody.create(Okio.buffer(source), body.contentType(), body.contentLength());
+		return response.newBuilder().body(countingBody).build();
+	}
+
+	private static final class CountingSource extends ForwardingSource {
+
+		/// The byte counter.
+		private final AtomicLong counter;
+
+		private CountingSource(Source delegate, AtomicLong counter) {
+			super(delegate);
+			this.counter = counter;
+		}
+
+		@Override
+		public long read(Buffer sink, long byteCount) throws IOException {
+			long read = super.read(sink, byteCount);
+			if (read > 0) {
+				counter.addAndGet(read);
+			}
+
+			return read;
+		}
+	}
+}
@@ -43,6 +43,7 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /// Implementation of [HttpRequest] using [OkHttp](http://square.github.io/okhttp) library.
 ///
@@ -79,7 +80,11 @@ class OkHttpRequest extends AbstractHttpRequest {
 			httpUrlBuilder.addEncodedQueryParameter(queryParam.getEncodedName(), queryParam.getEncodedValue());
 		}
 
-		final Request.Builder builder = new Request.Builder().url(httpUrlBuilder.build());
+		final AtomicLong encodedBodySize = new AtomicLong(0);
+		final Request.Builder builder = new Request.Builder()
+			.url(httpUrlBuilder.build())
+			.tag(AtomicLong.class, encodedBodySize);
+
 		handleBody(builder);
 		handleCookies(builder);
 		handleHeaders(builder);
@@ -89,7 +94,7 @@ class OkHttpRequest extends AbstractHttpRequest {
 		final long start = System.nanoTime();
 		try (Response response = call.execute()) {
 			final long duration = System.nanoTime() - start;
-			return OkHttpResponseFactory.of(response, duration);
+			return OkHttpResponseFactory.of(response, duration, encodedBodySize);
 		}
 	}
 
@@ -45,6 +45,7 @@ final class OkHttpResponse extends AbstractHttpResponse {
 	private final int code;
 	private final String body;
 	private final Headers headers;
+	private final long encodedBodySize;
 
 	/// Create the response from OkHTTP3
 	///
@@ -52,16 +53,19 @@ final class OkHttpResponse extends AbstractHttpResponse {
 	/// @param body The original response body.
 	/// @param headers The original response headers.
 	/// @param duration Request duration.
+	/// @param encodedBodySize The size (in bytes) of the body sent by the server, `-1` if it is unknown.
 	OkHttpResponse(
 			int code,
 			String body,
 			Headers headers,
-			long duration
+			long duration,
+			long encodedBodySize
 	) {
 		super(duration);
 		this.code = code;
 		this.body = body;
 		this.headers = notNull(headers, "Headers");
+		this.encodedBodySize = encodedBodySize;
 	}
 
 	@Override
@@ -74,6 +78,11 @@ final class OkHttpResponse extends AbstractHttpResponse {
 		return body;
 	}
 
+	@Override
+	protected long readEncodedBodySize() {
+		return encodedBodySize;
+	}
+
 	@Override
 	public Collection<HttpHeader> getHeaders() {
 		int size = headers.size();
@@ -103,6 +112,7 @@ final class OkHttpResponse extends AbstractHttpResponse {
 			.append("code", code)
 			.append("body", body)
 			.append("headers", headers)
+			.append("encodedBodySize", encodedBodySize)
 			.build();
 	}
 
@@ -117,7 +127,8 @@ final class OkHttpResponse extends AbstractHttpResponse {
 			return super.equals(r)
 					&& Objects.equals(code, r.code)
 					&& Objects.equals(body, r.body)
-					&& Objects.equals(headers, r.headers);
+					&& Objects.equals(headers, r.headers)
+					&& Objects.equals(encodedBodySize, r.encodedBodySize);
 		}
 
 		return false;
@@ -125,7 +136,7 @@ final class OkHttpResponse extends AbstractHttpResponse {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(super.hashCode(), code, body, headers);
+		return Objects.hash(super.hashCode(), code, body, headers, encodedBodySize);
 	}
 
 	@Override
@@ -31,6 +31,7 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /// Factory that produce [HttpResponse] from [Response].
 ///
@@ -51,7 +52,25 @@ final class OkHttpResponseFactory {
 				response.code(),
 				readResponseBody(response),
 				response.headers(),
-				duration
+				duration,
+				-1
+		);
+	}
+
+	/// Create the final [DefaultHttpResponse] instance.
+	///
+	/// @param response The OkHttp response.
+	/// @param duration The request duration.
+	/// @param encodedBodySize The counter of the body bytes sent by the server, updated while the body is read.
+	/// @return The HTTP response.
+	static HttpResponse of(Response response, long duration, AtomicLong encodedBodySize) {
+		String body = readResponseBody(response);
+		return new OkHttpResponse(
+				response.code(),
+				body,
+				response.headers(),
+				duration,
+				encodedBodySize.get()
 		);
 	}
 
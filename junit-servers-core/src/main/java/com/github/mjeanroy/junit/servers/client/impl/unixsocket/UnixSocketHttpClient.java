@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.client.impl.unixsocket;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpUrl;
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpClient;
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/// Implementation of [HttpClient] talking HTTP/1.1 over the unix domain socket exposed by the
+/// embedded server (see [EmbeddedServer#getSocketPath()]), using nothing but the JDK.
+///
+/// Note that:
+/// - A JDK >= 16 is required (unix domain socket channels are not available before).
+/// - Each request is sent over a dedicated connection (i.e `Connection: close` is always sent).
+/// - Redirections are followed (see [HttpClientConfiguration#isFollowRedirect()]) through the same socket,
+///   keeping only the path and the query string of the `Location` header.
+public class UnixSocketHttpClient extends AbstractHttpClient {
+
+	/// Create new http client using default configuration.
+	///
+	/// @param server Embedded server.
+	/// @return Http client.
+	/// @throws NullPointerException If `server` is `null`.
+	/// @throws IllegalArgumentException If `server` does not listen on a unix domain socket.
+	public static UnixSocketHttpClient defaultUnixSocketHttpClient(EmbeddedServer<?> server) {
+		HttpClientConfiguration configuration = HttpClientConfiguration.defaultConfiguration();
+		return newUnixSocketHttpClient(configuration, server);
+	}
+
+	/// Create new http client using custom configuration.
+	///
+	/// @param configuration Client configuration.
+	/// @param server Embedded server.
+	/// @return Http client.
+	/// @throws NullPointerException If `server` or `configuration` are `null`.
+	/// @throws IllegalArgumentException If `server` does not listen on a unix domain socket.
+	public static UnixSocketHttpClient newUnixSocketHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server) {
+		String socketPath = notNull(server, "server").getSocketPath();
+		if (socketPath == null) {
+			throw new IllegalArgumentException("Embedded server " + server + " does not listen on a unix domain socket");
+		}
+
+		return new UnixSocketHttpClient(configuration, server, Paths.get(socketPath));
+	}
+
+	/// Flag to ensure that the http client has been destroyed or not.
+	private final AtomicBoolean destroyed;
+
+	/// The unix domain socket path.
+	private final Path socketPath;
+
+	/// Create the client.
+	///
+	/// @param configuration The client configuration.
+	/// @param server The embedded server that will be queried.
+	/// @param socketPath The unix domain socket path.
+	private UnixSocketHttpClient(HttpClientConfiguration configuration, EmbeddedServer<?> server, Path socketPath) {
+		super(configuration, server);
+		this.socketPath = socketPath;
+		this.destroyed = new AtomicBoolean(false);
+	}
+
+	@Override
+	protected HttpRequest buildRequest(HttpMethod httpMethod, HttpUrl endpoint) {
+		return new UnixSocketHttpRequest(socketPath, getConfiguration().isFollowRedirect(), httpMethod, endpoint);
+	}
+
+	@Override
+	protected void doDestroy() {
+		destroyed.set(true);
+	}
+
+	@Override
+	public boolean isDestroyed() {
+		return destroyed.get();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("configuration", getConfiguration())
+			.append("server", getServer())
+			.append("socketPath", socketPath)
+			.append("destroyed", destroyed)
+			.build();
+	}
+}
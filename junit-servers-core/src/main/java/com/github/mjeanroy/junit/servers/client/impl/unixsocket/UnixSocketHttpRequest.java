@@ -0,0 +1,385 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.client.impl.unixsocket;
+
+import com.github.mjeanroy.junit.servers.client.Cookies;
+import com.github.mjeanroy.junit.servers.client.HttpHeader;
+import com.github.mjeanroy.junit.servers.client.HttpHeaders;
+import com.github.mjeanroy.junit.servers.client.HttpMethod;
+import com.github.mjeanroy.junit.servers.client.HttpParameter;
+import com.github.mjeanroy.junit.servers.client.HttpRequest;
+import com.github.mjeanroy.junit.servers.client.HttpResponse;
+import com.github.mjeanroy.junit.servers.client.HttpUrl;
+import com.github.mjeanroy.junit.servers.client.impl.AbstractHttpRequest;
+import com.github.mjeanroy.junit.servers.client.impl.DefaultHttpResponse;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ProtocolException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/// Implementation of [HttpRequest] sending HTTP/1.1 messages over a unix domain socket.
+///
+/// @see UnixSocketHttpClient
+class UnixSocketHttpRequest extends AbstractHttpRequest {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(UnixSocketHttpRequest.class);
+
+	/// The HTTP line separator.
+	private static final String CRLF = "\r\n";
+
+	/// The maximum number of redirections followed before giving up.
+	private static final int MAX_REDIRECTS = 10;
+
+	/// The unix domain socket path.
+	private final Path socketPath;
+
+	/// Flag to follow redirections.
+	private final boolean followRedirect;
+
+	/// Create unix socket http request.
+	///
+	/// @param socketPath Unix domain socket path.
+	/// @param followRedirect Follow redirections flag.
+	/// @param httpMethod Http method.
+	/// @param endpoint Http request url.
+	UnixSocketHttpRequest(Path socketPath, boolean followRedirect, HttpMethod httpMethod, HttpUrl endpoint) {
+		super(endpoint, httpMethod);
+		this.socketPath = socketPath;
+		this.followRedirect = followRedirect;
+	}
+
+	@Override
+	protected HttpResponse doExecute() throws Exception {
+		final long start = System.nanoTime();
+
+		HttpMethod method = getMethod();
+		String target = requestTarget();
+		byte[] content = body == null ? null : body.getBody();
+		int redirects = 0;
+
+		while (true) {
+			HttpResponse response = send(method, target, content, start);
+			HttpHeader location = response.getLocation();
+			if (!followRedirect || !isRedirect(response.status()) || location == null) {
+				return response;
+			}
+
+			if (++redirects > MAX_REDIRECTS) {
+				throw new ProtocolException("Too many redirections (" + MAX_REDIRECTS + ") while requesting: " + getEndpoint());
+			}
+
+			// Same as browsers: a 303 always becomes a GET, and so does a 301/302 following a non-idempotent request.
+			int status = response.status();
+			if (status == 303 || ((status == 301 || status == 302) && method != HttpMethod.GET && method != HttpMethod.HEAD)) {
+				method = HttpMethod.GET;
+				content = null;
+			}
+
+			target = resolve(target, location.getFirstValue());
+			log.debug("Following redirection to: {}", target);
+		}
+	}
+
+	/// Send a single HTTP message and read the response.
+	///
+	/// @param method The request method.
+	/// @param target The request target (path and query string).
+	/// @param content The request body, may be `null`.
+	/// @param start The request start time (in nanoseconds).
+	/// @return The HTTP response.
+	/// @throws IOException If an error occurred while sending the request or reading the response.
+	private HttpResponse send(HttpMethod method, String target, byte[] content, long start) throws IOException {
+		final byte[] head = serializeHead(method, target, content);
+
+		log.debug("Sending HTTP request over unix domain socket: {}", socketPath);
+
+		try (SocketChannel channel = UnixSockets.connect(socketPath)) {
+			OutputStream out = Channels.newOutputStream(channel);
+			out.write(head);
+			if (content != null) {
+				out.write(content);
+			}
+
+			out.flush();
+
+			InputStream in = new BufferedInputStream(Channels.newInputStream(channel));
+			return readResponse(in, method, start);
+		}
+	}
+
+	/// Build the request target, i.e the path followed by the query string.
+	///
+	/// @return The request target.
+	private String requestTarget() {
+		final StringBuilder sb = new StringBuilder(getEndpoint().getPath());
+
+		String separator = "?";
+		for (HttpParameter queryParam : queryParams.values()) {
+			sb.append(separator).append(queryParam.getEncodedName()).append("=").append(queryParam.getEncodedValue());
+			separator = "&";
+		}
+
+		return sb.toString();
+	}
+
+	/// Serialize request line and request headers.
+	///
+	/// @param method The request method.
+	/// @param target The request target.
+	/// @param content The request body, may be `null`.
+	/// @return The serialized HTTP message head.
+	private byte[] serializeHead(HttpMethod method, String target, byte[] content) {
+		final StringBuilder sb = new StringBuilder();
+
+		sb.append(method.getVerb()).append(" ").append(target).append(" HTTP/1.1").append(CRLF);
+		appendHeader(sb, "Host", getEndpoint().getHost());
+		appendHeader(sb, "Connection", "close");
+
+		for (HttpHeader h : headers.values()) {
+			appendHeader(sb, h.getName(), h.serializeValues());
+		}
+
+		if (!cookies.isEmpty()) {
+			appendHeader(sb, HttpHeaders.COOKIE, Cookies.serialize(cookies));
+		}
+
+		if (content != null && body.getContentType() != null) {
+			appendHeader(sb, HttpHeaders.CONTENT_TYPE, body.getContentType());
+		}
+
+		if (content != null || method.isBodyAllowed()) {
+			appendHeader(sb, "Content-Length", String.valueOf(content == null ? 0 : content.length));
+		}
+
+		return sb.append(CRLF).toString().getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	private static boolean isRedirect(int status) {
+		return status == 301 || status == 302 || status == 303 || status == 307 || status == 308;
+	}
+
+	/// Resolve the `Location` header against the current request target: since every request goes
+	/// through the same unix domain socket, only the path and the query string of the location are kept.
+	///
+	/// @param target The current request target.
+	/// @param location The location header value.
+	/// @return The new request target.
+	private static String resolve(String target, String location) {
+		URI uri = URI.create("http://localhost" + target).resolve(location.trim());
+		String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+		return uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery();
+	}
+
+	private static void appendHeader(StringBuilder sb, String name, String value) {
+		sb.append(name).append(": ").append(value).append(CRLF);
+	}
+
+	/// Read the HTTP response from given stream.
+	///
+	/// @param in The input stream.
+	/// @param method The request method.
+	/// @param start The request start time (in nanoseconds).
+	/// @return The HTTP response.
+	/// @throws IOException If an error occurred while reading the response.
+	private HttpResponse readResponse(InputStream in, HttpMethod method, long start) throws IOException {
+		int status = parseStatus(readLine(in));
+
+		// Skip interim responses, such as "100 Continue".
+		while (status >= 100 && status < 200) {
+			readHeaders(in);
+			status = parseStatus(readLine(in));
+		}
+
+		final Map<String, HttpHeader.Builder> headers = readHeaders(in);
+		final byte[] content = readBody(in, method, status, headers);
+		final long duration = System.nanoTime() - start;
+
+		final List<HttpHeader> responseHeaders = new ArrayList<>(headers.size());
+		for (HttpHeader.Builder builder : headers.values()) {
+			responseHeaders.add(builder.build());
+		}
+
+		final String responseBody = new String(content, charsetOf(headers.get("content-type")));
+		return DefaultHttpResponse.of(duration, status, responseBody, responseHeaders, content.length);
+	}
+
+	private static byte[] readBody(InputStream in, HttpMethod method, int status, Map<String, HttpHeader.Builder> headers) throws IOException {
+		if (method == HttpMethod.HEAD || status == 204 || status == 304) {
+			return new byte[0];
+		}
+
+		HttpHeader transferEncoding = build(headers.get("transfer-encoding"));
+		if (transferEncoding != null && transferEncoding.serializeValues().toLowerCase(Locale.ROOT).contains("chunked")) {
+			return readChunkedBody(in);
+		}
+
+		HttpHeader contentLength = build(headers.get("content-length"));
+		if (contentLength != null) {
+			return readFully(in, Integer.parseInt(contentLength.getFirstValue().trim()));
+		}
+
+		// No framing, response is delimited by connection close.
+		return readToEnd(in);
+	}
+
+	private static byte[] readChunkedBody(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		while (true) {
+			String line = readLine(in);
+			int extension = line.indexOf(';');
+			int size = Integer.parseInt((extension >= 0 ? line.substring(0, extension) : line).trim(), 16);
+			if (size == 0) {
+				// Skip trailers.
+				readHeaders(in);
+				return out.toByteArray();
+			}
+
+			out.write(readFully(in, size));
+			readLine(in);
+		}
+	}
+
+	private static byte[] readFully(InputStream in, int size) throws IOException {
+		byte[] buffer = new byte[size];
+		int offset = 0;
+		while (offset < size) {
+			int read = in.read(buffer, offset, size - offset);
+			if (read < 0) {
+				throw new EOFException("Unexpected end of stream, expected " + size + " bytes but got " + offset);
+			}
+
+			offset += read;
+		}
+
+		return buffer;
+	}
+
+	private static byte[] readToEnd(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = in.read(buffer)) >= 0) {
+			out.write(buffer, 0, read);
+		}
+
+		return out.toByteArray();
+	}
+
+	private static Map<String, HttpHeader.Builder> readHeaders(InputStream in) throws IOException {
+		Map<String, HttpHeader.Builder> headers = new LinkedHashMap<>();
+
+		String line;
+		while (!(line = readLine(in)).isEmpty()) {
+			int separator = line.indexOf(':');
+			if (separator <= 0) {
+				throw new ProtocolException("Malformed HTTP header: " + line);
+			}
+
+			String name = line.substring(0, separator).trim();
+			String value = line.substring(separator + 1).trim();
+			String key = name.toLowerCase(Locale.ROOT);
+
+			HttpHeader.Builder builder = headers.get(key);
+			if (builder == null) {
+				builder = HttpHeader.builder(name);
+				headers.put(key, builder);
+			}
+
+			builder.addValue(value);
+		}
+
+		return headers;
+	}
+
+	private static int parseStatus(String statusLine) throws ProtocolException {
+		// Status line is: HTTP-version SP status-code SP [ reason-phrase ]
+		String[] parts = statusLine.split(" ", 3);
+		if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+			throw new ProtocolException("Malformed HTTP status line: " + statusLine);
+		}
+
+		return Integer.parseInt(parts[1]);
+	}
+
+	private static String readLine(InputStream in) throws IOException {
+		StringBuilder sb = new StringBuilder();
+
+		int c;
+		while ((c = in.read()) != '\n') {
+			if (c < 0) {
+				throw new EOFException("Unexpected end of stream while reading HTTP response");
+			}
+
+			if (c != '\r') {
+				sb.append((char) c);
+			}
+		}
+
+		return sb.toString();
+	}
+
+	private static HttpHeader build(HttpHeader.Builder builder) {
+		return builder == null ? null : builder.build();
+	}
+
+	private static Charset charsetOf(HttpHeader.Builder contentType) {
+		HttpHeader header = build(contentType);
+		if (header != null) {
+			for (String parameter : header.getFirstValue().split(";")) {
+				String value = parameter.trim();
+				if (value.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+					try {
+						return Charset.forName(value.substring("charset=".length()).replace("\"", ""));
+					}
+					catch (IllegalArgumentException ex) {
+						log.warn("Unsupported response charset: {}", value);
+					}
+				}
+			}
+		}
+
+		return StandardCharsets.UTF_8;
+	}
+}
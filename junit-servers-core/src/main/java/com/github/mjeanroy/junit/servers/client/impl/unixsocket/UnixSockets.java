@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.client.impl.unixsocket;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+/// Static utilities to open unix domain socket channels.
+///
+/// This library targets Java 8, so JDK 16 APIs (`StandardProtocolFamily.UNIX` and
+/// `UnixDomainSocketAddress`) are resolved reflectively, once.
+final class UnixSockets {
+
+	// Ensure non instantiation.
+	private UnixSockets() {
+	}
+
+	/// Open a new channel connected to given unix domain socket.
+	///
+	/// @param path Unix domain socket path.
+	/// @return The connected channel.
+	/// @throws IOException If connection failed.
+	/// @throws UnsupportedOperationException If the current JDK does not support unix domain sockets.
+	static SocketChannel connect(Path path) throws IOException {
+		SocketChannel channel = Holder.open();
+
+		try {
+			channel.connect(Holder.address(path));
+			return channel;
+		}
+		catch (IOException | RuntimeException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/// Lazy holder for reflective JDK 16 accessors.
+	private static final class Holder {
+
+		/// The `StandardProtocolFamily.UNIX` value, `null` if not supported.
+		private static final ProtocolFamily UNIX = findUnixProtocolFamily();
+
+		/// The `SocketChannel.open(ProtocolFamily)` method, `null` if not supported.
+		private static final Method OPEN = findMethod(SocketChannel.class, "open", ProtocolFamily.class);
+
+		/// The `UnixDomainSocketAddress.of(Path)` method, `null` if not supported.
+		private static final Method ADDRESS_OF = findAddressFactory();
+
+		private static SocketChannel open() throws IOException {
+			ensureSupported();
+			return (SocketChannel) invoke(OPEN, UNIX);
+		}
+
+		private static SocketAddress address(Path path) throws IOException {
+			ensureSupported();
+			return (SocketAddress) invoke(ADDRESS_OF, path);
+		}
+
+		private static void ensureSupported() {
+			if (UNIX == null || OPEN == null || ADDRESS_OF == null) {
+				throw new UnsupportedOperationException(
+					"Unix domain sockets are not supported by current JDK (" + System.getProperty("java.version") + "), please use JDK >= 16"
+				);
+			}
+		}
+
+		private static Object invoke(Method method, Object arg) throws IOException {
+			try {
+				return method.invoke(null, arg);
+			}
+			catch (InvocationTargetException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+
+				throw new IOException(cause);
+			}
+			catch (IllegalAccessException ex) {
+				throw new IOException(ex);
+			}
+		}
+
+		private static ProtocolFamily findUnixProtocolFamily() {
+			try {
+				return StandardProtocolFamily.valueOf("UNIX");
+			}
+			catch (IllegalArgumentException ex) {
+				return null;
+			}
+		}
+
+		private static Method findAddressFactory() {
+			try {
+				return findMethod(Class.forName("java.net.UnixDomainSocketAddress"), "of", Path.class);
+			}
+			catch (ClassNotFoundException ex) {
+				return null;
+			}
+		}
+
+		private static Method findMethod(Class<?> klass, String name, Class<?> parameterType) {
+			try {
+				return klass.getMethod(name, parameterType);
+			}
+			catch (NoSuchMethodException ex) {
+				return null;
+			}
+		}
+	}
+}
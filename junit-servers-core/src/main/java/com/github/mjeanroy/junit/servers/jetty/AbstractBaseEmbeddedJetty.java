@@ -32,21 +32,50 @@ import com.github.mjeanroy.junit.servers.exceptions.ServerStopException;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import com.github.mjeanroy.junit.servers.servers.AbstractEmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.AccessRecord;
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import com.github.mjeanroy.junit.servers.servers.ContextDefinition;
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.NetworkConditions;
+import com.github.mjeanroy.junit.servers.servers.ServerStatistics;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.SessionStatistics;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
+import org.eclipse.jetty.io.ArrayByteBufferPool;
+import org.eclipse.jetty.io.ByteBufferPool;
+import org.eclipse.jetty.io.ConnectionStatistics;
 import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.RequestLog;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.handler.ContextHandler;
+import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.eclipse.jetty.util.component.LifeCycle;
 import org.eclipse.jetty.util.resource.Resource;
 
+import javax.net.ssl.SSLContext;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EventListener;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static com.github.mjeanroy.junit.servers.commons.io.Ios.toFilePath;
 import static com.github.mjeanroy.junit.servers.commons.lang.Strings.isNotBlank;
 
+import static java.util.Collections.emptyList;
+
 /// Jetty Embedded Server.
 ///
 /// @param <CONTEXT> The jetty WebAppContext implementation.
@@ -59,21 +88,46 @@ public abstract class AbstractBaseEmbeddedJetty<
 	/// Class Logger.
 	private static final Logger log = LoggerFactory.getLogger(AbstractBaseEmbeddedJetty.class);
 
+	/// Prefix of the context init parameters read by the jetty default servlet.
+	private static final String DEFAULT_SERVLET_PREFIX = "org.eclipse.jetty.servlet.Default.";
+
 	/// Instance of Jetty Server.
 	private final Server server;
 
 	/// Jetty Web App Context.
 	private volatile CONTEXT webAppContext;
 
+	/// Jetty Context Handler: the web app context or, in lightweight mode, the plain servlet context (`null` when
+	/// a handler is mounted directly on the server).
+	private volatile ContextHandler contextHandler;
+
+	/// Additional web app contexts, deployed next to the main context (empty if there is none).
+	private volatile List<ContextHandler> additionalContexts;
+
+	/// Temp directory of the web app context, acquired from the work directory strategy (`null` if no strategy is
+	/// configured or if jetty has not been started yet).
+	private volatile File tempDirectory;
+
+	/// The directory of the compiled JSP, leased inside the JSP cache directory, if any.
+	private volatile File jspDirectory;
+
 	/// Server Connector, lazily initialized.
 	private volatile ServerConnector connector;
 
+	/// Connection statistics of the server connector, `null` if statistics are disabled.
+	private final ConnectionStatistics connectionStatistics;
+
+	/// Jetty statistics handler, `null` if statistics are disabled or if jetty has not been started yet.
+	private volatile Handler statisticsHandler;
+
 	/// Build embedded jetty server.
 	///
 	/// @param configuration Server configuration.
 	protected AbstractBaseEmbeddedJetty(CONFIGURATION configuration) {
 		super(configuration);
 		this.server = initServer();
+		this.additionalContexts = emptyList();
+		this.connectionStatistics = configuration.isStatistics() ? initConnectionStatistics() : null;
 	}
 
 	private Server initServer() {
@@ -81,9 +135,87 @@ public abstract class AbstractBaseEmbeddedJetty<
 		Server server = new Server(configuration.getPort());
 		server.setStopAtShutdown(configuration.isStopAtShutdown());
 		server.setStopTimeout(configuration.getStopTimeout());
+		configureConnections(server);
+
+		if (configuration.isHttps()) {
+			log.debug("Enabling https on jetty server connector");
+			Integer sslSessionCacheSize = configuration.getSslSessionCacheSize();
+			Integer sslSessionTimeout = configuration.getSslSessionTimeout();
+			SSLContext sslContext = newSslContext(sslSessionCacheSize, sslSessionTimeout, configuration.isHandshakeStatistics());
+			JettyHttps.enableHttps(findConnector(server), sslContext, tlsProtocols(sslContext), sslSessionCacheSize, sslSessionTimeout);
+		}
+
+		if (configuration.isHttp2()) {
+			log.debug("Enabling h2c on jetty server connector");
+			JettyHttp2.enableH2c(findConnector(server));
+		}
+
+		final String unixSocketPath = configuration.getUnixSocketPath();
+		if (unixSocketPath != null) {
+			log.debug("Adding jetty unix domain socket connector: {}", unixSocketPath);
+			HttpConfiguration httpConfiguration = findConnector(server).getConnectionFactory(HttpConnectionFactory.class).getHttpConfiguration();
+			addUnixDomainConnector(server, httpConfiguration, Paths.get(unixSocketPath));
+		}
+
+		final Integer accessLogCapacity = configuration.getAccessLogCapacity();
+		if (accessLogCapacity != null && accessLogCapacity > 0) {
+			log.debug("Adding in-memory access log to jetty server: {}", accessLogCapacity);
+			server.setRequestLog(newRequestLog(newAccessLog(accessLogCapacity)));
+		}
+
 		return server;
 	}
 
+	/// Apply connection settings (connection limit, accept queue, idle timeout and keep-alive limit) to the server connector.
+	///
+	/// @param server Jetty server.
+	private void configureConnections(Server server) {
+		final Integer maxConnections = configuration.getMaxConnections();
+		if (maxConnections != null && maxConnections > 0) {
+			log.debug("Limit jetty server connections: {}", maxConnections);
+			server.addBean(newConnectionLimit(server, maxConnections));
+		}
+
+		final ServerConnector connector = findConnector(server);
+
+		final Integer acceptQueueSize = configuration.getAcceptQueueSize();
+		if (acceptQueueSize != null && acceptQueueSize > 0) {
+			log.debug("Set jetty server connector accept queue size: {}", acceptQueueSize);
+			connector.setAcceptQueueSize(acceptQueueSize);
+		}
+
+		final Integer idleTimeout = configuration.getIdleTimeout();
+		if (idleTimeout != null && idleTimeout > 0) {
+			log.debug("Set jetty server connector idle timeout: {}", idleTimeout);
+			connector.setIdleTimeout(idleTimeout);
+		}
+
+		final Integer maxKeepAliveRequests = configuration.getMaxKeepAliveRequests();
+		if (maxKeepAliveRequests != null && maxKeepAliveRequests > 0) {
+			log.debug("Limit jetty server keep-alive requests: {}", maxKeepAliveRequests);
+			HttpConfiguration httpConfiguration = connector.getConnectionFactory(HttpConnectionFactory.class).getHttpConfiguration();
+			httpConfiguration.addCustomizer(newKeepAliveLimit(maxKeepAliveRequests));
+		}
+	}
+
+	private ConnectionStatistics initConnectionStatistics() {
+		log.debug("Adding connection statistics to jetty server connector");
+		ConnectionStatistics connectionStatistics = new ConnectionStatistics();
+		findConnector(server).addBean(connectionStatistics);
+		return connectionStatistics;
+	}
+
+	private ContextHandler initServletContext() {
+		try {
+			log.debug("Initialize lightweight jetty servlet context");
+			return createServletContext();
+		}
+		catch (Exception ex) {
+			log.error(ex.getMessage(), ex);
+			throw new ServerInitializationException(ex);
+		}
+	}
+
 	private CONTEXT initContext() {
 		try {
 			log.debug("Initialize jetty webapp context");
@@ -103,14 +235,37 @@ public abstract class AbstractBaseEmbeddedJetty<
 	@Override
 	protected final void doStart() {
 		try {
-			log.debug("Initializing embedded jetty context");
-			webAppContext = initContext();
+			final Handler handler = configuration.getHandler();
+			if (handler != null) {
+				log.debug("Mounting jetty handler on server: {}", handler);
+				mount(handler);
+			}
+			else if (configuration.isLightweight()) {
+				log.debug("Initializing embedded jetty servlet context");
+				contextHandler = initServletContext();
+			}
+			else {
+				log.debug("Initializing embedded jetty context");
+				webAppContext = initContext();
+				contextHandler = webAppContext;
+			}
 
 			log.debug("Starting embedded jetty");
 			server.start();
 
 			log.debug("Looking for embedded jetty server connector");
 			connector = findConnector();
+
+			final Integer sessionScavengeInterval = configuration.getSessionScavengeInterval();
+			if (sessionScavengeInterval != null && webAppContext != null) {
+				log.debug("Set jetty session scavenge interval: {}", sessionScavengeInterval);
+				setSessionScavengeInterval(webAppContext, sessionScavengeInterval);
+			}
+
+			if (configuration.isJspPrecompile() && webAppContext != null) {
+				log.debug("Precompiling JSP pages of: {}", configuration.getWebapp());
+				precompileJsps(configuration.getWebapp());
+			}
 		}
 		catch (Exception ex) {
 			log.error(ex.getMessage(), ex);
@@ -123,15 +278,85 @@ public abstract class AbstractBaseEmbeddedJetty<
 	///
 	/// @throws Exception May be thrown by web app context initialization (will be wrapped later).
 	private CONTEXT createdWebAppContext() throws Exception {
-		final String path = configuration.getPath();
-		final String webapp = configuration.getWebapp();
-		final String classpath = configuration.getClasspath();
-		final ClassLoader parentClassLoader = configuration.getParentClassLoader();
-		final String overrideDescriptor = configuration.getOverrideDescriptor();
-		final Resource baseResource = configuration.getBaseResource();
+		final String webapp = extractWar(configuration.getWebapp(), configuration.getWarCacheDirectory());
+		final String jspCacheDirectory = configuration.getJspCacheDirectory();
+		final WorkDirectory workDirectory = configuration.getWorkDirectory();
+		if (jspCacheDirectory == null && workDirectory != null) {
+			this.tempDirectory = workDirectory.acquire("jetty", configuration);
+		}
+
+		final String tempDirectory;
+		if (jspCacheDirectory != null) {
+			this.jspDirectory = acquireJspCacheDirectory(jspCacheDirectory, webapp);
+			tempDirectory = this.jspDirectory.getAbsolutePath();
+		}
+		else if (this.tempDirectory != null) {
+			tempDirectory = this.tempDirectory.getAbsolutePath();
+		}
+		else {
+			tempDirectory = configuration.getTempDirectory();
+		}
+
+		final CONTEXT ctx = createdWebAppContext(
+			configuration.getPath(),
+			webapp,
+			configuration.getClasspath(),
+			configuration.getOverrideDescriptor(),
+			configuration.getBaseResource(),
+			configuration.getClasspathWebapp(),
+			tempDirectory
+		);
+
+		if (jspCacheDirectory != null) {
+			// Compiled JSP are stored in the temp directory, that must be kept when the context is stopped.
+			log.debug("Using jetty temp directory as JSP cache: {}", tempDirectory);
+			setPersistTempDirectory(ctx, true);
+		}
+		else if (this.tempDirectory != null) {
+			// The temp directory is released (and deleted, if needed) once jetty is stopped.
+			setPersistTempDirectory(ctx, true);
+		}
+
+		registerComponents(ctx);
+
+		ctx.setServer(server);
+
+		// Add server context
+		mountContexts(ctx);
+
+		return ctx;
+	}
+
+	/// Build an additional web app context, deployed next to the main application.
+	///
+	/// @param context The context definition.
+	/// @throws Exception May be thrown by web app context initialization (will be wrapped later).
+	private CONTEXT createdWebAppContext(ContextDefinition context) throws Exception {
+		final CONTEXT ctx = createdWebAppContext(
+			context.getPath(),
+			extractWar(context.getWebapp(), configuration.getWarCacheDirectory()),
+			context.getClasspath(),
+			context.getOverrideDescriptor(),
+			null,
+			null,
+			null
+		);
+
+		ctx.setServer(server);
+		return ctx;
+	}
+
+	private CONTEXT createdWebAppContext(
+		String path,
+		String webapp,
+		String classpath,
+		String overrideDescriptor,
+		Resource baseResource,
+		String classpathWebapp,
+		String tempDirectory) throws Exception {
+
 		final String containerJarPattern = configuration.getContainerJarPattern();
 		final String webInfJarPattern = configuration.getWebInfJarPattern();
-		final String tempDirectory = configuration.getTempDirectory();
 
 		final CONTEXT ctx = newWebAppContext();
 
@@ -150,26 +375,20 @@ public abstract class AbstractBaseEmbeddedJetty<
 			setAttribute(ctx, webInfJarPatternPropertyName(), webInfJarPattern);
 		}
 
-		final ClassLoader systemClassLoader = Thread.currentThread().getContextClassLoader();
-		final ClassLoader classLoader;
-
-		if (parentClassLoader != null) {
-			log.debug("Overriding jetty parent classloader");
-			classLoader = new CompositeClassLoader(parentClassLoader, systemClassLoader);
-		}
-		else {
-			log.debug("Using current thread classloader as jetty parent classloader");
-			classLoader = systemClassLoader;
-		}
-
 		log.debug("Set jetty classloader");
-		ctx.setClassLoader(classLoader);
+		ctx.setClassLoader(findClassLoader());
 
 		log.debug("Set jetty context path to: {}", path);
 		ctx.setContextPath(path);
 
 		Resource actualBaseResource = baseResource;
-		if (actualBaseResource == null) {
+		if (actualBaseResource == null && classpathWebapp != null) {
+			log.debug("Initializing jetty base resource from classpath: {}", classpathWebapp);
+			actualBaseResource = newClasspathResource(ctx, classpathWebapp);
+		}
+
+		// A WAR archive is not a valid base resource: jetty computes it from the war value.
+		if (actualBaseResource == null && !isWar(webapp)) {
 			log.debug("Initializing default jetty base resource from: {}", webapp);
 			actualBaseResource = newResource(ctx, webapp);
 		}
@@ -194,9 +413,26 @@ public abstract class AbstractBaseEmbeddedJetty<
 			setTempDirectory(ctx, tempDirectory);
 		}
 
+		// The war must be set before configuration classes are initialized.
+		Resource webappResource = newResource(ctx, webapp);
+		if (isValidAndExistingResource(webappResource)) {
+			setWar(ctx, webappResource);
+		}
+
+		if (!configuration.isWarExtraction() || classpathWebapp != null) {
+			// Classpath resources (that may be inside jars) are served in place, without being copied.
+			log.debug("Disabling jetty WAR extraction");
+			setExtractWar(ctx, false);
+		}
+
 		log.debug("Initializing jetty configuration classes");
 		configure(ctx);
 
+		if (configuration.isInMemorySessions()) {
+			log.debug("Initializing jetty in-memory session cache");
+			useInMemorySessions(ctx);
+		}
+
 		if (isNotBlank(classpath)) {
 			log.debug("Adding jetty container resource: {}", classpath);
 
@@ -209,14 +445,10 @@ public abstract class AbstractBaseEmbeddedJetty<
 			addContainerResources(ctx, containerResources);
 		}
 
-		setInitParameter(ctx, "org.eclipse.jetty.servlet.Default.dirAllowed", configuration.isDirAllowed());
+		setInitParameter(ctx, DEFAULT_SERVLET_PREFIX + "dirAllowed", configuration.isDirAllowed());
+		configureDefaultServlet(ctx);
 		setParentLoaderPriority(ctx, true);
 
-		Resource webappResource = newResource(ctx, webapp);
-		if (isValidAndExistingResource(webappResource)) {
-			setWar(ctx, webappResource);
-		}
-
 		// Jetty needs a baseResource to starts properly.
 		if (!isValidAndExistingResource(actualBaseResource) && !isValidAndExistingResource(webappResource)) {
 			Resource commonBaseResource = findCommonBaseResource(ctx);
@@ -224,14 +456,152 @@ public abstract class AbstractBaseEmbeddedJetty<
 			ctx.setBaseResource(commonBaseResource);
 		}
 
-		ctx.setServer(server);
+		return ctx;
+	}
 
-		// Add server context
-		server.setHandler(ctx);
+	/// Build the plain servlet context used in lightweight mode: no descriptor, no
+	/// fragments and no annotation scanning, only programmatic registrations.
+	///
+	/// @throws Exception May be thrown by additional web app contexts initialization (will be wrapped later).
+	private ContextHandler createServletContext() throws Exception {
+		final String path = configuration.getPath();
+		final Resource baseResource = configuration.getBaseResource();
+		final ContextHandler ctx = newServletContextHandler();
+
+		log.debug("Set jetty classloader");
+		ctx.setClassLoader(findClassLoader());
+
+		log.debug("Set jetty context path to: {}", path);
+		ctx.setContextPath(path);
+
+		if (baseResource != null) {
+			log.debug("Initializing jetty base resource: {}", baseResource);
+			ctx.setBaseResource(baseResource);
+		}
+
+		registerComponents(ctx);
+
+		ctx.setServer(server);
+		mountContexts(ctx);
 
 		return ctx;
 	}
 
+	/// Mount given main context on the server, with the additional web app contexts
+	/// defined in the configuration (if any), in a single context collection.
+	///
+	/// @param ctx The main context.
+	/// @throws Exception May be thrown by web app context initialization (will be wrapped later).
+	private void mountContexts(ContextHandler ctx) throws Exception {
+		final List<ContextDefinition> definitions = configuration.getContexts();
+		if (definitions.isEmpty()) {
+			mount(ctx);
+			return;
+		}
+
+		final List<ContextHandler> contexts = new ArrayList<>(definitions.size() + 1);
+		contexts.add(ctx);
+
+		for (ContextDefinition definition : definitions) {
+			log.debug("Initializing additional jetty webapp context: {}", definition);
+			contexts.add(createdWebAppContext(definition));
+		}
+
+		additionalContexts = contexts.subList(1, contexts.size());
+		mount(new ContextHandlerCollection(contexts.toArray(new ContextHandler[0])));
+	}
+
+	/// Mount given handler on the server, wrapped into a gzip handler if response
+	/// compression is enabled, and into a statistics handler if statistics are enabled.
+	///
+	/// @param handler The handler.
+	private void mount(Handler handler) {
+		Handler root = handler;
+
+		final Compression compression = configuration.getCompression();
+		if (compression != null) {
+			log.debug("Enabling jetty response compression: {}", compression);
+			root = JettyGzip.wrap(root, compression);
+		}
+
+		if (configuration.isStatistics()) {
+			log.debug("Mounting jetty statistics handler");
+			statisticsHandler = newStatisticsHandler(root);
+			root = statisticsHandler;
+		}
+
+		server.setHandler(root);
+	}
+
+	private ClassLoader findClassLoader() {
+		final ClassLoader parentClassLoader = configuration.getParentClassLoader();
+		final ClassLoader systemClassLoader = Thread.currentThread().getContextClassLoader();
+
+		if (parentClassLoader != null) {
+			log.debug("Overriding jetty parent classloader");
+			return new CompositeClassLoader(parentClassLoader, systemClassLoader);
+		}
+
+		log.debug("Using current thread classloader as jetty parent classloader");
+		return systemClassLoader;
+	}
+
+	private void registerComponents(ContextHandler ctx) {
+		for (Class<? extends EventListener> listener : configuration.getListeners()) {
+			log.debug("Adding jetty listener: {}", listener);
+			addListener(ctx, listener);
+		}
+
+		for (FilterDefinition filter : configuration.getFilters()) {
+			log.debug("Adding jetty filter: {}", filter);
+			addFilter(ctx, filter);
+		}
+
+		if (configuration.isRequestLatency()) {
+			log.debug("Adding jetty request latency filter");
+			prependFilter(ctx, REQUEST_LATENCY_FILTER_NAME, this::newRequestLatencyFilter);
+		}
+
+		if (configuration.isTracing()) {
+			log.debug("Adding jetty tracing filter");
+			prependFilter(ctx, TRACING_FILTER_NAME, this::newTracingFilter);
+		}
+
+		for (ServletDefinition servlet : configuration.getServlets()) {
+			log.debug("Adding jetty servlet: {}", servlet);
+			addServlet(ctx, servlet);
+		}
+	}
+
+	/// Configure the static content served by the default servlet: memory-mapped buffers and
+	/// the cached content factory.
+	///
+	/// @param ctx The web app context.
+	private void configureDefaultServlet(CONTEXT ctx) {
+		if (configuration.isFileMappedBuffer()) {
+			log.debug("Enabling jetty file mapped buffers");
+			setInitParameter(ctx, DEFAULT_SERVLET_PREFIX + "useFileMappedBuffer", true);
+		}
+
+		final Integer maxCacheSize = configuration.getMaxCacheSize();
+		if (maxCacheSize != null) {
+			log.debug("Set jetty default servlet max cache size: {}", maxCacheSize);
+			setInitParameter(ctx, DEFAULT_SERVLET_PREFIX + "maxCacheSize", maxCacheSize);
+		}
+
+		final Integer maxCachedFileSize = configuration.getMaxCachedFileSize();
+		if (maxCachedFileSize != null) {
+			log.debug("Set jetty default servlet max cached file size: {}", maxCachedFileSize);
+			setInitParameter(ctx, DEFAULT_SERVLET_PREFIX + "maxCachedFileSize", maxCachedFileSize);
+		}
+
+		final Integer maxCachedFiles = configuration.getMaxCachedFiles();
+		if (maxCachedFiles != null) {
+			log.debug("Set jetty default servlet max cached files: {}", maxCachedFiles);
+			setInitParameter(ctx, DEFAULT_SERVLET_PREFIX + "maxCachedFiles", maxCachedFiles);
+		}
+	}
+
 	private Resource findCommonBaseResource(CONTEXT ctx) throws IOException {
 		// List of common path that we will check one by one
 		List<String> commonPaths = Arrays.asList(
@@ -269,6 +639,53 @@ public abstract class AbstractBaseEmbeddedJetty<
 		return resource != null && resource.exists();
 	}
 
+	/// Create the resource serving given classpath location: each classpath entry (directory or jar) containing
+	/// this location is a root of the resource, in classpath order.
+	///
+	/// @param ctx Jetty WebAppContext.
+	/// @param classpathWebapp The classpath location.
+	/// @return The resource, `null` if the location cannot be found in the classpath.
+	private Resource newClasspathResource(CONTEXT ctx, String classpathWebapp) throws IOException, URISyntaxException {
+		final List<URL> roots = findClasspathWebapp(classpathWebapp);
+		if (roots.isEmpty()) {
+			log.warn("Classpath location {} cannot be found", classpathWebapp);
+			return null;
+		}
+
+		final List<Resource> resources = new ArrayList<>(roots.size());
+		for (URL root : roots) {
+			log.debug("Adding jetty classpath webapp root: {}", root);
+			resources.add(newResource(ctx, root.toURI()));
+		}
+
+		return resources.size() == 1 ? resources.get(0) : combine(resources);
+	}
+
+	@Override
+	protected final void doRedeploy() {
+		// Without any servlet context, the mounted handler is restarted.
+		final Handler handler = contextHandler != null ? contextHandler : configuration.getHandler();
+		restart(handler);
+
+		for (ContextHandler context : additionalContexts) {
+			restart(context);
+		}
+	}
+
+	private static void restart(Handler handler) {
+		try {
+			log.debug("Stopping jetty handler: {}", handler);
+			handler.stop();
+
+			log.debug("Starting jetty handler: {}", handler);
+			handler.start();
+		}
+		catch (Exception ex) {
+			log.error(ex.getMessage(), ex);
+			throw new ServerStartException(ex);
+		}
+	}
+
 	@Override
 	protected final void doStop() {
 		try {
@@ -277,6 +694,20 @@ public abstract class AbstractBaseEmbeddedJetty<
 
 			log.debug("Clearing jetty webapp context");
 			webAppContext = null;
+			contextHandler = null;
+			additionalContexts = emptyList();
+			statisticsHandler = null;
+
+			if (tempDirectory != null) {
+				log.debug("Releasing jetty temp directory: {}", tempDirectory);
+				configuration.getWorkDirectory().release(tempDirectory);
+				tempDirectory = null;
+			}
+
+			if (jspDirectory != null) {
+				releaseJspCacheDirectory(jspDirectory);
+				jspDirectory = null;
+			}
 
 			log.debug("Clearing jetty server connector");
 			connector = null;
@@ -288,7 +719,9 @@ public abstract class AbstractBaseEmbeddedJetty<
 
 	@Override
 	public String getScheme() {
-		return isStarted() ? server.getURI().getScheme() : super.getScheme();
+		// The connector is available as soon as jetty is started, before the server status is updated (i.e while
+		// JSP pages are precompiled).
+		return connector != null ? server.getURI().getScheme() : super.getScheme();
 	}
 
 	@Override
@@ -296,6 +729,68 @@ public abstract class AbstractBaseEmbeddedJetty<
 		return connector.getLocalPort();
 	}
 
+	@Override
+	public String getSocketPath() {
+		return configuration.getUnixSocketPath();
+	}
+
+	@Override
+	public ServerStatistics getStatistics() {
+		final Handler statisticsHandler = this.statisticsHandler;
+		if (statisticsHandler == null) {
+			return null;
+		}
+
+		// Connection statistics count bytes once connections are closed, so statistics handler
+		// may override these values with bytes counted per request, when available.
+		final ServerStatistics.Builder builder = ServerStatistics.builder()
+			.withConnections(connectionStatistics.getConnections())
+			.withMaxConnections(connectionStatistics.getConnectionsMax())
+			.withBytesReceived(connectionStatistics.getReceivedBytes())
+			.withBytesSent(connectionStatistics.getSentBytes());
+
+		readStatistics(statisticsHandler, builder);
+
+		final ByteBufferPool byteBufferPool = findConnector().getByteBufferPool();
+		if (byteBufferPool instanceof ArrayByteBufferPool) {
+			ArrayByteBufferPool pool = (ArrayByteBufferPool) byteBufferPool;
+			builder.withHeapBufferCount(pool.getHeapByteBufferCount())
+				.withHeapBufferMemory(pool.getHeapMemory())
+				.withDirectBufferCount(pool.getDirectByteBufferCount())
+				.withDirectBufferMemory(pool.getDirectMemory());
+		}
+		else {
+			log.debug("Cannot read statistics of jetty buffer pool: {}", byteBufferPool);
+		}
+
+		return builder.build();
+	}
+
+	@Override
+	public SessionStatistics getSessionStatistics() {
+		final CONTEXT webAppContext = this.webAppContext;
+		if (!configuration.isSessionStatistics() || webAppContext == null) {
+			return null;
+		}
+
+		return readSessionStatistics(webAppContext);
+	}
+
+	@Override
+	public void resetStatistics() {
+		final Handler statisticsHandler = this.statisticsHandler;
+		if (statisticsHandler != null) {
+			log.debug("Resetting jetty statistics");
+			resetStatistics(statisticsHandler);
+			connectionStatistics.reset();
+		}
+	}
+
+	@Override
+	public boolean isTracing() {
+		return configuration.isTracing();
+	}
+
 	/// Get Jetty WebAppContext.
 	///
 	/// @return WebAppContext, may be `null` if Jetty has not been started yet.
@@ -303,6 +798,13 @@ public abstract class AbstractBaseEmbeddedJetty<
 		return webAppContext;
 	}
 
+	/// Get Jetty context handler: the WebAppContext or, in lightweight mode, the plain servlet context.
+	///
+	/// @return Context handler, may be `null` if Jetty has not been started yet, or if a handler is mounted directly on the server.
+	protected final ContextHandler getContextHandler() {
+		return contextHandler;
+	}
+
 	/// Initialize new instance of Jetty WebAppContext.
 	///
 	/// @return New WebAppContext instance.
@@ -330,6 +832,12 @@ public abstract class AbstractBaseEmbeddedJetty<
 	/// @param tempDirectory The `overrideDescriptor` value.
 	protected abstract void setTempDirectory(CONTEXT context, String tempDirectory);
 
+	/// Keep (or not) the temp directory of given context when the context is stopped.
+	///
+	/// @param context The context.
+	/// @param persistTempDirectory `true` to keep the temp directory, `false` otherwise.
+	protected abstract void setPersistTempDirectory(CONTEXT context, boolean persistTempDirectory);
+
 	/// Initialize Jetty WebAppContext configuration classes.
 	///
 	/// @param context Jetty WebAppContext.
@@ -347,6 +855,12 @@ public abstract class AbstractBaseEmbeddedJetty<
 	/// @param war The `war` value.
 	protected abstract void setWar(CONTEXT context, Resource war);
 
+	/// Set WebAppContext `extractWAR` value.
+	///
+	/// @param context Jetty WebAppContext.
+	/// @param extractWar The `extractWAR` value.
+	protected abstract void setExtractWar(CONTEXT context, boolean extractWar);
+
 	/// Configure Jetty container resource.
 	///
 	/// @param context Jetty WebAppContext.
@@ -376,6 +890,51 @@ public abstract class AbstractBaseEmbeddedJetty<
 	/// @throws IOException In case the resource cannot be created.
 	protected abstract Resource newResource(CONTEXT ctx, URI resource) throws IOException;
 
+	/// Combine given resources into a single resource: a path is resolved against each resource, in order,
+	/// until it exists.
+	///
+	/// @param resources Resources to combine.
+	/// @return Combined [Resource].
+	protected abstract Resource combine(List<Resource> resources);
+
+	/// Initialize new instance of a plain Jetty servlet context, used in lightweight mode.
+	///
+	/// @return New servlet context instance.
+	protected abstract ContextHandler newServletContextHandler();
+
+	/// Register servlet in given servlet context (a WebAppContext or a plain servlet context).
+	///
+	/// @param context Jetty servlet context.
+	/// @param servlet Servlet definition.
+	protected abstract void addServlet(ContextHandler context, ServletDefinition servlet);
+
+	/// Register filter in given servlet context (a WebAppContext or a plain servlet context).
+	///
+	/// @param context Jetty servlet context.
+	/// @param filter Filter definition.
+	protected abstract void addFilter(ContextHandler context, FilterDefinition filter);
+
+	/// Register an internal filter (such as [#newRequestLatencyFilter(Class)]) in given servlet context, mapped
+	/// on `/*` before any other filter.
+	///
+	/// @param context Jetty servlet context.
+	/// @param name Filter name.
+	/// @param filterFactory Create the filter, given the servlet `Filter` interface of the container.
+	protected abstract void prependFilter(ContextHandler context, String name, Function<Class<?>, Object> filterFactory);
+
+	/// Register listener in given servlet context (a WebAppContext or a plain servlet context).
+	///
+	/// @param context Jetty servlet context.
+	/// @param listener Listener class.
+	protected abstract void addListener(ContextHandler context, Class<? extends EventListener> listener);
+
+	/// Add a connector listening on a unix domain socket to given jetty server.
+	///
+	/// @param server Jetty server.
+	/// @param httpConfiguration The HTTP configuration of the TCP connector, to share with the new connector.
+	/// @param path Unix domain socket path.
+	protected abstract void addUnixDomainConnector(Server server, HttpConfiguration httpConfiguration, Path path);
+
 	/// Set WebAppContext initialization parameter value.
 	///
 	/// @param ctx Jetty WebAppContext.
@@ -383,7 +942,74 @@ public abstract class AbstractBaseEmbeddedJetty<
 	/// @param value Parameter value.
 	protected abstract void setInitParameter(CONTEXT ctx, String name, Object value);
 
+	/// Wrap given handler into a jetty `StatisticsHandler`.
+	///
+	/// @param handler The handler to wrap.
+	/// @return The statistics handler.
+	protected abstract Handler newStatisticsHandler(Handler handler);
+
+	/// Read statistics tracked by given statistics handler (requests, errors, dispatch time and, when
+	/// tracked by the handler, bytes received and sent).
+	///
+	/// @param statisticsHandler The statistics handler, created with [#newStatisticsHandler(Handler)].
+	/// @param builder The statistics builder.
+	protected abstract void readStatistics(Handler statisticsHandler, ServerStatistics.Builder builder);
+
+	/// Reset statistics tracked by given statistics handler.
+	///
+	/// @param statisticsHandler The statistics handler, created with [#newStatisticsHandler(Handler)].
+	protected abstract void resetStatistics(Handler statisticsHandler);
+
+	/// Create the jetty request log, appending a record to given access log once each request is completed.
+	///
+	/// @param accessLog The in-memory access log.
+	/// @return The request log.
+	protected abstract RequestLog newRequestLog(Consumer<AccessRecord> accessLog);
+
+	/// Create the listener limiting the number of connections accepted by given server, to be added as a server bean.
+	///
+	/// @param server Jetty server.
+	/// @param maxConnections Maximum number of connections.
+	/// @return The connection limit.
+	protected abstract LifeCycle newConnectionLimit(Server server, int maxConnections);
+
+	/// Create the HTTP customizer closing connections once they have served given number of HTTP/1.1 requests: a
+	/// `Connection: close` header is added to the last response.
+	///
+	/// @param maxKeepAliveRequests Maximum number of requests served on a connection.
+	/// @return The HTTP customizer.
+	protected abstract HttpConfiguration.Customizer newKeepAliveLimit(int maxKeepAliveRequests);
+
+	/// Replace the session cache of given context by an in-memory cache, without any session data store: sessions
+	/// are never evicted, saved or invalidated on shutdown.
+	///
+	/// @param context Jetty WebAppContext.
+	protected abstract void useInMemorySessions(CONTEXT context);
+
+	/// Set the interval (in seconds) of the session house keeper, shared by all contexts of the server: this is
+	/// called once the server is started, so that the house keeper has been created.
+	///
+	/// @param context Jetty WebAppContext.
+	/// @param interval The interval, in seconds, `0` to disable the house keeper.
+	/// @throws Exception If the house keeper cannot be rescheduled.
+	protected abstract void setSessionScavengeInterval(CONTEXT context, int interval) throws Exception;
+
+	/// Read session statistics of given context.
+	///
+	/// @param context Jetty WebAppContext.
+	/// @return Session statistics.
+	protected abstract SessionStatistics readSessionStatistics(CONTEXT context);
+
+	@Override
+	protected final NetworkConditions getNetworkConditions() {
+		return configuration.getNetworkConditions();
+	}
+
 	private ServerConnector findConnector() {
+		return findConnector(server);
+	}
+
+	private static ServerConnector findConnector(Server server) {
 		log.debug("Extracting jetty server connector");
 
 		for (Connector connector : server.getConnectors()) {
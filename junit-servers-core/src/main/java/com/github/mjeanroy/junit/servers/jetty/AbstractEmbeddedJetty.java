@@ -24,8 +24,40 @@
 
 package com.github.mjeanroy.junit.servers.jetty;
 
+import com.github.mjeanroy.junit.servers.exceptions.ReflectionException;
+import com.github.mjeanroy.junit.servers.servers.AccessRecord;
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.ServerStatistics;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.SessionStatistics;
 import org.eclipse.jetty.annotations.AnnotationConfiguration;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpHeaderValue;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.server.ConnectionLimit;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.RequestLog;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.SessionIdManager;
+import org.eclipse.jetty.server.handler.ContextHandler;
+import org.eclipse.jetty.server.handler.StatisticsHandler;
+import org.eclipse.jetty.server.session.DefaultSessionCache;
+import org.eclipse.jetty.server.session.DefaultSessionIdManager;
+import org.eclipse.jetty.server.session.HouseKeeper;
+import org.eclipse.jetty.server.session.NullSessionDataStore;
+import org.eclipse.jetty.server.session.SessionCache;
+import org.eclipse.jetty.server.session.SessionHandler;
+import org.eclipse.jetty.servlet.FilterHolder;
+import org.eclipse.jetty.servlet.FilterMapping;
+import org.eclipse.jetty.servlet.ListenerHolder;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.servlet.ServletMapping;
+import org.eclipse.jetty.util.component.LifeCycle;
 import org.eclipse.jetty.util.resource.Resource;
+import org.eclipse.jetty.util.resource.ResourceCollection;
 import org.eclipse.jetty.webapp.Configuration;
 import org.eclipse.jetty.webapp.FragmentConfiguration;
 import org.eclipse.jetty.webapp.JettyWebXmlConfiguration;
@@ -36,7 +68,16 @@ import org.eclipse.jetty.webapp.WebXmlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.net.URI;
+import java.nio.file.Path;
+import java.util.EventListener;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /// Jetty Embedded Server.
 ///
@@ -45,6 +86,9 @@ public abstract class AbstractEmbeddedJetty<
 	CONFIGURATION extends AbstractEmbeddedJettyConfiguration
 > extends AbstractBaseEmbeddedJetty<WebAppContext, CONFIGURATION> {
 
+	/// Number of nanoseconds in one millisecond.
+	private static final double NANOS_PER_MILLI = MILLISECONDS.toNanos(1);
+
 	/// Build embedded jetty server.
 	///
 	/// @param configuration Server configuration.
@@ -67,6 +111,49 @@ public abstract class AbstractEmbeddedJetty<
 		webAppContext.setTempDirectory(new File(tempDirectory));
 	}
 
+	@Override
+	protected final void setPersistTempDirectory(WebAppContext webAppContext, boolean persistTempDirectory) {
+		webAppContext.setPersistTempDirectory(persistTempDirectory);
+	}
+
+	@Override
+	protected final void useInMemorySessions(WebAppContext webAppContext) {
+		final SessionHandler sessionHandler = webAppContext.getSessionHandler();
+		final DefaultSessionCache sessionCache = new DefaultSessionCache(sessionHandler);
+		sessionCache.setSessionDataStore(new NullSessionDataStore());
+		sessionCache.setEvictionPolicy(SessionCache.NEVER_EVICT);
+		sessionCache.setInvalidateOnShutdown(false);
+		sessionHandler.setSessionCache(sessionCache);
+	}
+
+	@Override
+	protected final void setSessionScavengeInterval(WebAppContext webAppContext, int interval) throws Exception {
+		final SessionIdManager sessionIdManager = webAppContext.getSessionHandler().getSessionIdManager();
+		final HouseKeeper houseKeeper = sessionIdManager instanceof DefaultSessionIdManager ?
+			((DefaultSessionIdManager) sessionIdManager).getSessionHouseKeeper() :
+			null;
+
+		if (houseKeeper != null) {
+			houseKeeper.setIntervalSec(interval);
+		}
+	}
+
+	@Override
+	protected final SessionStatistics readSessionStatistics(WebAppContext webAppContext) {
+		final SessionHandler sessionHandler = webAppContext.getSessionHandler();
+		final SessionCache sessionCache = sessionHandler.getSessionCache();
+		if (!(sessionCache instanceof DefaultSessionCache)) {
+			return SessionStatistics.of(0, 0, sessionHandler.getSessionsCreated());
+		}
+
+		final DefaultSessionCache defaultSessionCache = (DefaultSessionCache) sessionCache;
+		return SessionStatistics.of(
+			defaultSessionCache.getSessionsCurrent(),
+			defaultSessionCache.getSessionsMax(),
+			sessionHandler.getSessionsCreated()
+		);
+	}
+
 	@Override
 	protected final void configure(WebAppContext webAppContext) {
 		webAppContext.setConfigurations(
@@ -91,10 +178,75 @@ public abstract class AbstractEmbeddedJetty<
 		webAppContext.setWarResource(war);
 	}
 
+	@Override
+	protected final void setExtractWar(WebAppContext webAppContext, boolean extractWar) {
+		webAppContext.setExtractWAR(extractWar);
+	}
+
 	@Override
 	public final Object getServletContext() {
-		WebAppContext webAppContext = getWebAppContext();
-		return webAppContext == null ? null : webAppContext.getServletContext();
+		ServletContextHandler servletContextHandler = (ServletContextHandler) getContextHandler();
+		return servletContextHandler == null ? null : servletContextHandler.getServletContext();
+	}
+
+	@Override
+	protected final ContextHandler newServletContextHandler() {
+		return new ServletContextHandler(ServletContextHandler.SESSIONS);
+	}
+
+	@Override
+	protected final void addServlet(ContextHandler context, ServletDefinition servlet) {
+		ServletHolder holder = new ServletHolder();
+		holder.setName(servlet.getName());
+		holder.setClassName(servlet.getServletClass().getName());
+		holder.setInitParameters(servlet.getInitParameters());
+		holder.setInitOrder(servlet.getLoadOnStartup());
+
+		ServletMapping mapping = new ServletMapping();
+		mapping.setServletName(servlet.getName());
+		mapping.setPathSpecs(servlet.getMappings().toArray(new String[0]));
+
+		ServletHandler servletHandler = ((ServletContextHandler) context).getServletHandler();
+		servletHandler.addServlet(holder);
+		servletHandler.addServletMapping(mapping);
+	}
+
+	@Override
+	protected final void addFilter(ContextHandler context, FilterDefinition filter) {
+		FilterHolder holder = new FilterHolder();
+		holder.setName(filter.getName());
+		holder.setClassName(filter.getFilterClass().getName());
+		holder.setInitParameters(filter.getInitParameters());
+
+		FilterMapping mapping = new FilterMapping();
+		mapping.setFilterName(filter.getName());
+		mapping.setPathSpecs(filter.getUrlPatterns().toArray(new String[0]));
+
+		ServletHandler servletHandler = ((ServletContextHandler) context).getServletHandler();
+		servletHandler.addFilter(holder);
+		servletHandler.addFilterMapping(mapping);
+	}
+
+	@Override
+	protected final void prependFilter(ContextHandler context, String name, Function<Class<?>, Object> filterFactory) {
+		FilterHolder holder = new FilterHolder();
+		holder.setName(name);
+		setFilter(holder, filterFactory);
+
+		FilterMapping mapping = new FilterMapping();
+		mapping.setFilterName(name);
+		mapping.setPathSpec("/*");
+
+		ServletHandler servletHandler = ((ServletContextHandler) context).getServletHandler();
+		servletHandler.addFilter(holder);
+		servletHandler.prependFilterMapping(mapping);
+	}
+
+	@Override
+	protected final void addListener(ContextHandler context, Class<? extends EventListener> listener) {
+		ListenerHolder holder = new ListenerHolder();
+		holder.setClassName(listener.getName());
+		((ServletContextHandler) context).getServletHandler().addListener(holder);
 	}
 
 	@Override
@@ -117,8 +269,97 @@ public abstract class AbstractEmbeddedJetty<
 		return Resource.newResource(resource);
 	}
 
+	@Override
+	protected final Resource combine(List<Resource> resources) {
+		return new ResourceCollection(resources.toArray(new Resource[0]));
+	}
+
+	@Override
+	protected final void addUnixDomainConnector(Server server, HttpConfiguration httpConfiguration, Path path) {
+		throw new IllegalStateException(
+			"Unix domain socket connector requires jetty >= 12, please use junit-servers-jetty-12 instead"
+		);
+	}
+
 	@Override
 	protected final void setInitParameter(WebAppContext webAppContext, String name, Object value) {
 		webAppContext.setInitParameter(name, String.valueOf(value));
 	}
+
+	@Override
+	protected final Handler newStatisticsHandler(Handler handler) {
+		StatisticsHandler statisticsHandler = new StatisticsHandler();
+		statisticsHandler.setHandler(handler);
+		return statisticsHandler;
+	}
+
+	@Override
+	protected final void readStatistics(Handler statisticsHandler, ServerStatistics.Builder builder) {
+		// Before jetty 12, dispatch times are tracked in milliseconds.
+		StatisticsHandler handler = (StatisticsHandler) statisticsHandler;
+		builder.withRequestCount(handler.getRequests())
+			.withActiveRequests(handler.getRequestsActive())
+			.withMaxActiveRequests(handler.getRequestsActiveMax())
+			.withErrorCount(handler.getResponses4xx() + handler.getResponses5xx())
+			.withDispatchTimeMean(handler.getDispatchedTimeMean() * NANOS_PER_MILLI)
+			.withDispatchTimeStdDev(handler.getDispatchedTimeStdDev() * NANOS_PER_MILLI)
+			.withDispatchTimeMax(MILLISECONDS.toNanos(handler.getDispatchedTimeMax()));
+	}
+
+	@Override
+	protected final void resetStatistics(Handler statisticsHandler) {
+		((StatisticsHandler) statisticsHandler).statsReset();
+	}
+
+	@Override
+	protected final RequestLog newRequestLog(Consumer<AccessRecord> accessLog) {
+		// Before jetty 12, the request timestamp is only tracked in milliseconds.
+		return (request, response) -> {
+			String query = request.getQueryString();
+			accessLog.accept(AccessRecord.of(
+				request.getMethod(),
+				query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query,
+				response.getCommittedMetaData().getStatus(),
+				response.getHttpChannel().getBytesWritten(),
+				MILLISECONDS.toNanos(System.currentTimeMillis() - request.getTimeStamp()),
+				Thread.currentThread().getName()
+			));
+		};
+	}
+
+	@Override
+	protected final LifeCycle newConnectionLimit(Server server, int maxConnections) {
+		return new ConnectionLimit(maxConnections, server);
+	}
+
+	@Override
+	protected final HttpConfiguration.Customizer newKeepAliveLimit(int maxKeepAliveRequests) {
+		// Before jetty 12, the channel of an HTTP/1.1 connection is reused by each request of the connection.
+		return (connector, httpConfiguration, request) -> {
+			if (request.getHttpVersion() == HttpVersion.HTTP_1_1 && request.getHttpChannel().getRequests() >= maxKeepAliveRequests) {
+				request.getResponse().setHeader(HttpHeader.CONNECTION, HttpHeaderValue.CLOSE.asString());
+			}
+		};
+	}
+
+	/// Set an internal filter on given holder: the filter API depends on the jetty version
+	/// (`javax.servlet` or `jakarta.servlet`), so it is set through reflection.
+	///
+	/// @param holder The filter holder.
+	/// @param filterFactory Create the filter, given the servlet `Filter` interface of the container.
+	private static void setFilter(FilterHolder holder, Function<Class<?>, Object> filterFactory) {
+		for (Method method : FilterHolder.class.getMethods()) {
+			if (method.getName().equals("setFilter") && method.getParameterCount() == 1) {
+				try {
+					method.invoke(holder, filterFactory.apply(method.getParameterTypes()[0]));
+					return;
+				}
+				catch (IllegalAccessException | InvocationTargetException ex) {
+					throw new ReflectionException(ex);
+				}
+			}
+		}
+
+		throw new IllegalStateException("Cannot set filter on jetty filter holder, method FilterHolder#setFilter(Filter) not found");
+	}
 }
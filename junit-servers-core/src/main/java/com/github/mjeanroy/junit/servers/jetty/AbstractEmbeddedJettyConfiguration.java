@@ -26,15 +26,39 @@ package com.github.mjeanroy.junit.servers.jetty;
 
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import com.github.mjeanroy.junit.servers.servers.ContextDefinition;
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.NetworkConditions;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
+import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.util.resource.Resource;
 
+import java.util.ArrayList;
+import java.util.EventListener;
+import java.util.List;
 import java.util.Objects;
 
+import static java.util.Collections.unmodifiableList;
+
 /// Jetty configuration settings.
 abstract class AbstractEmbeddedJettyConfiguration extends AbstractConfiguration {
 
 	static final int DEFAULT_STOP_TIMEOUT = 30000;
 	static final boolean DEFAULT_STOP_AT_SHUTDOWN = true;
+	static final boolean DEFAULT_HTTP2 = false;
+	static final boolean DEFAULT_LIGHTWEIGHT = false;
+	static final boolean DEFAULT_FILE_MAPPED_BUFFER = false;
+	static final boolean DEFAULT_STATISTICS = false;
+	static final boolean DEFAULT_REQUEST_LATENCY = false;
+	static final boolean DEFAULT_JSP_PRECOMPILE = false;
+	static final boolean DEFAULT_IN_MEMORY_SESSIONS = false;
+	static final boolean DEFAULT_SESSION_STATISTICS = false;
+	static final boolean DEFAULT_WAR_EXTRACTION = true;
+	static final boolean DEFAULT_HTTPS = false;
+	static final boolean DEFAULT_HANDSHAKE_STATISTICS = false;
+	static final boolean DEFAULT_TRACING = false;
 
 	/// Configure the stop timeout in milliseconds: set a graceful stop time.
 	///
@@ -67,6 +91,114 @@ abstract class AbstractEmbeddedJettyConfiguration extends AbstractConfiguration
 	/// The jetty temp directory.
 	private final String tempDirectory;
 
+	/// If true, HTTP/2 over cleartext connections (a.k.a `h2c`) is enabled on the
+	/// server connector, in addition to HTTP/1.1.
+	private final boolean http2;
+
+	/// The path of the unix domain socket the server should listen on, in addition to the
+	/// TCP connector, may be `null`.
+	private final String unixSocketPath;
+
+	/// If true, a plain servlet context is created instead of a full web app context: no
+	/// descriptor is parsed and no annotation scanning is done.
+	private final boolean lightweight;
+
+	/// Servlets registered programmatically.
+	private final List<ServletDefinition> servlets;
+
+	/// Filters registered programmatically.
+	private final List<FilterDefinition> filters;
+
+	/// Listeners registered programmatically.
+	private final List<Class<? extends EventListener>> listeners;
+
+	/// The jetty handler mounted directly on the server, without any servlet context, may be `null`.
+	private final Handler handler;
+
+	/// If true, the default servlet serves static files using memory-mapped buffers.
+	private final boolean fileMappedBuffer;
+
+	/// The maximum size of the default servlet content cache, in bytes, `null` to use jetty default.
+	private final Integer maxCacheSize;
+
+	/// The maximum size of a file cached by the default servlet, in bytes, `null` to use jetty default.
+	private final Integer maxCachedFileSize;
+
+	/// The maximum number of files cached by the default servlet, `null` to use jetty default.
+	private final Integer maxCachedFiles;
+
+	/// The response compression settings, `null` if compression is disabled.
+	private final Compression compression;
+
+	/// If true, server statistics (requests, connections and buffer pool) are collected.
+	private final boolean statistics;
+
+	/// If true, server-side latency of requests is recorded by servlet mapping.
+	private final boolean requestLatency;
+
+	/// Additional web application contexts, deployed on the same server.
+	private final List<ContextDefinition> contexts;
+
+	/// If true, JSP pages of the webapp are compiled in parallel when the server starts.
+	private final boolean jspPrecompile;
+
+	/// The directory where compiled JSP are kept across runs, `null` to compile JSP in a temporary directory.
+	private final String jspCacheDirectory;
+
+	/// The strategy used to create and delete the work directory, may be `null`.
+	private final WorkDirectory workDirectory;
+
+	/// Whether HTTP sessions are stored in memory only, without any persistence.
+	private final boolean inMemorySessions;
+
+	/// The interval (in seconds) between two scans for expired sessions, `null` to use the jetty default.
+	private final Integer sessionScavengeInterval;
+
+	/// Whether HTTP session statistics are exposed.
+	private final boolean sessionStatistics;
+
+	/// Whether WAR archives are extracted before being served.
+	private final boolean warExtraction;
+
+	/// The directory where WAR archives are extracted once, may be `null`.
+	private final String warCacheDirectory;
+
+	/// The classpath location of webapp resources, may be `null`.
+	private final String classpathWebapp;
+
+	/// Whether the server serves HTTPS, with a self-signed certificate.
+	private final boolean https;
+
+	/// Size of the TLS session cache, may be `null`.
+	private final Integer sslSessionCacheSize;
+
+	/// Timeout (in seconds) of cached TLS sessions, may be `null`.
+	private final Integer sslSessionTimeout;
+
+	/// Whether TLS handshakes are recorded.
+	private final boolean handshakeStatistics;
+
+	/// Capacity of the in-memory access log, may be `null`.
+	private final Integer accessLogCapacity;
+
+	/// Whether server spans of traced requests are recorded.
+	private final boolean tracing;
+
+	/// Maximum number of connections, may be `null`.
+	private final Integer maxConnections;
+
+	/// Size of the accept queue, may be `null`.
+	private final Integer acceptQueueSize;
+
+	/// Idle timeout of connections, in milliseconds, may be `null`.
+	private final Integer idleTimeout;
+
+	/// Maximum number of requests served on a keep-alive connection, may be `null`.
+	private final Integer maxKeepAliveRequests;
+
+	/// Network conditions emulated between clients and the server, may be `null`.
+	private final NetworkConditions networkConditions;
+
 	AbstractEmbeddedJettyConfiguration(
 			AbstractEmbeddedJettyConfigurationBuilder<?, ?> builder
 	) {
@@ -88,6 +220,41 @@ abstract class AbstractEmbeddedJettyConfiguration extends AbstractConfiguration
 		this.webInfJarPattern = builder.getWebInfJarPattern();
 		this.dirAllowed = builder.isDirAllowed();
 		this.tempDirectory = builder.getTempDirectory();
+		this.http2 = builder.isHttp2();
+		this.unixSocketPath = builder.getUnixSocketPath();
+		this.lightweight = builder.isLightweight();
+		this.servlets = new ArrayList<>(builder.getServlets());
+		this.filters = new ArrayList<>(builder.getFilters());
+		this.listeners = new ArrayList<>(builder.getListeners());
+		this.handler = builder.getHandler();
+		this.fileMappedBuffer = builder.isFileMappedBuffer();
+		this.maxCacheSize = builder.getMaxCacheSize();
+		this.maxCachedFileSize = builder.getMaxCachedFileSize();
+		this.maxCachedFiles = builder.getMaxCachedFiles();
+		this.compression = builder.getCompression();
+		this.statistics = builder.isStatistics();
+		this.requestLatency = builder.isRequestLatency();
+		this.contexts = new ArrayList<>(builder.getContexts());
+		this.jspPrecompile = builder.isJspPrecompile();
+		this.jspCacheDirectory = builder.getJspCacheDirectory();
+		this.workDirectory = builder.getWorkDirectory();
+		this.inMemorySessions = builder.isInMemorySessions();
+		this.sessionScavengeInterval = builder.getSessionScavengeInterval();
+		this.sessionStatistics = builder.isSessionStatistics();
+		this.warExtraction = builder.isWarExtraction();
+		this.warCacheDirectory = builder.getWarCacheDirectory();
+		this.classpathWebapp = builder.getClasspathWebapp();
+		this.https = builder.isHttps();
+		this.sslSessionCacheSize = builder.getSslSessionCacheSize();
+		this.sslSessionTimeout = builder.getSslSessionTimeout();
+		this.handshakeStatistics = builder.isHandshakeStatistics();
+		this.accessLogCapacity = builder.getAccessLogCapacity();
+		this.tracing = builder.isTracing();
+		this.maxConnections = builder.getMaxConnections();
+		this.acceptQueueSize = builder.getAcceptQueueSize();
+		this.idleTimeout = builder.getIdleTimeout();
+		this.maxKeepAliveRequests = builder.getMaxKeepAliveRequests();
+		this.networkConditions = builder.getNetworkConditions();
 	}
 
 	/// Get jetty stop timeout.
@@ -143,6 +310,262 @@ abstract class AbstractEmbeddedJettyConfiguration extends AbstractConfiguration
 		return tempDirectory;
 	}
 
+	/// Control if HTTP/2 over cleartext connections (a.k.a `h2c`) is enabled or not.
+	///
+	/// @return `true` if `h2c` is enabled, `false` otherwise.
+	public boolean isHttp2() {
+		return http2;
+	}
+
+	/// Get the path of the unix domain socket the server should listen on, `null` if no
+	/// unix domain socket connector should be created.
+	///
+	/// @return Unix domain socket path.
+	public String getUnixSocketPath() {
+		return unixSocketPath;
+	}
+
+	/// Control if the lightweight mode is enabled or not:
+	/// - When `true`, a plain servlet context is created, without any descriptor parsing or annotation scanning.
+	/// - When `false`, a full web app context is created.
+	///
+	/// @return `true` if lightweight mode is enabled, `false` otherwise.
+	public boolean isLightweight() {
+		return lightweight;
+	}
+
+	/// Get servlets registered programmatically (returned list is not modifiable).
+	///
+	/// @return Servlets.
+	public List<ServletDefinition> getServlets() {
+		return unmodifiableList(servlets);
+	}
+
+	/// Get filters registered programmatically (returned list is not modifiable).
+	///
+	/// @return Filters.
+	public List<FilterDefinition> getFilters() {
+		return unmodifiableList(filters);
+	}
+
+	/// Get listeners registered programmatically (returned list is not modifiable).
+	///
+	/// @return Listeners.
+	public List<Class<? extends EventListener>> getListeners() {
+		return unmodifiableList(listeners);
+	}
+
+	/// Get the jetty handler mounted directly on the server: when not `null`, no servlet context
+	/// is created at all (webapp, servlets, filters and listeners are ignored).
+	///
+	/// @return Jetty handler, may be `null`.
+	public Handler getHandler() {
+		return handler;
+	}
+
+	/// Control if the default servlet serves static files using memory-mapped buffers.
+	///
+	/// @return `true` if memory-mapped buffers are used, `false` otherwise.
+	public boolean isFileMappedBuffer() {
+		return fileMappedBuffer;
+	}
+
+	/// Get the maximum size of the default servlet content cache, in bytes.
+	///
+	/// @return Maximum cache size, `null` to use jetty default.
+	public Integer getMaxCacheSize() {
+		return maxCacheSize;
+	}
+
+	/// Get the maximum size of a file cached by the default servlet, in bytes.
+	///
+	/// @return Maximum cached file size, `null` to use jetty default.
+	public Integer getMaxCachedFileSize() {
+		return maxCachedFileSize;
+	}
+
+	/// Get the maximum number of files cached by the default servlet.
+	///
+	/// @return Maximum number of cached files, `null` to use jetty default.
+	public Integer getMaxCachedFiles() {
+		return maxCachedFiles;
+	}
+
+	/// Get the response compression settings.
+	///
+	/// @return Compression settings, `null` if compression is disabled.
+	public Compression getCompression() {
+		return compression;
+	}
+
+	/// Get the statistics flag:
+	/// - `true` if server statistics are collected (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getStatistics()]).
+	/// - `false` otherwise.
+	///
+	/// @return `true` if statistics are enabled, `false` otherwise.
+	public boolean isStatistics() {
+		return statistics;
+	}
+
+	/// Get the request latency flag:
+	/// - `true` if server-side latency of requests is recorded (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getRequestLatencies()]).
+	/// - `false` otherwise.
+	///
+	/// @return `true` if request latency recording is enabled, `false` otherwise.
+	public boolean isRequestLatency() {
+		return requestLatency;
+	}
+
+	/// Get additional web application contexts, deployed on the same server than the main
+	/// application (returned list is not modifiable).
+	///
+	/// @return Additional contexts.
+	public List<ContextDefinition> getContexts() {
+		return unmodifiableList(contexts);
+	}
+
+	/// Get the JSP precompilation flag:
+	/// - `true` if JSP pages of the webapp are compiled when the server starts.
+	/// - `false` otherwise.
+	///
+	/// @return `true` if JSP precompilation is enabled, `false` otherwise.
+	public boolean isJspPrecompile() {
+		return jspPrecompile;
+	}
+
+	/// Get the directory where compiled JSP are kept across runs.
+	///
+	/// @return JSP cache directory, `null` if not set.
+	public String getJspCacheDirectory() {
+		return jspCacheDirectory;
+	}
+
+	/// Get the strategy used to create and delete the jetty temp directory.
+	///
+	/// @return The work directory strategy, `null` if not set.
+	public WorkDirectory getWorkDirectory() {
+		return workDirectory;
+	}
+
+	/// Get the in-memory sessions flag.
+	///
+	/// @return `true` if HTTP sessions are stored in memory only, `false` otherwise.
+	public boolean isInMemorySessions() {
+		return inMemorySessions;
+	}
+
+	/// Get the interval (in seconds) between two scans for expired HTTP sessions.
+	///
+	/// @return Interval, `null` if the jetty default is used.
+	public Integer getSessionScavengeInterval() {
+		return sessionScavengeInterval;
+	}
+
+	/// Get the session statistics flag.
+	///
+	/// @return `true` if HTTP session statistics are exposed, `false` otherwise.
+	public boolean isSessionStatistics() {
+		return sessionStatistics;
+	}
+
+	/// Get the WAR extraction flag.
+	///
+	/// @return `true` if WAR archives are extracted before being served, `false` otherwise.
+	public boolean isWarExtraction() {
+		return warExtraction;
+	}
+
+	/// Get the directory where WAR archives are extracted once, and reused across runs.
+	///
+	/// @return WAR cache directory, `null` if WAR archives are not cached.
+	public String getWarCacheDirectory() {
+		return warCacheDirectory;
+	}
+
+	/// Get the classpath location of webapp resources.
+	///
+	/// @return Classpath location, `null` if the webapp directory is used.
+	public String getClasspathWebapp() {
+		return classpathWebapp;
+	}
+
+	/// Get the HTTPS flag.
+	///
+	/// @return `true` if the server serves HTTPS, `false` otherwise.
+	public boolean isHttps() {
+		return https;
+	}
+
+	/// Get the size of the TLS session cache.
+	///
+	/// @return Size of the TLS session cache, `null` to use the JDK default.
+	public Integer getSslSessionCacheSize() {
+		return sslSessionCacheSize;
+	}
+
+	/// Get the timeout (in seconds) of cached TLS sessions.
+	///
+	/// @return Timeout of cached TLS sessions, `null` to use the JDK default.
+	public Integer getSslSessionTimeout() {
+		return sslSessionTimeout;
+	}
+
+	/// Get the TLS handshake statistics flag.
+	///
+	/// @return `true` if TLS handshakes are recorded, `false` otherwise.
+	public boolean isHandshakeStatistics() {
+		return handshakeStatistics;
+	}
+
+	/// Get the capacity of the in-memory access log.
+	///
+	/// @return Capacity of the access log, `null` if the access log is disabled.
+	public Integer getAccessLogCapacity() {
+		return accessLogCapacity;
+	}
+
+	/// Get the tracing flag.
+	///
+	/// @return `true` if server spans of traced requests are recorded, `false` otherwise.
+	public boolean isTracing() {
+		return tracing;
+	}
+
+	/// Get the maximum number of connections established with the server.
+	///
+	/// @return Maximum number of connections, `null` to use the container default.
+	public Integer getMaxConnections() {
+		return maxConnections;
+	}
+
+	/// Get the size of the accept queue of the server socket.
+	///
+	/// @return Size of the accept queue, `null` to use the container default.
+	public Integer getAcceptQueueSize() {
+		return acceptQueueSize;
+	}
+
+	/// Get the idle timeout of connections, in milliseconds.
+	///
+	/// @return Idle timeout, `null` to use the container default.
+	public Integer getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/// Get the maximum number of requests served on a keep-alive connection.
+	///
+	/// @return Maximum number of requests per connection, `null` to use the container default.
+	public Integer getMaxKeepAliveRequests() {
+		return maxKeepAliveRequests;
+	}
+
+	/// Get the network conditions emulated between the HTTP clients and the server.
+	///
+	/// @return Network conditions, `null` if network conditions are not emulated.
+	public NetworkConditions getNetworkConditions() {
+		return networkConditions;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) {
@@ -159,7 +582,42 @@ abstract class AbstractEmbeddedJettyConfiguration extends AbstractConfiguration
 				&& Objects.equals(containerJarPattern, c.containerJarPattern)
 				&& Objects.equals(webInfJarPattern, c.webInfJarPattern)
 				&& Objects.equals(dirAllowed, c.dirAllowed)
-				&& Objects.equals(tempDirectory, c.tempDirectory);
+				&& Objects.equals(tempDirectory, c.tempDirectory)
+				&& Objects.equals(http2, c.http2)
+				&& Objects.equals(unixSocketPath, c.unixSocketPath)
+				&& Objects.equals(lightweight, c.lightweight)
+				&& Objects.equals(servlets, c.servlets)
+				&& Objects.equals(filters, c.filters)
+				&& Objects.equals(listeners, c.listeners)
+				&& Objects.equals(handler, c.handler)
+				&& Objects.equals(fileMappedBuffer, c.fileMappedBuffer)
+				&& Objects.equals(maxCacheSize, c.maxCacheSize)
+				&& Objects.equals(maxCachedFileSize, c.maxCachedFileSize)
+				&& Objects.equals(maxCachedFiles, c.maxCachedFiles)
+				&& Objects.equals(compression, c.compression)
+				&& Objects.equals(statistics, c.statistics)
+				&& Objects.equals(requestLatency, c.requestLatency)
+				&& Objects.equals(contexts, c.contexts)
+				&& Objects.equals(jspPrecompile, c.jspPrecompile)
+				&& Objects.equals(jspCacheDirectory, c.jspCacheDirectory)
+				&& Objects.equals(workDirectory, c.workDirectory)
+				&& Objects.equals(inMemorySessions, c.inMemorySessions)
+				&& Objects.equals(sessionScavengeInterval, c.sessionScavengeInterval)
+				&& Objects.equals(sessionStatistics, c.sessionStatistics)
+				&& Objects.equals(warExtraction, c.warExtraction)
+				&& Objects.equals(warCacheDirectory, c.warCacheDirectory)
+				&& Objects.equals(classpathWebapp, c.classpathWebapp)
+				&& Objects.equals(https, c.https)
+				&& Objects.equals(sslSessionCacheSize, c.sslSessionCacheSize)
+				&& Objects.equals(sslSessionTimeout, c.sslSessionTimeout)
+				&& Objects.equals(handshakeStatistics, c.handshakeStatistics)
+				&& Objects.equals(accessLogCapacity, c.accessLogCapacity)
+				&& Objects.equals(tracing, c.tracing)
+				&& Objects.equals(maxConnections, c.maxConnections)
+				&& Objects.equals(acceptQueueSize, c.acceptQueueSize)
+				&& Objects.equals(idleTimeout, c.idleTimeout)
+				&& Objects.equals(maxKeepAliveRequests, c.maxKeepAliveRequests)
+				&& Objects.equals(networkConditions, c.networkConditions);
 		}
 
 		return false;
@@ -175,7 +633,42 @@ abstract class AbstractEmbeddedJettyConfiguration extends AbstractConfiguration
 			containerJarPattern,
 			webInfJarPattern,
 			dirAllowed,
-			tempDirectory
+			tempDirectory,
+			http2,
+			unixSocketPath,
+			lightweight,
+			servlets,
+			filters,
+			listeners,
+			handler,
+			fileMappedBuffer,
+			maxCacheSize,
+			maxCachedFileSize,
+			maxCachedFiles,
+			compression,
+			statistics,
+			requestLatency,
+			contexts,
+			jspPrecompile,
+			jspCacheDirectory,
+			workDirectory,
+			inMemorySessions,
+			sessionScavengeInterval,
+			sessionStatistics,
+			warExtraction,
+			warCacheDirectory,
+			classpathWebapp,
+			https,
+			sslSessionCacheSize,
+			sslSessionTimeout,
+			handshakeStatistics,
+			accessLogCapacity,
+			tracing,
+			maxConnections,
+			acceptQueueSize,
+			idleTimeout,
+			maxKeepAliveRequests,
+			networkConditions
 		);
 	}
 
@@ -195,6 +688,41 @@ abstract class AbstractEmbeddedJettyConfiguration extends AbstractConfiguration
 			.append("webInfJarPattern", webInfJarPattern)
 			.append("dirAllowed", dirAllowed)
 			.append("tempDirectory", tempDirectory)
+			.append("http2", http2)
+			.append("unixSocketPath", unixSocketPath)
+			.append("lightweight", lightweight)
+			.append("servlets", servlets)
+			.append("filters", filters)
+			.append("listeners", listeners)
+			.append("handler", handler)
+			.append("fileMappedBuffer", fileMappedBuffer)
+			.append("maxCacheSize", maxCacheSize)
+			.append("maxCachedFileSize", maxCachedFileSize)
+			.append("maxCachedFiles", maxCachedFiles)
+			.append("compression", compression)
+			.append("statistics", statistics)
+			.append("requestLatency", requestLatency)
+			.append("contexts", contexts)
+			.append("jspPrecompile", jspPrecompile)
+			.append("jspCacheDirectory", jspCacheDirectory)
+			.append("workDirectory", workDirectory)
+			.append("inMemorySessions", inMemorySessions)
+			.append("sessionScavengeInterval", sessionScavengeInterval)
+			.append("sessionStatistics", sessionStatistics)
+			.append("warExtraction", warExtraction)
+			.append("warCacheDirectory", warCacheDirectory)
+			.append("classpathWebapp", classpathWebapp)
+			.append("https", https)
+			.append("sslSessionCacheSize", sslSessionCacheSize)
+			.append("sslSessionTimeout", sslSessionTimeout)
+			.append("handshakeStatistics", handshakeStatistics)
+			.append("accessLogCapacity", accessLogCapacity)
+			.append("tracing", tracing)
+			.append("maxConnections", maxConnections)
+			.append("acceptQueueSize", acceptQueueSize)
+			.append("idleTimeout", idleTimeout)
+			.append("maxKeepAliveRequests", maxKeepAliveRequests)
+			.append("networkConditions", networkConditions)
 			.build();
 	}
 }
@@ -25,14 +25,38 @@
 package com.github.mjeanroy.junit.servers.jetty;
 
 import com.github.mjeanroy.junit.servers.servers.AbstractConfigurationBuilder;
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import com.github.mjeanroy.junit.servers.servers.ContextDefinition;
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.NetworkConditions;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
+import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.util.resource.Resource;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.EventListener;
+import java.util.List;
 import java.util.UUID;
 
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.positive;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_FILE_MAPPED_BUFFER;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_HANDSHAKE_STATISTICS;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_HTTP2;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_HTTPS;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_IN_MEMORY_SESSIONS;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_JSP_PRECOMPILE;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_LIGHTWEIGHT;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_REQUEST_LATENCY;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_SESSION_STATISTICS;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_STATISTICS;
 import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_STOP_AT_SHUTDOWN;
 import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_STOP_TIMEOUT;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_TRACING;
+import static com.github.mjeanroy.junit.servers.jetty.AbstractEmbeddedJettyConfiguration.DEFAULT_WAR_EXTRACTION;
 
 /// Jetty configuration settings.
 abstract class AbstractEmbeddedJettyConfigurationBuilder<
@@ -73,14 +97,141 @@ abstract class AbstractEmbeddedJettyConfigurationBuilder<
 	/// The jetty temp directory.
 	private String tempDirectory;
 
+	/// If true, HTTP/2 over cleartext connections (a.k.a `h2c`) is enabled.
+	///
+	/// @see AbstractEmbeddedJettyConfiguration#DEFAULT_HTTP2
+	private boolean http2;
+
+	/// The path of the unix domain socket, `null` if no unix domain socket connector should be created.
+	private String unixSocketPath;
+
+	/// If true, a plain servlet context is created instead of a full web app context.
+	///
+	/// @see AbstractEmbeddedJettyConfiguration#DEFAULT_LIGHTWEIGHT
+	private boolean lightweight;
+
+	/// Servlets registered programmatically.
+	private final List<ServletDefinition> servlets;
+
+	/// Filters registered programmatically.
+	private final List<FilterDefinition> filters;
+
+	/// Listeners registered programmatically.
+	private final List<Class<? extends EventListener>> listeners;
+
+	/// The jetty handler mounted directly on the server, `null` to use a servlet context.
+	private Handler handler;
+
+	/// If true, the default servlet serves static files using memory-mapped buffers.
+	///
+	/// @see AbstractEmbeddedJettyConfiguration#DEFAULT_FILE_MAPPED_BUFFER
+	private boolean fileMappedBuffer;
+
+	/// The maximum size of the default servlet content cache, in bytes, `null` to use jetty default.
+	private Integer maxCacheSize;
+
+	/// The maximum size of a file cached by the default servlet, in bytes, `null` to use jetty default.
+	private Integer maxCachedFileSize;
+
+	/// The maximum number of files cached by the default servlet, `null` to use jetty default.
+	private Integer maxCachedFiles;
+
+	/// The response compression settings, `null` if compression is disabled.
+	private Compression compression;
+
+	/// If true, server statistics (requests, connections and buffer pool) are collected.
+	private boolean statistics;
+
+	/// If true, server-side latency of requests is recorded by servlet mapping.
+	private boolean requestLatency;
+
+	/// Additional web application contexts, deployed on the same server.
+	private final List<ContextDefinition> contexts;
+
+	/// If true, JSP pages of the webapp are compiled in parallel when the server starts.
+	private boolean jspPrecompile;
+
+	/// The directory where compiled JSP are kept across runs, `null` to compile JSP in a temporary directory.
+	private String jspCacheDirectory;
+
+	/// The strategy used to create and delete the work directory, may be `null`.
+	private WorkDirectory workDirectory;
+
+	/// Whether HTTP sessions are stored in memory only, without any persistence.
+	private boolean inMemorySessions;
+
+	/// The interval (in seconds) between two scans for expired sessions, `null` to use the jetty default.
+	private Integer sessionScavengeInterval;
+
+	/// Whether HTTP session statistics are exposed.
+	private boolean sessionStatistics;
+
+	/// Whether WAR archives are extracted before being served.
+	private boolean warExtraction;
+
+	/// The directory where WAR archives are extracted once, may be `null`.
+	private String warCacheDirectory;
+
+	/// The classpath location of webapp resources, may be `null`.
+	private String classpathWebapp;
+
+	/// Whether the server serves HTTPS, with a self-signed certificate.
+	private boolean https;
+
+	/// Size of the TLS session cache, may be `null`.
+	private Integer sslSessionCacheSize;
+
+	/// Timeout (in seconds) of cached TLS sessions, may be `null`.
+	private Integer sslSessionTimeout;
+
+	/// Whether TLS handshakes are recorded.
+	private boolean handshakeStatistics;
+
+	/// Capacity of the in-memory access log, may be `null`.
+	private Integer accessLogCapacity;
+
+	/// Whether server spans of traced requests are recorded.
+	private boolean tracing;
+
+	/// Maximum number of connections, may be `null`.
+	private Integer maxConnections;
+
+	/// Size of the accept queue, may be `null`.
+	private Integer acceptQueueSize;
+
+	/// Idle timeout of connections, in milliseconds, may be `null`.
+	private Integer idleTimeout;
+
+	/// Maximum number of requests served on a keep-alive connection, may be `null`.
+	private Integer maxKeepAliveRequests;
+
+	/// Network conditions emulated between clients and the server, may be `null`.
+	private NetworkConditions networkConditions;
+
 	protected AbstractEmbeddedJettyConfigurationBuilder() {
 		stopTimeout = DEFAULT_STOP_TIMEOUT;
 		stopAtShutdown = DEFAULT_STOP_AT_SHUTDOWN;
 		dirAllowed = true;
+		http2 = DEFAULT_HTTP2;
+		lightweight = DEFAULT_LIGHTWEIGHT;
+		fileMappedBuffer = DEFAULT_FILE_MAPPED_BUFFER;
+		servlets = new ArrayList<>();
+		filters = new ArrayList<>();
+		listeners = new ArrayList<>();
 
 		// With jetty < 12.1.0, this was the default (i.e a `jsp` directory inside the current working directory).
 		// With jetty >= 12.1.0, it seems it needs to be explicitely set.
 		tempDirectory = new File("jsp").getAbsolutePath();;
+		statistics = DEFAULT_STATISTICS;
+		requestLatency = DEFAULT_REQUEST_LATENCY;
+		contexts = new ArrayList<>();
+		jspPrecompile = DEFAULT_JSP_PRECOMPILE;
+		inMemorySessions = DEFAULT_IN_MEMORY_SESSIONS;
+		sessionStatistics = DEFAULT_SESSION_STATISTICS;
+		warExtraction = DEFAULT_WAR_EXTRACTION;
+		https = DEFAULT_HTTPS;
+		handshakeStatistics = DEFAULT_HANDSHAKE_STATISTICS;
+		tracing = DEFAULT_TRACING;
 	}
 
 	/// Get the Jetty stop timeout (in ms).
@@ -134,6 +285,261 @@ abstract class AbstractEmbeddedJettyConfigurationBuilder<
 		return tempDirectory;
 	}
 
+	/// The HTTP/2 flag:
+	/// - When `true`, HTTP/2 over cleartext connections (a.k.a `h2c`) is enabled.
+	/// - When `false`, only HTTP/1.1 is enabled.
+	///
+	/// @return `true` if `h2c` is enabled, `false` otherwise.
+	public boolean isHttp2() {
+		return http2;
+	}
+
+	/// Get the unix domain socket path.
+	///
+	/// @return Unix domain socket path, may be `null`.
+	public String getUnixSocketPath() {
+		return unixSocketPath;
+	}
+
+	/// The lightweight flag:
+	/// - When `true`, a plain servlet context is created, without any descriptor parsing or annotation scanning.
+	/// - When `false`, a full web app context is created.
+	///
+	/// @return `true` if lightweight mode is enabled, `false` otherwise.
+	public boolean isLightweight() {
+		return lightweight;
+	}
+
+	/// Get servlets registered programmatically.
+	///
+	/// @return Servlets.
+	public List<ServletDefinition> getServlets() {
+		return servlets;
+	}
+
+	/// Get filters registered programmatically.
+	///
+	/// @return Filters.
+	public List<FilterDefinition> getFilters() {
+		return filters;
+	}
+
+	/// Get listeners registered programmatically.
+	///
+	/// @return Listeners.
+	public List<Class<? extends EventListener>> getListeners() {
+		return listeners;
+	}
+
+	/// Get the jetty handler mounted directly on the server.
+	///
+	/// @return Jetty handler, may be `null`.
+	public Handler getHandler() {
+		return handler;
+	}
+
+	/// The file mapped buffer flag.
+	///
+	/// @return `true` if the default servlet uses memory-mapped buffers, `false` otherwise.
+	public boolean isFileMappedBuffer() {
+		return fileMappedBuffer;
+	}
+
+	/// Get the maximum size of the default servlet content cache, in bytes.
+	///
+	/// @return Maximum cache size, `null` to use jetty default.
+	public Integer getMaxCacheSize() {
+		return maxCacheSize;
+	}
+
+	/// Get the maximum size of a file cached by the default servlet, in bytes.
+	///
+	/// @return Maximum cached file size, `null` to use jetty default.
+	public Integer getMaxCachedFileSize() {
+		return maxCachedFileSize;
+	}
+
+	/// Get the maximum number of files cached by the default servlet.
+	///
+	/// @return Maximum number of cached files, `null` to use jetty default.
+	public Integer getMaxCachedFiles() {
+		return maxCachedFiles;
+	}
+
+	/// Get the response compression settings.
+	///
+	/// @return Compression settings, `null` if compression is disabled.
+	public Compression getCompression() {
+		return compression;
+	}
+
+	/// Get the statistics flag:
+	/// - `true` if server statistics are collected (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getStatistics()]).
+	/// - `false` otherwise.
+	///
+	/// @return `true` if statistics are enabled, `false` otherwise.
+	public boolean isStatistics() {
+		return statistics;
+	}
+
+	/// Get the request latency flag:
+	/// - `true` if server-side latency of requests is recorded (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getRequestLatencies()]).
+	/// - `false` otherwise.
+	///
+	/// @return `true` if request latency recording is enabled, `false` otherwise.
+	public boolean isRequestLatency() {
+		return requestLatency;
+	}
+
+	/// Get additional web application contexts, deployed on the same server.
+	///
+	/// @return Additional contexts.
+	public List<ContextDefinition> getContexts() {
+		return contexts;
+	}
+
+	/// Get the JSP precompilation flag:
+	/// - `true` if JSP pages of the webapp are compiled when the server starts.
+	/// - `false` otherwise.
+	///
+	/// @return `true` if JSP precompilation is enabled, `false` otherwise.
+	public boolean isJspPrecompile() {
+		return jspPrecompile;
+	}
+
+	/// Get the directory where compiled JSP are kept across runs.
+	///
+	/// @return JSP cache directory, `null` if not set.
+	public String getJspCacheDirectory() {
+		return jspCacheDirectory;
+	}
+
+	/// Get the strategy used to create and delete the jetty temp directory.
+	///
+	/// @return The work directory strategy, `null` if not set.
+	public WorkDirectory getWorkDirectory() {
+		return workDirectory;
+	}
+
+	/// Get the in-memory sessions flag.
+	///
+	/// @return `true` if HTTP sessions are stored in memory only, `false` otherwise.
+	public boolean isInMemorySessions() {
+		return inMemorySessions;
+	}
+
+	/// Get the interval (in seconds) between two scans for expired HTTP sessions.
+	///
+	/// @return Interval, `null` if the jetty default is used.
+	public Integer getSessionScavengeInterval() {
+		return sessionScavengeInterval;
+	}
+
+	/// Get the session statistics flag.
+	///
+	/// @return `true` if HTTP session statistics are exposed, `false` otherwise.
+	public boolean isSessionStatistics() {
+		return sessionStatistics;
+	}
+
+	/// Get the WAR extraction flag.
+	///
+	/// @return `true` if WAR archives are extracted before being served, `false` otherwise.
+	public boolean isWarExtraction() {
+		return warExtraction;
+	}
+
+	/// Get the directory where WAR archives are extracted once, and reused across runs.
+	///
+	/// @return WAR cache directory, `null` if WAR archives are not cached.
+	public String getWarCacheDirectory() {
+		return warCacheDirectory;
+	}
+
+	/// Get the classpath location of webapp resources.
+	///
+	/// @return Classpath location, `null` if the webapp directory is used.
+	public String getClasspathWebapp() {
+		return classpathWebapp;
+	}
+
+	/// Get the HTTPS flag.
+	///
+	/// @return `true` if the server serves HTTPS, `false` otherwise.
+	public boolean isHttps() {
+		return https;
+	}
+
+	/// Get the size of the TLS session cache.
+	///
+	/// @return Size of the TLS session cache, `null` to use the JDK default.
+	public Integer getSslSessionCacheSize() {
+		return sslSessionCacheSize;
+	}
+
+	/// Get the timeout (in seconds) of cached TLS sessions.
+	///
+	/// @return Timeout of cached TLS sessions, `null` to use the JDK default.
+	public Integer getSslSessionTimeout() {
+		return sslSessionTimeout;
+	}
+
+	/// Get the TLS handshake statistics flag.
+	///
+	/// @return `true` if TLS handshakes are recorded, `false` otherwise.
+	public boolean isHandshakeStatistics() {
+		return handshakeStatistics;
+	}
+
+	/// Get the capacity of the in-memory access log.
+	///
+	/// @return Capacity of the access log, `null` if the access log is disabled.
+	public Integer getAccessLogCapacity() {
+		return accessLogCapacity;
+	}
+
+	/// Get the tracing flag.
+	///
+	/// @return `true` if server spans of traced requests are recorded, `false` otherwise.
+	public boolean isTracing() {
+		return tracing;
+	}
+
+	/// Get the maximum number of connections established with the server.
+	///
+	/// @return Maximum number of connections, `null` to use the container default.
+	public Integer getMaxConnections() {
+		return maxConnections;
+	}
+
+	/// Get the size of the accept queue of the server socket.
+	///
+	/// @return Size of the accept queue, `null` to use the container default.
+	public Integer getAcceptQueueSize() {
+		return acceptQueueSize;
+	}
+
+	/// Get the idle timeout of connections, in milliseconds.
+	///
+	/// @return Idle timeout, `null` to use the container default.
+	public Integer getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/// Get the maximum number of requests served on a keep-alive connection.
+	///
+	/// @return Maximum number of requests per connection, `null` to use the container default.
+	public Integer getMaxKeepAliveRequests() {
+		return maxKeepAliveRequests;
+	}
+
+	/// Get the network conditions emulated between the HTTP clients and the server.
+	///
+	/// @return Network conditions, `null` if network conditions are not emulated.
+	public NetworkConditions getNetworkConditions() {
+		return networkConditions;
+	}
+
 	/// Update `stopTimeout` value.
 	///
 	/// @param stopTimeout New stop timeout value.
@@ -218,4 +624,637 @@ abstract class AbstractEmbeddedJettyConfigurationBuilder<
 		this.tempDirectory = System.getProperty("java.io.tmpdir") + "/" + UUID.randomUUID();
 		return self();
 	}
+
+	/// Enable HTTP/2 over cleartext connections (a.k.a `h2c`): the server connector will
+	/// accept both HTTP/1.1 upgrade requests and HTTP/2 "prior knowledge" connections.
+	///
+	/// Note that the jetty `http2-server` module must be available on the classpath.
+	///
+	/// @return this
+	public SELF enableHttp2() {
+		return toggleHttp2(true);
+	}
+
+	/// Disable HTTP/2 over cleartext connections (a.k.a `h2c`).
+	///
+	/// @return this
+	public SELF disableHttp2() {
+		return toggleHttp2(false);
+	}
+
+	/// Toggle `http2`.
+	///
+	/// @param http2 New [#http2] value.
+	/// @return this
+	private SELF toggleHttp2(boolean http2) {
+		this.http2 = http2;
+		return self();
+	}
+
+	/// Listen on given unix domain socket, in addition to the TCP connector: clients running on the same
+	/// host can then skip the TCP loopback stack entirely.
+	///
+	/// Note that this requires jetty >= 12 (with the `jetty-unixdomain-server` module available on
+	/// the classpath) and a JDK >= 16: with an older jetty, the configuration is rejected when it is built.
+	///
+	/// @param unixSocketPath Unix domain socket path.
+	/// @return this
+	/// @throws NullPointerException If `unixSocketPath` is `null`.
+	/// @throws IllegalArgumentException If `unixSocketPath` is blank.
+	public SELF withUnixSocketPath(String unixSocketPath) {
+		this.unixSocketPath = notBlank(unixSocketPath, "unixSocketPath");
+		return self();
+	}
+
+	/// Listen on given unix domain socket, in addition to the TCP connector.
+	///
+	/// @param unixSocketPath Unix domain socket path.
+	/// @return this
+	/// @throws NullPointerException If `unixSocketPath` is `null`.
+	/// @see #withUnixSocketPath(String)
+	public SELF withUnixSocketPath(File unixSocketPath) {
+		return withUnixSocketPath(notNull(unixSocketPath, "unixSocketPath").getAbsolutePath());
+	}
+
+	/// Enable lightweight mode: a plain servlet context is created instead of a full web app
+	/// context, so no `web.xml` is parsed, no web fragments are merged and no annotation scanning
+	/// is done. Servlets, filters and listeners must be registered programmatically (see
+	/// [#withServlet(ServletDefinition)], [#withFilter(FilterDefinition)] and [#withListener(Class)]).
+	///
+	/// Note that in this mode, the webapp directory is ignored: static resources are only served
+	/// if a base resource is set (see [#withBaseResource(Resource)]) and a default servlet is registered.
+	///
+	/// @return this
+	public SELF enableLightweight() {
+		return toggleLightweight(true);
+	}
+
+	/// Disable lightweight mode: a full web app context is created.
+	///
+	/// @return this
+	public SELF disableLightweight() {
+		return toggleLightweight(false);
+	}
+
+	/// Toggle `lightweight`.
+	///
+	/// @param lightweight New [#lightweight] value.
+	/// @return this
+	private SELF toggleLightweight(boolean lightweight) {
+		this.lightweight = lightweight;
+		return self();
+	}
+
+	/// Register a servlet programmatically.
+	///
+	/// @param servlet Servlet definition.
+	/// @return this
+	/// @throws NullPointerException If `servlet` is `null`.
+	public SELF withServlet(ServletDefinition servlet) {
+		this.servlets.add(notNull(servlet, "servlet"));
+		return self();
+	}
+
+	/// Register a servlet programmatically, mapped to given URL patterns.
+	///
+	/// @param servletClass Servlet class.
+	/// @param mapping The first URL pattern.
+	/// @param mappings Other URL patterns.
+	/// @return this
+	/// @throws NullPointerException If one of the parameters is `null`.
+	public SELF withServlet(Class<?> servletClass, String mapping, String... mappings) {
+		return withServlet(ServletDefinition.servlet(servletClass, mapping, mappings));
+	}
+
+	/// Register a filter programmatically.
+	///
+	/// @param filter Filter definition.
+	/// @return this
+	/// @throws NullPointerException If `filter` is `null`.
+	public SELF withFilter(FilterDefinition filter) {
+		this.filters.add(notNull(filter, "filter"));
+		return self();
+	}
+
+	/// Register a filter programmatically, mapped to given URL patterns.
+	///
+	/// @param filterClass Filter class.
+	/// @param urlPattern The first URL pattern.
+	/// @param urlPatterns Other URL patterns.
+	/// @return this
+	/// @throws NullPointerException If one of the parameters is `null`.
+	public SELF withFilter(Class<?> filterClass, String urlPattern, String... urlPatterns) {
+		return withFilter(FilterDefinition.filter(filterClass, urlPattern, urlPatterns));
+	}
+
+	/// Register a listener (such as a `ServletContextListener`) programmatically.
+	///
+	/// @param listener Listener class.
+	/// @return this
+	/// @throws NullPointerException If `listener` is `null`.
+	public SELF withListener(Class<? extends EventListener> listener) {
+		this.listeners.add(notNull(listener, "listener"));
+		return self();
+	}
+
+	/// Mount given jetty handler directly on the server, without any servlet context: no webapp,
+	/// no descriptor and no servlet, filter or listener is registered, the handler serves all requests.
+	///
+	/// This is the fastest way to start a stub server, especially with jetty >= 12 where the core
+	/// handler API does not depend on the servlet API at all.
+	///
+	/// Note that the handler must be compatible with the jetty version used at runtime.
+	///
+	/// @param handler Jetty handler.
+	/// @return this
+	/// @throws NullPointerException If `handler` is `null`.
+	public SELF withHandler(Handler handler) {
+		this.handler = notNull(handler, "handler");
+		return self();
+	}
+
+	/// Serve static files with memory-mapped buffers: the default servlet maps files in memory instead of
+	/// reading them in heap buffers, which avoids copies when large static files are served.
+	///
+	/// @return this
+	public SELF enableFileMappedBuffer() {
+		return toggleFileMappedBuffer(true);
+	}
+
+	/// Serve static files without memory-mapped buffers (this is the default).
+	///
+	/// @return this
+	public SELF disableFileMappedBuffer() {
+		return toggleFileMappedBuffer(false);
+	}
+
+	/// Toggle `fileMappedBuffer`.
+	///
+	/// @param fileMappedBuffer New [#fileMappedBuffer] value.
+	/// @return this
+	private SELF toggleFileMappedBuffer(boolean fileMappedBuffer) {
+		this.fileMappedBuffer = fileMappedBuffer;
+		return self();
+	}
+
+	/// Set the maximum size of the default servlet content cache, in bytes (use `0` to disable the cache).
+	///
+	/// @param maxCacheSize Maximum cache size.
+	/// @return this
+	/// @throws IllegalArgumentException If `maxCacheSize` is negative.
+	public SELF withMaxCacheSize(int maxCacheSize) {
+		this.maxCacheSize = positive(maxCacheSize, "maxCacheSize");
+		return self();
+	}
+
+	/// Set the maximum size of a file cached by the default servlet, in bytes: larger files are
+	/// never cached.
+	///
+	/// @param maxCachedFileSize Maximum cached file size.
+	/// @return this
+	/// @throws IllegalArgumentException If `maxCachedFileSize` is negative.
+	public SELF withMaxCachedFileSize(int maxCachedFileSize) {
+		this.maxCachedFileSize = positive(maxCachedFileSize, "maxCachedFileSize");
+		return self();
+	}
+
+	/// Set the maximum number of files cached by the default servlet.
+	///
+	/// @param maxCachedFiles Maximum number of cached files.
+	/// @return this
+	/// @throws IllegalArgumentException If `maxCachedFiles` is negative.
+	public SELF withMaxCachedFiles(int maxCachedFiles) {
+		this.maxCachedFiles = positive(maxCachedFiles, "maxCachedFiles");
+		return self();
+	}
+
+	/// Enable response compression (gzip) with given settings: the web application is wrapped
+	/// into a jetty `GzipHandler`.
+	///
+	/// @param compression Compression settings.
+	/// @return this
+	/// @throws NullPointerException If `compression` is `null`.
+	public SELF withCompression(Compression compression) {
+		this.compression = notNull(compression, "compression");
+		return self();
+	}
+
+	/// Enable response compression (gzip) with default settings.
+	///
+	/// @return this
+	/// @see Compression#defaultCompression()
+	public SELF enableCompression() {
+		return withCompression(Compression.defaultCompression());
+	}
+
+	/// Disable response compression (default).
+	///
+	/// @return this
+	public SELF disableCompression() {
+		this.compression = null;
+		return self();
+	}
+
+	/// Enable server statistics: a jetty `StatisticsHandler` is mounted on the server and a
+	/// `ConnectionStatistics` is added to the server connector, so that
+	/// [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getStatistics()] can report requests,
+	/// connections, traffic and buffer pool usage.
+	///
+	/// @return this
+	public SELF enableStatistics() {
+		return toggleStatistics(true);
+	}
+
+	/// Disable server statistics (default).
+	///
+	/// @return this
+	public SELF disableStatistics() {
+		return toggleStatistics(false);
+	}
+
+	/// Toggle `statistics`.
+	///
+	/// @param statistics New [#statistics] value.
+	/// @return this
+	private SELF toggleStatistics(boolean statistics) {
+		this.statistics = statistics;
+		return self();
+	}
+
+	/// Enable request latency recording: a filter, mapped first on `/*`, records the time spent by the server
+	/// to handle each request, grouped by servlet mapping, so that
+	/// [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getRequestLatencies()] can report latency percentiles.
+	///
+	/// @return this
+	public SELF enableRequestLatency() {
+		return toggleRequestLatency(true);
+	}
+
+	/// Disable request latency recording (default).
+	///
+	/// @return this
+	public SELF disableRequestLatency() {
+		return toggleRequestLatency(false);
+	}
+
+	/// Toggle `requestLatency`.
+	///
+	/// @param requestLatency New [#requestLatency] value.
+	/// @return this
+	private SELF toggleRequestLatency(boolean requestLatency) {
+		this.requestLatency = requestLatency;
+		return self();
+	}
+
+	/// Deploy an additional web application context on the server: contexts share the server
+	/// connector and its thread pool, which is cheaper than starting one server per application.
+	///
+	/// Note that servlets, filters and listeners registered programmatically are only registered
+	/// on the main application context.
+	///
+	/// @param context Context definition.
+	/// @return this
+	/// @throws NullPointerException If `context` is `null`.
+	public SELF withContext(ContextDefinition context) {
+		this.contexts.add(notNull(context, "context"));
+		return self();
+	}
+
+	/// Deploy an additional web application context on the server, with default classpath
+	/// and descriptor.
+	///
+	/// @param path Context path.
+	/// @param webapp Webapp directory.
+	/// @return this
+	/// @throws NullPointerException If one of the parameters is `null`.
+	/// @throws IllegalArgumentException If one of the parameters is blank.
+	/// @see #withContext(ContextDefinition)
+	public SELF withContext(String path, String webapp) {
+		return withContext(ContextDefinition.context(path, webapp));
+	}
+
+	/// Enable JSP precompilation: when the server starts, JSP pages of the webapp are compiled in parallel
+	/// (using the `jsp_precompile` request parameter), so that the first request of a test does not pay for
+	/// the JSP compilation.
+	///
+	/// Note that pages in `WEB-INF` cannot be requested, so they are still compiled on first use: use a JSP
+	/// cache directory (see [#withJspCacheDirectory(String)]) to reuse them across runs.
+	///
+	/// @return this
+	public SELF enableJspPrecompile() {
+		return toggleJspPrecompile(true);
+	}
+
+	/// Disable JSP precompilation (default).
+	///
+	/// @return this
+	public SELF disableJspPrecompile() {
+		return toggleJspPrecompile(false);
+	}
+
+	/// Toggle `jspPrecompile`.
+	///
+	/// @param jspPrecompile New [#jspPrecompile] value.
+	/// @return this
+	private SELF toggleJspPrecompile(boolean jspPrecompile) {
+		this.jspPrecompile = jspPrecompile;
+		return self();
+	}
+
+	/// Set the directory where compiled JSP are kept across runs (and restarts): the `tempDirectory` of the webapp context is set to
+	/// a sub-directory named after a hash of the JSP sources (and of the server implementation), so that
+	/// compiled classes are reused as long as JSP sources do not change, and never reused once they do.
+	///
+	/// @param jspCacheDirectory JSP cache directory.
+	/// @return this
+	/// @throws NullPointerException If `jspCacheDirectory` is `null`.
+	/// @throws IllegalArgumentException If `jspCacheDirectory` is blank.
+	public SELF withJspCacheDirectory(String jspCacheDirectory) {
+		this.jspCacheDirectory = notBlank(jspCacheDirectory, "jspCacheDirectory");
+		return self();
+	}
+
+	/// Set the directory where compiled JSP are kept across runs (and restarts).
+	///
+	/// @param jspCacheDirectory JSP cache directory.
+	/// @return this
+	/// @throws NullPointerException If `jspCacheDirectory` is `null`.
+	/// @see #withJspCacheDirectory(String)
+	public SELF withJspCacheDirectory(File jspCacheDirectory) {
+		return withJspCacheDirectory(notNull(jspCacheDirectory, "jspCacheDirectory").getAbsolutePath());
+	}
+
+	/// Set the strategy used to create and delete the jetty temp directory, such as a RAM-backed directory reused
+	/// across restarts: when set, it takes precedence over the `tempDirectory` setting.
+	///
+	/// @param workDirectory The work directory strategy.
+	/// @return this
+	/// @throws NullPointerException If `workDirectory` is `null`.
+	public SELF withWorkDirectory(WorkDirectory workDirectory) {
+		this.workDirectory = notNull(workDirectory, "workDirectory");
+		return self();
+	}
+
+	/// Use purely in-memory HTTP sessions, without any persistence: the default session cache is replaced by an in-memory cache without any session data store, so sessions are never
+	/// evicted, saved or invalidated on shutdown.
+	///
+	/// @return this
+	public SELF enableInMemorySessions() {
+		return toggleInMemorySessions(true);
+	}
+
+	/// Use the default jetty session management (default).
+	///
+	/// @return this
+	public SELF disableInMemorySessions() {
+		return toggleInMemorySessions(false);
+	}
+
+	private SELF toggleInMemorySessions(boolean inMemorySessions) {
+		this.inMemorySessions = inMemorySessions;
+		return self();
+	}
+
+	/// Set the interval (in seconds) between two scans for expired HTTP sessions, run by the session house keeper, shared by all contexts of the server.
+	/// `0` disables the scan: expired sessions are then only removed when they are accessed.
+	///
+	/// @param sessionScavengeInterval Interval, in seconds.
+	/// @return this
+	/// @throws IllegalArgumentException If `sessionScavengeInterval` is negative.
+	public SELF withSessionScavengeInterval(int sessionScavengeInterval) {
+		this.sessionScavengeInterval = positive(sessionScavengeInterval, "sessionScavengeInterval");
+		return self();
+	}
+
+	/// Enable HTTP session statistics (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getSessionStatistics()]).
+	///
+	/// @return this
+	public SELF enableSessionStatistics() {
+		return toggleSessionStatistics(true);
+	}
+
+	/// Disable HTTP session statistics (default).
+	///
+	/// @return this
+	public SELF disableSessionStatistics() {
+		return toggleSessionStatistics(false);
+	}
+
+	private SELF toggleSessionStatistics(boolean sessionStatistics) {
+		this.sessionStatistics = sessionStatistics;
+		return self();
+	}
+
+	/// Extract WAR archives before serving them (default): jetty extracts the archive into its temp directory on each start.
+	///
+	/// @return this
+	public SELF enableWarExtraction() {
+		return toggleWarExtraction(true);
+	}
+
+	/// Serve WAR archives directly, without extracting them: resources are read from the archive (`extractWAR` is set to `false`),
+	/// which saves the extraction on each start.
+	///
+	/// @return this
+	public SELF disableWarExtraction() {
+		return toggleWarExtraction(false);
+	}
+
+	private SELF toggleWarExtraction(boolean warExtraction) {
+		this.warExtraction = warExtraction;
+		return self();
+	}
+
+	/// Extract WAR archives once into given cache directory, and serve the extracted directory: the archive is extracted
+	/// into a sub-directory named after a hash of its content, so that the extraction is reused by next runs as long as the
+	/// archive does not change. This option takes precedence over [#disableWarExtraction()].
+	///
+	/// @param warCacheDirectory WAR cache directory.
+	/// @return this
+	/// @throws NullPointerException If `warCacheDirectory` is `null`.
+	/// @throws IllegalArgumentException If `warCacheDirectory` is blank.
+	public SELF withWarCacheDirectory(String warCacheDirectory) {
+		this.warCacheDirectory = notBlank(warCacheDirectory, "warCacheDirectory");
+		return self();
+	}
+
+	/// Extract WAR archives once into given cache directory.
+	///
+	/// @param warCacheDirectory WAR cache directory.
+	/// @return this
+	/// @throws NullPointerException If `warCacheDirectory` is `null`.
+	/// @see #withWarCacheDirectory(String)
+	public SELF withWarCacheDirectory(File warCacheDirectory) {
+		return withWarCacheDirectory(notNull(warCacheDirectory, "warCacheDirectory").getAbsolutePath());
+	}
+
+	/// Serve webapp resources from given classpath location (such as `webapp` or `META-INF/resources`), instead of the
+	/// webapp directory: each classpath entry containing this location, directory or jar, is mounted as a webapp root,
+	/// in classpath order. Resources are read in place: nothing is copied to the disk, and no default directory is probed.
+	///
+	/// @param classpathWebapp Classpath location.
+	/// @return this
+	/// @throws NullPointerException If `classpathWebapp` is `null`.
+	/// @throws IllegalArgumentException If `classpathWebapp` is blank.
+	public SELF withClasspathWebapp(String classpathWebapp) {
+		this.classpathWebapp = notBlank(classpathWebapp, "classpathWebapp");
+		return self();
+	}
+
+	/// Serve HTTPS instead of plain HTTP: the server connector is configured with an `SslContextFactory` using an
+	/// ephemeral self-signed certificate (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getCertificate()]),
+	/// generated in memory when the server is created. TLS 1.3 is preferred, TLS 1.2 is kept for older clients.
+	///
+	/// Http clients created with the server trust this certificate automatically.
+	///
+	/// @return this
+	public SELF enableHttps() {
+		return toggleHttps(true);
+	}
+
+	/// Serve plain HTTP (default).
+	///
+	/// @return this
+	public SELF disableHttps() {
+		return toggleHttps(false);
+	}
+
+	private SELF toggleHttps(boolean https) {
+		this.https = https;
+		return self();
+	}
+
+	/// Set the maximum number of TLS sessions kept in the server session cache, so that clients can resume a session
+	/// instead of running a full handshake: `0` means no limit. If not set, the JDK default is used.
+	///
+	/// @param sslSessionCacheSize Size of the TLS session cache.
+	/// @return this
+	/// @throws IllegalArgumentException If `sslSessionCacheSize` is negative.
+	public SELF withSslSessionCacheSize(int sslSessionCacheSize) {
+		this.sslSessionCacheSize = positive(sslSessionCacheSize, "sslSessionCacheSize");
+		return self();
+	}
+
+	/// Set the timeout (in seconds) of TLS sessions kept in the server session cache: `0` means no limit. If not set,
+	/// the JDK default is used.
+	///
+	/// @param sslSessionTimeout Timeout of cached TLS sessions, in seconds.
+	/// @return this
+	/// @throws IllegalArgumentException If `sslSessionTimeout` is negative.
+	public SELF withSslSessionTimeout(int sslSessionTimeout) {
+		this.sslSessionTimeout = positive(sslSessionTimeout, "sslSessionTimeout");
+		return self();
+	}
+
+	/// Record the count and the durations of TLS handshakes (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getHandshakeStatistics()]):
+	/// this option has no effect if HTTPS is not enabled.
+	///
+	/// @return this
+	public SELF enableHandshakeStatistics() {
+		return toggleHandshakeStatistics(true);
+	}
+
+	/// Do not record TLS handshakes (default).
+	///
+	/// @return this
+	public SELF disableHandshakeStatistics() {
+		return toggleHandshakeStatistics(false);
+	}
+
+	private SELF toggleHandshakeStatistics(boolean handshakeStatistics) {
+		this.handshakeStatistics = handshakeStatistics;
+		return self();
+	}
+
+	/// Keep the most recent requests in an in-memory access log (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getAccessLog()]),
+	/// fed by a jetty `RequestLog`: once the access log is full, the oldest records are overwritten. Nothing is written to disk,
+	/// and recording a request never blocks, so the access log can be kept under load. `0` disables the access log (default).
+	///
+	/// @param accessLogCapacity Maximum number of records kept in the access log.
+	/// @return this
+	/// @throws IllegalArgumentException If `accessLogCapacity` is negative.
+	public SELF withAccessLogCapacity(int accessLogCapacity) {
+		this.accessLogCapacity = positive(accessLogCapacity, "accessLogCapacity");
+		return self();
+	}
+
+	/// Enable tracing: a filter, mapped first on `/*`, records a server span for each request carrying the `traceparent`
+	/// header of a running test, so that the spans of a test can be read with
+	/// [com.github.mjeanroy.junit.servers.servers.TraceContext#getSpans()]. The header is added by the HTTP clients
+	/// created with the server.
+	///
+	/// @return this
+	public SELF enableTracing() {
+		return toggleTracing(true);
+	}
+
+	/// Disable tracing (default).
+	///
+	/// @return this
+	public SELF disableTracing() {
+		return toggleTracing(false);
+	}
+
+	private SELF toggleTracing(boolean tracing) {
+		this.tracing = tracing;
+		return self();
+	}
+
+	/// Limit the number of connections established with the server, with a jetty `ConnectionLimit`: once the limit is
+	/// reached, the connector stops accepting new connections until an established connection is closed. `0` keeps
+	/// the container default (default).
+	///
+	/// @param maxConnections Maximum number of connections.
+	/// @return this
+	/// @throws IllegalArgumentException If `maxConnections` is negative.
+	public SELF withMaxConnections(int maxConnections) {
+		this.maxConnections = positive(maxConnections, "maxConnections");
+		return self();
+	}
+
+	/// Set the size of the accept queue (i.e. the backlog of the server socket) of the server connector: connections not
+	/// yet accepted by the server are queued by the operating system, up to this size. `0` keeps the container default (default).
+	///
+	/// @param acceptQueueSize Size of the accept queue.
+	/// @return this
+	/// @throws IllegalArgumentException If `acceptQueueSize` is negative.
+	public SELF withAcceptQueueSize(int acceptQueueSize) {
+		this.acceptQueueSize = positive(acceptQueueSize, "acceptQueueSize");
+		return self();
+	}
+
+	/// Set the idle timeout, in milliseconds, of the server connector: an idle connection is closed once this timeout is
+	/// elapsed. `0` keeps the container default (default).
+	///
+	/// @param idleTimeout Idle timeout, in milliseconds.
+	/// @return this
+	/// @throws IllegalArgumentException If `idleTimeout` is negative.
+	public SELF withIdleTimeout(int idleTimeout) {
+		this.idleTimeout = positive(idleTimeout, "idleTimeout");
+		return self();
+	}
+
+	/// Limit the number of HTTP/1.1 requests served on a keep-alive connection: jetty does not have such a setting, so
+	/// a `Connection: close` header is added to the last response, and the connection is closed once this response is
+	/// sent. `1` disables keep-alive, `0` keeps the container default (default).
+	///
+	/// @param maxKeepAliveRequests Maximum number of requests served on a connection.
+	/// @return this
+	/// @throws IllegalArgumentException If `maxKeepAliveRequests` is negative.
+	public SELF withMaxKeepAliveRequests(int maxKeepAliveRequests) {
+		this.maxKeepAliveRequests = positive(maxKeepAliveRequests, "maxKeepAliveRequests");
+		return self();
+	}
+
+	/// Emulate given network conditions between the HTTP clients and the server: the server is started behind an
+	/// in-process TCP proxy adding latency, jitter, a bandwidth cap and connection resets, and the port (and URL) of
+	/// the server is the port of the proxy.
+	///
+	/// @param networkConditions Network conditions.
+	/// @return this
+	/// @throws NullPointerException If `networkConditions` is `null`.
+	public SELF withNetworkConditions(NetworkConditions networkConditions) {
+		this.networkConditions = notNull(networkConditions, "networkConditions");
+		return self();
+	}
 }
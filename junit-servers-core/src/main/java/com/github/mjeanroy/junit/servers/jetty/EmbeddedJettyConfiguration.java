@@ -24,6 +24,8 @@
 
 package com.github.mjeanroy.junit.servers.jetty;
 
+import com.github.mjeanroy.junit.servers.commons.reflect.Classes;
+
 /// Jetty configuration settings.
 public class EmbeddedJettyConfiguration extends AbstractEmbeddedJettyConfiguration {
 
@@ -49,6 +51,10 @@ public class EmbeddedJettyConfiguration extends AbstractEmbeddedJettyConfigurati
 	/// Builder for [EmbeddedJettyConfiguration] instances.
 	public static class Builder extends AbstractEmbeddedJettyConfigurationBuilder<Builder, EmbeddedJettyConfiguration> {
 
+		/// Flag checking if unix domain sockets are supported, i.e if jetty >= 12 is available (`Handler.Abstract`
+		/// has been introduced by jetty 12).
+		private static final boolean UNIX_SOCKET_SUPPORTED = Classes.isPresent("org.eclipse.jetty.server.Handler$Abstract");
+
 		private Builder() {
 			super();
 		}
@@ -58,8 +64,16 @@ public class EmbeddedJettyConfiguration extends AbstractEmbeddedJettyConfigurati
 			return this;
 		}
 
+		/// Create the configuration.
+		///
+		/// @return The configuration.
+		/// @throws IllegalArgumentException If a unix domain socket path has been set with jetty < 12.
 		@Override
 		public EmbeddedJettyConfiguration build() {
+			if (getUnixSocketPath() != null && !UNIX_SOCKET_SUPPORTED) {
+				throw new IllegalArgumentException("Unix domain socket requires jetty >= 12, cannot listen on: " + getUnixSocketPath());
+			}
+
 			return new EmbeddedJettyConfiguration(this);
 		}
 	}
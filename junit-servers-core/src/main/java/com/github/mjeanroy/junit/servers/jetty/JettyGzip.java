@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.jetty;
+
+import com.github.mjeanroy.junit.servers.exceptions.ReflectionException;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
+import org.eclipse.jetty.util.compression.DeflaterPool;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/// Static utilities to enable response compression on jetty servers.
+final class JettyGzip {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(JettyGzip.class);
+
+	/// The capacity of the deflater pool, same as the jetty default.
+	private static final int DEFLATER_POOL_CAPACITY = 1024;
+
+	// Ensure non instantiation.
+	private JettyGzip() {
+	}
+
+	/// Wrap given handler into a `GzipHandler` configured with given settings.
+	///
+	/// @param handler The handler to wrap.
+	/// @param compression The compression settings.
+	/// @return The gzip handler.
+	static Handler wrap(Handler handler, Compression compression) {
+		GzipHandler gzipHandler = new GzipHandler();
+		gzipHandler.setMinGzipSize(compression.getMinSize());
+
+		List<String> mimeTypes = compression.getMimeTypes();
+		if (!mimeTypes.isEmpty()) {
+			log.debug("Setting jetty gzip handler MIME types: {}", mimeTypes);
+			gzipHandler.setIncludedMimeTypes(mimeTypes.toArray(new String[0]));
+		}
+
+		int level = compression.getLevel();
+		if (level != Compression.DEFAULT_LEVEL) {
+			log.debug("Setting jetty gzip handler compression level: {}", level);
+			setCompressionLevel(gzipHandler, level);
+		}
+
+		gzipHandler.setHandler(handler);
+		return gzipHandler;
+	}
+
+	/// Set the compression level: jetty 9.4 exposes a `setCompressionLevel` setter whereas
+	/// newer versions expect a custom `DeflaterPool`, so both are resolved at runtime.
+	///
+	/// @param gzipHandler The gzip handler.
+	/// @param level The compression level.
+	private static void setCompressionLevel(GzipHandler gzipHandler, int level) {
+		try {
+			Method setCompressionLevel = findMethod("setCompressionLevel", int.class);
+			if (setCompressionLevel != null) {
+				setCompressionLevel.invoke(gzipHandler, level);
+				return;
+			}
+
+			Method setDeflaterPool = findMethod("setDeflaterPool", DeflaterPool.class);
+			if (setDeflaterPool == null) {
+				log.warn("Cannot set jetty gzip handler compression level, default level will be used");
+				return;
+			}
+
+			setDeflaterPool.invoke(gzipHandler, new DeflaterPool(DEFLATER_POOL_CAPACITY, level, true));
+		}
+		catch (IllegalAccessException | InvocationTargetException ex) {
+			throw new ReflectionException(ex);
+		}
+	}
+
+	private static Method findMethod(String name, Class<?> parameterType) {
+		try {
+			return GzipHandler.class.getMethod(name, parameterType);
+		}
+		catch (NoSuchMethodException ex) {
+			return null;
+		}
+	}
+}
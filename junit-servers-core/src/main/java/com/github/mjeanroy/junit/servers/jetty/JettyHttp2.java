@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.jetty;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.ServerConnector;
+
+/// Static utilities to enable HTTP/2 on jetty connectors.
+///
+/// This class is only loaded when HTTP/2 is enabled, so that the jetty
+/// `http2-server` module is not required otherwise.
+final class JettyHttp2 {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(JettyHttp2.class);
+
+	// Ensure non instantiation.
+	private JettyHttp2() {
+	}
+
+	/// Enable HTTP/2 over cleartext connections (a.k.a `h2c`) on given connector, using the same
+	/// HTTP configuration as the HTTP/1.1 connection factory.
+	///
+	/// @param connector The server connector.
+	static void enableH2c(ServerConnector connector) {
+		HttpConnectionFactory http11 = connector.getConnectionFactory(HttpConnectionFactory.class);
+		HttpConfiguration httpConfiguration = http11 == null ? new HttpConfiguration() : http11.getHttpConfiguration();
+
+		log.debug("Adding h2c connection factory to jetty connector: {}", connector);
+		connector.addConnectionFactory(new HTTP2CServerConnectionFactory(httpConfiguration));
+	}
+}
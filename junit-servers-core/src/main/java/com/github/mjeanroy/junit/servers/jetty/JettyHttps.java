@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.jetty;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.SecureRequestCustomizer;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+
+import javax.net.ssl.SSLContext;
+
+/// Static utilities to enable HTTPS on jetty connectors.
+final class JettyHttps {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(JettyHttps.class);
+
+	/// Protocol of the connection factory used after the TLS handshake.
+	private static final String NEXT_PROTOCOL = "http/1.1";
+
+	// Ensure non instantiation.
+	private JettyHttps() {
+	}
+
+	/// Enable HTTPS on given connector: a TLS connection factory, using given SSL context, is added in front of
+	/// the HTTP/1.1 connection factory.
+	///
+	/// @param connector The server connector.
+	/// @param sslContext The SSL context, already initialized.
+	/// @param protocols The TLS protocols to enable.
+	/// @param sslSessionCacheSize Size of the TLS session cache, may be `null`.
+	/// @param sslSessionTimeout Timeout of cached TLS sessions, may be `null`.
+	static void enableHttps(ServerConnector connector, SSLContext sslContext, String[] protocols, Integer sslSessionCacheSize, Integer sslSessionTimeout) {
+		// The constructor taking the ssl context factory has a different signature since jetty 10, so the factory
+		// created by the connection factory is used.
+		SslConnectionFactory sslConnectionFactory = new SslConnectionFactory(NEXT_PROTOCOL);
+		SslContextFactory sslContextFactory = sslConnectionFactory.getBean(SslContextFactory.class);
+		sslContextFactory.setSslContext(sslContext);
+		sslContextFactory.setIncludeProtocols(protocols);
+
+		if (sslSessionCacheSize != null) {
+			sslContextFactory.setSslSessionCacheSize(sslSessionCacheSize);
+		}
+
+		if (sslSessionTimeout != null) {
+			sslContextFactory.setSslSessionTimeout(sslSessionTimeout);
+		}
+
+		HttpConnectionFactory http11 = connector.getConnectionFactory(HttpConnectionFactory.class);
+		http11.getHttpConfiguration().addCustomizer(new SecureRequestCustomizer());
+
+		log.debug("Adding TLS connection factory to jetty connector: {}", connector);
+		connector.addFirstConnectionFactory(sslConnectionFactory);
+	}
+}
@@ -28,6 +28,9 @@ import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.engine.AnnotationsHandlerRunner;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.TraceContext;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
 
 /// Create new rule that will execute a list of annotation
 /// handlers before and after test executions.
@@ -36,6 +39,12 @@ class AnnotationsHandlerRule extends AbstractRuleInstance {
 	/// List of handlers.
 	private final AnnotationsHandlerRunner annotationHandlers;
 
+	/// Whether the embedded server records spans: the trace of each test is only started when tracing is enabled.
+	private final boolean tracing;
+
+	/// Name of the test, used to start its trace: the test method is known once the rule is applied.
+	private String testName;
+
 	/// Create new rules.
 	///
 	/// @param target Target class (i.e tested class).
@@ -44,16 +53,33 @@ class AnnotationsHandlerRule extends AbstractRuleInstance {
 	AnnotationsHandlerRule(Object target, EmbeddedServer<?> server, AbstractConfiguration configuration) {
 		super(target);
 		this.annotationHandlers = new AnnotationsHandlerRunner(server, configuration);
+		this.tracing = server.isTracing();
+		this.testName = target.getClass().getName();
+	}
+
+	@Override
+	public Statement apply(Statement base, Description description) {
+		testName = description.getClassName() + "#" + description.getMethodName();
+		return super.apply(base, description);
 	}
 
 	@Override
 	protected void before() {
+		if (tracing) {
+			TraceContext.start(testName);
+		}
+
 		annotationHandlers.beforeEach(getTarget());
 	}
 
 	@Override
 	protected void after() {
-		annotationHandlers.afterEach(getTarget());
+		try {
+			annotationHandlers.afterEach(getTarget());
+		}
+		finally {
+			TraceContext.end();
+		}
 	}
 
 	@Override
@@ -34,6 +34,7 @@ import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.TraceContext;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
@@ -251,6 +252,10 @@ public class JunitServerExtension implements BeforeAllCallback, AfterAllCallback
 			);
 		}
 
+		if (ctx.getRunner().getServer().isTracing()) {
+			TraceContext.start(context.getRequiredTestClass().getName() + "#" + context.getRequiredTestMethod().getName());
+		}
+
 		ctx.getAnnotationsHandler().beforeEach(
 			context.getRequiredTestInstance()
 		);
@@ -258,9 +263,14 @@ public class JunitServerExtension implements BeforeAllCallback, AfterAllCallback
 
 	@Override
 	public void afterEach(ExtensionContext context) {
-		findContextInStore(context).getAnnotationsHandler().afterEach(
-			context.getRequiredTestClass()
-		);
+		try {
+			findContextInStore(context).getAnnotationsHandler().afterEach(
+				context.getRequiredTestClass()
+			);
+		}
+		finally {
+			TraceContext.end();
+		}
 
 		// According to JUnit documentation:
 		//
@@ -27,8 +27,14 @@ package com.github.mjeanroy.junit.servers.servers;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 
+import javax.net.ssl.SSLContext;
+import java.io.File;
+import java.net.URL;
+import java.security.cert.X509Certificate;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static com.github.mjeanroy.junit.servers.commons.core.Urls.ensureAbsolutePath;
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
@@ -53,6 +59,12 @@ public abstract class AbstractEmbeddedServer<
 	private static final String SCHEME_SEPARATOR = "://";
 	private static final String PORT_SEPARATOR = ":";
 
+	/// Name of the filter recording server-side latency of requests.
+	protected static final String REQUEST_LATENCY_FILTER_NAME = "junitServersRequestLatencyFilter";
+
+	/// Name of the filter recording server spans of traced requests.
+	protected static final String TRACING_FILTER_NAME = "junitServersTracingFilter";
+
 	/// Server configuration.
 	protected final CONFIGURATION configuration;
 
@@ -65,6 +77,15 @@ public abstract class AbstractEmbeddedServer<
 	/// It can be used to set a spring profile property or anything else.
 	private final Map<String, String> oldProperties;
 
+	/// Recorders of the requests handled by the server.
+	private final RequestRecorders recorders;
+
+	/// TLS setup of the server: self-signed certificate and TLS handshake recorder.
+	private final ServerTls tls;
+
+	/// Network proxy, started with the server when network conditions are emulated.
+	private volatile NetworkProxy networkProxy;
+
 	// Lock used to synchronize start and stop tasks
 	private static final Object lock = new Object();
 
@@ -75,6 +96,8 @@ public abstract class AbstractEmbeddedServer<
 		this.configuration = notNull(configuration, "configuration");
 		this.status = ServerStatus.STOPPED;
 		this.oldProperties = new LinkedHashMap<>();
+		this.tls = new ServerTls();
+		this.recorders = new RequestRecorders();
 	}
 
 	@Override
@@ -88,6 +111,21 @@ public abstract class AbstractEmbeddedServer<
 					initEnvironment();
 					execHooks(true);
 					doStart();
+
+					try {
+						startNetworkProxy();
+					}
+					catch (RuntimeException ex) {
+						// The server is already running: stop it, so that it is not leaked.
+						log.error("Cannot start network proxy, stopping embedded server");
+						status = ServerStatus.STOPPING;
+						execHooks(false);
+						doStop();
+						destroyEnvironment();
+						status = ServerStatus.STOPPED;
+						throw ex;
+					}
+
 					status = ServerStatus.STARTED;
 
 					// Server is fully initialized
@@ -108,6 +146,7 @@ public abstract class AbstractEmbeddedServer<
 				if (status != ServerStatus.STOPPED) {
 					status = ServerStatus.STOPPING;
 					execHooks(false);
+					stopNetworkProxy();
 					doStop();
 					destroyEnvironment();
 					status = ServerStatus.STOPPED;
@@ -118,6 +157,28 @@ public abstract class AbstractEmbeddedServer<
 		}
 	}
 
+	@Override
+	public void redeploy() {
+		log.debug("Attempt to redeploy embedded server (current status is: {})", status);
+		synchronized (lock) {
+			if (status != ServerStatus.STARTED) {
+				log.debug("Embedded server is not started, starting it");
+				start();
+				return;
+			}
+
+			log.debug("Lock acquired, redeploying application");
+
+			// Hooks see a full stop / start cycle of the application, the server itself is kept running.
+			execHooks(false);
+			execHooks(true);
+			doRedeploy();
+
+			// Application is fully initialized again
+			onStarted();
+		}
+	}
+
 	@Override
 	public boolean isStarted() {
 		return status == ServerStatus.STARTED;
@@ -132,7 +193,152 @@ public abstract class AbstractEmbeddedServer<
 
 	@Override
 	public int getPort() {
-		return isStarted() ? doGetPort() : configuration.getPort();
+		if (!isStarted()) {
+			return configuration.getPort();
+		}
+
+		final NetworkProxy proxy = networkProxy;
+		return proxy == null ? doGetPort() : proxy.getPort();
+	}
+
+	@Override
+	public Map<String, LatencyStatistics> getRequestLatencies() {
+		return recorders.getRequestLatencies();
+	}
+
+	@Override
+	public void resetRequestLatencies() {
+		recorders.resetRequestLatencies();
+	}
+
+	@Override
+	public X509Certificate getCertificate() {
+		return tls.getCertificate();
+	}
+
+	@Override
+	public LatencyStatistics getHandshakeStatistics() {
+		return tls.getHandshakeStatistics();
+	}
+
+	@Override
+	public void resetHandshakeStatistics() {
+		tls.resetHandshakeStatistics();
+	}
+
+	@Override
+	public List<AccessRecord> getAccessLog() {
+		return recorders.getAccessLog();
+	}
+
+	@Override
+	public void clearAccessLog() {
+		recorders.clearAccessLog();
+	}
+
+	/// Create the in-memory access log, reported by [#getAccessLog()]: the container should append a record to the
+	/// returned consumer once each request is completed.
+	///
+	/// @param capacity Maximum number of records kept in the access log, strictly positive.
+	/// @return The consumer of access records.
+	protected final Consumer<AccessRecord> newAccessLog(int capacity) {
+		return recorders.newAccessLog(capacity);
+	}
+
+	/// Create the servlet filter recording server-side latency of requests, reported by [#getRequestLatencies()]:
+	/// the filter should be mapped first, on `/*`, before the servlet context is initialized.
+	///
+	/// @param filterInterface The servlet `Filter` interface of the container (`javax.servlet.Filter` or `jakarta.servlet.Filter`).
+	/// @return The filter, implementing `filterInterface`.
+	protected final Object newRequestLatencyFilter(Class<?> filterInterface) {
+		return recorders.newRequestLatencyFilter(filterInterface);
+	}
+
+	/// Create the servlet filter recording a server span for each request of a running test (see [TraceContext]):
+	/// the filter should be mapped first, on `/*`, before the servlet context is initialized.
+	///
+	/// @param filterInterface The servlet `Filter` interface of the container (`javax.servlet.Filter` or `jakarta.servlet.Filter`).
+	/// @return The filter, implementing `filterInterface`.
+	protected final Object newTracingFilter(Class<?> filterInterface) {
+		return recorders.newTracingFilter(filterInterface);
+	}
+
+	/// Create the server SSL context, using an ephemeral self-signed certificate (see [#getCertificate()]): the
+	/// certificate is generated on the first call, and is then kept for the lifetime of this server, so that
+	/// clients trusting it are not affected by a restart.
+	///
+	/// @param sessionCacheSize Size of the TLS session cache, `null` to keep the JDK default.
+	/// @param sessionTimeout Timeout of cached TLS sessions, in seconds, `null` to keep the JDK default.
+	/// @param handshakeStatistics `true` to record TLS handshakes, reported by [#getHandshakeStatistics()].
+	/// @return The initialized SSL context.
+	protected final SSLContext newSslContext(Integer sessionCacheSize, Integer sessionTimeout, boolean handshakeStatistics) {
+		return tls.newSslContext(sessionCacheSize, sessionTimeout, handshakeStatistics);
+	}
+
+	/// Get the TLS protocols to enable on the server: TLS 1.3 is preferred, TLS 1.2 is kept for clients (or JDK)
+	/// that do not support TLS 1.3 yet.
+	///
+	/// @param sslContext The server SSL context.
+	/// @return The protocols, supported by given SSL context.
+	protected static String[] tlsProtocols(SSLContext sslContext) {
+		return ServerTls.protocols(sslContext);
+	}
+
+	/// Find the classpath entries (directories or jars) containing given classpath location, using the
+	/// thread context class loader: entries are returned in classpath order.
+	///
+	/// @param classpathWebapp The classpath location.
+	/// @return URL of the location inside each classpath entry, always ending with a `/`.
+	protected final List<URL> findClasspathWebapp(String classpathWebapp) {
+		final ClassLoader threadCl = Thread.currentThread().getContextClassLoader();
+		return ClasspathWebapps.find(classpathWebapp, threadCl == null ? getClass().getClassLoader() : threadCl);
+	}
+
+	/// Check if given webapp is a WAR archive (and not a directory).
+	///
+	/// @param webapp The webapp path.
+	/// @return `true` if `webapp` is a WAR archive, `false` otherwise.
+	protected final boolean isWar(String webapp) {
+		return Wars.isWar(webapp);
+	}
+
+	/// Extract given webapp into given cache directory if it is a WAR archive, unless it has already been
+	/// extracted: the archive is extracted into a directory named after a hash of its content, so that
+	/// the extraction is reused by next runs (or restarts) as long as the archive does not change.
+	///
+	/// @param webapp The webapp path.
+	/// @param cacheDirectory The WAR cache directory, may be `null`.
+	/// @return The path of the extracted directory, or `webapp` if it is not a WAR archive (or if `cacheDirectory` is `null`).
+	protected final String extractWar(String webapp, String cacheDirectory) {
+		return Wars.extract(webapp, cacheDirectory);
+	}
+
+	/// Acquire the directory where compiled JSP of given webapp are stored, inside given cache directory: the
+	/// directory name is a hash of the JSP sources and of the server implementation, so that compiled classes are
+	/// reused by next runs (or restarts) as long as the JSP sources do not change. The directory is leased until
+	/// released with [#releaseJspCacheDirectory(File)], so that concurrent servers (or test forks) never share it.
+	///
+	/// @param cacheDirectory The JSP cache directory.
+	/// @param webapp The webapp directory.
+	/// @return The directory of the compiled JSP.
+	protected final File acquireJspCacheDirectory(String cacheDirectory, String webapp) {
+		return Jsps.acquireCacheDirectory(new File(cacheDirectory), new File(webapp), getClass().getName());
+	}
+
+	/// Release a directory acquired with [#acquireJspCacheDirectory(String, String)], once the server is stopped.
+	///
+	/// @param directory The directory of the compiled JSP.
+	protected static void releaseJspCacheDirectory(File directory) {
+		Jsps.releaseCacheDirectory(directory);
+	}
+
+	/// Precompile, in parallel, the JSP pages of given webapp directory (pages in `WEB-INF` cannot be
+	/// requested, and so are compiled on first use): must be called once the server accepts connections.
+	///
+	/// @param webapp The webapp directory.
+	protected final void precompileJsps(String webapp) {
+		final String origin = getScheme() + SCHEME_SEPARATOR + getHost() + PORT_SEPARATOR + doGetPort();
+		Jsps.precompile(new File(webapp), origin, getPath(), getCertificate());
 	}
 
 	@Override
@@ -197,6 +403,21 @@ public abstract class AbstractEmbeddedServer<
 		}
 	}
 
+	private void startNetworkProxy() {
+		final NetworkConditions networkConditions = getNetworkConditions();
+		if (networkConditions != null) {
+			networkProxy = NetworkProxy.start(networkConditions, getHost(), doGetPort());
+		}
+	}
+
+	private void stopNetworkProxy() {
+		final NetworkProxy proxy = networkProxy;
+		if (proxy != null) {
+			networkProxy = null;
+			proxy.close();
+		}
+	}
+
 	private void onStarted() {
 		log.debug("Executing `onStarted` embedded server lifecycle hooks");
 		for (Hook hook : configuration.getHooks()) {
@@ -255,6 +476,26 @@ public abstract class AbstractEmbeddedServer<
 	/// Must block until server is fully stopped.
 	protected abstract void doStop();
 
+	/// Redeploy the application, without stopping the server.
+	/// Must block until the application is fully started again.
+	///
+	/// Default implementation stops and starts the server: subclasses should only restart the
+	/// application context, so that the connector and its port are kept.
+	protected void doRedeploy() {
+		doStop();
+		doStart();
+	}
+
+	/// Get the network conditions emulated between the HTTP clients and the server: when set, the server is
+	/// started behind an in-process TCP proxy, and [#getPort()] returns the port of this proxy.
+	///
+	/// Default implementation returns `null`.
+	///
+	/// @return The network conditions, `null` if network conditions are not emulated.
+	protected NetworkConditions getNetworkConditions() {
+		return null;
+	}
+
 	/// Get port once server is started.
 	///
 	/// @return The port.
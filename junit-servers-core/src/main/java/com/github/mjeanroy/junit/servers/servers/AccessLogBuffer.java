@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Collections.unmodifiableList;
+
+/// Lock-free, bounded, ring buffer of [AccessRecord]: once the buffer is full, the oldest records are overwritten.
+///
+/// Appending a record never blocks: each writer claims a sequence number with an atomic increment, and then
+/// publishes its record in the slot of this sequence. Readers skip slots that are not published yet, or that
+/// have already been overwritten by a newer record.
+final class AccessLogBuffer {
+
+	/// The slots.
+	private final AtomicReferenceArray<Entry> entries;
+
+	/// Capacity of the buffer.
+	private final int capacity;
+
+	/// Next sequence number.
+	private final AtomicLong next;
+
+	/// First sequence number that is visible (i.e. not cleared).
+	private final AtomicLong first;
+
+	/// Create empty buffer.
+	///
+	/// @param capacity Capacity of the buffer.
+	AccessLogBuffer(int capacity) {
+		this.capacity = capacity;
+		this.entries = new AtomicReferenceArray<>(capacity);
+		this.next = new AtomicLong();
+		this.first = new AtomicLong();
+	}
+
+	/// Append given record, overwriting the oldest record if the buffer is full.
+	///
+	/// @param record The record.
+	void append(AccessRecord record) {
+		final long sequence = next.getAndIncrement();
+		entries.set(indexOf(sequence), new Entry(sequence, record));
+	}
+
+	/// Get the records, from the oldest to the newest.
+	///
+	/// @return The records.
+	List<AccessRecord> getRecords() {
+		final long end = next.get();
+		final long start = Math.max(first.get(), end - capacity);
+		final List<AccessRecord> records = new ArrayList<>((int) Math.max(end - start, 0));
+
+		for (long sequence = start; sequence < end; sequence++) {
+			final Entry entry = entries.get(indexOf(sequence));
+			if (entry != null && entry.sequence == sequence) {
+				records.add(entry.record);
+			}
+		}
+
+		return unmodifiableList(records);
+	}
+
+	/// Clear the buffer: records appended concurrently may or may not be discarded.
+	void clear() {
+		first.accumulateAndGet(next.get(), Math::max);
+	}
+
+	private int indexOf(long sequence) {
+		return (int) (sequence % capacity);
+	}
+
+	private static final class Entry {
+		private final long sequence;
+		private final AccessRecord record;
+
+		private Entry(long sequence, AccessRecord record) {
+			this.sequence = sequence;
+			this.record = record;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.Objects;
+
+/// An entry of the in-memory access log (see [EmbeddedServer#getAccessLog()]): the server-side duration is
+/// expressed in nanoseconds.
+public final class AccessRecord {
+
+	/// Create access record.
+	///
+	/// @param method HTTP method.
+	/// @param uri Request URI (path and query string).
+	/// @param status Response status.
+	/// @param bytes Number of bytes of the response body.
+	/// @param duration Server-side duration of the request.
+	/// @param thread Name of the thread that completed the request.
+	/// @return The access record.
+	public static AccessRecord of(String method, String uri, int status, long bytes, long duration, String thread) {
+		return new AccessRecord(method, uri, status, bytes, duration, thread);
+	}
+
+	/// HTTP method.
+	private final String method;
+
+	/// Request URI.
+	private final String uri;
+
+	/// Response status.
+	private final int status;
+
+	/// Number of bytes of the response body.
+	private final long bytes;
+
+	/// Server-side duration, in nanoseconds.
+	private final long duration;
+
+	/// Name of the thread that completed the request.
+	private final String thread;
+
+	private AccessRecord(String method, String uri, int status, long bytes, long duration, String thread) {
+		this.method = method;
+		this.uri = uri;
+		this.status = status;
+		this.bytes = bytes;
+		this.duration = duration;
+		this.thread = thread;
+	}
+
+	/// Get the HTTP method.
+	///
+	/// @return HTTP method.
+	public String getMethod() {
+		return method;
+	}
+
+	/// Get the request URI, including the query string.
+	///
+	/// @return Request URI.
+	public String getUri() {
+		return uri;
+	}
+
+	/// Get the response status.
+	///
+	/// @return Response status.
+	public int getStatus() {
+		return status;
+	}
+
+	/// Get the number of bytes of the response body.
+	///
+	/// @return Number of bytes.
+	public long getBytes() {
+		return bytes;
+	}
+
+	/// Get the server-side duration of the request, in nanoseconds.
+	///
+	/// @return Server-side duration.
+	public long getDuration() {
+		return duration;
+	}
+
+	/// Get the name of the thread that completed the request.
+	///
+	/// @return Thread name.
+	public String getThread() {
+		return thread;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof AccessRecord) {
+			AccessRecord r = (AccessRecord) o;
+			return Objects.equals(method, r.method)
+				&& Objects.equals(uri, r.uri)
+				&& status == r.status
+				&& bytes == r.bytes
+				&& duration == r.duration
+				&& Objects.equals(thread, r.thread);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(method, uri, status, bytes, duration, thread);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("method", method)
+			.append("uri", uri)
+			.append("status", status)
+			.append("bytes", bytes)
+			.append("duration", duration)
+			.append("thread", thread)
+			.build();
+	}
+}
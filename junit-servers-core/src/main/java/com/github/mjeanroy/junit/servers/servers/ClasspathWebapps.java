@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/// Static utilities to find a webapp served from the classpath (such as `META-INF/resources`): the
+/// location may be found in several classpath entries, directories or jars.
+final class ClasspathWebapps {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(ClasspathWebapps.class);
+
+	// Ensure non instantiation.
+	private ClasspathWebapps() {
+	}
+
+	/// Find the classpath entries (directories or jars) containing given classpath location: entries are
+	/// returned in classpath order.
+	///
+	/// @param classpathWebapp The classpath location.
+	/// @param classLoader The class loader used to find the location.
+	/// @return URL of the location inside each classpath entry, always ending with a `/`.
+	static List<URL> find(String classpathWebapp, ClassLoader classLoader) {
+		String name = classpathWebapp.startsWith("/") ? classpathWebapp.substring(1) : classpathWebapp;
+		if (!name.isEmpty() && !name.endsWith("/")) {
+			name += "/";
+		}
+
+		try {
+			final List<URL> roots = new ArrayList<>();
+			final Enumeration<URL> urls = classLoader.getResources(name);
+			while (urls.hasMoreElements()) {
+				final URL url = urls.nextElement();
+				final String externalForm = url.toExternalForm();
+				roots.add(externalForm.endsWith("/") ? url : new URL(externalForm + "/"));
+			}
+
+			log.debug("Found {} classpath entries containing: {}", roots.size(), classpathWebapp);
+			return roots;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.positive;
+import static java.util.Collections.unmodifiableList;
+
+/// Response compression settings of the embedded server.
+///
+/// When compression is enabled, responses are compressed if the client accepts it (i.e. sends an `Accept-Encoding`
+/// header), if the response is large enough and if its content type is one of the compressible MIME types.
+public final class Compression {
+
+	/// The default minimum response size (in bytes) before compression is applied.
+	public static final int DEFAULT_MIN_SIZE = 2048;
+
+	/// The default compression level: let the underlying `Deflater` choose.
+	public static final int DEFAULT_LEVEL = -1;
+
+	/// Create compression settings with default values: responses larger than [#DEFAULT_MIN_SIZE] are
+	/// compressed using the default compressible MIME types of the embedded server.
+	///
+	/// @return The compression settings.
+	public static Compression defaultCompression() {
+		return builder().build();
+	}
+
+	/// Create builder for [Compression].
+	///
+	/// @return The builder.
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/// The minimum response size (in bytes) before compression is applied.
+	private final int minSize;
+
+	/// The compressible MIME types, an empty list means the default list of the embedded server.
+	private final List<String> mimeTypes;
+
+	/// The gzip/deflate compression level, from `0` (no compression) to `9` (best compression), `-1` for the default level.
+	private final int level;
+
+	private Compression(Builder builder) {
+		this.minSize = builder.minSize;
+		this.mimeTypes = new ArrayList<>(builder.mimeTypes);
+		this.level = builder.level;
+	}
+
+	/// Get the minimum response size (in bytes) before compression is applied.
+	///
+	/// @return Minimum response size.
+	public int getMinSize() {
+		return minSize;
+	}
+
+	/// Get the compressible MIME types (returned list is not modifiable), an empty list means the
+	/// default list of the embedded server.
+	///
+	/// @return Compressible MIME types.
+	public List<String> getMimeTypes() {
+		return unmodifiableList(mimeTypes);
+	}
+
+	/// Get the gzip/deflate compression level, `-1` means the default level.
+	///
+	/// @return Compression level.
+	public int getLevel() {
+		return level;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof Compression) {
+			Compression c = (Compression) o;
+			return Objects.equals(minSize, c.minSize)
+				&& Objects.equals(mimeTypes, c.mimeTypes)
+				&& Objects.equals(level, c.level);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(minSize, mimeTypes, level);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("minSize", minSize)
+			.append("mimeTypes", mimeTypes)
+			.append("level", level)
+			.build();
+	}
+
+	/// Builder for [Compression].
+	public static final class Builder {
+
+		/// The minimum response size (in bytes) before compression is applied.
+		private int minSize;
+
+		/// The compressible MIME types.
+		private final List<String> mimeTypes;
+
+		/// The gzip/deflate compression level.
+		private int level;
+
+		private Builder() {
+			this.minSize = DEFAULT_MIN_SIZE;
+			this.mimeTypes = new ArrayList<>();
+			this.level = DEFAULT_LEVEL;
+		}
+
+		/// Set the minimum response size (in bytes) before compression is applied.
+		///
+		/// @param minSize Minimum response size.
+		/// @return The builder.
+		/// @throws IllegalArgumentException If `minSize` is negative.
+		public Builder withMinSize(int minSize) {
+			this.minSize = positive(minSize, "minSize");
+			return this;
+		}
+
+		/// Add compressible MIME type: as soon as one MIME type is added, the default list of the
+		/// embedded server is not used anymore.
+		///
+		/// @param mimeType MIME type.
+		/// @return The builder.
+		/// @throws NullPointerException If `mimeType` is `null`.
+		/// @throws IllegalArgumentException If `mimeType` is blank.
+		public Builder withMimeType(String mimeType) {
+			this.mimeTypes.add(notBlank(mimeType, "mimeType"));
+			return this;
+		}
+
+		/// Set the gzip/deflate compression level, from `0` (no compression) to `9` (best compression),
+		/// or `-1` to use the default level.
+		///
+		/// Note that Tomcat does not support custom compression level, so this setting is only applied on Jetty.
+		///
+		/// @param level Compression level.
+		/// @return The builder.
+		/// @throws IllegalArgumentException If `level` is not between `-1` and `9`.
+		public Builder withLevel(int level) {
+			if (level < -1 || level > 9) {
+				throw new IllegalArgumentException("level must be between -1 and 9");
+			}
+
+			this.level = level;
+			return this;
+		}
+
+		/// Build compression settings.
+		///
+		/// @return The compression settings.
+		public Compression build() {
+			return new Compression(this);
+		}
+	}
+}
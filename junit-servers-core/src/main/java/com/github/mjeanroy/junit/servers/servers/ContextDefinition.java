@@ -0,0 +1,202 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.io.File;
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/// An additional web application context, deployed on the same embedded server than the main
+/// application: contexts share the server connector and its thread pool.
+///
+/// Note that servlets, filters and listeners registered programmatically are only registered on
+/// the main application context.
+public final class ContextDefinition {
+
+	/// Create a context definition, with default classpath and descriptor.
+	///
+	/// @param path The context path.
+	/// @param webapp The webapp directory.
+	/// @return The context definition.
+	/// @throws NullPointerException If one of the parameters is `null`.
+	/// @throws IllegalArgumentException If one of the parameters is blank.
+	public static ContextDefinition context(String path, String webapp) {
+		return builder(path, webapp).build();
+	}
+
+	/// Create builder for [ContextDefinition].
+	///
+	/// @param path The context path.
+	/// @param webapp The webapp directory.
+	/// @return The builder.
+	/// @throws NullPointerException If one of the parameters is `null`.
+	/// @throws IllegalArgumentException If one of the parameters is blank.
+	public static Builder builder(String path, String webapp) {
+		return new Builder(path, webapp);
+	}
+
+	/// The context path.
+	private final String path;
+
+	/// The webapp directory.
+	private final String webapp;
+
+	/// The additional classpath entry (i.e the compiled classes directory), may be `null`.
+	private final String classpath;
+
+	/// The path to the custom descriptor file (a.k.a web.xml), may be `null`.
+	private final String overrideDescriptor;
+
+	private ContextDefinition(Builder builder) {
+		this.path = builder.path;
+		this.webapp = builder.webapp;
+		this.classpath = builder.classpath;
+		this.overrideDescriptor = builder.overrideDescriptor;
+	}
+
+	/// Get context path.
+	///
+	/// @return Context path.
+	public String getPath() {
+		return path;
+	}
+
+	/// Get webapp directory.
+	///
+	/// @return Webapp directory.
+	public String getWebapp() {
+		return webapp;
+	}
+
+	/// Get additional classpath entry.
+	///
+	/// @return Classpath entry, `null` if not set.
+	public String getClasspath() {
+		return classpath;
+	}
+
+	/// Get custom descriptor file.
+	///
+	/// @return Descriptor file, `null` if not set.
+	public String getOverrideDescriptor() {
+		return overrideDescriptor;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof ContextDefinition) {
+			ContextDefinition d = (ContextDefinition) o;
+			return Objects.equals(path, d.path)
+				&& Objects.equals(webapp, d.webapp)
+				&& Objects.equals(classpath, d.classpath)
+				&& Objects.equals(overrideDescriptor, d.overrideDescriptor);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(path, webapp, classpath, overrideDescriptor);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("path", path)
+			.append("webapp", webapp)
+			.append("classpath", classpath)
+			.append("overrideDescriptor", overrideDescriptor)
+			.build();
+	}
+
+	/// Builder for [ContextDefinition].
+	public static final class Builder {
+
+		/// The context path.
+		private final String path;
+
+		/// The webapp directory.
+		private final String webapp;
+
+		/// The additional classpath entry.
+		private String classpath;
+
+		/// The path to the custom descriptor file.
+		private String overrideDescriptor;
+
+		private Builder(String path, String webapp) {
+			this.path = notBlank(path, "path");
+			this.webapp = notBlank(webapp, "webapp");
+		}
+
+		/// Set additional classpath entry, such as the compiled classes directory of the application.
+		///
+		/// @param classpath Classpath entry.
+		/// @return The builder.
+		/// @throws NullPointerException If `classpath` is `null`.
+		/// @throws IllegalArgumentException If `classpath` is blank.
+		public Builder withClasspath(String classpath) {
+			this.classpath = notBlank(classpath, "classpath");
+			return this;
+		}
+
+		/// Set additional classpath entry, such as the compiled classes directory of the application.
+		///
+		/// @param classpath Classpath entry.
+		/// @return The builder.
+		/// @throws NullPointerException If `classpath` is `null`.
+		public Builder withClasspath(File classpath) {
+			return withClasspath(notNull(classpath, "classpath").getAbsolutePath());
+		}
+
+		/// Set custom descriptor file (a.k.a web.xml).
+		///
+		/// @param overrideDescriptor Descriptor file.
+		/// @return The builder.
+		/// @throws NullPointerException If `overrideDescriptor` is `null`.
+		/// @throws IllegalArgumentException If `overrideDescriptor` is blank.
+		public Builder withOverrideDescriptor(String overrideDescriptor) {
+			this.overrideDescriptor = notBlank(overrideDescriptor, "overrideDescriptor");
+			return this;
+		}
+
+		/// Build context definition.
+		///
+		/// @return The context definition.
+		public ContextDefinition build() {
+			return new ContextDefinition(this);
+		}
+	}
+}
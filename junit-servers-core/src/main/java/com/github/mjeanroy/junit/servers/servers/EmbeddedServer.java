@@ -24,6 +24,10 @@
 
 package com.github.mjeanroy.junit.servers.servers;
 
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+
 /// Specification of embedded server.
 ///
 /// An embedded server:
@@ -44,6 +48,19 @@ public interface EmbeddedServer<CONFIGURATION extends AbstractConfiguration> {
 	/// Restart embedded server.
 	void restart();
 
+	/// Redeploy the application without stopping the server: the connector (and its port)
+	/// are kept, only the application context is stopped and started again.
+	///
+	/// If server is not started, this method should start it.
+	///
+	/// Lifecycle hooks (see [Hook]) are executed as if the application was stopped and started again: `post`
+	/// before the application context is stopped, `pre` before it is started again, and `onStarted` once it is.
+	///
+	/// The default implementation restarts the whole server (see [#restart()]).
+	default void redeploy() {
+		restart();
+	}
+
 	/// Return server configuration.
 	///
 	/// @return Configuration.
@@ -69,10 +86,23 @@ public interface EmbeddedServer<CONFIGURATION extends AbstractConfiguration> {
 	/// Note that:
 	/// - If the server is not started, the returned port should be the one set in the configuration.
 	/// - Otherwise, the "real" port should be returned (the port used by the embedded server)
+	/// - When network conditions are emulated, the port of the network proxy is returned, so that the
+	///   URL of the server (see [#getUrl()]) is the proxied endpoint.
 	///
 	/// @return Port.
 	int getPort();
 
+	/// Get the path of the unix domain socket the embedded server listens on, if any.
+	///
+	/// This socket is always available in addition to the TCP port returned by [#getPort()].
+	///
+	/// The default implementation returns `null`.
+	///
+	/// @return Unix domain socket path, `null` if server does not listen on a unix domain socket.
+	default String getSocketPath() {
+		return null;
+	}
+
 	/// Get server context path.
 	///
 	/// @return Server context path.
@@ -88,4 +118,106 @@ public interface EmbeddedServer<CONFIGURATION extends AbstractConfiguration> {
 	///
 	/// @return Servlet Context from container.
 	Object getServletContext();
+
+	/// Get a snapshot of the static resource cache statistics (hits, lookups and cache size).
+	///
+	/// The default implementation returns `null`.
+	///
+	/// @return Statistics snapshot, `null` if the server is not started or does not track cache statistics.
+	default ResourceCacheStatistics getResourceCacheStatistics() {
+		return null;
+	}
+
+	/// Get a snapshot of the HTTP session statistics of the web application, when session statistics are enabled.
+	///
+	/// The default implementation returns `null`.
+	///
+	/// @return Statistics snapshot, `null` if the server is not started or if session statistics are not enabled.
+	default SessionStatistics getSessionStatistics() {
+		return null;
+	}
+
+	/// Get a snapshot of the server statistics (requests, connections, traffic, etc.).
+	///
+	/// The default implementation returns `null`.
+	///
+	/// @return Statistics snapshot, `null` if the server is not started or if statistics are not enabled.
+	default ServerStatistics getStatistics() {
+		return null;
+	}
+
+	/// Reset server statistics, so that statistics can be scoped to a single test: this method does nothing if
+	/// the server is not started or if statistics are not enabled.
+	///
+	/// The default implementation does nothing.
+	default void resetStatistics() {
+	}
+
+	/// Get the server-side latency of requests, grouped by servlet mapping, when request latency is recorded.
+	///
+	/// The default implementation returns `null`.
+	///
+	/// @return Latency statistics indexed by servlet mapping, `null` if request latency is not recorded.
+	default Map<String, LatencyStatistics> getRequestLatencies() {
+		return null;
+	}
+
+	/// Reset recorded request latencies, so that latencies can be scoped to a single test: this method does
+	/// nothing if request latency is not recorded.
+	///
+	/// The default implementation does nothing.
+	default void resetRequestLatencies() {
+	}
+
+	/// Get the self-signed certificate served by the HTTPS connector, when HTTPS is enabled: http clients should
+	/// trust this certificate to query the server.
+	///
+	/// The default implementation returns `null`.
+	///
+	/// @return The certificate, `null` if HTTPS is not enabled.
+	default X509Certificate getCertificate() {
+		return null;
+	}
+
+	/// Get the count and the durations of TLS handshakes, when handshakes are recorded.
+	///
+	/// The default implementation returns `null`.
+	///
+	/// @return Handshake statistics, `null` if HTTPS is not enabled or if handshakes are not recorded.
+	default LatencyStatistics getHandshakeStatistics() {
+		return null;
+	}
+
+	/// Reset recorded TLS handshakes, so that handshakes can be scoped to a single test: this method does nothing
+	/// if handshakes are not recorded.
+	///
+	/// The default implementation does nothing.
+	default void resetHandshakeStatistics() {
+	}
+
+	/// Get the most recent requests recorded in the in-memory access log, when the access log is enabled.
+	///
+	/// The default implementation returns `null`.
+	///
+	/// @return The access records, from the oldest to the newest, `null` if the access log is disabled.
+	default List<AccessRecord> getAccessLog() {
+		return null;
+	}
+
+	/// Clear the in-memory access log, so that recorded requests can be scoped to a single test: this method does
+	/// nothing if the access log is disabled.
+	///
+	/// The default implementation does nothing.
+	default void clearAccessLog() {
+	}
+
+	/// Check if the server records a span for each request of a running test (see [TraceContext]): HTTP clients
+	/// of this server only propagate the trace of the running test when tracing is enabled.
+	///
+	/// The default implementation returns `false`.
+	///
+	/// @return `true` if tracing is enabled, `false` otherwise.
+	default boolean isTracing() {
+		return false;
+	}
 }
@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notEmpty;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/// A filter registered programmatically in the embedded server, without any deployment descriptor.
+///
+/// The filter class is not typed on purpose: the same definition can be used with a `javax.servlet`
+/// or a `jakarta.servlet` container.
+public final class FilterDefinition {
+
+	/// Create a filter definition mapped to given URL patterns.
+	///
+	/// @param filterClass The filter class.
+	/// @param urlPattern The first URL pattern.
+	/// @param urlPatterns Other URL patterns.
+	/// @return The filter definition.
+	/// @throws NullPointerException If one of the parameters is `null`.
+	public static FilterDefinition filter(Class<?> filterClass, String urlPattern, String... urlPatterns) {
+		Builder builder = builder(filterClass).withUrlPattern(urlPattern);
+		for (String pattern : urlPatterns) {
+			builder.withUrlPattern(pattern);
+		}
+
+		return builder.build();
+	}
+
+	/// Create builder for [FilterDefinition].
+	///
+	/// @param filterClass The filter class.
+	/// @return The builder.
+	/// @throws NullPointerException If `filterClass` is `null`.
+	public static Builder builder(Class<?> filterClass) {
+		return new Builder(filterClass);
+	}
+
+	/// The filter name.
+	private final String name;
+
+	/// The filter class.
+	private final Class<?> filterClass;
+
+	/// The filter URL patterns.
+	private final List<String> urlPatterns;
+
+	/// The filter init parameters.
+	private final Map<String, String> initParameters;
+
+	private FilterDefinition(Builder builder) {
+		this.filterClass = builder.filterClass;
+		this.name = builder.name == null ? filterClass.getName() : builder.name;
+		this.urlPatterns = new ArrayList<>(notEmpty(builder.urlPatterns, "urlPatterns"));
+		this.initParameters = new LinkedHashMap<>(builder.initParameters);
+	}
+
+	/// Get filter name, default to the filter class name.
+	///
+	/// @return Filter name.
+	public String getName() {
+		return name;
+	}
+
+	/// Get filter class.
+	///
+	/// @return Filter class.
+	public Class<?> getFilterClass() {
+		return filterClass;
+	}
+
+	/// Get filter URL patterns (returned list is not modifiable).
+	///
+	/// @return Filter URL patterns.
+	public List<String> getUrlPatterns() {
+		return unmodifiableList(urlPatterns);
+	}
+
+	/// Get filter init parameters (returned map is not modifiable).
+	///
+	/// @return Filter init parameters.
+	public Map<String, String> getInitParameters() {
+		return unmodifiableMap(initParameters);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof FilterDefinition) {
+			FilterDefinition d = (FilterDefinition) o;
+			return Objects.equals(name, d.name)
+				&& Objects.equals(filterClass, d.filterClass)
+				&& Objects.equals(urlPatterns, d.urlPatterns)
+				&& Objects.equals(initParameters, d.initParameters);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(name, filterClass, urlPatterns, initParameters);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("name", name)
+			.append("filterClass", filterClass)
+			.append("urlPatterns", urlPatterns)
+			.append("initParameters", initParameters)
+			.build();
+	}
+
+	/// Builder for [FilterDefinition].
+	public static final class Builder {
+
+		/// The filter class.
+		private final Class<?> filterClass;
+
+		/// The filter name.
+		private String name;
+
+		/// The filter URL patterns.
+		private final List<String> urlPatterns;
+
+		/// The filter init parameters.
+		private final Map<String, String> initParameters;
+
+		private Builder(Class<?> filterClass) {
+			this.filterClass = notNull(filterClass, "filterClass");
+			this.urlPatterns = new ArrayList<>();
+			this.initParameters = new LinkedHashMap<>();
+		}
+
+		/// Set filter name.
+		///
+		/// @param name Filter name.
+		/// @return The builder.
+		/// @throws NullPointerException If `name` is `null`.
+		/// @throws IllegalArgumentException If `name` is blank.
+		public Builder withName(String name) {
+			this.name = notBlank(name, "name");
+			return this;
+		}
+
+		/// Add filter URL pattern.
+		///
+		/// @param urlPattern URL pattern.
+		/// @return The builder.
+		/// @throws NullPointerException If `urlPattern` is `null`.
+		public Builder withUrlPattern(String urlPattern) {
+			this.urlPatterns.add(notNull(urlPattern, "urlPattern"));
+			return this;
+		}
+
+		/// Add filter init parameter.
+		///
+		/// @param name Parameter name.
+		/// @param value Parameter value.
+		/// @return The builder.
+		/// @throws NullPointerException If `name` or `value` are `null`.
+		/// @throws IllegalArgumentException If `name` is blank.
+		public Builder withInitParameter(String name, String value) {
+			this.initParameters.put(notBlank(name, "name"), notNull(value, "value"));
+			return this;
+		}
+
+		/// Build filter definition.
+		///
+		/// @return The filter definition.
+		/// @throws IllegalArgumentException If no URL pattern has been defined.
+		public FilterDefinition build() {
+			return new FilterDefinition(this);
+		}
+	}
+}
@@ -0,0 +1,358 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/// Record the duration of TLS handshakes: the [SSLContext] returned by [#wrap(SSLContext)] creates engines
+/// measuring the time elapsed between the first handshake message and the end of the handshake.
+///
+/// Each handshake is recorded once, whether it is a full handshake or a resumed session.
+final class HandshakeRecorder {
+
+	/// Recorded durations.
+	private final LatencyHistogram histogram;
+
+	/// Create empty recorder.
+	HandshakeRecorder() {
+		this.histogram = new LatencyHistogram();
+	}
+
+	/// Wrap given context, so that handshakes of engines created by the returned context are recorded.
+	///
+	/// @param sslContext The SSL context, already initialized.
+	/// @return The wrapped SSL context.
+	SSLContext wrap(SSLContext sslContext) {
+		return new RecordingSSLContext(new RecordingSSLContextSpi(sslContext, histogram), sslContext);
+	}
+
+	/// Get handshake statistics: the count of handshakes, and their durations.
+	///
+	/// @return Handshake statistics.
+	LatencyStatistics getStatistics() {
+		return histogram.getStatistics();
+	}
+
+	/// Reset recorded handshakes.
+	void reset() {
+		histogram.reset();
+	}
+
+	private static final class RecordingSSLContext extends SSLContext {
+		private RecordingSSLContext(SSLContextSpi spi, SSLContext delegate) {
+			super(spi, delegate.getProvider(), delegate.getProtocol());
+		}
+	}
+
+	private static final class RecordingSSLContextSpi extends SSLContextSpi {
+		private final SSLContext delegate;
+		private final LatencyHistogram histogram;
+
+		private RecordingSSLContextSpi(SSLContext delegate, LatencyHistogram histogram) {
+			this.delegate = delegate;
+			this.histogram = histogram;
+		}
+
+		@Override
+		protected void engineInit(KeyManager[] km, TrustManager[] tm, SecureRandom sr) {
+			throw new UnsupportedOperationException("SSL context is already initialized");
+		}
+
+		@Override
+		protected SSLSocketFactory engineGetSocketFactory() {
+			return delegate.getSocketFactory();
+		}
+
+		@Override
+		protected SSLServerSocketFactory engineGetServerSocketFactory() {
+			return delegate.getServerSocketFactory();
+		}
+
+		@Override
+		protected SSLEngine engineCreateSSLEngine() {
+			return new RecordingSSLEngine(delegate.createSSLEngine(), histogram);
+		}
+
+		@Override
+		protected SSLEngine engineCreateSSLEngine(String host, int port) {
+			return new RecordingSSLEngine(delegate.createSSLEngine(host, port), histogram);
+		}
+
+		@Override
+		protected SSLSessionContext engineGetServerSessionContext() {
+			return delegate.getServerSessionContext();
+		}
+
+		@Override
+		protected SSLSessionContext engineGetClientSessionContext() {
+			return delegate.getClientSessionContext();
+		}
+
+		@Override
+		protected SSLParameters engineGetDefaultSSLParameters() {
+			return delegate.getDefaultSSLParameters();
+		}
+
+		@Override
+		protected SSLParameters engineGetSupportedSSLParameters() {
+			return delegate.getSupportedSSLParameters();
+		}
+	}
+
+	/// An engine delegating to the JDK engine, and recording the handshake duration.
+	///
+	/// Note that the application protocol (ALPN) methods were added in Java 9: they are declared without
+	/// `@Override`, so that this class still compiles with Java 8, and are delegated with reflection.
+	private static final class RecordingSSLEngine extends SSLEngine {
+		private final SSLEngine delegate;
+		private final LatencyHistogram histogram;
+		private volatile long start;
+		private volatile boolean recorded;
+
+		private RecordingSSLEngine(SSLEngine delegate, LatencyHistogram histogram) {
+			super(delegate.getPeerHost(), delegate.getPeerPort());
+			this.delegate = delegate;
+			this.histogram = histogram;
+		}
+
+		@Override
+		public SSLEngineResult wrap(ByteBuffer[] srcs, int offset, int length, ByteBuffer dst) throws SSLException {
+			begin();
+			return record(delegate.wrap(srcs, offset, length, dst));
+		}
+
+		@Override
+		public SSLEngineResult unwrap(ByteBuffer src, ByteBuffer[] dsts, int offset, int length) throws SSLException {
+			begin();
+			return record(delegate.unwrap(src, dsts, offset, length));
+		}
+
+		private void begin() {
+			if (start == 0) {
+				start = System.nanoTime();
+			}
+		}
+
+		private SSLEngineResult record(SSLEngineResult result) {
+			if (!recorded && result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.FINISHED) {
+				recorded = true;
+				histogram.record(System.nanoTime() - start);
+			}
+
+			return result;
+		}
+
+		@Override
+		public Runnable getDelegatedTask() {
+			return delegate.getDelegatedTask();
+		}
+
+		@Override
+		public void closeInbound() throws SSLException {
+			delegate.closeInbound();
+		}
+
+		@Override
+		public boolean isInboundDone() {
+			return delegate.isInboundDone();
+		}
+
+		@Override
+		public void closeOutbound() {
+			delegate.closeOutbound();
+		}
+
+		@Override
+		public boolean isOutboundDone() {
+			return delegate.isOutboundDone();
+		}
+
+		@Override
+		public String[] getSupportedCipherSuites() {
+			return delegate.getSupportedCipherSuites();
+		}
+
+		@Override
+		public String[] getEnabledCipherSuites() {
+			return delegate.getEnabledCipherSuites();
+		}
+
+		@Override
+		public void setEnabledCipherSuites(String[] suites) {
+			delegate.setEnabledCipherSuites(suites);
+		}
+
+		@Override
+		public String[] getSupportedProtocols() {
+			return delegate.getSupportedProtocols();
+		}
+
+		@Override
+		public String[] getEnabledProtocols() {
+			return delegate.getEnabledProtocols();
+		}
+
+		@Override
+		public void setEnabledProtocols(String[] protocols) {
+			delegate.setEnabledProtocols(protocols);
+		}
+
+		@Override
+		public SSLSession getSession() {
+			return delegate.getSession();
+		}
+
+		@Override
+		public SSLSession getHandshakeSession() {
+			return delegate.getHandshakeSession();
+		}
+
+		@Override
+		public void beginHandshake() throws SSLException {
+			delegate.beginHandshake();
+		}
+
+		@Override
+		public SSLEngineResult.HandshakeStatus getHandshakeStatus() {
+			return delegate.getHandshakeStatus();
+		}
+
+		@Override
+		public void setUseClientMode(boolean mode) {
+			delegate.setUseClientMode(mode);
+		}
+
+		@Override
+		public boolean getUseClientMode() {
+			return delegate.getUseClientMode();
+		}
+
+		@Override
+		public void setNeedClientAuth(boolean need) {
+			delegate.setNeedClientAuth(need);
+		}
+
+		@Override
+		public boolean getNeedClientAuth() {
+			return delegate.getNeedClientAuth();
+		}
+
+		@Override
+		public void setWantClientAuth(boolean want) {
+			delegate.setWantClientAuth(want);
+		}
+
+		@Override
+		public boolean getWantClientAuth() {
+			return delegate.getWantClientAuth();
+		}
+
+		@Override
+		public void setEnableSessionCreation(boolean flag) {
+			delegate.setEnableSessionCreation(flag);
+		}
+
+		@Override
+		public boolean getEnableSessionCreation() {
+			return delegate.getEnableSessionCreation();
+		}
+
+		@Override
+		public SSLParameters getSSLParameters() {
+			return delegate.getSSLParameters();
+		}
+
+		@Override
+		public void setSSLParameters(SSLParameters params) {
+			delegate.setSSLParameters(params);
+		}
+
+		// Java 9+
+		public String getApplicationProtocol() {
+			return (String) invoke("getApplicationProtocol");
+		}
+
+		// Java 9+
+		public String getHandshakeApplicationProtocol() {
+			return (String) invoke("getHandshakeApplicationProtocol");
+		}
+
+		// Java 9+
+		public void setHandshakeApplicationProtocolSelector(BiFunction<SSLEngine, List<String>, String> selector) {
+			invoke("setHandshakeApplicationProtocolSelector", BiFunction.class, selector);
+		}
+
+		// Java 9+
+		public BiFunction<SSLEngine, List<String>, String> getHandshakeApplicationProtocolSelector() {
+			@SuppressWarnings("unchecked")
+			BiFunction<SSLEngine, List<String>, String> selector = (BiFunction<SSLEngine, List<String>, String>) invoke("getHandshakeApplicationProtocolSelector");
+			return selector;
+		}
+
+		private Object invoke(String name) {
+			return invoke(name, null, null);
+		}
+
+		private Object invoke(String name, Class<?> parameterType, Object arg) {
+			try {
+				if (parameterType == null) {
+					return SSLEngine.class.getMethod(name).invoke(delegate);
+				}
+
+				Method method = SSLEngine.class.getMethod(name, parameterType);
+				return method.invoke(delegate, arg);
+			}
+			catch (NoSuchMethodException | IllegalAccessException ex) {
+				throw new UnsupportedOperationException(ex);
+			}
+			catch (InvocationTargetException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+}
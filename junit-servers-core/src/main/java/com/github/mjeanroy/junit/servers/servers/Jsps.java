@@ -0,0 +1,385 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.client.impl.TrustedCertificates;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.mjeanroy.junit.servers.commons.core.Urls.concatenatePath;
+
+/// Static JSP utilities: find the JSP files of a webapp directory, lease the cache directory of their
+/// compiled classes, and precompile them using the `jsp_precompile` request parameter (supported
+/// by Jasper, used by both tomcat and jetty).
+final class Jsps {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(Jsps.class);
+
+	/// Extensions of the files read by Jasper, and used to compute the key of the compiled classes.
+	private static final String[] SOURCE_EXTENSIONS = {".jsp", ".jspx", ".jspf", ".tag", ".tagx", ".tld"};
+
+	/// Extensions of the files that can be requested (and so precompiled).
+	private static final String[] PAGE_EXTENSIONS = {".jsp", ".jspx"};
+
+	/// Length of the key (i.e the number of hexadecimal characters kept from the digest).
+	private static final int KEY_LENGTH = 16;
+
+	/// Timeout (in milliseconds) used to connect to the server and to read the precompile responses.
+	private static final int TIMEOUT = 60000;
+
+	/// Cache directories leased by a running server of this JVM, with the channel holding their file lock.
+	private static final Map<File, FileChannel> locks = new ConcurrentHashMap<>();
+
+	/// Private directories, used when the cache directory is already leased, and deleted once released.
+	private static final Set<File> privates = ConcurrentHashMap.newKeySet();
+
+	// Ensure non instantiation.
+	private Jsps() {
+	}
+
+	/// Compute the key of the JSP sources of given webapp directory: the key changes as soon as a JSP (or
+	/// a tag file or a TLD) is added, removed or updated, and does not depend on the files modification time.
+	///
+	/// @param webapp The webapp directory.
+	/// @param discriminator Additional value used to compute the key (such as the container implementation).
+	/// @return The key.
+	static String key(File webapp, String discriminator) {
+		final MessageDigest digest = sha256();
+		digest.update(discriminator.getBytes(StandardCharsets.UTF_8));
+
+		for (String source : find(webapp, SOURCE_EXTENSIONS)) {
+			digest.update((byte) 0);
+			digest.update(source.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+
+			try {
+				digest.update(Files.readAllBytes(new File(webapp, source).toPath()));
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		final StringBuilder sb = new StringBuilder(KEY_LENGTH);
+		for (byte b : digest.digest()) {
+			if (sb.length() >= KEY_LENGTH) {
+				break;
+			}
+
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+
+		return sb.toString();
+	}
+
+	/// Acquire the directory of the compiled JSP of given webapp, inside given cache directory: the directory is
+	/// named after the key of the JSP sources (see [#key(File, String)]), so that compiled classes are reused by
+	/// next runs as long as the JSP sources do not change. The directory must be released once the server is stopped.
+	///
+	/// The directory is leased with a file lock (`<key>.lock`), so that it is never used by two running servers,
+	/// even in another JVM (such as a concurrent test fork): if it is already leased, a private directory is used
+	/// instead (JSP pages are then compiled again), and deleted once released.
+	///
+	/// @param cacheDirectory The JSP cache directory.
+	/// @param webapp The webapp directory.
+	/// @param discriminator Additional value used to compute the key (such as the container implementation).
+	/// @return The directory of the compiled JSP.
+	static File acquireCacheDirectory(File cacheDirectory, File webapp, String discriminator) {
+		final String key = key(webapp, discriminator);
+		final File directory = new File(cacheDirectory, key);
+
+		try {
+			Files.createDirectories(cacheDirectory.toPath());
+
+			if (lock(directory, new File(cacheDirectory, key + ".lock"))) {
+				log.debug("Leasing JSP cache directory: {}", directory);
+				return directory;
+			}
+
+			final File privateDirectory = Files.createTempDirectory(cacheDirectory.toPath(), key + "-").toFile();
+			log.debug("JSP cache directory {} is already leased, using: {}", directory, privateDirectory);
+			privates.add(privateDirectory);
+			return privateDirectory;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/// Release a directory acquired with [#acquireCacheDirectory(File, File, String)]: the cache directory is
+	/// kept (and its lock released), while a private directory is deleted.
+	///
+	/// @param directory The directory of the compiled JSP.
+	static void releaseCacheDirectory(File directory) {
+		final FileChannel channel = locks.remove(directory);
+		if (channel != null) {
+			log.debug("Releasing JSP cache directory: {}", directory);
+			close(channel);
+		}
+		else if (privates.remove(directory)) {
+			log.debug("Deleting private JSP cache directory: {}", directory);
+			WorkDirectory.delete(directory);
+		}
+	}
+
+	private static boolean lock(File directory, File lockFile) throws IOException {
+		synchronized (locks) {
+			if (locks.containsKey(directory)) {
+				return false;
+			}
+
+			final FileChannel channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+			FileLock lock;
+			try {
+				lock = channel.tryLock();
+			}
+			catch (OverlappingFileLockException ex) {
+				lock = null;
+			}
+
+			if (lock == null) {
+				close(channel);
+				return false;
+			}
+
+			locks.put(directory, channel);
+			return true;
+		}
+	}
+
+	private static void close(FileChannel channel) {
+		try {
+			channel.close();
+		}
+		catch (IOException ex) {
+			log.warn("Failed to release JSP cache lock: {}", ex.getMessage());
+		}
+	}
+
+	/// Find JSP pages that can be requested in given webapp directory, i.e pages outside `WEB-INF`
+	/// and `META-INF` directories.
+	///
+	/// @param webapp The webapp directory.
+	/// @return Path of JSP pages, relative to the webapp directory, sorted.
+	static List<String> findPages(File webapp) {
+		return find(webapp, PAGE_EXTENSIONS).stream()
+			.filter((path) -> !path.startsWith("WEB-INF/") && !path.startsWith("META-INF/"))
+			.collect(Collectors.toList());
+	}
+
+	/// Precompile, in parallel, the JSP pages of given webapp directory (see [#findPages(File)]), served by a
+	/// running server: pages in `WEB-INF` cannot be requested, and so are compiled on first use.
+	///
+	/// @param webapp The webapp directory.
+	/// @param origin The origin of the server (scheme, host and port).
+	/// @param path The context path of the webapp.
+	/// @param certificate The self-signed certificate of the server, trusted by HTTPS requests, may be `null`.
+	/// @return The number of pages successfully compiled.
+	static int precompile(File webapp, String origin, String path, X509Certificate certificate) {
+		final List<String> pages = findPages(webapp);
+		if (pages.isEmpty()) {
+			log.debug("No JSP to precompile in: {}", webapp);
+			return 0;
+		}
+
+		final List<String> urls = new ArrayList<>(pages.size());
+		for (String page : pages) {
+			urls.add(origin + concatenatePath(path, page));
+		}
+
+		final int compiled = precompile(urls, Runtime.getRuntime().availableProcessors(), certificate);
+		log.info("{} JSP page(s) precompiled out of {}", compiled, pages.size());
+		return compiled;
+	}
+
+	/// Precompile given JSP pages in parallel, using one request per page with the `jsp_precompile`
+	/// parameter: the page is compiled but not executed. This method blocks until all pages are compiled.
+	///
+	/// A page that cannot be compiled is only logged: the error will be reported again on the first request.
+	///
+	/// @param urls URL of JSP pages.
+	/// @param parallelism The maximum number of pages compiled at the same time.
+	/// @param certificate The self-signed certificate of the server, trusted by HTTPS requests, may be `null`.
+	/// @return The number of pages successfully compiled.
+	static int precompile(List<String> urls, int parallelism, X509Certificate certificate) {
+		if (urls.isEmpty()) {
+			return 0;
+		}
+
+		final SSLSocketFactory sslSocketFactory = certificate == null ? null : TrustedCertificates.sslContext(certificate).getSocketFactory();
+
+		final AtomicInteger counter = new AtomicInteger(0);
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, urls.size()), (runnable) -> {
+			Thread thread = new Thread(runnable, "junit-servers-jsp-precompile-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try {
+			final List<Future<Boolean>> results = new ArrayList<>(urls.size());
+			for (String url : urls) {
+				results.add(executor.submit(() -> precompile(url, sslSocketFactory)));
+			}
+
+			int compiled = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get()) {
+					compiled++;
+				}
+			}
+
+			return compiled;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+		catch (ExecutionException ex) {
+			throw new IllegalStateException(ex.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static boolean precompile(String url, SSLSocketFactory sslSocketFactory) {
+		log.debug("Precompiling JSP: {}", url);
+
+		try {
+			HttpURLConnection connection = (HttpURLConnection) new URL(url + "?jsp_precompile=true").openConnection();
+			if (sslSocketFactory != null && connection instanceof HttpsURLConnection) {
+				((HttpsURLConnection) connection).setSSLSocketFactory(sslSocketFactory);
+			}
+
+			connection.setConnectTimeout(TIMEOUT);
+			connection.setReadTimeout(TIMEOUT);
+
+			try {
+				int status = connection.getResponseCode();
+				try (InputStream body = status >= 400 ? connection.getErrorStream() : connection.getInputStream()) {
+					drain(body);
+				}
+
+				if (status >= 400) {
+					log.warn("Failed to precompile JSP {}, server returned status: {}", url, status);
+					return false;
+				}
+
+				return true;
+			}
+			finally {
+				connection.disconnect();
+			}
+		}
+		catch (IOException ex) {
+			log.warn("Failed to precompile JSP {}: {}", url, ex.getMessage());
+			return false;
+		}
+	}
+
+	private static void drain(InputStream body) throws IOException {
+		if (body == null) {
+			return;
+		}
+
+		final byte[] buffer = new byte[8192];
+		while (body.read(buffer) >= 0) {
+			// Discard response body, so that the connection can be reused.
+		}
+	}
+
+	private static List<String> find(File webapp, String[] extensions) {
+		if (!webapp.isDirectory()) {
+			return new ArrayList<>();
+		}
+
+		final Path root = webapp.toPath();
+		try (Stream<Path> paths = Files.walk(root)) {
+			return paths
+				.filter(Files::isRegularFile)
+				.map((path) -> root.relativize(path).toString().replace(File.separatorChar, '/'))
+				.filter((path) -> hasExtension(path, extensions))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static boolean hasExtension(String path, String[] extensions) {
+		for (String extension : extensions) {
+			if (path.endsWith(extension)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Lock-free latency histogram, using log-linear buckets (in the spirit of HdrHistogram):
+/// - Each power of two is divided into a fixed number of linear sub-buckets, so values are recorded
+///   with a relative precision of about 1.5%.
+/// - Memory footprint is fixed, whatever the recorded values (about 30KB).
+///
+/// Recording a value never blocks: concurrent threads only update atomic counters.
+final class LatencyHistogram {
+
+	/// Number of significant bits kept for a recorded value.
+	private static final int PRECISION_BITS = 7;
+
+	/// Number of sub-buckets in each power of two range.
+	private static final int SUB_BUCKET_HALF_COUNT = 1 << (PRECISION_BITS - 1);
+
+	/// Number of sub-buckets of the first, linear, range.
+	private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF_COUNT << 1;
+
+	/// Total number of buckets, to track any positive `long` value.
+	private static final int BUCKET_COUNT = (Long.SIZE - PRECISION_BITS + 1) * SUB_BUCKET_HALF_COUNT;
+
+	/// Number of values recorded in each bucket.
+	private final AtomicLongArray counts;
+
+	/// Sum of recorded values.
+	private final LongAdder sum;
+
+	/// Maximum recorded value.
+	private final AtomicLong max;
+
+	/// Create empty histogram.
+	LatencyHistogram() {
+		this.counts = new AtomicLongArray(BUCKET_COUNT);
+		this.sum = new LongAdder();
+		this.max = new AtomicLong();
+	}
+
+	/// Record given value: negative values are recorded as zero.
+	///
+	/// @param value The value.
+	void record(long value) {
+		final long v = Math.max(value, 0);
+		counts.incrementAndGet(indexOf(v));
+		sum.add(v);
+		max.accumulateAndGet(v, Math::max);
+	}
+
+	/// Reset histogram: values recorded concurrently may or may not be discarded.
+	void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts.set(i, 0);
+		}
+
+		sum.reset();
+		max.set(0);
+	}
+
+	/// Compute statistics of recorded values.
+	///
+	/// @return Statistics snapshot.
+	LatencyStatistics getStatistics() {
+		final long[] snapshot = new long[BUCKET_COUNT];
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			snapshot[i] = counts.get(i);
+			count += snapshot[i];
+		}
+
+		final long max = this.max.get();
+		final double mean = count == 0 ? 0 : (double) sum.sum() / count;
+		return LatencyStatistics.of(
+			count,
+			mean,
+			percentile(snapshot, count, max, 50),
+			percentile(snapshot, count, max, 99),
+			percentile(snapshot, count, max, 99.9),
+			max
+		);
+	}
+
+	/// Compute the given percentile: the highest value equivalent to the bucket containing the percentile is returned,
+	/// bounded by the maximum recorded value.
+	///
+	/// @param snapshot Bucket counts.
+	/// @param count Total count.
+	/// @param max Maximum recorded value.
+	/// @param percentile The percentile, between 0 and 100.
+	/// @return The percentile value.
+	private static long percentile(long[] snapshot, long count, long max, double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+
+		final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < snapshot.length; i++) {
+			seen += snapshot[i];
+			if (seen >= rank) {
+				return Math.min(highestEquivalentValue(i), max);
+			}
+		}
+
+		return max;
+	}
+
+	/// Get the index of the bucket of given value.
+	///
+	/// @param value The value, positive.
+	/// @return The bucket index.
+	static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+
+		final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (PRECISION_BITS - 1);
+		return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+	}
+
+	/// Get the highest value that is recorded in the bucket at given index.
+	///
+	/// @param index The bucket index.
+	/// @return The highest value of the bucket.
+	static long highestEquivalentValue(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		final int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+		final long subBucket = index - (long) shift * SUB_BUCKET_HALF_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
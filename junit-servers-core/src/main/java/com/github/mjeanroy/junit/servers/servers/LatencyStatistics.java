@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.Objects;
+
+/// Snapshot of the latency recorded for a group of requests (i.e. a servlet mapping), or for TLS handshakes: all
+/// durations are expressed in nanoseconds.
+///
+/// Percentiles are computed from an histogram, so they are approximated with a relative precision of about 1.5%.
+public final class LatencyStatistics {
+
+	/// Create latency statistics.
+	///
+	/// @param count Number of recorded requests.
+	/// @param mean Mean latency.
+	/// @param p50 Median latency.
+	/// @param p99 99th percentile latency.
+	/// @param p999 99.9th percentile latency.
+	/// @param max Maximum latency.
+	/// @return The latency statistics.
+	public static LatencyStatistics of(long count, double mean, long p50, long p99, long p999, long max) {
+		return new LatencyStatistics(count, mean, p50, p99, p999, max);
+	}
+
+	/// Number of recorded requests.
+	private final long count;
+
+	/// Mean latency, in nanoseconds.
+	private final double mean;
+
+	/// Median latency, in nanoseconds.
+	private final long p50;
+
+	/// 99th percentile latency, in nanoseconds.
+	private final long p99;
+
+	/// 99.9th percentile latency, in nanoseconds.
+	private final long p999;
+
+	/// Maximum latency, in nanoseconds.
+	private final long max;
+
+	private LatencyStatistics(long count, double mean, long p50, long p99, long p999, long max) {
+		this.count = count;
+		this.mean = mean;
+		this.p50 = p50;
+		this.p99 = p99;
+		this.p999 = p999;
+		this.max = max;
+	}
+
+	/// Get the number of recorded requests.
+	///
+	/// @return Request count.
+	public long getCount() {
+		return count;
+	}
+
+	/// Get the mean latency, in nanoseconds.
+	///
+	/// @return Mean latency.
+	public double getMean() {
+		return mean;
+	}
+
+	/// Get the median latency, in nanoseconds.
+	///
+	/// @return Median latency.
+	public long getP50() {
+		return p50;
+	}
+
+	/// Get the 99th percentile latency, in nanoseconds.
+	///
+	/// @return 99th percentile latency.
+	public long getP99() {
+		return p99;
+	}
+
+	/// Get the 99.9th percentile latency, in nanoseconds.
+	///
+	/// @return 99.9th percentile latency.
+	public long getP999() {
+		return p999;
+	}
+
+	/// Get the maximum latency, in nanoseconds.
+	///
+	/// @return Maximum latency.
+	public long getMax() {
+		return max;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof LatencyStatistics) {
+			LatencyStatistics s = (LatencyStatistics) o;
+			return count == s.count
+				&& Double.compare(mean, s.mean) == 0
+				&& p50 == s.p50
+				&& p99 == s.p99
+				&& p999 == s.p999
+				&& max == s.max;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(count, mean, p50, p99, p999, max);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("count", count)
+			.append("mean", mean)
+			.append("p50", p50)
+			.append("p99", p99)
+			.append("p999", p999)
+			.append("max", max)
+			.build();
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.positive;
+
+/// Network conditions emulated between the HTTP clients and the embedded server.
+///
+/// When network conditions are set, the embedded server is started behind an in-process TCP proxy: the port
+/// (and the URL) of the server is the port of the proxy, so that HTTP clients created with the server go through
+/// the proxy, where data is delayed and throttled, and where new connections may be reset. On localhost, this makes
+/// chatty code paths (such as N+1 HTTP calls) visible in test timings.
+public final class NetworkConditions {
+
+	/// Create builder for [NetworkConditions].
+	///
+	/// @return The builder.
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/// The delay (in milliseconds) added to data sent in each direction.
+	private final int latency;
+
+	/// The maximum random delay (in milliseconds) added to the latency.
+	private final int jitter;
+
+	/// The maximum number of bytes per second sent in each direction of a connection, `0` means no limit.
+	private final long bandwidth;
+
+	/// The probability, between `0` and `1`, that a new connection is reset.
+	private final double resetRate;
+
+	private NetworkConditions(Builder builder) {
+		this.latency = builder.latency;
+		this.jitter = builder.jitter;
+		this.bandwidth = builder.bandwidth;
+		this.resetRate = builder.resetRate;
+	}
+
+	/// Get the delay (in milliseconds) added to data sent in each direction: a request/response exchange is
+	/// thus delayed by twice this latency.
+	///
+	/// @return The latency.
+	public int getLatency() {
+		return latency;
+	}
+
+	/// Get the maximum random delay (in milliseconds) added to the latency.
+	///
+	/// @return The jitter.
+	public int getJitter() {
+		return jitter;
+	}
+
+	/// Get the maximum number of bytes per second sent in each direction of a connection, `0` means no limit.
+	///
+	/// @return The bandwidth.
+	public long getBandwidth() {
+		return bandwidth;
+	}
+
+	/// Get the probability, between `0` and `1`, that a new connection is reset.
+	///
+	/// @return The reset rate.
+	public double getResetRate() {
+		return resetRate;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof NetworkConditions) {
+			NetworkConditions c = (NetworkConditions) o;
+			return Objects.equals(latency, c.latency)
+				&& Objects.equals(jitter, c.jitter)
+				&& Objects.equals(bandwidth, c.bandwidth)
+				&& Objects.equals(resetRate, c.resetRate);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(latency, jitter, bandwidth, resetRate);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("latency", latency)
+			.append("jitter", jitter)
+			.append("bandwidth", bandwidth)
+			.append("resetRate", resetRate)
+			.build();
+	}
+
+	/// Builder for [NetworkConditions].
+	public static final class Builder {
+
+		/// The delay (in milliseconds) added to data sent in each direction.
+		private int latency;
+
+		/// The maximum random delay (in milliseconds) added to the latency.
+		private int jitter;
+
+		/// The maximum number of bytes per second sent in each direction of a connection.
+		private long bandwidth;
+
+		/// The probability that a new connection is reset.
+		private double resetRate;
+
+		private Builder() {
+		}
+
+		/// Set the delay (in milliseconds) added to data sent in each direction (default is `0`).
+		///
+		/// @param latency The latency.
+		/// @return The builder.
+		/// @throws IllegalArgumentException If `latency` is negative.
+		public Builder withLatency(int latency) {
+			this.latency = positive(latency, "latency");
+			return this;
+		}
+
+		/// Set the maximum random delay (in milliseconds) added to the latency (default is `0`): data is never
+		/// reordered, so a delayed chunk also delays the following ones.
+		///
+		/// @param jitter The jitter.
+		/// @return The builder.
+		/// @throws IllegalArgumentException If `jitter` is negative.
+		public Builder withJitter(int jitter) {
+			this.jitter = positive(jitter, "jitter");
+			return this;
+		}
+
+		/// Set the maximum number of bytes per second sent in each direction of a connection (default is `0`,
+		/// meaning no limit).
+		///
+		/// @param bandwidth The bandwidth.
+		/// @return The builder.
+		/// @throws IllegalArgumentException If `bandwidth` is negative.
+		public Builder withBandwidth(long bandwidth) {
+			this.bandwidth = positive(bandwidth, "bandwidth");
+			return this;
+		}
+
+		/// Set the probability, between `0` and `1`, that a new connection is reset by the proxy (default
+		/// is `0`): the connection is accepted, then immediately closed with a TCP reset.
+		///
+		/// @param resetRate The reset rate.
+		/// @return The builder.
+		/// @throws IllegalArgumentException If `resetRate` is not between `0` and `1`.
+		public Builder withResetRate(double resetRate) {
+			if (resetRate < 0 || resetRate > 1) {
+				throw new IllegalArgumentException("resetRate must be between 0 and 1");
+			}
+
+			this.resetRate = resetRate;
+			return this;
+		}
+
+		/// Build network conditions.
+		///
+		/// @return The network conditions.
+		public NetworkConditions build() {
+			return new NetworkConditions(this);
+		}
+	}
+}
@@ -0,0 +1,352 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.exceptions.ServerStartException;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/// An in-process TCP proxy, emulating given [NetworkConditions] between its clients and a target server.
+///
+/// Each direction of a proxied connection is handled by two threads: a reader, reading data as soon as it is
+/// received and computing its delivery time (latency and jitter), and a writer, sending data once its delivery
+/// time is reached (and throttling it to the bandwidth), so that the latency does not reduce the throughput.
+final class NetworkProxy implements Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(NetworkProxy.class);
+
+	/// The size of the buffer used to read data.
+	private static final int BUFFER_SIZE = 8192;
+
+	/// Counter used to name proxy threads.
+	private static final AtomicInteger counter = new AtomicInteger(0);
+
+	/// Start a proxy, listening on an ephemeral port, in front of given target server: the proxy listens on
+	/// the same address as the target server (such as the loopback address), never on every network interface.
+	///
+	/// @param conditions The emulated network conditions.
+	/// @param host The host of the target server.
+	/// @param port The port of the target server.
+	/// @return The started proxy.
+	/// @throws ServerStartException If the proxy cannot listen on a port.
+	static NetworkProxy start(NetworkConditions conditions, String host, int port) {
+		log.debug("Starting network proxy in front of embedded server: {}", conditions);
+
+		try {
+			InetAddress address = InetAddress.getByName(host);
+			NetworkProxy proxy = new NetworkProxy(conditions, new InetSocketAddress(address, port), new ServerSocket(0, 50, address));
+			proxy.executor.execute(proxy::acceptConnections);
+			log.debug("Network proxy listening on port {}, in front of {}", proxy.getPort(), proxy.target);
+			return proxy;
+		}
+		catch (IOException ex) {
+			throw new ServerStartException(ex);
+		}
+	}
+
+	/// The emulated network conditions.
+	private final NetworkConditions conditions;
+
+	/// The address of the target server.
+	private final InetSocketAddress target;
+
+	/// The socket accepting connections of proxy clients.
+	private final ServerSocket serverSocket;
+
+	/// The executor running proxy threads.
+	private final ExecutorService executor;
+
+	/// The sockets of opened connections, closed when the proxy is closed.
+	private final Set<Socket> sockets;
+
+	/// Whether the proxy is closed.
+	private volatile boolean closed;
+
+	private NetworkProxy(NetworkConditions conditions, InetSocketAddress target, ServerSocket serverSocket) {
+		this.conditions = conditions;
+		this.target = target;
+		this.serverSocket = serverSocket;
+		this.sockets = ConcurrentHashMap.newKeySet();
+		this.executor = Executors.newCachedThreadPool((runnable) -> {
+			Thread thread = new Thread(runnable, "junit-servers-network-proxy-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/// Get the address the proxy listens on.
+	///
+	/// @return The address.
+	InetAddress getAddress() {
+		return serverSocket.getInetAddress();
+	}
+
+	/// Get the port the proxy listens on.
+	///
+	/// @return The port.
+	int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	@Override
+	public void close() {
+		log.debug("Closing network proxy listening on port {}", getPort());
+		closed = true;
+		closeQuietly(serverSocket);
+		for (Socket socket : sockets) {
+			closeQuietly(socket);
+		}
+
+		executor.shutdownNow();
+	}
+
+	private void acceptConnections() {
+		while (!closed) {
+			final Socket client;
+			try {
+				client = serverSocket.accept();
+			}
+			catch (IOException ex) {
+				if (!closed) {
+					log.warn(ex.getMessage(), ex);
+				}
+
+				return;
+			}
+
+			if (conditions.getResetRate() > 0 && ThreadLocalRandom.current().nextDouble() < conditions.getResetRate()) {
+				log.debug("Resetting network proxy connection from {}", client.getRemoteSocketAddress());
+				reset(client);
+				continue;
+			}
+
+			final Socket upstream = new Socket();
+			try {
+				upstream.connect(target);
+				client.setTcpNoDelay(true);
+				upstream.setTcpNoDelay(true);
+			}
+			catch (IOException ex) {
+				log.warn(ex.getMessage(), ex);
+				closeQuietly(client);
+				closeQuietly(upstream);
+				continue;
+			}
+
+			final Connection connection = new Connection(client, upstream);
+			connection.forward(client, upstream);
+			connection.forward(upstream, client);
+		}
+	}
+
+	/// A connection between a proxy client and the target server.
+	private final class Connection {
+
+		/// The socket of the proxy client.
+		private final Socket client;
+
+		/// The socket connected to the target server.
+		private final Socket upstream;
+
+		/// The number of directions still forwarding data.
+		private final AtomicInteger opened;
+
+		/// Whether the connection has been aborted.
+		private final AtomicBoolean aborted;
+
+		private Connection(Socket client, Socket upstream) {
+			this.client = client;
+			this.upstream = upstream;
+			this.opened = new AtomicInteger(2);
+			this.aborted = new AtomicBoolean(false);
+			sockets.add(client);
+			sockets.add(upstream);
+		}
+
+		/// Forward data from given source to given destination.
+		///
+		/// @param from The source socket.
+		/// @param to The destination socket.
+		private void forward(Socket from, Socket to) {
+			final BlockingQueue<Chunk> queue = new LinkedBlockingQueue<>();
+			executor.execute(() -> read(from, queue));
+			executor.execute(() -> write(queue, to));
+		}
+
+		private void read(Socket from, BlockingQueue<Chunk> queue) {
+			long deliverAt = 0;
+			try {
+				final InputStream in = from.getInputStream();
+				final byte[] buffer = new byte[BUFFER_SIZE];
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					// Data is never reordered: a chunk is never delivered before the previous one.
+					deliverAt = Math.max(deliverAt, System.nanoTime() + delay());
+					queue.add(new Chunk(Arrays.copyOf(buffer, read), deliverAt));
+				}
+			}
+			catch (IOException ex) {
+				abort();
+			}
+			finally {
+				queue.add(new Chunk(null, Math.max(deliverAt, System.nanoTime() + delay())));
+			}
+		}
+
+		private void write(BlockingQueue<Chunk> queue, Socket to) {
+			try {
+				final OutputStream out = to.getOutputStream();
+				final long bandwidth = conditions.getBandwidth();
+				final int sliceSize = bandwidth == 0 ? BUFFER_SIZE : (int) Math.min(BUFFER_SIZE, Math.max(1, bandwidth / 100));
+				long nextSend = System.nanoTime();
+
+				while (true) {
+					final Chunk chunk = queue.take();
+					sleepUntil(chunk.deliverAt);
+
+					if (chunk.data == null) {
+						if (!aborted.get()) {
+							to.shutdownOutput();
+						}
+
+						break;
+					}
+
+					for (int offset = 0; offset < chunk.data.length; offset += sliceSize) {
+						final int length = Math.min(sliceSize, chunk.data.length - offset);
+						if (bandwidth > 0) {
+							// A slice is sent once it would have been fully transmitted at the given bandwidth.
+							nextSend = Math.max(nextSend, System.nanoTime()) + SECONDS.toNanos(length) / bandwidth;
+							sleepUntil(nextSend);
+						}
+
+						out.write(chunk.data, offset, length);
+					}
+
+					out.flush();
+				}
+
+				if (opened.decrementAndGet() == 0) {
+					closeSockets();
+				}
+			}
+			catch (IOException ex) {
+				abort();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				abort();
+			}
+		}
+
+		/// Get the delay of a chunk of data: the latency, and a random jitter.
+		///
+		/// @return The delay, in nanoseconds.
+		private long delay() {
+			final int jitter = conditions.getJitter();
+			final int delay = jitter == 0 ? conditions.getLatency() : conditions.getLatency() + ThreadLocalRandom.current().nextInt(jitter + 1);
+			return MILLISECONDS.toNanos(delay);
+		}
+
+		private void abort() {
+			if (aborted.compareAndSet(false, true)) {
+				closeSockets();
+			}
+		}
+
+		private void closeSockets() {
+			sockets.remove(client);
+			sockets.remove(upstream);
+			closeQuietly(client);
+			closeQuietly(upstream);
+		}
+	}
+
+	/// A chunk of data, forwarded once its delivery time is reached.
+	private static final class Chunk {
+
+		/// The data, `null` once the end of the stream is reached.
+		private final byte[] data;
+
+		/// The delivery time, as returned by [System#nanoTime()].
+		private final long deliverAt;
+
+		private Chunk(byte[] data, long deliverAt) {
+			this.data = data;
+			this.deliverAt = deliverAt;
+		}
+	}
+
+	private static void sleepUntil(long deadline) throws InterruptedException {
+		long remaining;
+		while ((remaining = deadline - System.nanoTime()) > 0) {
+			NANOSECONDS.sleep(remaining);
+		}
+	}
+
+	private static void reset(Socket socket) {
+		try {
+			// Closing a socket with a zero linger timeout sends a TCP reset.
+			socket.setSoLinger(true, 0);
+		}
+		catch (IOException ex) {
+			log.warn(ex.getMessage(), ex);
+		}
+
+		closeQuietly(socket);
+	}
+
+	private static void closeQuietly(Closeable closeable) {
+		try {
+			closeable.close();
+		}
+		catch (IOException ex) {
+			log.warn(ex.getMessage(), ex);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.Objects;
+
+/// Snapshot of the statistics of a single request processor, i.e the processor bound to a connection of the
+/// embedded server (see [ServerStatistics#getProcessors()]).
+///
+/// Statistics are read when the snapshot is created, so the snapshot is not updated afterward.
+public final class ProcessorStatistics {
+
+	/// Create statistics snapshot.
+	///
+	/// @param workerThreadName Name of the worker thread currently running the processor, may be `null`.
+	/// @param requestCount Number of requests handled by the processor.
+	/// @param errorCount Number of error responses sent by the processor.
+	/// @param lastProcessingTime Time (in nanoseconds) spent handling the last request.
+	/// @param maxProcessingTime Maximum time (in nanoseconds) spent handling a request.
+	/// @return The statistics snapshot.
+	public static ProcessorStatistics of(String workerThreadName, long requestCount, long errorCount, long lastProcessingTime, long maxProcessingTime) {
+		return new ProcessorStatistics(workerThreadName, requestCount, errorCount, lastProcessingTime, maxProcessingTime);
+	}
+
+	/// Name of the worker thread currently running the processor.
+	private final String workerThreadName;
+
+	/// Number of requests handled by the processor.
+	private final long requestCount;
+
+	/// Number of error responses sent by the processor.
+	private final long errorCount;
+
+	/// Time (in nanoseconds) spent handling the last request.
+	private final long lastProcessingTime;
+
+	/// Maximum time (in nanoseconds) spent handling a request.
+	private final long maxProcessingTime;
+
+	private ProcessorStatistics(String workerThreadName, long requestCount, long errorCount, long lastProcessingTime, long maxProcessingTime) {
+		this.workerThreadName = workerThreadName;
+		this.requestCount = requestCount;
+		this.errorCount = errorCount;
+		this.lastProcessingTime = lastProcessingTime;
+		this.maxProcessingTime = maxProcessingTime;
+	}
+
+	/// Get the name of the worker thread currently running the processor.
+	///
+	/// @return Worker thread name, `null` if the processor is not running.
+	public String getWorkerThreadName() {
+		return workerThreadName;
+	}
+
+	/// Get the number of requests handled by the processor.
+	///
+	/// @return Request count.
+	public long getRequestCount() {
+		return requestCount;
+	}
+
+	/// Get the number of error responses (i.e `4xx` or `5xx`) sent by the processor.
+	///
+	/// @return Error count.
+	public long getErrorCount() {
+		return errorCount;
+	}
+
+	/// Get the time (in nanoseconds) spent handling the last request.
+	///
+	/// @return Last processing time.
+	public long getLastProcessingTime() {
+		return lastProcessingTime;
+	}
+
+	/// Get the maximum time (in nanoseconds) spent handling a request.
+	///
+	/// @return Maximum processing time.
+	public long getMaxProcessingTime() {
+		return maxProcessingTime;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof ProcessorStatistics) {
+			ProcessorStatistics s = (ProcessorStatistics) o;
+			return Objects.equals(workerThreadName, s.workerThreadName)
+				&& requestCount == s.requestCount
+				&& errorCount == s.errorCount
+				&& lastProcessingTime == s.lastProcessingTime
+				&& maxProcessingTime == s.maxProcessingTime;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(workerThreadName, requestCount, errorCount, lastProcessingTime, maxProcessingTime);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("workerThreadName", workerThreadName)
+			.append("requestCount", requestCount)
+			.append("errorCount", errorCount)
+			.append("lastProcessingTime", lastProcessingTime)
+			.append("maxProcessingTime", maxProcessingTime)
+			.build();
+	}
+}
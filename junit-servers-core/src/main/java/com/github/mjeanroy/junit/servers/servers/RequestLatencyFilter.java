@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.exceptions.ReflectionException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Strings.isEmpty;
+
+/// Servlet filter recording the time spent by the server to handle each request, grouped by servlet mapping.
+///
+/// The servlet API depends on the container (`javax.servlet` or `jakarta.servlet`), so the filter is created as a
+/// dynamic proxy of the container `Filter` interface, and the servlet API is called through reflection.
+///
+/// Note that the latency of an asynchronous request is the time spent until the request is dispatched to
+/// the asynchronous context.
+final class RequestLatencyFilter implements InvocationHandler {
+
+	/// Group used for the context root, or when the servlet mapping of the request cannot be resolved.
+	private static final String DEFAULT_GROUP = "/";
+
+	/// Create the request latency filter.
+	///
+	/// @param filterInterface The servlet `Filter` interface of the container.
+	/// @param recorder The latency recorder.
+	/// @return The filter, implementing `filterInterface`.
+	static Object create(Class<?> filterInterface, RequestLatencyRecorder recorder) {
+		RequestLatencyFilter filter = new RequestLatencyFilter(filterInterface, recorder);
+		return Proxy.newProxyInstance(filterInterface.getClassLoader(), new Class<?>[]{filterInterface}, filter);
+	}
+
+	/// The latency recorder.
+	private final RequestLatencyRecorder recorder;
+
+	/// The `HttpServletRequest` interface.
+	private final Class<?> httpServletRequest;
+
+	/// The `FilterChain#doFilter` method.
+	private final Method doFilter;
+
+	/// The `HttpServletRequest#getServletPath` method.
+	private final Method getServletPath;
+
+	/// The `HttpServletRequest#getPathInfo` method.
+	private final Method getPathInfo;
+
+	/// The `HttpServletRequest#getHttpServletMapping` method, `null` with servlet API < 4.
+	private final Method getHttpServletMapping;
+
+	/// The `HttpServletMapping#getPattern` method, `null` with servlet API < 4.
+	private final Method getPattern;
+
+	/// The `HttpServletMapping#getServletName` method, `null` with servlet API < 4.
+	private final Method getServletName;
+
+	private RequestLatencyFilter(Class<?> filterInterface, RequestLatencyRecorder recorder) {
+		final String pkg = filterInterface.getPackage().getName();
+		final ClassLoader classLoader = filterInterface.getClassLoader();
+
+		this.recorder = recorder;
+
+		try {
+			Class<?> servletRequest = Class.forName(pkg + ".ServletRequest", false, classLoader);
+			Class<?> servletResponse = Class.forName(pkg + ".ServletResponse", false, classLoader);
+			Class<?> filterChain = Class.forName(pkg + ".FilterChain", false, classLoader);
+			Class<?> httpServletMapping = findClass(pkg + ".http.HttpServletMapping", classLoader);
+
+			this.httpServletRequest = Class.forName(pkg + ".http.HttpServletRequest", false, classLoader);
+			this.doFilter = filterChain.getMethod("doFilter", servletRequest, servletResponse);
+			this.getServletPath = httpServletRequest.getMethod("getServletPath");
+			this.getPathInfo = httpServletRequest.getMethod("getPathInfo");
+			this.getHttpServletMapping = httpServletMapping == null ? null : httpServletRequest.getMethod("getHttpServletMapping");
+			this.getPattern = httpServletMapping == null ? null : httpServletMapping.getMethod("getPattern");
+			this.getServletName = httpServletMapping == null ? null : httpServletMapping.getMethod("getServletName");
+		}
+		catch (ClassNotFoundException | NoSuchMethodException ex) {
+			throw new ReflectionException(ex);
+		}
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		switch (method.getName()) {
+			case "doFilter":
+				doFilter(args[0], args[1], args[2]);
+				return null;
+
+			case "equals":
+				return proxy == args[0];
+
+			case "hashCode":
+				return System.identityHashCode(proxy);
+
+			case "toString":
+				return "RequestLatencyFilter";
+
+			default:
+				// Nothing to do on `init` and `destroy`.
+				return null;
+		}
+	}
+
+	private void doFilter(Object request, Object response, Object chain) throws Throwable {
+		final long start = System.nanoTime();
+
+		try {
+			doFilter.invoke(chain, request, response);
+		}
+		catch (InvocationTargetException ex) {
+			throw ex.getCause();
+		}
+		finally {
+			recorder.record(groupOf(request), System.nanoTime() - start);
+		}
+	}
+
+	/// Get the group of given request: the servlet mapping pattern if available (servlet API >= 4), otherwise
+	/// the servlet path, suffixed with `/*` if the request has a path info.
+	///
+	/// Note that a container implementing servlet API < 4 may run with servlet API 4 on the classpath: in this
+	/// case, the default `HttpServletRequest#getHttpServletMapping` implementation returns an empty mapping (with
+	/// no servlet name), so the servlet path is used.
+	///
+	/// @param request The request.
+	/// @return The request group.
+	private String groupOf(Object request) throws IllegalAccessException, InvocationTargetException {
+		if (!httpServletRequest.isInstance(request)) {
+			return DEFAULT_GROUP;
+		}
+
+		final Object mapping = getHttpServletMapping == null ? null : getHttpServletMapping.invoke(request);
+		if (mapping != null && !isEmpty((String) getServletName.invoke(mapping))) {
+			final String pattern = (String) getPattern.invoke(mapping);
+			return isEmpty(pattern) ? DEFAULT_GROUP : pattern;
+		}
+
+		final String servletPath = (String) getServletPath.invoke(request);
+		final String pathInfo = (String) getPathInfo.invoke(request);
+		final String group = pathInfo == null ? servletPath : servletPath + "/*";
+		return isEmpty(group) ? DEFAULT_GROUP : group;
+	}
+
+	private static Class<?> findClass(String name, ClassLoader classLoader) {
+		try {
+			return Class.forName(name, false, classLoader);
+		}
+		catch (ClassNotFoundException ex) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Collections.unmodifiableMap;
+
+/// Record server-side latency of requests, with one [LatencyHistogram] per request group (i.e. servlet mapping).
+final class RequestLatencyRecorder {
+
+	/// Histograms, indexed by request group.
+	private final ConcurrentMap<String, LatencyHistogram> histograms;
+
+	/// Create empty recorder.
+	RequestLatencyRecorder() {
+		this.histograms = new ConcurrentHashMap<>();
+	}
+
+	/// Record the latency of a request.
+	///
+	/// @param group The request group.
+	/// @param latency The latency, in nanoseconds.
+	void record(String group, long latency) {
+		LatencyHistogram histogram = histograms.get(group);
+		if (histogram == null) {
+			LatencyHistogram newHistogram = new LatencyHistogram();
+			histogram = histograms.putIfAbsent(group, newHistogram);
+			if (histogram == null) {
+				histogram = newHistogram;
+			}
+		}
+
+		histogram.record(latency);
+	}
+
+	/// Get latency statistics of each request group.
+	///
+	/// @return Latency statistics, indexed by request group.
+	Map<String, LatencyStatistics> getStatistics() {
+		Map<String, LatencyStatistics> statistics = new TreeMap<>();
+		for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+			statistics.put(entry.getKey(), entry.getValue().getStatistics());
+		}
+
+		return unmodifiableMap(statistics);
+	}
+
+	/// Reset recorded latencies.
+	void reset() {
+		for (LatencyHistogram histogram : histograms.values()) {
+			histogram.reset();
+		}
+
+		histograms.clear();
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/// The recorders of the requests handled by an embedded server, and the servlet filters feeding them.
+///
+/// Each recorder is initialized with its filter, so that statistics are `null` until the container installs
+/// the filter, and is then kept for the lifetime of the server.
+final class RequestRecorders {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(RequestRecorders.class);
+
+	/// Request latency recorder, initialized when the request latency filter is created.
+	private volatile RequestLatencyRecorder requestLatencyRecorder;
+
+	/// In-memory access log, initialized when the access log is created.
+	private volatile AccessLogBuffer accessLog;
+
+	/// Create the servlet filter recording server-side latency of requests, reported by [#getRequestLatencies()].
+	///
+	/// @param filterInterface The servlet `Filter` interface of the container.
+	/// @return The filter, implementing `filterInterface`.
+	Object newRequestLatencyFilter(Class<?> filterInterface) {
+		return RequestLatencyFilter.create(filterInterface, requestLatencyRecorder());
+	}
+
+	/// Create the servlet filter recording a server span for each request of a running test (see [TraceContext]).
+	///
+	/// @param filterInterface The servlet `Filter` interface of the container.
+	/// @return The filter, implementing `filterInterface`.
+	Object newTracingFilter(Class<?> filterInterface) {
+		return TracingFilter.create(filterInterface);
+	}
+
+	/// Get the request latency recorder, creating it on the first call.
+	///
+	/// @return The recorder.
+	RequestLatencyRecorder requestLatencyRecorder() {
+		if (requestLatencyRecorder == null) {
+			requestLatencyRecorder = new RequestLatencyRecorder();
+		}
+
+		return requestLatencyRecorder;
+	}
+
+	/// Get latency statistics of each request group.
+	///
+	/// @return Latency statistics, indexed by request group, `null` if the request latency filter has not been created.
+	Map<String, LatencyStatistics> getRequestLatencies() {
+		final RequestLatencyRecorder requestLatencyRecorder = this.requestLatencyRecorder;
+		return requestLatencyRecorder == null ? null : requestLatencyRecorder.getStatistics();
+	}
+
+	/// Reset recorded latencies, if any.
+	void resetRequestLatencies() {
+		final RequestLatencyRecorder requestLatencyRecorder = this.requestLatencyRecorder;
+		if (requestLatencyRecorder != null) {
+			log.debug("Resetting request latencies");
+			requestLatencyRecorder.reset();
+		}
+	}
+
+	/// Create the in-memory access log, reported by [#getAccessLog()]: the access log is created on the first call,
+	/// next calls return a consumer of the same access log.
+	///
+	/// @param capacity Maximum number of records kept in the access log, strictly positive.
+	/// @return The consumer of access records.
+	Consumer<AccessRecord> newAccessLog(int capacity) {
+		if (accessLog == null) {
+			accessLog = new AccessLogBuffer(capacity);
+		}
+
+		return accessLog::append;
+	}
+
+	/// Get records of the access log, oldest first.
+	///
+	/// @return Access records, `null` if the access log has not been created.
+	List<AccessRecord> getAccessLog() {
+		final AccessLogBuffer accessLog = this.accessLog;
+		return accessLog == null ? null : accessLog.getRecords();
+	}
+
+	/// Clear the access log, if any.
+	void clearAccessLog() {
+		final AccessLogBuffer accessLog = this.accessLog;
+		if (accessLog != null) {
+			log.debug("Clearing access log");
+			accessLog.clear();
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.Objects;
+
+/// Snapshot of the static resource cache statistics of an embedded server.
+///
+/// Statistics are read when the snapshot is created, so the snapshot is not updated afterward.
+public final class ResourceCacheStatistics {
+
+	/// Create statistics snapshot.
+	///
+	/// @param hitCount Number of lookups served from the cache.
+	/// @param lookupCount Total number of lookups.
+	/// @param size Current size of the cache, in bytes.
+	/// @param maxSize Maximum size of the cache, in bytes.
+	/// @return The statistics snapshot.
+	public static ResourceCacheStatistics of(long hitCount, long lookupCount, long size, long maxSize) {
+		return new ResourceCacheStatistics(hitCount, lookupCount, size, maxSize);
+	}
+
+	/// Number of lookups served from the cache.
+	private final long hitCount;
+
+	/// Total number of lookups.
+	private final long lookupCount;
+
+	/// Current size of the cache, in bytes.
+	private final long size;
+
+	/// Maximum size of the cache, in bytes.
+	private final long maxSize;
+
+	private ResourceCacheStatistics(long hitCount, long lookupCount, long size, long maxSize) {
+		this.hitCount = hitCount;
+		this.lookupCount = lookupCount;
+		this.size = size;
+		this.maxSize = maxSize;
+	}
+
+	/// Get the number of lookups served from the cache.
+	///
+	/// @return Hit count.
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/// Get the number of lookups that have not been served from the cache.
+	///
+	/// @return Miss count.
+	public long getMissCount() {
+		return lookupCount - hitCount;
+	}
+
+	/// Get the total number of lookups.
+	///
+	/// @return Lookup count.
+	public long getLookupCount() {
+		return lookupCount;
+	}
+
+	/// Get the cache hit rate, between `0` and `1`: `0` is returned if no lookup has been made yet.
+	///
+	/// @return Hit rate.
+	public double getHitRate() {
+		return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+	}
+
+	/// Get the current size of the cache, in bytes.
+	///
+	/// @return Cache size.
+	public long getSize() {
+		return size;
+	}
+
+	/// Get the maximum size of the cache, in bytes.
+	///
+	/// @return Maximum cache size.
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof ResourceCacheStatistics) {
+			ResourceCacheStatistics s = (ResourceCacheStatistics) o;
+			return hitCount == s.hitCount
+				&& lookupCount == s.lookupCount
+				&& size == s.size
+				&& maxSize == s.maxSize;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(hitCount, lookupCount, size, maxSize);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("hitCount", hitCount)
+			.append("lookupCount", lookupCount)
+			.append("size", size)
+			.append("maxSize", maxSize)
+			.build();
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/// An ephemeral, self-signed, certificate issued for the local host: the certificate and its private key are
+/// generated in memory, and are never written to disk.
+///
+/// The certificate uses an EC (P-256) key, is valid for one day, and is issued for `localhost`, `127.0.0.1`
+/// and `::1` (as subject alternative names, so that clients can verify the host name).
+///
+/// The X.509 structure is DER-encoded here, since the JDK does not provide a public API to issue certificates.
+final class SelfSignedCertificate {
+
+	/// Alias of the key entry in the key store.
+	private static final String ALIAS = "junit-servers";
+
+	/// Password of the key entry (the key store is never persisted, so it does not need to be secret).
+	private static final char[] PASSWORD = ALIAS.toCharArray();
+
+	/// Common name of the certificate subject (and issuer).
+	private static final String COMMON_NAME = "localhost";
+
+	/// Validity of the certificate.
+	private static final long VALIDITY = TimeUnit.DAYS.toMillis(1);
+
+	/// OID of the `ecdsa-with-SHA256` signature algorithm.
+	private static final String ECDSA_WITH_SHA256 = "1.2.840.10045.4.3.2";
+
+	/// OID of the `commonName` attribute.
+	private static final String CN = "2.5.4.3";
+
+	/// OID of the `subjectAltName` extension.
+	private static final String SUBJECT_ALT_NAME = "2.5.29.17";
+
+	/// Generate a new certificate.
+	///
+	/// @return The certificate.
+	static SelfSignedCertificate generate() {
+		try {
+			final KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+			generator.initialize(256);
+			final KeyPair keyPair = generator.generateKeyPair();
+
+			final byte[] tbs = tbsCertificate(keyPair);
+			final Signature signature = Signature.getInstance("SHA256withECDSA");
+			signature.initSign(keyPair.getPrivate());
+			signature.update(tbs);
+
+			final byte[] der = sequence(tbs, algorithm(), bitString(signature.sign()));
+			final CertificateFactory factory = CertificateFactory.getInstance("X.509");
+			final X509Certificate certificate = (X509Certificate) factory.generateCertificate(new ByteArrayInputStream(der));
+			return new SelfSignedCertificate(certificate, keyPair.getPrivate());
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/// The certificate.
+	private final X509Certificate certificate;
+
+	/// The private key.
+	private final PrivateKey privateKey;
+
+	private SelfSignedCertificate(X509Certificate certificate, PrivateKey privateKey) {
+		this.certificate = certificate;
+		this.privateKey = privateKey;
+	}
+
+	/// Get the certificate.
+	///
+	/// @return The certificate.
+	X509Certificate getCertificate() {
+		return certificate;
+	}
+
+	/// Create an in-memory key store, containing the private key and the certificate.
+	///
+	/// @return The key store.
+	KeyStore newKeyStore() {
+		try {
+			final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+			keyStore.load(null, null);
+			keyStore.setKeyEntry(ALIAS, privateKey, PASSWORD, new Certificate[]{certificate});
+			return keyStore;
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/// Get the password of the key entry in the key store.
+	///
+	/// @return The password.
+	char[] getKeyPassword() {
+		return PASSWORD.clone();
+	}
+
+	private static byte[] tbsCertificate(KeyPair keyPair) {
+		final long now = System.currentTimeMillis();
+		final byte[] name = name();
+		final byte[] serial = integer(new BigInteger(63, new SecureRandom()).add(BigInteger.ONE));
+		return sequence(
+			explicit(0, integer(BigInteger.valueOf(2))),
+			serial,
+			algorithm(),
+			name,
+			sequence(utcTime(new Date(now - TimeUnit.MINUTES.toMillis(5))), utcTime(new Date(now + VALIDITY))),
+			name,
+			keyPair.getPublic().getEncoded(),
+			explicit(3, sequence(subjectAltName()))
+		);
+	}
+
+	private static byte[] name() {
+		return sequence(set(sequence(oid(CN), tlv(0x0C, COMMON_NAME.getBytes(StandardCharsets.UTF_8)))));
+	}
+
+	private static byte[] algorithm() {
+		return sequence(oid(ECDSA_WITH_SHA256));
+	}
+
+	private static byte[] subjectAltName() {
+		final byte[] names = sequence(
+			tlv(0x82, COMMON_NAME.getBytes(StandardCharsets.US_ASCII)),
+			tlv(0x87, new byte[]{127, 0, 0, 1}),
+			tlv(0x87, new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1})
+		);
+
+		return sequence(oid(SUBJECT_ALT_NAME), tlv(0x04, names));
+	}
+
+	private static byte[] utcTime(Date date) {
+		final SimpleDateFormat format = new SimpleDateFormat("yyMMddHHmmss'Z'");
+		format.setTimeZone(TimeZone.getTimeZone("UTC"));
+		return tlv(0x17, format.format(date).getBytes(StandardCharsets.US_ASCII));
+	}
+
+	private static byte[] integer(BigInteger value) {
+		return tlv(0x02, value.toByteArray());
+	}
+
+	private static byte[] bitString(byte[] value) {
+		final byte[] content = new byte[value.length + 1];
+		System.arraycopy(value, 0, content, 1, value.length);
+		return tlv(0x03, content);
+	}
+
+	private static byte[] oid(String oid) {
+		final String[] parts = oid.split("\\.");
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(Integer.parseInt(parts[0]) * 40 + Integer.parseInt(parts[1]));
+		for (int i = 2; i < parts.length; i++) {
+			final long value = Long.parseLong(parts[i]);
+			for (int shift = (63 - Long.numberOfLeadingZeros(value | 1)) / 7 * 7; shift > 0; shift -= 7) {
+				out.write((int) ((value >>> shift) & 0x7F) | 0x80);
+			}
+
+			out.write((int) (value & 0x7F));
+		}
+
+		return tlv(0x06, out.toByteArray());
+	}
+
+	private static byte[] explicit(int tag, byte[] value) {
+		return tlv(0xA0 | tag, value);
+	}
+
+	private static byte[] sequence(byte[]... values) {
+		return tlv(0x30, concat(values));
+	}
+
+	private static byte[] set(byte[]... values) {
+		return tlv(0x31, concat(values));
+	}
+
+	private static byte[] concat(byte[]... values) {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (byte[] value : values) {
+			out.write(value, 0, value.length);
+		}
+
+		return out.toByteArray();
+	}
+
+	private static byte[] tlv(int tag, byte[] value) {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(value.length + 6);
+		out.write(tag);
+
+		final int length = value.length;
+		if (length < 0x80) {
+			out.write(length);
+		}
+		else {
+			final int bytes = (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 7) / 8;
+			out.write(0x80 | bytes);
+			for (int i = bytes - 1; i >= 0; i--) {
+				out.write(length >>> (i * 8));
+			}
+		}
+
+		out.write(value, 0, length);
+		return out.toByteArray();
+	}
+}
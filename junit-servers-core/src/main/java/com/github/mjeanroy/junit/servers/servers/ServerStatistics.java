@@ -0,0 +1,634 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+/// Snapshot of the statistics of an embedded server (requests, connections, traffic, dispatch time, buffer pool
+/// and thread pool), optionally detailed for each request processor.
+///
+/// Statistics are read when the snapshot is created, so the snapshot is not updated afterward. Values that are not
+/// tracked by the embedded server are reported as `-1`.
+public final class ServerStatistics {
+
+	/// Create builder for [ServerStatistics].
+	///
+	/// @return The builder.
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/// Total number of requests.
+	private final long requestCount;
+
+	/// Number of requests currently being handled.
+	private final long activeRequests;
+
+	/// Maximum number of requests handled concurrently.
+	private final long maxActiveRequests;
+
+	/// Number of responses with an error status (i.e `4xx` or `5xx`).
+	private final long errorCount;
+
+	/// Number of connections currently opened.
+	private final long connections;
+
+	/// Maximum number of connections opened concurrently.
+	private final long maxConnections;
+
+	/// Number of bytes received.
+	private final long bytesReceived;
+
+	/// Number of bytes sent.
+	private final long bytesSent;
+
+	/// Mean time (in nanoseconds) spent handling a request.
+	private final double dispatchTimeMean;
+
+	/// Standard deviation (in nanoseconds) of the time spent handling a request.
+	private final double dispatchTimeStdDev;
+
+	/// Maximum time (in nanoseconds) spent handling a request.
+	private final long dispatchTimeMax;
+
+	/// Number of heap buffers retained by the buffer pool.
+	private final long heapBufferCount;
+
+	/// Memory (in bytes) retained by the heap buffers of the buffer pool.
+	private final long heapBufferMemory;
+
+	/// Number of direct buffers retained by the buffer pool.
+	private final long directBufferCount;
+
+	/// Memory (in bytes) retained by the direct buffers of the buffer pool.
+	private final long directBufferMemory;
+
+	/// Number of threads currently handling a request.
+	private final long busyThreads;
+
+	/// Number of threads in the thread pool.
+	private final long threads;
+
+	/// Maximum number of threads of the thread pool.
+	private final long maxThreads;
+
+	/// Number of tasks waiting for a thread in the thread pool queue.
+	private final long queueSize;
+
+	/// Statistics of each request processor.
+	private final List<ProcessorStatistics> processors;
+
+	private ServerStatistics(Builder builder) {
+		this.requestCount = builder.requestCount;
+		this.activeRequests = builder.activeRequests;
+		this.maxActiveRequests = builder.maxActiveRequests;
+		this.errorCount = builder.errorCount;
+		this.connections = builder.connections;
+		this.maxConnections = builder.maxConnections;
+		this.bytesReceived = builder.bytesReceived;
+		this.bytesSent = builder.bytesSent;
+		this.dispatchTimeMean = builder.dispatchTimeMean;
+		this.dispatchTimeStdDev = builder.dispatchTimeStdDev;
+		this.dispatchTimeMax = builder.dispatchTimeMax;
+		this.heapBufferCount = builder.heapBufferCount;
+		this.heapBufferMemory = builder.heapBufferMemory;
+		this.directBufferCount = builder.directBufferCount;
+		this.directBufferMemory = builder.directBufferMemory;
+		this.busyThreads = builder.busyThreads;
+		this.threads = builder.threads;
+		this.maxThreads = builder.maxThreads;
+		this.queueSize = builder.queueSize;
+		this.processors = unmodifiableList(new ArrayList<>(builder.processors));
+	}
+
+	/// Get the total number of requests.
+	///
+	/// @return Request count, `-1` if it is not tracked.
+	public long getRequestCount() {
+		return requestCount;
+	}
+
+	/// Get the number of requests currently being handled.
+	///
+	/// @return Active requests, `-1` if it is not tracked.
+	public long getActiveRequests() {
+		return activeRequests;
+	}
+
+	/// Get the maximum number of requests handled concurrently.
+	///
+	/// @return Maximum active requests, `-1` if it is not tracked.
+	public long getMaxActiveRequests() {
+		return maxActiveRequests;
+	}
+
+	/// Get the number of responses with an error status (i.e `4xx` or `5xx`).
+	///
+	/// @return Error count, `-1` if it is not tracked.
+	public long getErrorCount() {
+		return errorCount;
+	}
+
+	/// Get the number of connections currently opened.
+	///
+	/// @return Opened connections, `-1` if it is not tracked.
+	public long getConnections() {
+		return connections;
+	}
+
+	/// Get the maximum number of connections opened concurrently.
+	///
+	/// @return Maximum opened connections, `-1` if it is not tracked.
+	public long getMaxConnections() {
+		return maxConnections;
+	}
+
+	/// Get the number of bytes received.
+	///
+	/// @return Received bytes, `-1` if it is not tracked.
+	public long getBytesReceived() {
+		return bytesReceived;
+	}
+
+	/// Get the number of bytes sent.
+	///
+	/// @return Sent bytes, `-1` if it is not tracked.
+	public long getBytesSent() {
+		return bytesSent;
+	}
+
+	/// Get the mean time (in nanoseconds) spent handling a request.
+	///
+	/// @return Mean dispatch time, `-1` if it is not tracked.
+	public double getDispatchTimeMean() {
+		return dispatchTimeMean;
+	}
+
+	/// Get the standard deviation (in nanoseconds) of the time spent handling a request.
+	///
+	/// @return Dispatch time standard deviation, `-1` if it is not tracked.
+	public double getDispatchTimeStdDev() {
+		return dispatchTimeStdDev;
+	}
+
+	/// Get the maximum time (in nanoseconds) spent handling a request.
+	///
+	/// @return Maximum dispatch time, `-1` if it is not tracked.
+	public long getDispatchTimeMax() {
+		return dispatchTimeMax;
+	}
+
+	/// Get the number of heap buffers retained by the buffer pool.
+	///
+	/// @return Heap buffer count, `-1` if it is not tracked.
+	public long getHeapBufferCount() {
+		return heapBufferCount;
+	}
+
+	/// Get the memory (in bytes) retained by the heap buffers of the buffer pool.
+	///
+	/// @return Heap buffer memory, `-1` if it is not tracked.
+	public long getHeapBufferMemory() {
+		return heapBufferMemory;
+	}
+
+	/// Get the number of direct buffers retained by the buffer pool.
+	///
+	/// @return Direct buffer count, `-1` if it is not tracked.
+	public long getDirectBufferCount() {
+		return directBufferCount;
+	}
+
+	/// Get the memory (in bytes) retained by the direct buffers of the buffer pool.
+	///
+	/// @return Direct buffer memory, `-1` if it is not tracked.
+	public long getDirectBufferMemory() {
+		return directBufferMemory;
+	}
+
+	/// Get the number of threads currently handling a request.
+	///
+	/// @return Busy threads, `-1` if it is not tracked.
+	public long getBusyThreads() {
+		return busyThreads;
+	}
+
+	/// Get the number of threads in the thread pool.
+	///
+	/// @return Thread count, `-1` if it is not tracked.
+	public long getThreads() {
+		return threads;
+	}
+
+	/// Get the maximum number of threads of the thread pool.
+	///
+	/// @return Max threads, `-1` if it is not tracked.
+	public long getMaxThreads() {
+		return maxThreads;
+	}
+
+	/// Get the number of tasks waiting for a thread in the thread pool queue.
+	///
+	/// @return Queue size, `-1` if it is not tracked.
+	public long getQueueSize() {
+		return queueSize;
+	}
+
+	/// Get the statistics of each request processor currently registered, i.e of each connection being handled:
+	/// this is the per-connection detail of the request count and dispatch time aggregates.
+	///
+	/// @return Processor statistics, empty if they are not tracked.
+	public List<ProcessorStatistics> getProcessors() {
+		return processors;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof ServerStatistics) {
+			ServerStatistics s = (ServerStatistics) o;
+			return requestCount == s.requestCount
+				&& activeRequests == s.activeRequests
+				&& maxActiveRequests == s.maxActiveRequests
+				&& errorCount == s.errorCount
+				&& connections == s.connections
+				&& maxConnections == s.maxConnections
+				&& bytesReceived == s.bytesReceived
+				&& bytesSent == s.bytesSent
+				&& Double.compare(dispatchTimeMean, s.dispatchTimeMean) == 0
+				&& Double.compare(dispatchTimeStdDev, s.dispatchTimeStdDev) == 0
+				&& dispatchTimeMax == s.dispatchTimeMax
+				&& heapBufferCount == s.heapBufferCount
+				&& heapBufferMemory == s.heapBufferMemory
+				&& directBufferCount == s.directBufferCount
+				&& directBufferMemory == s.directBufferMemory
+				&& busyThreads == s.busyThreads
+				&& threads == s.threads
+				&& maxThreads == s.maxThreads
+				&& queueSize == s.queueSize
+				&& Objects.equals(processors, s.processors);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(
+			requestCount,
+			activeRequests,
+			maxActiveRequests,
+			errorCount,
+			connections,
+			maxConnections,
+			bytesReceived,
+			bytesSent,
+			dispatchTimeMean,
+			dispatchTimeStdDev,
+			dispatchTimeMax,
+			heapBufferCount,
+			heapBufferMemory,
+			directBufferCount,
+			directBufferMemory,
+			busyThreads,
+			threads,
+			maxThreads,
+			queueSize,
+			processors
+		);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("requestCount", requestCount)
+			.append("activeRequests", activeRequests)
+			.append("maxActiveRequests", maxActiveRequests)
+			.append("errorCount", errorCount)
+			.append("connections", connections)
+			.append("maxConnections", maxConnections)
+			.append("bytesReceived", bytesReceived)
+			.append("bytesSent", bytesSent)
+			.append("dispatchTimeMean", dispatchTimeMean)
+			.append("dispatchTimeStdDev", dispatchTimeStdDev)
+			.append("dispatchTimeMax", dispatchTimeMax)
+			.append("heapBufferCount", heapBufferCount)
+			.append("heapBufferMemory", heapBufferMemory)
+			.append("directBufferCount", directBufferCount)
+			.append("directBufferMemory", directBufferMemory)
+			.append("busyThreads", busyThreads)
+			.append("threads", threads)
+			.append("maxThreads", maxThreads)
+			.append("queueSize", queueSize)
+			.append("processors", processors)
+			.build();
+	}
+
+	/// Builder for [ServerStatistics].
+	public static final class Builder {
+
+		/// Total number of requests.
+		private long requestCount;
+
+		/// Number of requests currently being handled.
+		private long activeRequests;
+
+		/// Maximum number of requests handled concurrently.
+		private long maxActiveRequests;
+
+		/// Number of responses with an error status (i.e `4xx` or `5xx`).
+		private long errorCount;
+
+		/// Number of connections currently opened.
+		private long connections;
+
+		/// Maximum number of connections opened concurrently.
+		private long maxConnections;
+
+		/// Number of bytes received.
+		private long bytesReceived;
+
+		/// Number of bytes sent.
+		private long bytesSent;
+
+		/// Mean time (in nanoseconds) spent handling a request.
+		private double dispatchTimeMean;
+
+		/// Standard deviation (in nanoseconds) of the time spent handling a request.
+		private double dispatchTimeStdDev;
+
+		/// Maximum time (in nanoseconds) spent handling a request.
+		private long dispatchTimeMax;
+
+		/// Number of heap buffers retained by the buffer pool.
+		private long heapBufferCount;
+
+		/// Memory (in bytes) retained by the heap buffers of the buffer pool.
+		private long heapBufferMemory;
+
+		/// Number of direct buffers retained by the buffer pool.
+		private long directBufferCount;
+
+		/// Memory (in bytes) retained by the direct buffers of the buffer pool.
+		private long directBufferMemory;
+
+		/// Number of threads currently handling a request.
+		private long busyThreads;
+
+		/// Number of threads in the thread pool.
+		private long threads;
+
+		/// Maximum number of threads of the thread pool.
+		private long maxThreads;
+
+		/// Number of tasks waiting for a thread in the thread pool queue.
+		private long queueSize;
+
+		/// Statistics of each request processor.
+		private List<ProcessorStatistics> processors;
+
+		private Builder() {
+			this.requestCount = -1;
+			this.activeRequests = -1;
+			this.maxActiveRequests = -1;
+			this.errorCount = -1;
+			this.connections = -1;
+			this.maxConnections = -1;
+			this.bytesReceived = -1;
+			this.bytesSent = -1;
+			this.dispatchTimeMean = -1;
+			this.dispatchTimeStdDev = -1;
+			this.dispatchTimeMax = -1;
+			this.heapBufferCount = -1;
+			this.heapBufferMemory = -1;
+			this.directBufferCount = -1;
+			this.directBufferMemory = -1;
+			this.busyThreads = -1;
+			this.threads = -1;
+			this.maxThreads = -1;
+			this.queueSize = -1;
+			this.processors = emptyList();
+		}
+
+		/// Set the total number of requests.
+		///
+		/// @param requestCount Request count.
+		/// @return The builder.
+		public Builder withRequestCount(long requestCount) {
+			this.requestCount = requestCount;
+			return this;
+		}
+
+		/// Set the number of requests currently being handled.
+		///
+		/// @param activeRequests Active requests.
+		/// @return The builder.
+		public Builder withActiveRequests(long activeRequests) {
+			this.activeRequests = activeRequests;
+			return this;
+		}
+
+		/// Set the maximum number of requests handled concurrently.
+		///
+		/// @param maxActiveRequests Maximum active requests.
+		/// @return The builder.
+		public Builder withMaxActiveRequests(long maxActiveRequests) {
+			this.maxActiveRequests = maxActiveRequests;
+			return this;
+		}
+
+		/// Set the number of responses with an error status (i.e `4xx` or `5xx`).
+		///
+		/// @param errorCount Error count.
+		/// @return The builder.
+		public Builder withErrorCount(long errorCount) {
+			this.errorCount = errorCount;
+			return this;
+		}
+
+		/// Set the number of connections currently opened.
+		///
+		/// @param connections Opened connections.
+		/// @return The builder.
+		public Builder withConnections(long connections) {
+			this.connections = connections;
+			return this;
+		}
+
+		/// Set the maximum number of connections opened concurrently.
+		///
+		/// @param maxConnections Maximum opened connections.
+		/// @return The builder.
+		public Builder withMaxConnections(long maxConnections) {
+			this.maxConnections = maxConnections;
+			return this;
+		}
+
+		/// Set the number of bytes received.
+		///
+		/// @param bytesReceived Received bytes.
+		/// @return The builder.
+		public Builder withBytesReceived(long bytesReceived) {
+			this.bytesReceived = bytesReceived;
+			return this;
+		}
+
+		/// Set the number of bytes sent.
+		///
+		/// @param bytesSent Sent bytes.
+		/// @return The builder.
+		public Builder withBytesSent(long bytesSent) {
+			this.bytesSent = bytesSent;
+			return this;
+		}
+
+		/// Set the mean time (in nanoseconds) spent handling a request.
+		///
+		/// @param dispatchTimeMean Mean dispatch time.
+		/// @return The builder.
+		public Builder withDispatchTimeMean(double dispatchTimeMean) {
+			this.dispatchTimeMean = dispatchTimeMean;
+			return this;
+		}
+
+		/// Set the standard deviation (in nanoseconds) of the time spent handling a request.
+		///
+		/// @param dispatchTimeStdDev Dispatch time standard deviation.
+		/// @return The builder.
+		public Builder withDispatchTimeStdDev(double dispatchTimeStdDev) {
+			this.dispatchTimeStdDev = dispatchTimeStdDev;
+			return this;
+		}
+
+		/// Set the maximum time (in nanoseconds) spent handling a request.
+		///
+		/// @param dispatchTimeMax Maximum dispatch time.
+		/// @return The builder.
+		public Builder withDispatchTimeMax(long dispatchTimeMax) {
+			this.dispatchTimeMax = dispatchTimeMax;
+			return this;
+		}
+
+		/// Set the number of heap buffers retained by the buffer pool.
+		///
+		/// @param heapBufferCount Heap buffer count.
+		/// @return The builder.
+		public Builder withHeapBufferCount(long heapBufferCount) {
+			this.heapBufferCount = heapBufferCount;
+			return this;
+		}
+
+		/// Set the memory (in bytes) retained by the heap buffers of the buffer pool.
+		///
+		/// @param heapBufferMemory Heap buffer memory.
+		/// @return The builder.
+		public Builder withHeapBufferMemory(long heapBufferMemory) {
+			this.heapBufferMemory = heapBufferMemory;
+			return this;
+		}
+
+		/// Set the number of direct buffers retained by the buffer pool.
+		///
+		/// @param directBufferCount Direct buffer count.
+		/// @return The builder.
+		public Builder withDirectBufferCount(long directBufferCount) {
+			this.directBufferCount = directBufferCount;
+			return this;
+		}
+
+		/// Set the memory (in bytes) retained by the direct buffers of the buffer pool.
+		///
+		/// @param directBufferMemory Direct buffer memory.
+		/// @return The builder.
+		public Builder withDirectBufferMemory(long directBufferMemory) {
+			this.directBufferMemory = directBufferMemory;
+			return this;
+		}
+
+		/// Set the number of threads currently handling a request.
+		///
+		/// @param busyThreads Busy threads.
+		/// @return The builder.
+		public Builder withBusyThreads(long busyThreads) {
+			this.busyThreads = busyThreads;
+			return this;
+		}
+
+		/// Set the number of threads in the thread pool.
+		///
+		/// @param threads Thread count.
+		/// @return The builder.
+		public Builder withThreads(long threads) {
+			this.threads = threads;
+			return this;
+		}
+
+		/// Set the maximum number of threads of the thread pool.
+		///
+		/// @param maxThreads Max threads.
+		/// @return The builder.
+		public Builder withMaxThreads(long maxThreads) {
+			this.maxThreads = maxThreads;
+			return this;
+		}
+
+		/// Set the number of tasks waiting for a thread in the thread pool queue.
+		///
+		/// @param queueSize Queue size.
+		/// @return The builder.
+		public Builder withQueueSize(long queueSize) {
+			this.queueSize = queueSize;
+			return this;
+		}
+
+		/// Set the statistics of each request processor.
+		///
+		/// @param processors Processor statistics.
+		/// @return The builder.
+		/// @throws NullPointerException If `processors` is `null`.
+		public Builder withProcessors(List<ProcessorStatistics> processors) {
+			this.processors = notNull(processors, "processors");
+			return this;
+		}
+
+		/// Build statistics snapshot.
+		///
+		/// @return The statistics snapshot.
+		public ServerStatistics build() {
+			return new ServerStatistics(this);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/// The TLS setup of an embedded server: the ephemeral self-signed certificate, the server SSL contexts
+/// using it, and the TLS handshake recorder.
+///
+/// The certificate is generated on the first SSL context, and is then kept for the lifetime of the server,
+/// so that clients trusting it are not affected by a restart.
+final class ServerTls {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(ServerTls.class);
+
+	/// TLS protocols enabled on HTTPS connectors, by order of preference.
+	private static final String[] TLS_PROTOCOLS = {"TLSv1.3", "TLSv1.2"};
+
+	/// Self-signed certificate of the server, generated when the SSL context is created (`null` if HTTPS is disabled).
+	private volatile SelfSignedCertificate certificate;
+
+	/// TLS handshake recorder, initialized when the SSL context is created with handshake statistics.
+	private volatile HandshakeRecorder handshakeRecorder;
+
+	/// Create the server SSL context, using the self-signed certificate of the server.
+	///
+	/// @param sessionCacheSize Size of the TLS session cache, `null` to keep the JDK default.
+	/// @param sessionTimeout Timeout of cached TLS sessions, in seconds, `null` to keep the JDK default.
+	/// @param handshakeStatistics `true` to record TLS handshakes, reported by [#getHandshakeStatistics()].
+	/// @return The initialized SSL context.
+	SSLContext newSslContext(Integer sessionCacheSize, Integer sessionTimeout, boolean handshakeStatistics) {
+		if (certificate == null) {
+			log.debug("Generating self-signed certificate");
+			certificate = SelfSignedCertificate.generate();
+		}
+
+		final SSLContext sslContext;
+
+		try {
+			final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+			keyManagerFactory.init(certificate.newKeyStore(), certificate.getKeyPassword());
+			sslContext = SSLContext.getInstance("TLS");
+			sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException(ex);
+		}
+
+		final SSLSessionContext sessionContext = sslContext.getServerSessionContext();
+		if (sessionCacheSize != null) {
+			sessionContext.setSessionCacheSize(sessionCacheSize);
+		}
+
+		if (sessionTimeout != null) {
+			sessionContext.setSessionTimeout(sessionTimeout);
+		}
+
+		if (!handshakeStatistics) {
+			return sslContext;
+		}
+
+		if (handshakeRecorder == null) {
+			handshakeRecorder = new HandshakeRecorder();
+		}
+
+		return handshakeRecorder.wrap(sslContext);
+	}
+
+	/// Get the self-signed certificate of the server.
+	///
+	/// @return The certificate, `null` if no SSL context has been created.
+	X509Certificate getCertificate() {
+		final SelfSignedCertificate certificate = this.certificate;
+		return certificate == null ? null : certificate.getCertificate();
+	}
+
+	/// Get the statistics of the recorded TLS handshakes.
+	///
+	/// @return The statistics, `null` if handshakes are not recorded.
+	LatencyStatistics getHandshakeStatistics() {
+		final HandshakeRecorder handshakeRecorder = this.handshakeRecorder;
+		return handshakeRecorder == null ? null : handshakeRecorder.getStatistics();
+	}
+
+	/// Reset the recorded TLS handshakes: this method does nothing if handshakes are not recorded.
+	void resetHandshakeStatistics() {
+		final HandshakeRecorder handshakeRecorder = this.handshakeRecorder;
+		if (handshakeRecorder != null) {
+			log.debug("Resetting TLS handshake statistics");
+			handshakeRecorder.reset();
+		}
+	}
+
+	/// Get the TLS protocols to enable on the server: TLS 1.3 is preferred, TLS 1.2 is kept for clients (or JDK)
+	/// that do not support TLS 1.3 yet.
+	///
+	/// @param sslContext The server SSL context.
+	/// @return The protocols, supported by given SSL context.
+	static String[] protocols(SSLContext sslContext) {
+		final List<String> supportedProtocols = asList(sslContext.getSupportedSSLParameters().getProtocols());
+		final List<String> protocols = new ArrayList<>(TLS_PROTOCOLS.length);
+		for (String protocol : TLS_PROTOCOLS) {
+			if (supportedProtocols.contains(protocol)) {
+				protocols.add(protocol);
+			}
+		}
+
+		return protocols.toArray(new String[0]);
+	}
+}
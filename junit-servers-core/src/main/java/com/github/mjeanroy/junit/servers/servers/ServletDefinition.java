@@ -0,0 +1,240 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notEmpty;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/// A servlet registered programmatically in the embedded server, without any deployment descriptor.
+///
+/// The servlet class is not typed on purpose: the same definition can be used with a `javax.servlet`
+/// or a `jakarta.servlet` container.
+public final class ServletDefinition {
+
+	/// Create a servlet definition mapped to given URL patterns.
+	///
+	/// @param servletClass The servlet class.
+	/// @param mapping The first URL pattern.
+	/// @param mappings Other URL patterns.
+	/// @return The servlet definition.
+	/// @throws NullPointerException If one of the parameters is `null`.
+	public static ServletDefinition servlet(Class<?> servletClass, String mapping, String... mappings) {
+		Builder builder = builder(servletClass).withMapping(mapping);
+		for (String m : mappings) {
+			builder.withMapping(m);
+		}
+
+		return builder.build();
+	}
+
+	/// Create builder for [ServletDefinition].
+	///
+	/// @param servletClass The servlet class.
+	/// @return The builder.
+	/// @throws NullPointerException If `servletClass` is `null`.
+	public static Builder builder(Class<?> servletClass) {
+		return new Builder(servletClass);
+	}
+
+	/// The servlet name.
+	private final String name;
+
+	/// The servlet class.
+	private final Class<?> servletClass;
+
+	/// The servlet URL patterns.
+	private final List<String> mappings;
+
+	/// The servlet init parameters.
+	private final Map<String, String> initParameters;
+
+	/// The servlet `load-on-startup` value, negative if servlet should be lazily initialized.
+	private final int loadOnStartup;
+
+	private ServletDefinition(Builder builder) {
+		this.servletClass = builder.servletClass;
+		this.name = builder.name == null ? servletClass.getName() : builder.name;
+		this.mappings = new ArrayList<>(notEmpty(builder.mappings, "mappings"));
+		this.initParameters = new LinkedHashMap<>(builder.initParameters);
+		this.loadOnStartup = builder.loadOnStartup;
+	}
+
+	/// Get servlet name, default to the servlet class name.
+	///
+	/// @return Servlet name.
+	public String getName() {
+		return name;
+	}
+
+	/// Get servlet class.
+	///
+	/// @return Servlet class.
+	public Class<?> getServletClass() {
+		return servletClass;
+	}
+
+	/// Get servlet URL patterns (returned list is not modifiable).
+	///
+	/// @return Servlet URL patterns.
+	public List<String> getMappings() {
+		return unmodifiableList(mappings);
+	}
+
+	/// Get servlet init parameters (returned map is not modifiable).
+	///
+	/// @return Servlet init parameters.
+	public Map<String, String> getInitParameters() {
+		return unmodifiableMap(initParameters);
+	}
+
+	/// Get servlet `load-on-startup` value.
+	///
+	/// @return Servlet `load-on-startup` value, negative if servlet is lazily initialized.
+	public int getLoadOnStartup() {
+		return loadOnStartup;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof ServletDefinition) {
+			ServletDefinition d = (ServletDefinition) o;
+			return Objects.equals(name, d.name)
+				&& Objects.equals(servletClass, d.servletClass)
+				&& Objects.equals(mappings, d.mappings)
+				&& Objects.equals(initParameters, d.initParameters)
+				&& Objects.equals(loadOnStartup, d.loadOnStartup);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(name, servletClass, mappings, initParameters, loadOnStartup);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("name", name)
+			.append("servletClass", servletClass)
+			.append("mappings", mappings)
+			.append("initParameters", initParameters)
+			.append("loadOnStartup", loadOnStartup)
+			.build();
+	}
+
+	/// Builder for [ServletDefinition].
+	public static final class Builder {
+
+		/// The servlet class.
+		private final Class<?> servletClass;
+
+		/// The servlet name.
+		private String name;
+
+		/// The servlet URL patterns.
+		private final List<String> mappings;
+
+		/// The servlet init parameters.
+		private final Map<String, String> initParameters;
+
+		/// The servlet `load-on-startup` value.
+		private int loadOnStartup;
+
+		private Builder(Class<?> servletClass) {
+			this.servletClass = notNull(servletClass, "servletClass");
+			this.mappings = new ArrayList<>();
+			this.initParameters = new LinkedHashMap<>();
+			this.loadOnStartup = -1;
+		}
+
+		/// Set servlet name.
+		///
+		/// @param name Servlet name.
+		/// @return The builder.
+		/// @throws NullPointerException If `name` is `null`.
+		/// @throws IllegalArgumentException If `name` is blank.
+		public Builder withName(String name) {
+			this.name = notBlank(name, "name");
+			return this;
+		}
+
+		/// Add servlet URL pattern.
+		///
+		/// @param mapping URL pattern.
+		/// @return The builder.
+		/// @throws NullPointerException If `mapping` is `null`.
+		public Builder withMapping(String mapping) {
+			this.mappings.add(notNull(mapping, "mapping"));
+			return this;
+		}
+
+		/// Add servlet init parameter.
+		///
+		/// @param name Parameter name.
+		/// @param value Parameter value.
+		/// @return The builder.
+		/// @throws NullPointerException If `name` or `value` are `null`.
+		/// @throws IllegalArgumentException If `name` is blank.
+		public Builder withInitParameter(String name, String value) {
+			this.initParameters.put(notBlank(name, "name"), notNull(value, "value"));
+			return this;
+		}
+
+		/// Set servlet `load-on-startup` value.
+		///
+		/// @param loadOnStartup Servlet `load-on-startup` value, negative to initialize servlet lazily.
+		/// @return The builder.
+		public Builder withLoadOnStartup(int loadOnStartup) {
+			this.loadOnStartup = loadOnStartup;
+			return this;
+		}
+
+		/// Build servlet definition.
+		///
+		/// @return The servlet definition.
+		/// @throws IllegalArgumentException If no URL pattern has been defined.
+		public ServletDefinition build() {
+			return new ServletDefinition(this);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.Objects;
+
+/// Snapshot of the HTTP session statistics of an embedded server.
+///
+/// Statistics are read when the snapshot is created, so the snapshot is not updated afterward.
+public final class SessionStatistics {
+
+	/// Create statistics snapshot.
+	///
+	/// @param activeSessions Number of sessions currently stored.
+	/// @param maxActiveSessions Maximum number of sessions stored at the same time.
+	/// @param createdSessions Total number of sessions created.
+	/// @return The statistics snapshot.
+	public static SessionStatistics of(long activeSessions, long maxActiveSessions, long createdSessions) {
+		return new SessionStatistics(activeSessions, maxActiveSessions, createdSessions);
+	}
+
+	/// Number of sessions currently stored.
+	private final long activeSessions;
+
+	/// Maximum number of sessions stored at the same time.
+	private final long maxActiveSessions;
+
+	/// Total number of sessions created.
+	private final long createdSessions;
+
+	private SessionStatistics(long activeSessions, long maxActiveSessions, long createdSessions) {
+		this.activeSessions = activeSessions;
+		this.maxActiveSessions = maxActiveSessions;
+		this.createdSessions = createdSessions;
+	}
+
+	/// Get the number of sessions currently stored.
+	///
+	/// @return Active sessions.
+	public long getActiveSessions() {
+		return activeSessions;
+	}
+
+	/// Get the maximum number of sessions stored at the same time.
+	///
+	/// @return Maximum active sessions.
+	public long getMaxActiveSessions() {
+		return maxActiveSessions;
+	}
+
+	/// Get the total number of sessions created.
+	///
+	/// @return Created sessions.
+	public long getCreatedSessions() {
+		return createdSessions;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof SessionStatistics) {
+			SessionStatistics s = (SessionStatistics) o;
+			return activeSessions == s.activeSessions
+				&& maxActiveSessions == s.maxActiveSessions
+				&& createdSessions == s.createdSessions;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(activeSessions, maxActiveSessions, createdSessions);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("activeSessions", activeSessions)
+			.append("maxActiveSessions", maxActiveSessions)
+			.append("createdSessions", createdSessions)
+			.build();
+	}
+}
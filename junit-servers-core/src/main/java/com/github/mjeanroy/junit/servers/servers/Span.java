@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.Objects;
+
+/// A span of a test trace (see [TraceContext#getSpans()]).
+///
+/// The start time is a [System#nanoTime()] value: the HTTP client and the embedded server run in the same JVM,
+/// so start times of client and server spans can be compared to build a waterfall of the test.
+public final class Span {
+
+	/// Create span.
+	///
+	/// @param traceId Trace identifier (32 hexadecimal characters).
+	/// @param spanId Span identifier (16 hexadecimal characters).
+	/// @param parentId Identifier of the parent span, `null` for a root span.
+	/// @param kind Span kind.
+	/// @param name Span name.
+	/// @param start Start time, in nanoseconds (see [System#nanoTime()]).
+	/// @param duration Duration, in nanoseconds.
+	/// @return The span.
+	public static Span of(String traceId, String spanId, String parentId, Kind kind, String name, long start, long duration) {
+		return new Span(traceId, spanId, parentId, kind, name, start, duration);
+	}
+
+	/// Trace identifier.
+	private final String traceId;
+
+	/// Span identifier.
+	private final String spanId;
+
+	/// Parent span identifier, may be `null`.
+	private final String parentId;
+
+	/// Span kind.
+	private final Kind kind;
+
+	/// Span name.
+	private final String name;
+
+	/// Start time, in nanoseconds.
+	private final long start;
+
+	/// Duration, in nanoseconds.
+	private final long duration;
+
+	private Span(String traceId, String spanId, String parentId, Kind kind, String name, long start, long duration) {
+		this.traceId = traceId;
+		this.spanId = spanId;
+		this.parentId = parentId;
+		this.kind = kind;
+		this.name = name;
+		this.start = start;
+		this.duration = duration;
+	}
+
+	/// Get the trace identifier.
+	///
+	/// @return Trace identifier.
+	public String getTraceId() {
+		return traceId;
+	}
+
+	/// Get the span identifier.
+	///
+	/// @return Span identifier.
+	public String getSpanId() {
+		return spanId;
+	}
+
+	/// Get the identifier of the parent span: a server span is the child of the client span of the same request.
+	///
+	/// @return Parent span identifier, `null` for a root span.
+	public String getParentId() {
+		return parentId;
+	}
+
+	/// Get the span kind.
+	///
+	/// @return Span kind.
+	public Kind getKind() {
+		return kind;
+	}
+
+	/// Get the span name (e.g. `GET /index`).
+	///
+	/// @return Span name.
+	public String getName() {
+		return name;
+	}
+
+	/// Get the start time, in nanoseconds: this value can only be compared to start times of other spans.
+	///
+	/// @return Start time.
+	public long getStart() {
+		return start;
+	}
+
+	/// Get the duration, in nanoseconds.
+	///
+	/// @return Duration.
+	public long getDuration() {
+		return duration;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof Span) {
+			Span s = (Span) o;
+			return Objects.equals(traceId, s.traceId)
+				&& Objects.equals(spanId, s.spanId)
+				&& Objects.equals(parentId, s.parentId)
+				&& kind == s.kind
+				&& Objects.equals(name, s.name)
+				&& start == s.start
+				&& duration == s.duration;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(traceId, spanId, parentId, kind, name, start, duration);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("traceId", traceId)
+			.append("spanId", spanId)
+			.append("parentId", parentId)
+			.append("kind", kind)
+			.append("name", name)
+			.append("start", start)
+			.append("duration", duration)
+			.build();
+	}
+
+	/// Kind of span.
+	public enum Kind {
+		/// Span recorded by the HTTP client, from the request execution until the response is received.
+		CLIENT,
+
+		/// Span recorded by the embedded server, while the request goes through the servlet filter chain.
+		SERVER
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static java.util.Collections.unmodifiableList;
+
+/// The trace of a running test, propagated to the embedded server with the W3C `traceparent` header.
+///
+/// When the embedded server has tracing enabled, a trace is started before each test by the JUnit extension (or
+/// the JUnit 4 runner), and is bound to the thread running the test: each request prepared on this thread by an
+/// HTTP client of this server, and targeting this server, carries the trace identifier and records a
+/// [Span.Kind#CLIENT] span, and the embedded server records a [Span.Kind#SERVER] span for each traced request.
+/// Spans are kept in memory, until the end of the test:
+///
+/// ```
+/// List<Span> spans = TraceContext.current().getSpans();
+/// ```
+public final class TraceContext {
+
+	/// Name of the W3C trace context header.
+	public static final String TRACEPARENT = "traceparent";
+
+	/// Pattern of the `traceparent` header: version, trace identifier, parent span identifier and flags.
+	private static final Pattern TRACEPARENT_PATTERN = Pattern.compile("^[0-9a-f]{2}-([0-9a-f]{32})-([0-9a-f]{16})-[0-9a-f]{2}$");
+
+	/// Trace of the test running on the current thread.
+	private static final ThreadLocal<TraceContext> current = new ThreadLocal<>();
+
+	/// Traces of running tests, indexed by trace identifier.
+	private static final ConcurrentMap<String, TraceContext> traces = new ConcurrentHashMap<>();
+
+	/// Start the trace of given test, on the current thread: the previous trace of this thread, if any, is ended.
+	///
+	/// @param testName Test name.
+	/// @return The trace.
+	/// @throws NullPointerException If `testName` is `null`.
+	/// @throws IllegalArgumentException If `testName` is blank.
+	public static TraceContext start(String testName) {
+		end();
+
+		TraceContext trace = new TraceContext(newId(16), notBlank(testName, "testName"));
+		traces.put(trace.traceId, trace);
+		current.set(trace);
+		return trace;
+	}
+
+	/// Get the trace of the test running on the current thread.
+	///
+	/// @return The trace, `null` if no trace has been started on the current thread.
+	public static TraceContext current() {
+		return current.get();
+	}
+
+	/// End the trace of the test running on the current thread: spans of this trace are discarded, and spans
+	/// recorded later for this trace are ignored.
+	public static void end() {
+		TraceContext trace = current.get();
+		if (trace != null) {
+			current.remove();
+			traces.remove(trace.traceId);
+		}
+	}
+
+	/// Record a span of the request carrying given `traceparent` header: the span is ignored if the header is
+	/// malformed, or if the trace has already been ended.
+	///
+	/// A [Span.Kind#CLIENT] span is identified by the parent span identifier of the header, while a
+	/// [Span.Kind#SERVER] span is a new child of this span.
+	///
+	/// @param traceparent The `traceparent` header value, may be `null`.
+	/// @param kind Span kind.
+	/// @param name Span name.
+	/// @param start Start time, in nanoseconds (see [System#nanoTime()]).
+	/// @param duration Duration, in nanoseconds.
+	public static void record(String traceparent, Span.Kind kind, String name, long start, long duration) {
+		Matcher matcher = traceparent == null ? null : TRACEPARENT_PATTERN.matcher(traceparent);
+		if (matcher == null || !matcher.matches()) {
+			return;
+		}
+
+		TraceContext trace = traces.get(matcher.group(1));
+		if (trace == null) {
+			return;
+		}
+
+		String clientSpanId = matcher.group(2);
+		trace.spans.add(kind == Span.Kind.CLIENT ?
+			Span.of(trace.traceId, clientSpanId, null, kind, name, start, duration) :
+			Span.of(trace.traceId, newId(8), clientSpanId, kind, name, start, duration)
+		);
+	}
+
+	/// Trace identifier.
+	private final String traceId;
+
+	/// Test name.
+	private final String testName;
+
+	/// Recorded spans.
+	private final Queue<Span> spans;
+
+	private TraceContext(String traceId, String testName) {
+		this.traceId = traceId;
+		this.testName = testName;
+		this.spans = new ConcurrentLinkedQueue<>();
+	}
+
+	/// Get the trace identifier (32 hexadecimal characters).
+	///
+	/// @return Trace identifier.
+	public String getTraceId() {
+		return traceId;
+	}
+
+	/// Get the name of the traced test.
+	///
+	/// @return Test name.
+	public String getTestName() {
+		return testName;
+	}
+
+	/// Create a `traceparent` header value for a new request of this trace, with a new span identifier.
+	///
+	/// @return The `traceparent` header value.
+	public String newTraceparent() {
+		return "00-" + traceId + "-" + newId(8) + "-01";
+	}
+
+	/// Get the spans recorded so far, sorted by start time: a server span is recorded once the request
+	/// has been handled, which may be after the response has been received by the client.
+	///
+	/// @return The spans.
+	public List<Span> getSpans() {
+		List<Span> sorted = new ArrayList<>(spans);
+		sorted.sort(Comparator.comparingLong(Span::getStart));
+		return unmodifiableList(sorted);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("traceId", traceId)
+			.append("testName", testName)
+			.build();
+	}
+
+	/// Generate a random, non-zero, identifier.
+	///
+	/// @param bytes Number of bytes of the identifier.
+	/// @return The identifier, as lowercase hexadecimal characters.
+	private static String newId(int bytes) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		StringBuilder sb = new StringBuilder(bytes * 2);
+		for (int i = 0; i < bytes; i += 8) {
+			long value = random.nextLong();
+			while (value == 0) {
+				value = random.nextLong();
+			}
+
+			String hex = Long.toHexString(value);
+			for (int j = hex.length(); j < 16; j++) {
+				sb.append('0');
+			}
+
+			sb.append(hex);
+		}
+
+		return sb.toString();
+	}
+}
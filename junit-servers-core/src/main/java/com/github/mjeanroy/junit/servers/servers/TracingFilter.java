@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.exceptions.ReflectionException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/// Servlet filter recording a [Span.Kind#SERVER] span for each request carrying the `traceparent` header
+/// of a running test (see [TraceContext]).
+///
+/// As the request latency filter, the filter is created as a dynamic proxy of the container `Filter` interface
+/// (`javax.servlet` or `jakarta.servlet`), and the servlet API is called through reflection.
+final class TracingFilter implements InvocationHandler {
+
+	/// Create the tracing filter.
+	///
+	/// @param filterInterface The servlet `Filter` interface of the container.
+	/// @return The filter, implementing `filterInterface`.
+	static Object create(Class<?> filterInterface) {
+		TracingFilter filter = new TracingFilter(filterInterface);
+		return Proxy.newProxyInstance(filterInterface.getClassLoader(), new Class<?>[]{filterInterface}, filter);
+	}
+
+	/// The `HttpServletRequest` interface.
+	private final Class<?> httpServletRequest;
+
+	/// The `FilterChain#doFilter` method.
+	private final Method doFilter;
+
+	/// The `HttpServletRequest#getHeader` method.
+	private final Method getHeader;
+
+	/// The `HttpServletRequest#getMethod` method.
+	private final Method getMethod;
+
+	/// The `HttpServletRequest#getRequestURI` method.
+	private final Method getRequestURI;
+
+	private TracingFilter(Class<?> filterInterface) {
+		final String pkg = filterInterface.getPackage().getName();
+		final ClassLoader classLoader = filterInterface.getClassLoader();
+
+		try {
+			Class<?> servletRequest = Class.forName(pkg + ".ServletRequest", false, classLoader);
+			Class<?> servletResponse = Class.forName(pkg + ".ServletResponse", false, classLoader);
+			Class<?> filterChain = Class.forName(pkg + ".FilterChain", false, classLoader);
+
+			this.httpServletRequest = Class.forName(pkg + ".http.HttpServletRequest", false, classLoader);
+			this.doFilter = filterChain.getMethod("doFilter", servletRequest, servletResponse);
+			this.getHeader = httpServletRequest.getMethod("getHeader", String.class);
+			this.getMethod = httpServletRequest.getMethod("getMethod");
+			this.getRequestURI = httpServletRequest.getMethod("getRequestURI");
+		}
+		catch (ClassNotFoundException | NoSuchMethodException ex) {
+			throw new ReflectionException(ex);
+		}
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		switch (method.getName()) {
+			case "doFilter":
+				doFilter(args[0], args[1], args[2]);
+				return null;
+
+			case "equals":
+				return proxy == args[0];
+
+			case "hashCode":
+				return System.identityHashCode(proxy);
+
+			case "toString":
+				return "TracingFilter";
+
+			default:
+				// Nothing to do on `init` and `destroy`.
+				return null;
+		}
+	}
+
+	private void doFilter(Object request, Object response, Object chain) throws Throwable {
+		final String traceparent = httpServletRequest.isInstance(request) ?
+			(String) getHeader.invoke(request, TraceContext.TRACEPARENT) :
+			null;
+
+		final long start = System.nanoTime();
+
+		try {
+			doFilter.invoke(chain, request, response);
+		}
+		catch (InvocationTargetException ex) {
+			throw ex.getCause();
+		}
+		finally {
+			if (traceparent != null) {
+				String name = getMethod.invoke(request) + " " + getRequestURI.invoke(request);
+				TraceContext.record(traceparent, Span.Kind.SERVER, name, start, System.nanoTime() - start);
+			}
+		}
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/// Static WAR utilities: detect WAR archives, and extract them once into a cache directory, in a
+/// sub-directory named after a hash of the archive content.
+final class Wars {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(Wars.class);
+
+	/// Extension of WAR archives.
+	private static final String WAR_EXTENSION = ".war";
+
+	/// Length of the key (i.e the number of hexadecimal characters kept from the digest).
+	private static final int KEY_LENGTH = 16;
+
+	// Ensure non instantiation.
+	private Wars() {
+	}
+
+	/// Check if given file is a WAR archive.
+	///
+	/// @param file The file.
+	/// @return `true` if `file` is a WAR archive, `false` otherwise.
+	static boolean isWar(File file) {
+		return file.isFile() && file.getName().toLowerCase(Locale.ROOT).endsWith(WAR_EXTENSION);
+	}
+
+	/// Check if given webapp path is a WAR archive (and not a directory).
+	///
+	/// @param webapp The webapp path, may be `null`.
+	/// @return `true` if `webapp` is a WAR archive, `false` otherwise.
+	static boolean isWar(String webapp) {
+		return webapp != null && isWar(new File(webapp));
+	}
+
+	/// Extract given webapp into given cache directory if it is a WAR archive (see [#extract(File, File)]).
+	///
+	/// @param webapp The webapp path, may be `null`.
+	/// @param cacheDirectory The WAR cache directory, may be `null`.
+	/// @return The path of the extracted directory, or `webapp` if it is not a WAR archive (or if `cacheDirectory` is `null`).
+	static String extract(String webapp, String cacheDirectory) {
+		if (cacheDirectory == null || !isWar(webapp)) {
+			return webapp;
+		}
+
+		return extract(new File(webapp), new File(cacheDirectory)).getAbsolutePath();
+	}
+
+	/// Compute the key of given WAR archive: the key changes as soon as the archive content changes, and does not
+	/// depend on the archive modification time.
+	///
+	/// @param war The WAR archive.
+	/// @return The key.
+	static String key(File war) {
+		final MessageDigest digest = sha256();
+		final byte[] buffer = new byte[65536];
+
+		try (InputStream input = new DigestInputStream(Files.newInputStream(war.toPath()), digest)) {
+			while (input.read(buffer) >= 0) {
+				// Content is read to update the digest.
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+
+		final StringBuilder sb = new StringBuilder(KEY_LENGTH);
+		for (byte b : digest.digest()) {
+			if (sb.length() >= KEY_LENGTH) {
+				break;
+			}
+
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+
+		return sb.toString();
+	}
+
+	/// Extract given WAR archive into given cache directory, unless it has already been extracted by a previous run: the
+	/// archive is extracted into a temporary directory first, then moved to its final location, so that an interrupted
+	/// extraction is never reused and that concurrent runs do not read a partial extraction.
+	///
+	/// @param war The WAR archive.
+	/// @param cacheDirectory The cache directory.
+	/// @return The directory containing the extracted archive.
+	static File extract(File war, File cacheDirectory) {
+		final String name = war.getName().substring(0, war.getName().length() - WAR_EXTENSION.length());
+		final File directory = new File(cacheDirectory, name + "-" + key(war));
+		if (directory.isDirectory()) {
+			log.debug("Reusing extracted WAR: {}", directory);
+			return directory;
+		}
+
+		final File tmp = new File(cacheDirectory, ".tmp-" + UUID.randomUUID());
+
+		try {
+			log.debug("Extracting WAR {} to: {}", war, directory);
+			unzip(war, tmp.toPath());
+
+			try {
+				Files.move(tmp.toPath(), directory.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (FileAlreadyExistsException | DirectoryNotEmptyException ex) {
+				// Extracted by a concurrent run in the meantime.
+				log.debug("WAR has already been extracted to: {}", directory);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		finally {
+			delete(tmp.toPath());
+		}
+
+		return directory;
+	}
+
+	private static void unzip(File war, Path target) throws IOException {
+		final Path root = target.toAbsolutePath().normalize();
+		Files.createDirectories(root);
+
+		try (ZipFile zip = new ZipFile(war)) {
+			final Enumeration<? extends ZipEntry> entries = zip.entries();
+			while (entries.hasMoreElements()) {
+				final ZipEntry entry = entries.nextElement();
+				final Path path = root.resolve(entry.getName()).normalize();
+				if (!path.startsWith(root)) {
+					throw new IOException("WAR entry is outside of the target directory: " + entry.getName());
+				}
+
+				if (entry.isDirectory()) {
+					Files.createDirectories(path);
+				}
+				else {
+					Files.createDirectories(path.getParent());
+					try (InputStream input = zip.getInputStream(entry)) {
+						Files.copy(input, path);
+					}
+				}
+			}
+		}
+	}
+
+	private static void delete(Path path) {
+		if (!Files.exists(path)) {
+			return;
+		}
+
+		try (Stream<Path> paths = Files.walk(path)) {
+			paths.sorted(Comparator.reverseOrder()).forEach((p) -> p.toFile().delete());
+		}
+		catch (IOException ex) {
+			log.warn("Failed to delete directory {}: {}", path, ex.getMessage());
+		}
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
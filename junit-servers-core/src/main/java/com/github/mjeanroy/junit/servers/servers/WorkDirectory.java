@@ -0,0 +1,404 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/// The strategy used to create (and delete) the work directory of an embedded server, such as the
+/// tomcat base directory or the jetty temp directory:
+///
+/// - The work directory is created inside a root directory, that may be RAM-backed (such as `/dev/shm`).
+/// - A warm directory may be reused across restarts of servers with equal configurations: it is kept
+///   when the server is stopped, and deleted when the JVM exits. Warm directories are never shared with
+///   another JVM (such as another test fork), nor with a configuration that is not equal.
+/// - Otherwise, the directory is renamed when the server is stopped, and deleted on a background cleaner
+///   thread, so that deleting files does not slow down the server shutdown (and the next startup).
+public final class WorkDirectory {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(WorkDirectory.class);
+
+	/// The RAM-backed root directory, available on most linux distributions.
+	static final String RAM_ROOT = "/dev/shm";
+
+	/// Directories currently used by a running server.
+	private static final Set<File> leased = ConcurrentHashMap.newKeySet();
+
+	/// Directories that have not been deleted yet: warm directories and directories waiting for the cleaner thread.
+	private static final Set<File> pending = ConcurrentHashMap.newKeySet();
+
+	/// The configuration that has created each warm directory.
+	private static final Map<File, Object> owners = new ConcurrentHashMap<>();
+
+	/// Identifier of the current JVM, used in warm directory names so that they are not shared across JVM.
+	private static final String JVM_ID = UUID.randomUUID().toString().substring(0, 8);
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(WorkDirectory::deletePending, "junit-servers-work-directory-shutdown"));
+	}
+
+	/// Create strategy using fresh directories inside `java.io.tmpdir`, deleted on a background thread.
+	///
+	/// @return The strategy.
+	public static WorkDirectory temporary() {
+		return builder().build();
+	}
+
+	/// Create strategy using fresh directories inside a RAM-backed directory (i.e `/dev/shm`), deleted on
+	/// a background thread. If no RAM-backed directory is available, `java.io.tmpdir` is used.
+	///
+	/// @return The strategy.
+	public static WorkDirectory inMemory() {
+		return builder().inMemory().build();
+	}
+
+	/// Create builder for [WorkDirectory].
+	///
+	/// @return The builder.
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/// The root directory, `null` to use `java.io.tmpdir`.
+	private final String root;
+
+	/// If `true`, a warm directory is reused across restarts of equal configurations.
+	private final boolean reuse;
+
+	/// If `true`, directories are deleted on a background cleaner thread.
+	private final boolean asyncCleanup;
+
+	private WorkDirectory(Builder builder) {
+		this.root = builder.root;
+		this.reuse = builder.reuse;
+		this.asyncCleanup = builder.asyncCleanup;
+	}
+
+	/// Get the root directory.
+	///
+	/// @return Root directory, `null` if `java.io.tmpdir` is used.
+	public String getRoot() {
+		return root;
+	}
+
+	/// Get the reuse flag.
+	///
+	/// @return `true` if a warm directory is reused across restarts, `false` otherwise.
+	public boolean isReuse() {
+		return reuse;
+	}
+
+	/// Get the asynchronous cleanup flag.
+	///
+	/// @return `true` if directories are deleted on a background thread, `false` otherwise.
+	public boolean isAsyncCleanup() {
+		return asyncCleanup;
+	}
+
+	/// Acquire a work directory: the directory is created, and must be released once the server is stopped.
+	///
+	/// With reuse enabled, the directory is named after the hash code of given configuration, so that a
+	/// server with an equal configuration reuses it once released. A directory is never shared by two running
+	/// servers, and the configuration that has created a directory is kept, so that a configuration with the
+	/// same hash code (but not equal) never reuses it: another directory is used instead.
+	///
+	/// @param prefix Prefix of the directory name, such as the server implementation.
+	/// @param configuration The server configuration.
+	/// @return The work directory.
+	public File acquire(String prefix, Object configuration) {
+		final File rootDirectory = resolveRoot();
+
+		if (reuse) {
+			final String key = JVM_ID + "-" + Integer.toHexString(configuration.hashCode());
+
+			synchronized (owners) {
+				for (int i = 0; ; i++) {
+					final String name = prefix + "-" + key + (i == 0 ? "" : "-" + i);
+					final File directory = new File(rootDirectory, name).getAbsoluteFile();
+					final Object owner = owners.putIfAbsent(directory, configuration);
+					if ((owner == null || owner.equals(configuration)) && leased.add(directory)) {
+						pending.add(directory);
+						log.debug("Using warm work directory: {}", directory);
+						return mkdirs(directory);
+					}
+				}
+			}
+		}
+
+		final File directory = new File(rootDirectory, prefix + "-" + UUID.randomUUID()).getAbsoluteFile();
+		leased.add(directory);
+		log.debug("Using work directory: {}", directory);
+		return mkdirs(directory);
+	}
+
+	/// Release a work directory, acquired with [#acquire(String, Object)]: a warm directory is kept for the next
+	/// server, otherwise the directory is deleted.
+	///
+	/// @param directory The work directory.
+	public void release(File directory) {
+		final File dir = directory.getAbsoluteFile();
+		leased.remove(dir);
+
+		if (reuse) {
+			log.debug("Keeping warm work directory: {}", dir);
+			return;
+		}
+
+		if (!asyncCleanup) {
+			log.debug("Deleting work directory: {}", dir);
+			delete(dir);
+			return;
+		}
+
+		// Rename the directory first, so that the same path can be used again immediately, while files are
+		// deleted in the background.
+		final File trash = new File(dir.getParentFile(), dir.getName() + ".trash-" + UUID.randomUUID());
+		final File target = dir.renameTo(trash) ? trash : dir;
+
+		log.debug("Scheduling deletion of work directory: {}", target);
+		pending.add(target);
+		Cleaner.EXECUTOR.execute(() -> {
+			delete(target);
+			pending.remove(target);
+		});
+	}
+
+	private File resolveRoot() {
+		if (root == null) {
+			return new File(System.getProperty("java.io.tmpdir"));
+		}
+
+		final File rootDirectory = new File(root);
+		if (RAM_ROOT.equals(root) && !(rootDirectory.isDirectory() && rootDirectory.canWrite())) {
+			log.debug("RAM-backed directory {} is not available, using java.io.tmpdir", root);
+			return new File(System.getProperty("java.io.tmpdir"));
+		}
+
+		return rootDirectory;
+	}
+
+	private static File mkdirs(File directory) {
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			log.warn("Work directory {} has not been created", directory);
+		}
+
+		return directory;
+	}
+
+	private static void deletePending() {
+		for (File directory : pending) {
+			if (!leased.contains(directory)) {
+				delete(directory);
+			}
+		}
+	}
+
+	/// Delete given directory: symbolic links are deleted, but never followed, so that files outside of the
+	/// directory are never deleted.
+	///
+	/// @param directory The directory.
+	static void delete(File directory) {
+		if (!Files.exists(directory.toPath(), LinkOption.NOFOLLOW_LINKS)) {
+			return;
+		}
+
+		try {
+			Files.walkFileTree(directory.toPath(), new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+					Files.delete(file);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult postVisitDirectory(Path dir, IOException ex) throws IOException {
+					if (ex != null) {
+						throw ex;
+					}
+
+					Files.delete(dir);
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		}
+		catch (IOException ex) {
+			log.warn("Directory {} has not been deleted: {}", directory, ex.getMessage());
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof WorkDirectory) {
+			WorkDirectory w = (WorkDirectory) o;
+			return Objects.equals(root, w.root)
+				&& reuse == w.reuse
+				&& asyncCleanup == w.asyncCleanup;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(root, reuse, asyncCleanup);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("root", root)
+			.append("reuse", reuse)
+			.append("asyncCleanup", asyncCleanup)
+			.build();
+	}
+
+	/// The background cleaner thread, lazily started.
+	private static final class Cleaner {
+
+		/// The single (daemon) thread deleting directories.
+		private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor((runnable) -> {
+			Thread thread = new Thread(runnable, "junit-servers-work-directory-cleaner");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		// Ensure non instantiation.
+		private Cleaner() {
+		}
+	}
+
+	/// Builder for [WorkDirectory].
+	public static final class Builder {
+
+		/// The root directory.
+		private String root;
+
+		/// The reuse flag.
+		private boolean reuse;
+
+		/// The asynchronous cleanup flag.
+		private boolean asyncCleanup;
+
+		private Builder() {
+			this.root = null;
+			this.reuse = false;
+			this.asyncCleanup = true;
+		}
+
+		/// Set the root directory, where work directories are created.
+		///
+		/// @param root Root directory.
+		/// @return The builder.
+		/// @throws NullPointerException If `root` is `null`.
+		/// @throws IllegalArgumentException If `root` is blank.
+		public Builder withRoot(String root) {
+			this.root = notBlank(root, "root");
+			return this;
+		}
+
+		/// Set the root directory, where work directories are created.
+		///
+		/// @param root Root directory.
+		/// @return The builder.
+		/// @throws NullPointerException If `root` is `null`.
+		public Builder withRoot(File root) {
+			return withRoot(notNull(root, "root").getAbsolutePath());
+		}
+
+		/// Create work directories in a RAM-backed directory (i.e `/dev/shm`), or in `java.io.tmpdir` if
+		/// it is not available.
+		///
+		/// @return The builder.
+		public Builder inMemory() {
+			this.root = RAM_ROOT;
+			return this;
+		}
+
+		/// Reuse a warm directory across restarts of equal configurations.
+		///
+		/// @return The builder.
+		public Builder enableReuse() {
+			this.reuse = true;
+			return this;
+		}
+
+		/// Use a fresh directory on each startup.
+		///
+		/// @return The builder.
+		public Builder disableReuse() {
+			this.reuse = false;
+			return this;
+		}
+
+		/// Delete directories on a background cleaner thread.
+		///
+		/// @return The builder.
+		public Builder enableAsyncCleanup() {
+			this.asyncCleanup = true;
+			return this;
+		}
+
+		/// Delete directories on the thread stopping the server.
+		///
+		/// @return The builder.
+		public Builder disableAsyncCleanup() {
+			this.asyncCleanup = false;
+			return this;
+		}
+
+		/// Build work directory strategy.
+		///
+		/// @return The strategy.
+		public WorkDirectory build() {
+			return new WorkDirectory(this);
+		}
+	}
+}
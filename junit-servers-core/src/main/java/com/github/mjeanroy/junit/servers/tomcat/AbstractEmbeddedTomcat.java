@@ -25,25 +25,64 @@
 package com.github.mjeanroy.junit.servers.tomcat;
 
 import com.github.mjeanroy.junit.servers.commons.core.CompositeClassLoader;
+import com.github.mjeanroy.junit.servers.commons.reflect.Classes;
+import com.github.mjeanroy.junit.servers.exceptions.ReflectionException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerInitializationException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerStartException;
 import com.github.mjeanroy.junit.servers.exceptions.ServerStopException;
 import com.github.mjeanroy.junit.servers.loggers.Logger;
 import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
 import com.github.mjeanroy.junit.servers.servers.AbstractEmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import com.github.mjeanroy.junit.servers.servers.ContextDefinition;
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.NetworkConditions;
+import com.github.mjeanroy.junit.servers.servers.ResourceCacheStatistics;
+import com.github.mjeanroy.junit.servers.servers.ServerStatistics;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.SessionStatistics;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
+import org.apache.catalina.Container;
 import org.apache.catalina.Context;
+import org.apache.catalina.Lifecycle;
+import org.apache.catalina.Manager;
 import org.apache.catalina.WebResourceRoot;
+import org.apache.catalina.Wrapper;
 import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.session.StandardManager;
 import org.apache.catalina.startup.Tomcat;
 import org.apache.catalina.webresources.StandardRoot;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.http2.Http2Protocol;
+import org.apache.tomcat.JarScanFilter;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.apache.tomcat.util.net.SSLHostConfig;
+import org.apache.tomcat.util.net.SSLHostConfigCertificate;
+import org.apache.tomcat.util.scan.StandardJarScanFilter;
 import org.apache.tomcat.util.scan.StandardJarScanner;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
 
 import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EventListener;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import static com.github.mjeanroy.junit.servers.commons.lang.Strings.isEmpty;
 import static com.github.mjeanroy.junit.servers.commons.lang.Strings.isNotBlank;
 import static com.github.mjeanroy.junit.servers.commons.lang.Strings.trim;
 
+import static java.util.Collections.emptyList;
+
 /// Embedded server using tomcat as implementation.
 ///
 /// @param <CONFIGURATION> The tomcat configuration implementation.
@@ -54,41 +93,199 @@ public abstract class AbstractEmbeddedTomcat<
 	/// Class Logger.
 	private static final Logger log = LoggerFactory.getLogger(AbstractEmbeddedTomcat.class);
 
+	/// Tomcat base directory, acquired from the work directory strategy on startup, and released on
+	/// shutdown (`null` if no strategy is configured, or if tomcat is not started).
+	private volatile File baseDir;
+
+	/// The directory of the compiled JSP, leased inside the JSP cache directory, if any.
+	private volatile File jspDirectory;
+
 	/// Tomcat instance.
 	private final Tomcat tomcat;
 
 	/// Tomcat context.
 	private volatile Context context;
 
+	/// Additional tomcat contexts, deployed next to the main context (empty if there is none).
+	private volatile List<Context> additionalContexts;
+
+	/// Jar scan index, loaded on first startup and reused on next ones.
+	private volatile JarScanIndex jarScanIndex;
+
 	/// Build embedded tomcat.
 	///
 	/// @param configuration Tomcat configuration.
 	protected AbstractEmbeddedTomcat(CONFIGURATION configuration) {
 		super(configuration);
 		this.tomcat = initServer();
+		this.additionalContexts = emptyList();
 	}
 
 	private Tomcat initServer() {
 		log.debug("Initializing tomcat instance using configuration: {}", configuration);
 
 		Tomcat tomcat = new Tomcat();
-		tomcat.setBaseDir(configuration.getBaseDir());
+		// With a work directory strategy, the base directory is only acquired on startup: until then, use
+		// a directory that already exists, so that tomcat does not create any directory.
+		tomcat.setBaseDir(configuration.getWorkDirectory() == null ? configuration.getBaseDir() : System.getProperty("java.io.tmpdir"));
 		tomcat.setPort(configuration.getPort());
 
 		tomcat.getHost().setAutoDeploy(true);
 		tomcat.getHost().setDeployOnStartup(true);
 
+		final Integer startStopThreads = configuration.getStartStopThreads();
+		if (startStopThreads != null) {
+			log.debug("Set tomcat engine and host start/stop threads: {}", startStopThreads);
+			tomcat.getEngine().setStartStopThreads(startStopThreads);
+			tomcat.getHost().setStartStopThreads(startStopThreads);
+		}
+
+		final Integer backgroundProcessorDelay = configuration.getBackgroundProcessorDelay();
+		if (backgroundProcessorDelay != null) {
+			log.debug("Set tomcat engine background processor delay: {}", backgroundProcessorDelay);
+			tomcat.getEngine().setBackgroundProcessorDelay(backgroundProcessorDelay);
+		}
+
 		if (configuration.isEnableNaming()) {
 			tomcat.enableNaming();
 		}
 
+		log.debug("Set tomcat connector sendfile flag: {}", configuration.isSendfile());
+		tomcat.getConnector().setProperty("useSendfile", String.valueOf(configuration.isSendfile()));
+		configureConnections(tomcat.getConnector());
+
+		final Compression compression = configuration.getCompression();
+		if (compression != null) {
+			configureCompression(tomcat.getConnector(), compression);
+		}
+
+		if (configuration.isHttps()) {
+			configureHttps(tomcat.getConnector());
+		}
+
+		if (configuration.isHttp2()) {
+			log.debug("Adding h2c upgrade protocol to tomcat connector");
+			tomcat.getConnector().addUpgradeProtocol(new Http2Protocol());
+		}
+
+		final Integer accessLogCapacity = configuration.getAccessLogCapacity();
+		if (accessLogCapacity != null && accessLogCapacity > 0) {
+			log.debug("Adding in-memory access log valve to tomcat engine: {}", accessLogCapacity);
+			tomcat.getEngine().getPipeline().addValve(new InMemoryAccessLogValve(newAccessLog(accessLogCapacity)));
+		}
+
 		return tomcat;
 	}
 
+	/// Apply connection settings (connection limit, accept queue, idle timeout and keep-alive limit) to given connector.
+	///
+	/// @param connector The tomcat connector.
+	private void configureConnections(Connector connector) {
+		final Integer maxConnections = configuration.getMaxConnections();
+		if (maxConnections != null && maxConnections > 0) {
+			log.debug("Set tomcat connector max connections: {}", maxConnections);
+			connector.setProperty("maxConnections", String.valueOf(maxConnections));
+		}
+
+		final Integer acceptQueueSize = configuration.getAcceptQueueSize();
+		if (acceptQueueSize != null && acceptQueueSize > 0) {
+			log.debug("Set tomcat connector accept count: {}", acceptQueueSize);
+			connector.setProperty("acceptCount", String.valueOf(acceptQueueSize));
+		}
+
+		final Integer idleTimeout = configuration.getIdleTimeout();
+		if (idleTimeout != null && idleTimeout > 0) {
+			log.debug("Set tomcat connector connection timeout: {}", idleTimeout);
+			connector.setProperty("connectionTimeout", String.valueOf(idleTimeout));
+		}
+
+		final Integer maxKeepAliveRequests = configuration.getMaxKeepAliveRequests();
+		if (maxKeepAliveRequests != null && maxKeepAliveRequests > 0) {
+			log.debug("Set tomcat connector max keep-alive requests: {}", maxKeepAliveRequests);
+			connector.setProperty("maxKeepAliveRequests", String.valueOf(maxKeepAliveRequests));
+		}
+	}
+
+	/// Enable HTTPS on given connector, using the self-signed certificate of this server.
+	///
+	/// @param connector The tomcat connector.
+	private void configureHttps(Connector connector) {
+		log.debug("Enabling https on tomcat connector");
+		final javax.net.ssl.SSLContext sslContext = newSslContext(
+			configuration.getSslSessionCacheSize(),
+			configuration.getSslSessionTimeout(),
+			configuration.isHandshakeStatistics()
+		);
+
+		final SSLHostConfig sslHostConfig = new SSLHostConfig();
+		sslHostConfig.setProtocols(String.join(",", tlsProtocols(sslContext)));
+
+		final Integer sslSessionCacheSize = configuration.getSslSessionCacheSize();
+		if (sslSessionCacheSize != null) {
+			sslHostConfig.setSessionCacheSize(sslSessionCacheSize);
+		}
+
+		final Integer sslSessionTimeout = configuration.getSslSessionTimeout();
+		if (sslSessionTimeout != null) {
+			sslHostConfig.setSessionTimeout(sslSessionTimeout);
+		}
+
+		final SSLHostConfigCertificate certificate = new SSLHostConfigCertificate(sslHostConfig, SSLHostConfigCertificate.Type.UNDEFINED);
+		certificate.setSslContext(new JsseSslContext(sslContext, getCertificate()));
+		sslHostConfig.addCertificate(certificate);
+
+		connector.addSslHostConfig(sslHostConfig);
+		connector.setProperty("SSLEnabled", "true");
+		connector.setSecure(true);
+		connector.setScheme("https");
+	}
+
+	/// Enable response compression on given connector.
+	///
+	/// Note that tomcat does not support custom compression level, the default `Deflater` level is always used.
+	///
+	/// @param connector The tomcat connector.
+	/// @param compression The compression settings.
+	private static void configureCompression(Connector connector, Compression compression) {
+		log.debug("Enabling tomcat connector compression: {}", compression);
+		connector.setProperty("compression", "on");
+		connector.setProperty("compressionMinSize", String.valueOf(compression.getMinSize()));
+
+		List<String> mimeTypes = compression.getMimeTypes();
+		if (!mimeTypes.isEmpty()) {
+			connector.setProperty("compressibleMimeType", String.join(",", mimeTypes));
+		}
+
+		if (compression.getLevel() != Compression.DEFAULT_LEVEL) {
+			log.warn("Tomcat does not support custom compression level, ignoring level: {}", compression.getLevel());
+		}
+	}
+
+	private List<Context> initAdditionalContexts() {
+		try {
+			log.debug("Creating additional tomcat contexts");
+			final List<Context> contexts = createAdditionalContexts();
+			for (Context context : contexts) {
+				configureSessions(context);
+			}
+
+			return contexts;
+		}
+		catch (Exception ex) {
+			log.error(ex.getMessage(), ex);
+			throw new ServerInitializationException(ex);
+		}
+	}
+
 	private Context initContext() {
 		try {
 			log.debug("Creating embedded tomcat context");
-			return createContext();
+			final Context context = createContext();
+			if (context != null) {
+				configureSessions(context);
+			}
+
+			return context;
 		}
 		catch (Exception ex) {
 			log.error(ex.getMessage(), ex);
@@ -101,15 +298,32 @@ public abstract class AbstractEmbeddedTomcat<
 	///
 	/// @return Tomcat context.
 	private Context createContext() {
+		if (configuration.isLightweight()) {
+			return createLightweightContext();
+		}
+
 		final Context context;
 
-		final String webapp = configuration.getWebapp();
+		final String webapp = extractWar(configuration.getWebapp(), configuration.getWarCacheDirectory());
 		final String path = configuration.getPath();
 		final String classpath = configuration.getClasspath();
-		final boolean forceMetaInf = configuration.isForceMetaInf();
-		final ClassLoader parentClassLoader = configuration.getParentClassLoader();
 		final String descriptor = configuration.getOverrideDescriptor();
 
+		final String classpathWebapp = configuration.getClasspathWebapp();
+		final List<URL> roots = classpathWebapp == null ? emptyList() : findClasspathWebapp(classpathWebapp);
+		if (classpathWebapp != null && roots.isEmpty()) {
+			log.warn("Classpath location {} cannot be found", classpathWebapp);
+		}
+
+		if (!roots.isEmpty()) {
+			// The document base is never read: resources are served from the classpath entries.
+			final String docBase = tomcat.getServer().getCatalinaBase().getAbsolutePath();
+			log.debug("Use tomcat classpath webapp: {}", classpathWebapp);
+			context = addWebapp(getContextPath(), docBase, roots, classpath, path, descriptor);
+			registerComponents(context);
+			return context;
+		}
+
 		final File webappDirectory = new File(webapp);
 
 		log.debug("Use tomcat webapp directory: {}", webappDirectory);
@@ -117,95 +331,515 @@ public abstract class AbstractEmbeddedTomcat<
 		if (webappDirectory.exists()) {
 			final String webappAbsolutePath = webappDirectory.getAbsolutePath();
 
-			log.debug("Setting tomcat app base: {}", webappAbsolutePath);
-			tomcat.getHost().setAppBase(webappAbsolutePath);
-
-			log.debug("Getting context path from path={}", path);
-			String trimmedPath = trim(path);
-			String contextPath = isEmpty(trimmedPath) || trimmedPath.equals("/") ? "" : trimmedPath;
-
-			log.debug("Adding tomcat webapp using contextPath={} and docBase={}", contextPath, webappAbsolutePath);
-			context = tomcat.addWebapp(contextPath, webappAbsolutePath);
-
-			// Add additional classpath entry
-			if (isNotBlank(classpath)) {
-				final File file = new File(classpath);
-				if (file.exists()) {
-					// Check that additional classpath entry contains META-INF directory
-					final File metaInf = new File(file, "META-INF");
-					if (!metaInf.exists() && forceMetaInf) {
-						log.debug("Creating missing META-INF directory");
-						if (!metaInf.mkdir()) {
-							log.warn("Directory {} has not been created", metaInf);
-						}
-					}
+			if (isWar(webappAbsolutePath)) {
+				// The WAR archive is unpacked (if needed) inside the default app base.
+				initAppBase();
+			}
+			else {
+				log.debug("Setting tomcat app base: {}", webappAbsolutePath);
+				tomcat.getHost().setAppBase(webappAbsolutePath);
+			}
+
+			context = addWebapp(getContextPath(), webappAbsolutePath, emptyList(), classpath, path, descriptor);
+			registerComponents(context);
+
+			final String jspCacheDirectory = configuration.getJspCacheDirectory();
+			if (jspCacheDirectory != null) {
+				jspDirectory = acquireJspCacheDirectory(jspCacheDirectory, webappAbsolutePath);
+				configureJspCache(context, jspDirectory);
+			}
+		} else {
+			log.warn("Webapp directory {} does not exist or cannot be read", webappDirectory);
+			context = null;
+		}
+
+		return context;
+	}
 
-					// == Tomcat 8
-					final String absolutePath = file.getAbsolutePath();
-					final String webAppMount = "/WEB-INF/classes";
-					final String archivePath = null;
-					final StandardRoot root = new StandardRoot(context);
+	/// Add a web application context on the tomcat host.
+	///
+	/// @param contextPath The context path.
+	/// @param docBase The webapp directory (absolute path).
+	/// @param roots Classpath locations serving webapp resources instead of `docBase`, may be empty.
+	/// @param classpath Additional classpath entry, may be `null`.
+	/// @param internalPath Path of the additional classpath entry resources.
+	/// @param descriptor Custom descriptor file, may be `null`.
+	/// @return Tomcat context.
+	private Context addWebapp(String contextPath, String docBase, List<URL> roots, String classpath, String internalPath, String descriptor) {
+		log.debug("Adding tomcat webapp using contextPath={} and docBase={}", contextPath, docBase);
+		final Context context = tomcat.addWebapp(contextPath, docBase);
 
-					log.debug("Creating tomcat web resource set using base={} and internalPath={}", absolutePath, path);
-					root.createWebResourceSet(WebResourceRoot.ResourceSetType.PRE, webAppMount, absolutePath, archivePath, path);
+		if (!configuration.isWarExtraction()) {
+			disableWarUnpacking(context);
+		}
 
-					log.debug("Set tomcat context resources: {}", root);
-					context.setResources(root);
+		// Configure jar scanning before any additional classpath entry is added.
+		configureJarScanner(context);
+		configureDefaultServlet(context);
 
-					// == Tomcat 8
+		StandardRoot root = null;
+		if (!roots.isEmpty()) {
+			final ClasspathWebResourceRoot classpathRoot = new ClasspathWebResourceRoot(context);
+			for (URL url : roots) {
+				classpathRoot.addRoot(url);
+			}
 
-					// == Tomcat 7
-					// String s = file.toURI().toString();
-					// loader.addRepository(s);
-					// == Tomcat 7
+			root = classpathRoot;
+		}
 
-					// Used to scan additional classpath directory
-					// https://issues.apache.org/bugzilla/show_bug.cgi?id=52853
-					log.debug("Set tomcat jar scanner flag to scan all directories");
-					((StandardJarScanner) context.getJarScanner()).setScanAllDirectories(true);
-				} else {
-					log.warn("Specified classpath {} does not exist, or cannot be read", classpath);
+		// Add additional classpath entry
+		if (isNotBlank(classpath)) {
+			final File file = new File(classpath);
+			if (file.exists()) {
+				// Check that additional classpath entry contains META-INF directory
+				final File metaInf = new File(file, "META-INF");
+				if (!metaInf.exists() && configuration.isForceMetaInf()) {
+					log.debug("Creating missing META-INF directory");
+					if (!metaInf.mkdir()) {
+						log.warn("Directory {} has not been created", metaInf);
+					}
+				}
+
+				// == Tomcat 8
+				final String absolutePath = file.getAbsolutePath();
+				final String webAppMount = "/WEB-INF/classes";
+				final String archivePath = null;
+				if (root == null) {
+					root = new StandardRoot(context);
 				}
+
+				log.debug("Creating tomcat web resource set using base={} and internalPath={}", absolutePath, internalPath);
+				root.createWebResourceSet(WebResourceRoot.ResourceSetType.PRE, webAppMount, absolutePath, archivePath, internalPath);
+
+				// == Tomcat 8
+
+				// == Tomcat 7
+				// String s = file.toURI().toString();
+				// loader.addRepository(s);
+				// == Tomcat 7
+
+				// Used to scan additional classpath directory
+				// https://issues.apache.org/bugzilla/show_bug.cgi?id=52853
+				log.debug("Set tomcat jar scanner flag to scan all directories");
+				((StandardJarScanner) context.getJarScanner()).setScanAllDirectories(true);
+			} else {
+				log.warn("Specified classpath {} does not exist, or cannot be read", classpath);
 			}
+		}
+
+		if (root != null) {
+			log.debug("Set tomcat context resources: {}", root);
+			context.setResources(root);
+		}
+
+		configureResources(context);
+		configureParentClassLoader(context);
+
+		// Override web.xml path
+		if (descriptor != null) {
+			log.debug("Using web.xml descriptor: {}", descriptor);
+			context.setAltDDName(descriptor);
+		}
+
+		return context;
+	}
+
+	/// Create, if needed, the app base directory of the tomcat host, where WAR archives are unpacked.
+	private void initAppBase() {
+		final File appBase = tomcat.getHost().getAppBaseFile();
+		if (!appBase.isDirectory() && !appBase.mkdirs()) {
+			log.warn("Directory {} has not been created", appBase);
+		}
+	}
 
-			// Custom parent classloader.
-			final ClassLoader threadCl = Thread.currentThread().getContextClassLoader();
-			final ClassLoader tomcatParentClassLoader;
+	/// Serve the WAR archive of given context directly, without unpacking it into the app base.
+	///
+	/// @param context Tomcat context.
+	private static void disableWarUnpacking(Context context) {
+		if (!(context instanceof StandardContext)) {
+			log.warn("Cannot disable WAR unpacking of tomcat context: {}", context);
+			return;
+		}
+
+		log.debug("Disabling WAR unpacking of tomcat context: {}", context.getName());
+		((StandardContext) context).setUnpackWAR(false);
+	}
+
+	/// Use given directory as the work directory of the context, where Jasper stores compiled JSP: the
+	/// work directory is not deleted when tomcat is stopped, so compiled JSP are reused by next runs.
+	///
+	/// @param context Tomcat context.
+	/// @param workDir The work directory.
+	private static void configureJspCache(Context context, File workDir) {
+		if (!(context instanceof StandardContext)) {
+			log.warn("Cannot set work directory of tomcat context: {}", context);
+			return;
+		}
 
-			if (parentClassLoader != null) {
-				log.debug("Overriding tomcat parent classloader");
-				tomcatParentClassLoader = new CompositeClassLoader(parentClassLoader, threadCl);
+		log.debug("Using tomcat work directory as JSP cache: {}", workDir);
+		((StandardContext) context).setWorkDir(workDir.getAbsolutePath());
+	}
+
+	/// Configure the session manager of given context: the default manager persists sessions to `SESSIONS.ser`
+	/// on stop, and expires sessions every few runs of the engine background processor.
+	///
+	/// @param context Tomcat context.
+	private void configureSessions(Context context) {
+		final boolean inMemorySessions = configuration.isInMemorySessions();
+		final Integer sessionScavengeInterval = configuration.getSessionScavengeInterval();
+		if (!inMemorySessions && sessionScavengeInterval == null) {
+			return;
+		}
+
+		final StandardManager manager = new StandardManager();
+
+		if (inMemorySessions) {
+			log.debug("Disabling session persistence of tomcat context: {}", context.getName());
+			manager.setPathname(null);
+		}
+
+		if (sessionScavengeInterval != null) {
+			log.debug("Set session scavenge interval of tomcat context: {}", sessionScavengeInterval);
+			if (sessionScavengeInterval > 0) {
+				// Expire sessions on each run of a background processor dedicated to the context.
+				manager.setProcessExpiresFrequency(1);
+				context.setBackgroundProcessorDelay(sessionScavengeInterval);
 			}
 			else {
-				log.debug("Using current thread classload as tomcat parent classloader");
-				tomcatParentClassLoader = threadCl;
+				manager.setProcessExpiresFrequency(Integer.MAX_VALUE);
 			}
+		}
 
-			// Set the parent class loader that will be given
-			// to the created loader.
-			//
-			// Setting the parent class loader here is a shortcut for (code in previous versions):
-			//
-			//   Loader loader = context.getLoader();
-			//   if (loader == null) {
-			//     loader = new WebappLoader(parentClassLoader);
-			//   }
-			//
-			context.setParentClassLoader(tomcatParentClassLoader);
-
-			// Override web.xml path
-			if (descriptor != null) {
-				log.debug("Using web.xml descriptor: {}", descriptor);
-				context.setAltDDName(descriptor);
+		context.setManager(manager);
+	}
+
+	/// Create additional web application contexts, deployed on the same host than the main context.
+	///
+	/// @return Tomcat contexts.
+	private List<Context> createAdditionalContexts() {
+		final List<ContextDefinition> definitions = configuration.getContexts();
+		final List<Context> contexts = new ArrayList<>(definitions.size());
+
+		for (ContextDefinition definition : definitions) {
+			final File webappDirectory = new File(extractWar(definition.getWebapp(), configuration.getWarCacheDirectory()));
+			if (!webappDirectory.exists()) {
+				log.warn("Webapp directory {} does not exist or cannot be read", webappDirectory);
+				continue;
 			}
-		} else {
-			log.warn("Webapp directory {} does not exist or cannot be read", webappDirectory);
-			context = null;
+
+			final String contextPath = toContextPath(definition.getPath());
+			final String docBase = webappDirectory.getAbsolutePath();
+			if (isWar(docBase)) {
+				initAppBase();
+			}
+
+			contexts.add(addWebapp(contextPath, docBase, emptyList(), definition.getClasspath(), "/", definition.getOverrideDescriptor()));
 		}
 
+		return contexts;
+	}
+
+	/// Create a programmatic tomcat context, using `Tomcat#addContext`: no `ContextConfig` is
+	/// registered, so no `web.xml` is parsed, no jar is scanned and neither the default servlet
+	/// nor the JSP servlet are registered.
+	///
+	/// @return Tomcat context.
+	private Context createLightweightContext() {
+		final File webappDirectory = new File(configuration.getWebapp());
+		final String docBase = webappDirectory.exists() ? webappDirectory.getAbsolutePath() : null;
+		final String contextPath = getContextPath();
+
+		log.debug("Adding tomcat lightweight context using contextPath={} and docBase={}", contextPath, docBase);
+		final Context context = tomcat.addContext(contextPath, docBase);
+
+		configureResources(context);
+		configureParentClassLoader(context);
+		registerComponents(context);
 		return context;
 	}
 
+	/// Configure the context resources cache: the resources are created here if no additional classpath
+	/// entry has been added, so that the cache is always configured.
+	///
+	/// @param context Tomcat context.
+	private void configureResources(Context context) {
+		WebResourceRoot resources = context.getResources();
+		if (resources == null) {
+			log.debug("Creating tomcat context resources");
+			resources = new StandardRoot(context);
+			context.setResources(resources);
+		}
+
+		log.debug("Set tomcat resources caching flag: {}", configuration.isCachingAllowed());
+		resources.setCachingAllowed(configuration.isCachingAllowed());
+
+		final Long cacheMaxSize = configuration.getCacheMaxSize();
+		if (cacheMaxSize != null) {
+			log.debug("Set tomcat resources cache max size: {}", cacheMaxSize);
+			resources.setCacheMaxSize(cacheMaxSize);
+		}
+
+		final Integer cacheObjectMaxSize = configuration.getCacheObjectMaxSize();
+		if (cacheObjectMaxSize != null) {
+			log.debug("Set tomcat resources cache object max size: {}", cacheObjectMaxSize);
+			resources.setCacheObjectMaxSize(cacheObjectMaxSize);
+		}
+
+		final Long cacheTtl = configuration.getCacheTtl();
+		if (cacheTtl != null) {
+			log.debug("Set tomcat resources cache ttl: {}", cacheTtl);
+			resources.setCacheTtl(cacheTtl);
+		}
+	}
+
+	private String getContextPath() {
+		return toContextPath(configuration.getPath());
+	}
+
+	private static String toContextPath(String path) {
+		log.debug("Getting context path from path={}", path);
+		final String trimmedPath = trim(path);
+		return isEmpty(trimmedPath) || trimmedPath.equals("/") ? "" : trimmedPath;
+	}
+
+	private void configureParentClassLoader(Context context) {
+		final ClassLoader parentClassLoader = configuration.getParentClassLoader();
+		final ClassLoader threadCl = Thread.currentThread().getContextClassLoader();
+		final ClassLoader tomcatParentClassLoader;
+
+		if (parentClassLoader != null) {
+			log.debug("Overriding tomcat parent classloader");
+			tomcatParentClassLoader = new CompositeClassLoader(parentClassLoader, threadCl);
+		}
+		else {
+			log.debug("Using current thread classload as tomcat parent classloader");
+			tomcatParentClassLoader = threadCl;
+		}
+
+		// Set the parent class loader that will be given
+		// to the created loader.
+		//
+		// Setting the parent class loader here is a shortcut for (code in previous versions):
+		//
+		//   Loader loader = context.getLoader();
+		//   if (loader == null) {
+		//     loader = new WebappLoader(parentClassLoader);
+		//   }
+		//
+		context.setParentClassLoader(tomcatParentClassLoader);
+	}
+
+	/// Register listeners, filters, servlets and initializers defined programmatically in the
+	/// configuration.
+	///
+	/// Components are registered each time the context is started: when the context is stopped (i.e
+	/// when it is reloaded), tomcat removes servlets, listeners and initializers, and the context
+	/// configuration removes filters parsed or added before the start.
+	///
+	/// @param context Tomcat context.
+	private void registerComponents(Context context) {
+		context.addLifecycleListener((event) -> {
+			if (Lifecycle.BEFORE_START_EVENT.equals(event.getType())) {
+				doRegisterComponents(context);
+			}
+		});
+	}
+
+	/// Register listeners, filters, servlets and initializers defined programmatically in the
+	/// configuration on given context, before it starts.
+	///
+	/// @param context Tomcat context.
+	private void doRegisterComponents(Context context) {
+		for (Class<? extends EventListener> listener : configuration.getListeners()) {
+			log.debug("Adding tomcat listener: {}", listener);
+			context.addApplicationListener(listener.getName());
+		}
+
+		for (FilterDefinition filter : configuration.getFilters()) {
+			// Filters of a lightweight context are kept when the context is stopped.
+			if (context.findFilterDef(filter.getName()) != null) {
+				continue;
+			}
+
+			log.debug("Adding tomcat filter: {}", filter);
+
+			final FilterDef filterDef = new FilterDef();
+			filterDef.setFilterName(filter.getName());
+			filterDef.setFilterClass(filter.getFilterClass().getName());
+			for (Map.Entry<String, String> entry : filter.getInitParameters().entrySet()) {
+				filterDef.addInitParameter(entry.getKey(), entry.getValue());
+			}
+
+			final FilterMap filterMap = new FilterMap();
+			filterMap.setFilterName(filter.getName());
+			for (String urlPattern : filter.getUrlPatterns()) {
+				filterMap.addURLPatternDecoded(urlPattern);
+			}
+
+			context.addFilterDef(filterDef);
+			context.addFilterMap(filterMap);
+		}
+
+		if (configuration.isRequestLatency() && context.findFilterDef(REQUEST_LATENCY_FILTER_NAME) == null) {
+			log.debug("Adding tomcat request latency filter");
+			prependFilter(context, REQUEST_LATENCY_FILTER_NAME, this::newRequestLatencyFilter);
+		}
+
+		if (configuration.isTracing() && context.findFilterDef(TRACING_FILTER_NAME) == null) {
+			log.debug("Adding tomcat tracing filter");
+			prependFilter(context, TRACING_FILTER_NAME, this::newTracingFilter);
+		}
+
+		for (ServletDefinition servlet : configuration.getServlets()) {
+			log.debug("Adding tomcat servlet: {}", servlet);
+
+			final Wrapper wrapper = Tomcat.addServlet(context, servlet.getName(), servlet.getServletClass().getName());
+			wrapper.setLoadOnStartup(servlet.getLoadOnStartup());
+			for (Map.Entry<String, String> entry : servlet.getInitParameters().entrySet()) {
+				wrapper.addInitParameter(entry.getKey(), entry.getValue());
+			}
+
+			for (String mapping : servlet.getMappings()) {
+				context.addServletMappingDecoded(mapping, servlet.getName());
+			}
+		}
+
+		for (Class<?> initializer : configuration.getInitializers()) {
+			log.debug("Adding tomcat servlet container initializer: {}", initializer);
+			addServletContainerInitializer(context, initializer);
+		}
+	}
+
+	/// Register an internal filter (such as [#newRequestLatencyFilter(Class)]) on given context, mapped
+	/// on `/*` before any other filter: the filter API depends on the servlet API (`javax.servlet` or
+	/// `jakarta.servlet`), so the filter is set through reflection.
+	///
+	/// @param context Tomcat context.
+	/// @param name Filter name.
+	/// @param filterFactory Create the filter, given the servlet `Filter` interface of the container.
+	private static void prependFilter(Context context, String name, Function<Class<?>, Object> filterFactory) {
+		final FilterDef filterDef = new FilterDef();
+		filterDef.setFilterName(name);
+
+		for (Method method : FilterDef.class.getMethods()) {
+			if (method.getName().equals("setFilter") && method.getParameterCount() == 1) {
+				final Object filter = filterFactory.apply(method.getParameterTypes()[0]);
+				filterDef.setFilterClass(filter.getClass().getName());
+
+				try {
+					method.invoke(filterDef, filter);
+				}
+				catch (IllegalAccessException | InvocationTargetException ex) {
+					throw new ReflectionException(ex);
+				}
+			}
+		}
+
+		if (filterDef.getFilterClass() == null) {
+			throw new IllegalStateException("Cannot set filter on tomcat filter definition, method FilterDef#setFilter(Filter) not found");
+		}
+
+		final FilterMap filterMap = new FilterMap();
+		filterMap.setFilterName(name);
+		filterMap.addURLPatternDecoded("/*");
+
+		context.addFilterDef(filterDef);
+		context.addFilterMapBefore(filterMap);
+	}
+
+	/// Register a `ServletContainerInitializer` on given context: the method signature depends
+	/// on the servlet API (`javax.servlet` or `jakarta.servlet`), so it is called through reflection.
+	///
+	/// @param context Tomcat context.
+	/// @param initializer Initializer class.
+	private static void addServletContainerInitializer(Context context, Class<?> initializer) {
+		for (Method method : context.getClass().getMethods()) {
+			if (method.getName().equals("addServletContainerInitializer") && method.getParameterCount() == 2) {
+				if (!method.getParameterTypes()[0].isAssignableFrom(initializer)) {
+					throw new IllegalArgumentException("Class " + initializer.getName() + " is not a " + method.getParameterTypes()[0].getName());
+				}
+
+				try {
+					method.invoke(context, Classes.instantiate(initializer), Collections.emptySet());
+					return;
+				}
+				catch (IllegalAccessException | InvocationTargetException ex) {
+					throw new ReflectionException(ex);
+				}
+			}
+		}
+
+		throw new IllegalStateException(
+			"Cannot register servlet container initializer on context " + context + ", method Context#addServletContainerInitializer not found"
+		);
+	}
+
+	/// Configure the default servlet, registered by tomcat before the context is started.
+	///
+	/// @param context Tomcat context.
+	private void configureDefaultServlet(Context context) {
+		final Integer sendfileSize = configuration.getSendfileSize();
+		if (sendfileSize == null) {
+			return;
+		}
+
+		// The default servlet is registered on "before_start" event, so this listener
+		// (registered after) can update it.
+		context.addLifecycleListener((event) -> {
+			if (Lifecycle.BEFORE_START_EVENT.equals(event.getType())) {
+				final Container defaultServlet = context.findChild("default");
+				if (defaultServlet instanceof Wrapper) {
+					log.debug("Set tomcat default servlet sendfile size: {}", sendfileSize);
+					((Wrapper) defaultServlet).addInitParameter("sendfileSize", String.valueOf(sendfileSize));
+				}
+			}
+		});
+	}
+
+	private void configureJarScanner(Context context) {
+		final String jarScanIndexPath = configuration.getJarScanIndex();
+		if (jarScanIndexPath != null) {
+			if (jarScanIndex == null) {
+				log.debug("Loading jar scan index: {}", jarScanIndexPath);
+				jarScanIndex = JarScanIndex.load(new File(jarScanIndexPath));
+			}
+
+			log.debug("Set tomcat jar scanner using jar scan index: {}", jarScanIndexPath);
+			context.setJarScanner(new CachingJarScanner(jarScanIndex));
+		}
+
+		final List<String> jarsToSkip = configuration.getJarsToSkip();
+		final List<String> jarsToScan = configuration.getJarsToScan();
+		if (jarsToSkip.isEmpty() && jarsToScan.isEmpty()) {
+			return;
+		}
+
+		final JarScanFilter jarScanFilter = context.getJarScanner().getJarScanFilter();
+		if (!(jarScanFilter instanceof StandardJarScanFilter)) {
+			log.warn("Cannot configure jars to skip/scan with jar scan filter: {}", jarScanFilter);
+			return;
+		}
+
+		final StandardJarScanFilter filter = (StandardJarScanFilter) jarScanFilter;
+
+		if (!jarsToSkip.isEmpty()) {
+			log.debug("Adding jars to skip: {}", jarsToSkip);
+			filter.setTldSkip(appendPatterns(filter.getTldSkip(), jarsToSkip));
+			filter.setPluggabilitySkip(appendPatterns(filter.getPluggabilitySkip(), jarsToSkip));
+		}
+
+		if (!jarsToScan.isEmpty()) {
+			log.debug("Adding jars to scan: {}", jarsToScan);
+			filter.setTldScan(appendPatterns(filter.getTldScan(), jarsToScan));
+			filter.setPluggabilityScan(appendPatterns(filter.getPluggabilityScan(), jarsToScan));
+		}
+	}
+
+	private static String appendPatterns(String current, List<String> patterns) {
+		final String joined = String.join(",", patterns);
+		return isEmpty(trim(current)) ? joined : current + "," + joined;
+	}
+
 	@Override
 	public Tomcat getDelegate() {
 		return tomcat;
@@ -214,11 +848,31 @@ public abstract class AbstractEmbeddedTomcat<
 	@Override
 	protected void doStart() {
 		try {
+			final WorkDirectory workDirectory = configuration.getWorkDirectory();
+			if (workDirectory != null) {
+				baseDir = workDirectory.acquire("tomcat", configuration);
+				log.debug("Using tomcat base directory: {}", baseDir);
+				tomcat.setBaseDir(baseDir.getAbsolutePath());
+				tomcat.getServer().setCatalinaBase(baseDir);
+				tomcat.getServer().setCatalinaHome(baseDir);
+			}
+
 			log.debug("Initializing tomcat context");
 			context = initContext();
+			additionalContexts = initAdditionalContexts();
 
 			log.debug("Starting tomcat");
 			tomcat.start();
+
+			if (configuration.isJspPrecompile() && context != null && !configuration.isLightweight()) {
+				log.debug("Precompiling JSP pages of: {}", configuration.getWebapp());
+				precompileJsps(configuration.getWebapp());
+			}
+
+			if (jarScanIndex != null) {
+				log.debug("Jar scan index resolved {} jar(s) without opening them, {} jar(s) have been opened", jarScanIndex.getHits(), jarScanIndex.getMisses());
+				jarScanIndex.store();
+			}
 		}
 		catch (Exception ex) {
 			log.error(ex.getMessage(), ex);
@@ -226,6 +880,30 @@ public abstract class AbstractEmbeddedTomcat<
 		}
 	}
 
+	@Override
+	protected void doRedeploy() {
+		final Context context = this.context;
+		if (context == null) {
+			log.warn("No tomcat context has been deployed, nothing to redeploy");
+		}
+		else {
+			reload(context);
+		}
+
+		for (Context additionalContext : additionalContexts) {
+			reload(additionalContext);
+		}
+	}
+
+	private static void reload(Context context) {
+		log.debug("Reloading tomcat context: {}", context.getName());
+		context.reload();
+
+		if (!context.getState().isAvailable()) {
+			throw new ServerStartException(new IllegalStateException("Tomcat context failed to reload: " + context.getName()));
+		}
+	}
+
 	@Override
 	protected void doStop() {
 		try {
@@ -239,7 +917,26 @@ public abstract class AbstractEmbeddedTomcat<
 				context = null;
 			}
 
-			if (!configuration.isKeepBaseDir()) {
+			for (Context additionalContext : additionalContexts) {
+				log.debug("Destroying additional tomcat context: {}", additionalContext.getName());
+				additionalContext.destroy();
+			}
+
+			additionalContexts = emptyList();
+
+			if (jspDirectory != null) {
+				releaseJspCacheDirectory(jspDirectory);
+				jspDirectory = null;
+			}
+
+			if (configuration.getWorkDirectory() != null) {
+				if (baseDir != null) {
+					log.debug("Releasing tomcat base directory: {}", baseDir);
+					configuration.getWorkDirectory().release(baseDir);
+					baseDir = null;
+				}
+			}
+			else if (!configuration.isKeepBaseDir()) {
 				log.debug("Deleting tomcat base directory: {}", configuration.getBaseDir());
 				deleteDirectory(configuration.getBaseDir());
 			}
@@ -260,6 +957,81 @@ public abstract class AbstractEmbeddedTomcat<
 		return getConnector().getLocalPort();
 	}
 
+	@Override
+	public ResourceCacheStatistics getResourceCacheStatistics() {
+		final Context context = this.context;
+		final WebResourceRoot resources = context == null ? null : context.getResources();
+		if (!(resources instanceof StandardRoot)) {
+			return null;
+		}
+
+		return TomcatMBeans.readResourceCacheStatistics((StandardRoot) resources);
+	}
+
+	@Override
+	public SessionStatistics getSessionStatistics() {
+		final Context context = this.context;
+		final Manager manager = context == null ? null : context.getManager();
+		if (!configuration.isSessionStatistics() || manager == null) {
+			return null;
+		}
+
+		return SessionStatistics.of(
+			manager.getActiveSessions(),
+			manager.getMaxActive(),
+			manager.getSessionCounter()
+		);
+	}
+
+	@Override
+	public ServerStatistics getStatistics() {
+		if (!isStarted()) {
+			return null;
+		}
+
+		final ProtocolHandler protocolHandler = getConnector().getProtocolHandler();
+		final ServerStatistics.Builder builder = ServerStatistics.builder();
+
+		final Executor executor = protocolHandler.getExecutor();
+		if (executor instanceof ThreadPoolExecutor) {
+			ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executor;
+			builder.withBusyThreads(threadPool.getActiveCount())
+				.withThreads(threadPool.getPoolSize())
+				.withMaxThreads(threadPool.getMaximumPoolSize())
+				.withQueueSize(threadPool.getQueue().size());
+		}
+		else {
+			log.debug("Cannot read statistics of tomcat executor: {}", executor);
+		}
+
+		if (protocolHandler instanceof AbstractProtocol) {
+			TomcatMBeans.readRequestStatistics((AbstractProtocol<?>) protocolHandler, builder);
+		}
+		else {
+			log.debug("Cannot read request statistics of tomcat protocol handler: {}", protocolHandler);
+		}
+
+		return builder.build();
+	}
+
+	@Override
+	public void resetStatistics() {
+		if (!isStarted()) {
+			return;
+		}
+
+		final ProtocolHandler protocolHandler = getConnector().getProtocolHandler();
+		if (protocolHandler instanceof AbstractProtocol) {
+			log.debug("Resetting tomcat request statistics");
+			TomcatMBeans.resetRequestStatistics((AbstractProtocol<?>) protocolHandler);
+		}
+	}
+
+	@Override
+	public boolean isTracing() {
+		return configuration.isTracing();
+	}
+
 	/// Get tomcat context.
 	///
 	/// @return Tomcat context.
@@ -267,6 +1039,11 @@ public abstract class AbstractEmbeddedTomcat<
 		return context;
 	}
 
+	@Override
+	protected final NetworkConditions getNetworkConditions() {
+		return configuration.getNetworkConditions();
+	}
+
 	private Connector getConnector() {
 		return tomcat.getConnector();
 	}
@@ -26,9 +26,20 @@ package com.github.mjeanroy.junit.servers.tomcat;
 
 import com.github.mjeanroy.junit.servers.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import com.github.mjeanroy.junit.servers.servers.ContextDefinition;
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.NetworkConditions;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
 
+import java.util.ArrayList;
+import java.util.EventListener;
+import java.util.List;
 import java.util.Objects;
 
+import static java.util.Collections.unmodifiableList;
+
 /// Tomcat configuration settings.
 abstract class AbstractEmbeddedTomcatConfiguration extends AbstractConfiguration {
 
@@ -37,6 +48,18 @@ abstract class AbstractEmbeddedTomcatConfiguration extends AbstractConfiguration
 	static final boolean DEFAULT_KEEP_BASE_DIR = false;
 	static final boolean DEFAULT_ENABLE_NAMING = true;
 	static final boolean DEFAULT_FORCE_META_INF = true;
+	static final boolean DEFAULT_HTTP2 = false;
+	static final boolean DEFAULT_LIGHTWEIGHT = false;
+	static final boolean DEFAULT_SENDFILE = true;
+	static final boolean DEFAULT_CACHING_ALLOWED = true;
+	static final boolean DEFAULT_REQUEST_LATENCY = false;
+	static final boolean DEFAULT_JSP_PRECOMPILE = false;
+	static final boolean DEFAULT_IN_MEMORY_SESSIONS = false;
+	static final boolean DEFAULT_SESSION_STATISTICS = false;
+	static final boolean DEFAULT_WAR_EXTRACTION = true;
+	static final boolean DEFAULT_HTTPS = false;
+	static final boolean DEFAULT_HANDSHAKE_STATISTICS = false;
+	static final boolean DEFAULT_TRACING = false;
 
 	/// Tomcat Base Directory: this directory is where tomcat will store
 	/// temporary files.
@@ -57,6 +80,139 @@ abstract class AbstractEmbeddedTomcatConfiguration extends AbstractConfiguration
 	/// for additional classpath entries.
 	private final boolean forceMetaInf;
 
+	/// Path of the jar scan index file, `null` if jar scan results should not be
+	/// cached.
+	private final String jarScanIndex;
+
+	/// Jar name patterns that should not be scanned for TLD or pluggability features.
+	///
+	/// @see org.apache.tomcat.util.scan.StandardJarScanFilter#setTldSkip(String)
+	/// @see org.apache.tomcat.util.scan.StandardJarScanFilter#setPluggabilitySkip(String)
+	private final List<String> jarsToSkip;
+
+	/// Jar name patterns that should always be scanned for TLD or pluggability features.
+	///
+	/// @see org.apache.tomcat.util.scan.StandardJarScanFilter#setTldScan(String)
+	/// @see org.apache.tomcat.util.scan.StandardJarScanFilter#setPluggabilityScan(String)
+	private final List<String> jarsToScan;
+
+	/// Flag used to enable HTTP/2 over cleartext connections (a.k.a `h2c`) on
+	/// the tomcat connector.
+	///
+	/// @see org.apache.coyote.http2.Http2Protocol
+	private final boolean http2;
+
+	/// Flag used to create the context with `Tomcat#addContext` instead of `Tomcat#addWebapp`: no
+	/// descriptor is parsed, no jar is scanned and no webapp directory is required.
+	///
+	/// @see org.apache.catalina.startup.Tomcat#addContext(String, String)
+	private final boolean lightweight;
+
+	/// Servlets registered programmatically.
+	private final List<ServletDefinition> servlets;
+
+	/// Filters registered programmatically.
+	private final List<FilterDefinition> filters;
+
+	/// Listeners registered programmatically.
+	private final List<Class<? extends EventListener>> listeners;
+
+	/// `ServletContainerInitializer` classes registered programmatically.
+	private final List<Class<?>> initializers;
+
+	/// Flag used to allow the connector to serve static files with `sendfile` (i.e zero-copy transfer).
+	private final boolean sendfile;
+
+	/// The minimum size (in KB) of a static file served with `sendfile` by the default servlet, `null` to use tomcat default.
+	private final Integer sendfileSize;
+
+	/// Flag used to allow static resources (including classes and JSP files) to be cached by the context resources.
+	private final boolean cachingAllowed;
+
+	/// The maximum size (in KB) of the context resources cache, `null` to use tomcat default.
+	private final Long cacheMaxSize;
+
+	/// The maximum size (in KB) of a single resource in the context resources cache, `null` to use tomcat default.
+	private final Integer cacheObjectMaxSize;
+
+	/// The time (in milliseconds) a cached resource stays valid before being revalidated, `null` to use tomcat default.
+	private final Long cacheTtl;
+
+	/// The response compression settings, `null` if compression is disabled.
+	private final Compression compression;
+
+	/// If true, server-side latency of requests is recorded by servlet mapping.
+	private final boolean requestLatency;
+
+	/// Additional web application contexts, deployed on the same server.
+	private final List<ContextDefinition> contexts;
+
+	/// The number of threads used to start and stop child containers of the engine and of the host, `null` to use tomcat default.
+	private final Integer startStopThreads;
+
+	/// The delay (in seconds) between invocations of the engine background processing, `null` to use tomcat default.
+	private final Integer backgroundProcessorDelay;
+
+	/// If true, JSP pages of the webapp are compiled in parallel when the server starts.
+	private final boolean jspPrecompile;
+
+	/// The directory where compiled JSP are kept across runs, `null` to compile JSP in a temporary directory.
+	private final String jspCacheDirectory;
+
+	/// The strategy used to create and delete the work directory, may be `null`.
+	private final WorkDirectory workDirectory;
+
+	/// Whether HTTP sessions are stored in memory only, without any persistence.
+	private final boolean inMemorySessions;
+
+	/// The interval (in seconds) between two scans for expired sessions, `null` to use the tomcat default.
+	private final Integer sessionScavengeInterval;
+
+	/// Whether HTTP session statistics are exposed.
+	private final boolean sessionStatistics;
+
+	/// Whether WAR archives are extracted before being served.
+	private final boolean warExtraction;
+
+	/// The directory where WAR archives are extracted once, may be `null`.
+	private final String warCacheDirectory;
+
+	/// The classpath location of webapp resources, may be `null`.
+	private final String classpathWebapp;
+
+	/// Whether the server serves HTTPS, with a self-signed certificate.
+	private final boolean https;
+
+	/// Size of the TLS session cache, may be `null`.
+	private final Integer sslSessionCacheSize;
+
+	/// Timeout (in seconds) of cached TLS sessions, may be `null`.
+	private final Integer sslSessionTimeout;
+
+	/// Whether TLS handshakes are recorded.
+	private final boolean handshakeStatistics;
+
+	/// Capacity of the in-memory access log, may be `null`.
+	private final Integer accessLogCapacity;
+
+	/// Whether server spans of traced requests are recorded.
+	private final boolean tracing;
+
+	/// Maximum number of connections, may be `null`.
+	private final Integer maxConnections;
+
+	/// Size of the accept queue, may be `null`.
+	private final Integer acceptQueueSize;
+
+	/// Idle timeout of connections, in milliseconds, may be `null`.
+	private final Integer idleTimeout;
+
+	/// Maximum number of requests served on a keep-alive connection, may be `null`.
+	private final Integer maxKeepAliveRequests;
+
+	/// Network conditions emulated between clients and the server, may be `null`.
+	private final NetworkConditions networkConditions;
+
 	/// Build new tomcat configuration.
 	///
 	/// @param builder Builder object.
@@ -78,6 +234,46 @@ abstract class AbstractEmbeddedTomcatConfiguration extends AbstractConfiguration
 		this.keepBaseDir = builder.isKeepBaseDir();
 		this.enableNaming = builder.isEnableNaming();
 		this.forceMetaInf = builder.isForceMetaInf();
+		this.jarScanIndex = builder.getJarScanIndex();
+		this.jarsToSkip = new ArrayList<>(builder.getJarsToSkip());
+		this.jarsToScan = new ArrayList<>(builder.getJarsToScan());
+		this.http2 = builder.isHttp2();
+		this.lightweight = builder.isLightweight();
+		this.servlets = new ArrayList<>(builder.getServlets());
+		this.filters = new ArrayList<>(builder.getFilters());
+		this.listeners = new ArrayList<>(builder.getListeners());
+		this.initializers = new ArrayList<>(builder.getInitializers());
+		this.sendfile = builder.isSendfile();
+		this.sendfileSize = builder.getSendfileSize();
+		this.cachingAllowed = builder.isCachingAllowed();
+		this.cacheMaxSize = builder.getCacheMaxSize();
+		this.cacheObjectMaxSize = builder.getCacheObjectMaxSize();
+		this.cacheTtl = builder.getCacheTtl();
+		this.compression = builder.getCompression();
+		this.requestLatency = builder.isRequestLatency();
+		this.contexts = new ArrayList<>(builder.getContexts());
+		this.startStopThreads = builder.getStartStopThreads();
+		this.backgroundProcessorDelay = builder.getBackgroundProcessorDelay();
+		this.jspPrecompile = builder.isJspPrecompile();
+		this.jspCacheDirectory = builder.getJspCacheDirectory();
+		this.workDirectory = builder.getWorkDirectory();
+		this.inMemorySessions = builder.isInMemorySessions();
+		this.sessionScavengeInterval = builder.getSessionScavengeInterval();
+		this.sessionStatistics = builder.isSessionStatistics();
+		this.warExtraction = builder.isWarExtraction();
+		this.warCacheDirectory = builder.getWarCacheDirectory();
+		this.classpathWebapp = builder.getClasspathWebapp();
+		this.https = builder.isHttps();
+		this.sslSessionCacheSize = builder.getSslSessionCacheSize();
+		this.sslSessionTimeout = builder.getSslSessionTimeout();
+		this.handshakeStatistics = builder.isHandshakeStatistics();
+		this.accessLogCapacity = builder.getAccessLogCapacity();
+		this.tracing = builder.isTracing();
+		this.maxConnections = builder.getMaxConnections();
+		this.acceptQueueSize = builder.getAcceptQueueSize();
+		this.idleTimeout = builder.getIdleTimeout();
+		this.maxKeepAliveRequests = builder.getMaxKeepAliveRequests();
+		this.networkConditions = builder.getNetworkConditions();
 	}
 
 	/// Get tomcat base directory.
@@ -114,6 +310,128 @@ abstract class AbstractEmbeddedTomcatConfiguration extends AbstractConfiguration
 		return forceMetaInf;
 	}
 
+	/// Get the jar scan index file path:
+	/// - If not `null`, jar scan results are stored in this file and reused on next startups.
+	/// - If `null`, each jar is scanned on each startup (default behavior).
+	///
+	/// @return The jar scan index file path.
+	public String getJarScanIndex() {
+		return jarScanIndex;
+	}
+
+	/// Get the jar name patterns that should not be scanned.
+	///
+	/// @return Jar name patterns to skip.
+	public List<String> getJarsToSkip() {
+		return unmodifiableList(jarsToSkip);
+	}
+
+	/// Get the jar name patterns that should always be scanned.
+	///
+	/// @return Jar name patterns to scan.
+	public List<String> getJarsToScan() {
+		return unmodifiableList(jarsToScan);
+	}
+
+	/// Get the HTTP/2 flag:
+	/// - `true` if HTTP/2 over cleartext connections (a.k.a `h2c`) is enabled.
+	/// - `false` if only HTTP/1.1 is enabled.
+	///
+	/// @return `true` if `h2c` is enabled, `false` otherwise.
+	public boolean isHttp2() {
+		return http2;
+	}
+
+	/// Get the lightweight flag:
+	/// - `true` if the context is created with `Tomcat#addContext`, without descriptor or jar scanning.
+	/// - `false` if the context is created with `Tomcat#addWebapp`.
+	///
+	/// @return `true` if lightweight mode is enabled, `false` otherwise.
+	public boolean isLightweight() {
+		return lightweight;
+	}
+
+	/// Get servlets registered programmatically.
+	///
+	/// @return Servlets.
+	public List<ServletDefinition> getServlets() {
+		return unmodifiableList(servlets);
+	}
+
+	/// Get filters registered programmatically.
+	///
+	/// @return Filters.
+	public List<FilterDefinition> getFilters() {
+		return unmodifiableList(filters);
+	}
+
+	/// Get listeners registered programmatically.
+	///
+	/// @return Listeners.
+	public List<Class<? extends EventListener>> getListeners() {
+		return unmodifiableList(listeners);
+	}
+
+	/// Get `ServletContainerInitializer` classes registered programmatically.
+	///
+	/// @return Initializers.
+	public List<Class<?>> getInitializers() {
+		return unmodifiableList(initializers);
+	}
+
+	/// Get the sendfile flag:
+	/// - `true` if the connector may serve static files with `sendfile`.
+	/// - `false` otherwise.
+	///
+	/// @return `true` if sendfile is enabled, `false` otherwise.
+	public boolean isSendfile() {
+		return sendfile;
+	}
+
+	/// Get the minimum size (in KB) of a static file served with `sendfile` by the default servlet.
+	///
+	/// @return Sendfile size, `null` to use tomcat default.
+	public Integer getSendfileSize() {
+		return sendfileSize;
+	}
+
+	/// Get the caching allowed flag:
+	/// - `true` if resources may be cached by the context resources.
+	/// - `false` otherwise.
+	///
+	/// @return `true` if caching is allowed, `false` otherwise.
+	public boolean isCachingAllowed() {
+		return cachingAllowed;
+	}
+
+	/// Get the maximum size (in KB) of the context resources cache.
+	///
+	/// @return Cache max size, `null` to use tomcat default.
+	public Long getCacheMaxSize() {
+		return cacheMaxSize;
+	}
+
+	/// Get the maximum size (in KB) of a single resource in the context resources cache.
+	///
+	/// @return Cache object max size, `null` to use tomcat default.
+	public Integer getCacheObjectMaxSize() {
+		return cacheObjectMaxSize;
+	}
+
+	/// Get the time (in milliseconds) a cached resource stays valid before being revalidated.
+	///
+	/// @return Cache TTL, `null` to use tomcat default.
+	public Long getCacheTtl() {
+		return cacheTtl;
+	}
+
+	/// Get the response compression settings.
+	///
+	/// @return Compression settings, `null` if compression is disabled.
+	public Compression getCompression() {
+		return compression;
+	}
+
 	@Override
 	public String toString() {
 		return ToStringBuilder.create(getClass())
@@ -127,9 +445,222 @@ abstract class AbstractEmbeddedTomcatConfiguration extends AbstractConfiguration
 			.append("keepBaseDir", keepBaseDir)
 			.append("enableNaming", enableNaming)
 			.append("forceMetaInf", forceMetaInf)
+			.append("jarScanIndex", jarScanIndex)
+			.append("jarsToSkip", jarsToSkip)
+			.append("jarsToScan", jarsToScan)
+			.append("http2", http2)
+			.append("lightweight", lightweight)
+			.append("servlets", servlets)
+			.append("filters", filters)
+			.append("listeners", listeners)
+			.append("initializers", initializers)
+			.append("sendfile", sendfile)
+			.append("sendfileSize", sendfileSize)
+			.append("cachingAllowed", cachingAllowed)
+			.append("cacheMaxSize", cacheMaxSize)
+			.append("cacheObjectMaxSize", cacheObjectMaxSize)
+			.append("cacheTtl", cacheTtl)
+			.append("compression", compression)
+			.append("requestLatency", requestLatency)
+			.append("contexts", contexts)
+			.append("startStopThreads", startStopThreads)
+			.append("backgroundProcessorDelay", backgroundProcessorDelay)
+			.append("jspPrecompile", jspPrecompile)
+			.append("jspCacheDirectory", jspCacheDirectory)
+			.append("workDirectory", workDirectory)
+			.append("inMemorySessions", inMemorySessions)
+			.append("sessionScavengeInterval", sessionScavengeInterval)
+			.append("sessionStatistics", sessionStatistics)
+			.append("warExtraction", warExtraction)
+			.append("warCacheDirectory", warCacheDirectory)
+			.append("classpathWebapp", classpathWebapp)
+			.append("https", https)
+			.append("sslSessionCacheSize", sslSessionCacheSize)
+			.append("sslSessionTimeout", sslSessionTimeout)
+			.append("handshakeStatistics", handshakeStatistics)
+			.append("accessLogCapacity", accessLogCapacity)
+			.append("tracing", tracing)
+			.append("maxConnections", maxConnections)
+			.append("acceptQueueSize", acceptQueueSize)
+			.append("idleTimeout", idleTimeout)
+			.append("maxKeepAliveRequests", maxKeepAliveRequests)
+			.append("networkConditions", networkConditions)
 			.build();
 	}
 
+	/// Get the request latency flag:
+	/// - `true` if server-side latency of requests is recorded (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getRequestLatencies()]).
+	/// - `false` otherwise.
+	///
+	/// @return `true` if request latency recording is enabled, `false` otherwise.
+	public boolean isRequestLatency() {
+		return requestLatency;
+	}
+
+	/// Get additional web application contexts, deployed on the same server than the main
+	/// application (returned list is not modifiable).
+	///
+	/// @return Additional contexts.
+	public List<ContextDefinition> getContexts() {
+		return unmodifiableList(contexts);
+	}
+
+	/// Get the number of threads used to start and stop child containers (i.e contexts) in parallel.
+	///
+	/// @return Number of threads, `null` to use tomcat default.
+	public Integer getStartStopThreads() {
+		return startStopThreads;
+	}
+
+	/// Get the delay (in seconds) between invocations of the engine background processing (i.e sessions expiration or webapp reloading).
+	///
+	/// @return Background processor delay, `null` to use tomcat default.
+	public Integer getBackgroundProcessorDelay() {
+		return backgroundProcessorDelay;
+	}
+
+	/// Get the JSP precompilation flag:
+	/// - `true` if JSP pages of the webapp are compiled when the server starts.
+	/// - `false` otherwise.
+	///
+	/// @return `true` if JSP precompilation is enabled, `false` otherwise.
+	public boolean isJspPrecompile() {
+		return jspPrecompile;
+	}
+
+	/// Get the directory where compiled JSP are kept across runs.
+	///
+	/// @return JSP cache directory, `null` if not set.
+	public String getJspCacheDirectory() {
+		return jspCacheDirectory;
+	}
+
+	/// Get the strategy used to create and delete the tomcat base directory.
+	///
+	/// @return The work directory strategy, `null` if not set.
+	public WorkDirectory getWorkDirectory() {
+		return workDirectory;
+	}
+
+	/// Get the in-memory sessions flag.
+	///
+	/// @return `true` if HTTP sessions are stored in memory only, `false` otherwise.
+	public boolean isInMemorySessions() {
+		return inMemorySessions;
+	}
+
+	/// Get the interval (in seconds) between two scans for expired HTTP sessions.
+	///
+	/// @return Interval, `null` if the tomcat default is used.
+	public Integer getSessionScavengeInterval() {
+		return sessionScavengeInterval;
+	}
+
+	/// Get the session statistics flag.
+	///
+	/// @return `true` if HTTP session statistics are exposed, `false` otherwise.
+	public boolean isSessionStatistics() {
+		return sessionStatistics;
+	}
+
+	/// Get the WAR extraction flag.
+	///
+	/// @return `true` if WAR archives are extracted before being served, `false` otherwise.
+	public boolean isWarExtraction() {
+		return warExtraction;
+	}
+
+	/// Get the directory where WAR archives are extracted once, and reused across runs.
+	///
+	/// @return WAR cache directory, `null` if WAR archives are not cached.
+	public String getWarCacheDirectory() {
+		return warCacheDirectory;
+	}
+
+	/// Get the classpath location of webapp resources.
+	///
+	/// @return Classpath location, `null` if the webapp directory is used.
+	public String getClasspathWebapp() {
+		return classpathWebapp;
+	}
+
+	/// Get the HTTPS flag.
+	///
+	/// @return `true` if the server serves HTTPS, `false` otherwise.
+	public boolean isHttps() {
+		return https;
+	}
+
+	/// Get the size of the TLS session cache.
+	///
+	/// @return Size of the TLS session cache, `null` to use the JDK default.
+	public Integer getSslSessionCacheSize() {
+		return sslSessionCacheSize;
+	}
+
+	/// Get the timeout (in seconds) of cached TLS sessions.
+	///
+	/// @return Timeout of cached TLS sessions, `null` to use the JDK default.
+	public Integer getSslSessionTimeout() {
+		return sslSessionTimeout;
+	}
+
+	/// Get the TLS handshake statistics flag.
+	///
+	/// @return `true` if TLS handshakes are recorded, `false` otherwise.
+	public boolean isHandshakeStatistics() {
+		return handshakeStatistics;
+	}
+
+	/// Get the capacity of the in-memory access log.
+	///
+	/// @return Capacity of the access log, `null` if the access log is disabled.
+	public Integer getAccessLogCapacity() {
+		return accessLogCapacity;
+	}
+
+	/// Get the tracing flag.
+	///
+	/// @return `true` if server spans of traced requests are recorded, `false` otherwise.
+	public boolean isTracing() {
+		return tracing;
+	}
+
+	/// Get the maximum number of connections established with the server.
+	///
+	/// @return Maximum number of connections, `null` to use the container default.
+	public Integer getMaxConnections() {
+		return maxConnections;
+	}
+
+	/// Get the size of the accept queue of the server socket.
+	///
+	/// @return Size of the accept queue, `null` to use the container default.
+	public Integer getAcceptQueueSize() {
+		return acceptQueueSize;
+	}
+
+	/// Get the idle timeout of connections, in milliseconds.
+	///
+	/// @return Idle timeout, `null` to use the container default.
+	public Integer getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/// Get the maximum number of requests served on a keep-alive connection.
+	///
+	/// @return Maximum number of requests per connection, `null` to use the container default.
+	public Integer getMaxKeepAliveRequests() {
+		return maxKeepAliveRequests;
+	}
+
+	/// Get the network conditions emulated between the HTTP clients and the server.
+	///
+	/// @return Network conditions, `null` if network conditions are not emulated.
+	public NetworkConditions getNetworkConditions() {
+		return networkConditions;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) {
@@ -143,7 +674,47 @@ abstract class AbstractEmbeddedTomcatConfiguration extends AbstractConfiguration
 				&& Objects.equals(baseDir, c.baseDir)
 				&& Objects.equals(keepBaseDir, c.keepBaseDir)
 				&& Objects.equals(enableNaming, c.enableNaming)
-				&& Objects.equals(forceMetaInf, c.forceMetaInf);
+				&& Objects.equals(forceMetaInf, c.forceMetaInf)
+				&& Objects.equals(jarScanIndex, c.jarScanIndex)
+				&& Objects.equals(jarsToSkip, c.jarsToSkip)
+				&& Objects.equals(jarsToScan, c.jarsToScan)
+				&& Objects.equals(http2, c.http2)
+				&& Objects.equals(lightweight, c.lightweight)
+				&& Objects.equals(servlets, c.servlets)
+				&& Objects.equals(filters, c.filters)
+				&& Objects.equals(listeners, c.listeners)
+				&& Objects.equals(initializers, c.initializers)
+				&& Objects.equals(sendfile, c.sendfile)
+				&& Objects.equals(sendfileSize, c.sendfileSize)
+				&& Objects.equals(cachingAllowed, c.cachingAllowed)
+				&& Objects.equals(cacheMaxSize, c.cacheMaxSize)
+				&& Objects.equals(cacheObjectMaxSize, c.cacheObjectMaxSize)
+				&& Objects.equals(cacheTtl, c.cacheTtl)
+				&& Objects.equals(compression, c.compression)
+				&& Objects.equals(requestLatency, c.requestLatency)
+				&& Objects.equals(contexts, c.contexts)
+				&& Objects.equals(startStopThreads, c.startStopThreads)
+				&& Objects.equals(backgroundProcessorDelay, c.backgroundProcessorDelay)
+				&& Objects.equals(jspPrecompile, c.jspPrecompile)
+				&& Objects.equals(jspCacheDirectory, c.jspCacheDirectory)
+				&& Objects.equals(workDirectory, c.workDirectory)
+				&& Objects.equals(inMemorySessions, c.inMemorySessions)
+				&& Objects.equals(sessionScavengeInterval, c.sessionScavengeInterval)
+				&& Objects.equals(sessionStatistics, c.sessionStatistics)
+				&& Objects.equals(warExtraction, c.warExtraction)
+				&& Objects.equals(warCacheDirectory, c.warCacheDirectory)
+				&& Objects.equals(classpathWebapp, c.classpathWebapp)
+				&& Objects.equals(https, c.https)
+				&& Objects.equals(sslSessionCacheSize, c.sslSessionCacheSize)
+				&& Objects.equals(sslSessionTimeout, c.sslSessionTimeout)
+				&& Objects.equals(handshakeStatistics, c.handshakeStatistics)
+				&& Objects.equals(accessLogCapacity, c.accessLogCapacity)
+				&& Objects.equals(tracing, c.tracing)
+				&& Objects.equals(maxConnections, c.maxConnections)
+				&& Objects.equals(acceptQueueSize, c.acceptQueueSize)
+				&& Objects.equals(idleTimeout, c.idleTimeout)
+				&& Objects.equals(maxKeepAliveRequests, c.maxKeepAliveRequests)
+				&& Objects.equals(networkConditions, c.networkConditions);
 		}
 
 		return false;
@@ -156,7 +727,47 @@ abstract class AbstractEmbeddedTomcatConfiguration extends AbstractConfiguration
 				baseDir,
 				keepBaseDir,
 				enableNaming,
-				forceMetaInf
+				forceMetaInf,
+				jarScanIndex,
+				jarsToSkip,
+				jarsToScan,
+				http2,
+				lightweight,
+				servlets,
+				filters,
+				listeners,
+				initializers,
+				sendfile,
+				sendfileSize,
+				cachingAllowed,
+				cacheMaxSize,
+				cacheObjectMaxSize,
+				cacheTtl,
+				compression,
+				requestLatency,
+				contexts,
+				startStopThreads,
+				backgroundProcessorDelay,
+				jspPrecompile,
+				jspCacheDirectory,
+				workDirectory,
+				inMemorySessions,
+				sessionScavengeInterval,
+				sessionStatistics,
+				warExtraction,
+				warCacheDirectory,
+				classpathWebapp,
+				https,
+				sslSessionCacheSize,
+				sslSessionTimeout,
+				handshakeStatistics,
+				accessLogCapacity,
+				tracing,
+				maxConnections,
+				acceptQueueSize,
+				idleTimeout,
+				maxKeepAliveRequests,
+				networkConditions
 		);
 	}
 }
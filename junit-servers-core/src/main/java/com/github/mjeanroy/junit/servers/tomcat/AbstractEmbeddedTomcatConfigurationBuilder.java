@@ -25,13 +25,38 @@
 package com.github.mjeanroy.junit.servers.tomcat;
 
 import com.github.mjeanroy.junit.servers.servers.AbstractConfigurationBuilder;
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import com.github.mjeanroy.junit.servers.servers.ContextDefinition;
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.NetworkConditions;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.EventListener;
+import java.util.List;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
 import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.positive;
 import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_BASE_DIR;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_CACHING_ALLOWED;
 import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_CLASSPATH;
 import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_ENABLE_NAMING;
 import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_FORCE_META_INF;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_HANDSHAKE_STATISTICS;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_HTTP2;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_HTTPS;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_IN_MEMORY_SESSIONS;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_JSP_PRECOMPILE;
 import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_KEEP_BASE_DIR;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_LIGHTWEIGHT;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_REQUEST_LATENCY;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_SENDFILE;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_SESSION_STATISTICS;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_TRACING;
+import static com.github.mjeanroy.junit.servers.tomcat.AbstractEmbeddedTomcatConfiguration.DEFAULT_WAR_EXTRACTION;
 
 abstract class AbstractEmbeddedTomcatConfigurationBuilder<
 	SELF extends AbstractConfigurationBuilder<SELF, CONFIG>,
@@ -64,12 +89,168 @@ abstract class AbstractEmbeddedTomcatConfigurationBuilder<
 	/// in the classpath.
 	private boolean forceMetaInf;
 
+	/// Path of the jar scan index file: when set, jar scan results are stored in this file
+	/// so that jars that do not contain anything relevant are not opened again on next
+	/// startups.
+	///
+	/// Default is `null` (i.e jar scan results are not cached).
+	private String jarScanIndex;
+
+	/// Jar name patterns that should not be scanned.
+	private final List<String> jarsToSkip;
+
+	/// Jar name patterns that should always be scanned.
+	private final List<String> jarsToScan;
+
+	/// Enable/Disable HTTP/2 over cleartext connections (a.k.a `h2c`).
+	/// Default is [AbstractEmbeddedTomcatConfiguration#DEFAULT_HTTP2].
+	///
+	/// @see AbstractEmbeddedTomcatConfiguration#DEFAULT_HTTP2
+	private boolean http2;
+
+	/// Enable/Disable lightweight mode (i.e `Tomcat#addContext` instead of `Tomcat#addWebapp`).
+	/// Default is [AbstractEmbeddedTomcatConfiguration#DEFAULT_LIGHTWEIGHT].
+	///
+	/// @see AbstractEmbeddedTomcatConfiguration#DEFAULT_LIGHTWEIGHT
+	private boolean lightweight;
+
+	/// Servlets registered programmatically.
+	private final List<ServletDefinition> servlets;
+
+	/// Filters registered programmatically.
+	private final List<FilterDefinition> filters;
+
+	/// Listeners registered programmatically.
+	private final List<Class<? extends EventListener>> listeners;
+
+	/// `ServletContainerInitializer` classes registered programmatically.
+	private final List<Class<?>> initializers;
+
+	/// Enable/Disable `sendfile` on the connector.
+	/// Default is [AbstractEmbeddedTomcatConfiguration#DEFAULT_SENDFILE].
+	///
+	/// @see AbstractEmbeddedTomcatConfiguration#DEFAULT_SENDFILE
+	private boolean sendfile;
+
+	/// The minimum size (in KB) of a static file served with `sendfile`, `null` to use tomcat default.
+	private Integer sendfileSize;
+
+	/// Enable/Disable caching of the context resources.
+	/// Default is [AbstractEmbeddedTomcatConfiguration#DEFAULT_CACHING_ALLOWED].
+	///
+	/// @see AbstractEmbeddedTomcatConfiguration#DEFAULT_CACHING_ALLOWED
+	private boolean cachingAllowed;
+
+	/// The maximum size (in KB) of the context resources cache, `null` to use tomcat default.
+	private Long cacheMaxSize;
+
+	/// The maximum size (in KB) of a single resource in the context resources cache, `null` to use tomcat default.
+	private Integer cacheObjectMaxSize;
+
+	/// The time (in milliseconds) a cached resource stays valid, `null` to use tomcat default.
+	private Long cacheTtl;
+
+	/// The response compression settings, `null` if compression is disabled.
+	private Compression compression;
+
+	/// If true, server-side latency of requests is recorded by servlet mapping.
+	private boolean requestLatency;
+
+	/// Additional web application contexts, deployed on the same server.
+	private final List<ContextDefinition> contexts;
+
+	/// The number of threads used to start and stop child containers of the engine and of the host, `null` to use tomcat default.
+	private Integer startStopThreads;
+
+	/// The delay (in seconds) between invocations of the engine background processing, `null` to use tomcat default.
+	private Integer backgroundProcessorDelay;
+
+	/// If true, JSP pages of the webapp are compiled in parallel when the server starts.
+	private boolean jspPrecompile;
+
+	/// The directory where compiled JSP are kept across runs, `null` to compile JSP in a temporary directory.
+	private String jspCacheDirectory;
+
+	/// The strategy used to create and delete the work directory, may be `null`.
+	private WorkDirectory workDirectory;
+
+	/// Whether HTTP sessions are stored in memory only, without any persistence.
+	private boolean inMemorySessions;
+
+	/// The interval (in seconds) between two scans for expired sessions, `null` to use the tomcat default.
+	private Integer sessionScavengeInterval;
+
+	/// Whether HTTP session statistics are exposed.
+	private boolean sessionStatistics;
+
+	/// Whether WAR archives are extracted before being served.
+	private boolean warExtraction;
+
+	/// The directory where WAR archives are extracted once, may be `null`.
+	private String warCacheDirectory;
+
+	/// The classpath location of webapp resources, may be `null`.
+	private String classpathWebapp;
+
+	/// Whether the server serves HTTPS, with a self-signed certificate.
+	private boolean https;
+
+	/// Size of the TLS session cache, may be `null`.
+	private Integer sslSessionCacheSize;
+
+	/// Timeout (in seconds) of cached TLS sessions, may be `null`.
+	private Integer sslSessionTimeout;
+
+	/// Whether TLS handshakes are recorded.
+	private boolean handshakeStatistics;
+
+	/// Capacity of the in-memory access log, may be `null`.
+	private Integer accessLogCapacity;
+
+	/// Whether server spans of traced requests are recorded.
+	private boolean tracing;
+
+	/// Maximum number of connections, may be `null`.
+	private Integer maxConnections;
+
+	/// Size of the accept queue, may be `null`.
+	private Integer acceptQueueSize;
+
+	/// Idle timeout of connections, in milliseconds, may be `null`.
+	private Integer idleTimeout;
+
+	/// Maximum number of requests served on a keep-alive connection, may be `null`.
+	private Integer maxKeepAliveRequests;
+
+	/// Network conditions emulated between clients and the server, may be `null`.
+	private NetworkConditions networkConditions;
+
 	AbstractEmbeddedTomcatConfigurationBuilder() {
 		baseDir = DEFAULT_BASE_DIR;
 		enableNaming = DEFAULT_ENABLE_NAMING;
 		forceMetaInf = DEFAULT_FORCE_META_INF;
+		jarScanIndex = null;
+		jarsToSkip = new ArrayList<>();
+		jarsToScan = new ArrayList<>();
+		http2 = DEFAULT_HTTP2;
+		lightweight = DEFAULT_LIGHTWEIGHT;
+		servlets = new ArrayList<>();
+		filters = new ArrayList<>();
+		listeners = new ArrayList<>();
+		initializers = new ArrayList<>();
+		sendfile = DEFAULT_SENDFILE;
+		cachingAllowed = DEFAULT_CACHING_ALLOWED;
 
 		withClasspath(DEFAULT_CLASSPATH);
+		requestLatency = DEFAULT_REQUEST_LATENCY;
+		contexts = new ArrayList<>();
+		jspPrecompile = DEFAULT_JSP_PRECOMPILE;
+		inMemorySessions = DEFAULT_IN_MEMORY_SESSIONS;
+		sessionStatistics = DEFAULT_SESSION_STATISTICS;
+		warExtraction = DEFAULT_WAR_EXTRACTION;
+		https = DEFAULT_HTTPS;
+		handshakeStatistics = DEFAULT_HANDSHAKE_STATISTICS;
+		tracing = DEFAULT_TRACING;
 	}
 
 	/// Get the tomcat base directory;
@@ -101,6 +282,290 @@ abstract class AbstractEmbeddedTomcatConfigurationBuilder<
 		return forceMetaInf;
 	}
 
+	/// Get the jar scan index file path.
+	///
+	/// @return The jar scan index file path, `null` if jar scan results are not cached.
+	public String getJarScanIndex() {
+		return jarScanIndex;
+	}
+
+	/// Get the jar name patterns that should not be scanned.
+	///
+	/// @return Jar name patterns to skip.
+	public List<String> getJarsToSkip() {
+		return jarsToSkip;
+	}
+
+	/// Get the jar name patterns that should always be scanned.
+	///
+	/// @return Jar name patterns to scan.
+	public List<String> getJarsToScan() {
+		return jarsToScan;
+	}
+
+	/// Flag to enable/disable HTTP/2 over cleartext connections (a.k.a `h2c`).
+	///
+	/// @return `true` if `h2c` is enabled, `false` otherwise.
+	public boolean isHttp2() {
+		return http2;
+	}
+
+	/// Flag to enable/disable lightweight mode.
+	///
+	/// @return `true` if the context is created with `Tomcat#addContext`, `false` otherwise.
+	public boolean isLightweight() {
+		return lightweight;
+	}
+
+	/// Get servlets registered programmatically.
+	///
+	/// @return Servlets.
+	public List<ServletDefinition> getServlets() {
+		return servlets;
+	}
+
+	/// Get filters registered programmatically.
+	///
+	/// @return Filters.
+	public List<FilterDefinition> getFilters() {
+		return filters;
+	}
+
+	/// Get listeners registered programmatically.
+	///
+	/// @return Listeners.
+	public List<Class<? extends EventListener>> getListeners() {
+		return listeners;
+	}
+
+	/// Get `ServletContainerInitializer` classes registered programmatically.
+	///
+	/// @return Initializers.
+	public List<Class<?>> getInitializers() {
+		return initializers;
+	}
+
+	/// Flag to enable/disable `sendfile` on the connector.
+	///
+	/// @return `true` if sendfile is enabled, `false` otherwise.
+	public boolean isSendfile() {
+		return sendfile;
+	}
+
+	/// Get the minimum size (in KB) of a static file served with `sendfile`.
+	///
+	/// @return Sendfile size, `null` to use tomcat default.
+	public Integer getSendfileSize() {
+		return sendfileSize;
+	}
+
+	/// Flag to enable/disable caching of the context resources.
+	///
+	/// @return `true` if caching is allowed, `false` otherwise.
+	public boolean isCachingAllowed() {
+		return cachingAllowed;
+	}
+
+	/// Get the maximum size (in KB) of the context resources cache.
+	///
+	/// @return Cache max size, `null` to use tomcat default.
+	public Long getCacheMaxSize() {
+		return cacheMaxSize;
+	}
+
+	/// Get the maximum size (in KB) of a single resource in the context resources cache.
+	///
+	/// @return Cache object max size, `null` to use tomcat default.
+	public Integer getCacheObjectMaxSize() {
+		return cacheObjectMaxSize;
+	}
+
+	/// Get the time (in milliseconds) a cached resource stays valid.
+	///
+	/// @return Cache TTL, `null` to use tomcat default.
+	public Long getCacheTtl() {
+		return cacheTtl;
+	}
+
+	/// Get the response compression settings.
+	///
+	/// @return Compression settings, `null` if compression is disabled.
+	public Compression getCompression() {
+		return compression;
+	}
+
+	/// Get the request latency flag:
+	/// - `true` if server-side latency of requests is recorded (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getRequestLatencies()]).
+	/// - `false` otherwise.
+	///
+	/// @return `true` if request latency recording is enabled, `false` otherwise.
+	public boolean isRequestLatency() {
+		return requestLatency;
+	}
+
+	/// Get additional web application contexts, deployed on the same server.
+	///
+	/// @return Additional contexts.
+	public List<ContextDefinition> getContexts() {
+		return contexts;
+	}
+
+	/// Get the number of threads used to start and stop child containers (i.e contexts) in parallel.
+	///
+	/// @return Number of threads, `null` to use tomcat default.
+	public Integer getStartStopThreads() {
+		return startStopThreads;
+	}
+
+	/// Get the delay (in seconds) between invocations of the engine background processing (i.e sessions expiration or webapp reloading).
+	///
+	/// @return Background processor delay, `null` to use tomcat default.
+	public Integer getBackgroundProcessorDelay() {
+		return backgroundProcessorDelay;
+	}
+
+	/// Get the JSP precompilation flag:
+	/// - `true` if JSP pages of the webapp are compiled when the server starts.
+	/// - `false` otherwise.
+	///
+	/// @return `true` if JSP precompilation is enabled, `false` otherwise.
+	public boolean isJspPrecompile() {
+		return jspPrecompile;
+	}
+
+	/// Get the directory where compiled JSP are kept across runs.
+	///
+	/// @return JSP cache directory, `null` if not set.
+	public String getJspCacheDirectory() {
+		return jspCacheDirectory;
+	}
+
+	/// Get the strategy used to create and delete the tomcat base directory.
+	///
+	/// @return The work directory strategy, `null` if not set.
+	public WorkDirectory getWorkDirectory() {
+		return workDirectory;
+	}
+
+	/// Get the in-memory sessions flag.
+	///
+	/// @return `true` if HTTP sessions are stored in memory only, `false` otherwise.
+	public boolean isInMemorySessions() {
+		return inMemorySessions;
+	}
+
+	/// Get the interval (in seconds) between two scans for expired HTTP sessions.
+	///
+	/// @return Interval, `null` if the tomcat default is used.
+	public Integer getSessionScavengeInterval() {
+		return sessionScavengeInterval;
+	}
+
+	/// Get the session statistics flag.
+	///
+	/// @return `true` if HTTP session statistics are exposed, `false` otherwise.
+	public boolean isSessionStatistics() {
+		return sessionStatistics;
+	}
+
+	/// Get the WAR extraction flag.
+	///
+	/// @return `true` if WAR archives are extracted before being served, `false` otherwise.
+	public boolean isWarExtraction() {
+		return warExtraction;
+	}
+
+	/// Get the directory where WAR archives are extracted once, and reused across runs.
+	///
+	/// @return WAR cache directory, `null` if WAR archives are not cached.
+	public String getWarCacheDirectory() {
+		return warCacheDirectory;
+	}
+
+	/// Get the classpath location of webapp resources.
+	///
+	/// @return Classpath location, `null` if the webapp directory is used.
+	public String getClasspathWebapp() {
+		return classpathWebapp;
+	}
+
+	/// Get the HTTPS flag.
+	///
+	/// @return `true` if the server serves HTTPS, `false` otherwise.
+	public boolean isHttps() {
+		return https;
+	}
+
+	/// Get the size of the TLS session cache.
+	///
+	/// @return Size of the TLS session cache, `null` to use the JDK default.
+	public Integer getSslSessionCacheSize() {
+		return sslSessionCacheSize;
+	}
+
+	/// Get the timeout (in seconds) of cached TLS sessions.
+	///
+	/// @return Timeout of cached TLS sessions, `null` to use the JDK default.
+	public Integer getSslSessionTimeout() {
+		return sslSessionTimeout;
+	}
+
+	/// Get the TLS handshake statistics flag.
+	///
+	/// @return `true` if TLS handshakes are recorded, `false` otherwise.
+	public boolean isHandshakeStatistics() {
+		return handshakeStatistics;
+	}
+
+	/// Get the capacity of the in-memory access log.
+	///
+	/// @return Capacity of the access log, `null` if the access log is disabled.
+	public Integer getAccessLogCapacity() {
+		return accessLogCapacity;
+	}
+
+	/// Get the tracing flag.
+	///
+	/// @return `true` if server spans of traced requests are recorded, `false` otherwise.
+	public boolean isTracing() {
+		return tracing;
+	}
+
+	/// Get the maximum number of connections established with the server.
+	///
+	/// @return Maximum number of connections, `null` to use the container default.
+	public Integer getMaxConnections() {
+		return maxConnections;
+	}
+
+	/// Get the size of the accept queue of the server socket.
+	///
+	/// @return Size of the accept queue, `null` to use the container default.
+	public Integer getAcceptQueueSize() {
+		return acceptQueueSize;
+	}
+
+	/// Get the idle timeout of connections, in milliseconds.
+	///
+	/// @return Idle timeout, `null` to use the container default.
+	public Integer getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/// Get the maximum number of requests served on a keep-alive connection.
+	///
+	/// @return Maximum number of requests per connection, `null` to use the container default.
+	public Integer getMaxKeepAliveRequests() {
+		return maxKeepAliveRequests;
+	}
+
+	/// Get the network conditions emulated between the HTTP clients and the server.
+	///
+	/// @return Network conditions, `null` if network conditions are not emulated.
+	public NetworkConditions getNetworkConditions() {
+		return networkConditions;
+	}
+
 	/// Change tomcat base directory.
 	///
 	/// @param baseDir Base directory.
@@ -111,6 +576,58 @@ abstract class AbstractEmbeddedTomcatConfigurationBuilder<
 		return self();
 	}
 
+	/// Cache jar scan results in given file: on next startups, jars that did not change
+	/// (same path, size and last modification date) and that do not contain any TLD will not be
+	/// opened again during the TLD scan.
+	///
+	/// Pluggability scan (`web-fragment.xml`, `ServletContainerInitializer`, `@HandlesTypes` and
+	/// annotations) is not affected: use [#withJarToSkip(String)] to exclude jars from this scan.
+	///
+	/// @param jarScanIndex The index file path.
+	/// @return this.
+	/// @throws NullPointerException If `jarScanIndex` is `null`.
+	/// @throws IllegalArgumentException If `jarScanIndex` is blank.
+	public SELF withJarScanIndex(String jarScanIndex) {
+		this.jarScanIndex = notBlank(jarScanIndex, "jarScanIndex");
+		return self();
+	}
+
+	/// Cache jar scan results in given file.
+	///
+	/// @param jarScanIndex The index file.
+	/// @return this.
+	/// @throws NullPointerException If `jarScanIndex` is `null`.
+	/// @see #withJarScanIndex(String)
+	public SELF withJarScanIndex(File jarScanIndex) {
+		return withJarScanIndex(notNull(jarScanIndex, "jarScanIndex").getAbsolutePath());
+	}
+
+	/// Add jar name pattern (such as `foo-*.jar`) that should not be scanned for TLD or pluggability
+	/// features.
+	///
+	/// @param pattern The jar name pattern.
+	/// @return this.
+	/// @throws NullPointerException If `pattern` is `null`.
+	/// @throws IllegalArgumentException If `pattern` is blank.
+	/// @see org.apache.tomcat.util.scan.StandardJarScanFilter
+	public SELF withJarToSkip(String pattern) {
+		this.jarsToSkip.add(notBlank(pattern, "pattern"));
+		return self();
+	}
+
+	/// Add jar name pattern (such as `foo-*.jar`) that should always be scanned for TLD or pluggability
+	/// features.
+	///
+	/// @param pattern The jar name pattern.
+	/// @return this.
+	/// @throws NullPointerException If `pattern` is `null`.
+	/// @throws IllegalArgumentException If `pattern` is blank.
+	/// @see org.apache.tomcat.util.scan.StandardJarScanFilter
+	public SELF withJarToScan(String pattern) {
+		this.jarsToScan.add(notBlank(pattern, "pattern"));
+		return self();
+	}
+
 	/// Keep tomcat base directory content on server stop.
 	///
 	/// @return this.
@@ -155,6 +672,177 @@ abstract class AbstractEmbeddedTomcatConfigurationBuilder<
 		return toggleMetaInf(false);
 	}
 
+	/// Enable HTTP/2 over cleartext connections (a.k.a `h2c`): the tomcat connector will
+	/// accept both HTTP/1.1 upgrade requests and HTTP/2 "prior knowledge" connections.
+	///
+	/// @return this.
+	public SELF enableHttp2() {
+		return toggleHttp2(true);
+	}
+
+	/// Disable HTTP/2 over cleartext connections (a.k.a `h2c`).
+	///
+	/// @return this.
+	public SELF disableHttp2() {
+		return toggleHttp2(false);
+	}
+
+	/// Enable lightweight mode: the context is created with `Tomcat#addContext` instead of
+	/// `Tomcat#addWebapp`, so no default `web.xml` is applied, no descriptor is parsed, no jar is
+	/// scanned and no JSP or default servlet is registered. Servlets, filters, listeners and
+	/// initializers must be registered programmatically.
+	///
+	/// In this mode, the webapp directory is not required: if it exists, it is only used as the
+	/// context document base.
+	///
+	/// @return this.
+	public SELF enableLightweight() {
+		return toggleLightweight(true);
+	}
+
+	/// Disable lightweight mode: the context is created with `Tomcat#addWebapp`.
+	///
+	/// @return this.
+	public SELF disableLightweight() {
+		return toggleLightweight(false);
+	}
+
+	/// Register a servlet programmatically.
+	///
+	/// @param servlet Servlet definition.
+	/// @return this.
+	/// @throws NullPointerException If `servlet` is `null`.
+	public SELF withServlet(ServletDefinition servlet) {
+		this.servlets.add(notNull(servlet, "servlet"));
+		return self();
+	}
+
+	/// Register a servlet programmatically, mapped to given URL patterns.
+	///
+	/// @param servletClass Servlet class.
+	/// @param mapping The first URL pattern.
+	/// @param mappings Other URL patterns.
+	/// @return this.
+	/// @throws NullPointerException If one of the parameters is `null`.
+	public SELF withServlet(Class<?> servletClass, String mapping, String... mappings) {
+		return withServlet(ServletDefinition.servlet(servletClass, mapping, mappings));
+	}
+
+	/// Register a filter programmatically.
+	///
+	/// @param filter Filter definition.
+	/// @return this.
+	/// @throws NullPointerException If `filter` is `null`.
+	public SELF withFilter(FilterDefinition filter) {
+		this.filters.add(notNull(filter, "filter"));
+		return self();
+	}
+
+	/// Register a filter programmatically, mapped to given URL patterns.
+	///
+	/// @param filterClass Filter class.
+	/// @param urlPattern The first URL pattern.
+	/// @param urlPatterns Other URL patterns.
+	/// @return this.
+	/// @throws NullPointerException If one of the parameters is `null`.
+	public SELF withFilter(Class<?> filterClass, String urlPattern, String... urlPatterns) {
+		return withFilter(FilterDefinition.filter(filterClass, urlPattern, urlPatterns));
+	}
+
+	/// Register a listener (such as a `ServletContextListener`) programmatically.
+	///
+	/// @param listener Listener class.
+	/// @return this.
+	/// @throws NullPointerException If `listener` is `null`.
+	public SELF withListener(Class<? extends EventListener> listener) {
+		this.listeners.add(notNull(listener, "listener"));
+		return self();
+	}
+
+	/// Register a `ServletContainerInitializer` programmatically: it is instantiated and called
+	/// on startup, without any `META-INF/services` lookup or `@HandlesTypes` scanning.
+	///
+	/// @param initializer Initializer class, must have a public no-arg constructor.
+	/// @return this.
+	/// @throws NullPointerException If `initializer` is `null`.
+	public SELF withInitializer(Class<?> initializer) {
+		this.initializers.add(notNull(initializer, "initializer"));
+		return self();
+	}
+
+	/// Allow the connector to serve static files with `sendfile`: large static files are written
+	/// directly from the file system to the socket, without being copied in the JVM (this is the default).
+	///
+	/// @return this.
+	public SELF enableSendfile() {
+		return toggleSendfile(true);
+	}
+
+	/// Disable `sendfile` on the connector: static files are always copied in the JVM.
+	///
+	/// @return this.
+	public SELF disableSendfile() {
+		return toggleSendfile(false);
+	}
+
+	/// Set the minimum size (in KB) of a static file served with `sendfile` by the default servlet: smaller
+	/// files are written in the response buffer.
+	///
+	/// @param sendfileSize Sendfile size, in KB.
+	/// @return this.
+	/// @throws IllegalArgumentException If `sendfileSize` is negative.
+	public SELF withSendfileSize(int sendfileSize) {
+		this.sendfileSize = positive(sendfileSize, "sendfileSize");
+		return self();
+	}
+
+	/// Allow the context resources (static files, classes, JSP files) to be cached, instead of
+	/// looking up the file system on each access (this is the default).
+	///
+	/// @return this.
+	public SELF enableCaching() {
+		return toggleCaching(true);
+	}
+
+	/// Disable caching of the context resources: each access looks up the file system.
+	///
+	/// @return this.
+	public SELF disableCaching() {
+		return toggleCaching(false);
+	}
+
+	/// Set the maximum size (in KB) of the context resources cache.
+	///
+	/// @param cacheMaxSize Cache max size, in KB.
+	/// @return this.
+	/// @throws IllegalArgumentException If `cacheMaxSize` is negative.
+	public SELF withCacheMaxSize(long cacheMaxSize) {
+		this.cacheMaxSize = positive(cacheMaxSize, "cacheMaxSize");
+		return self();
+	}
+
+	/// Set the maximum size (in KB) of a single resource in the context resources cache: larger
+	/// resources are never cached.
+	///
+	/// @param cacheObjectMaxSize Cache object max size, in KB.
+	/// @return this.
+	/// @throws IllegalArgumentException If `cacheObjectMaxSize` is negative.
+	public SELF withCacheObjectMaxSize(int cacheObjectMaxSize) {
+		this.cacheObjectMaxSize = positive(cacheObjectMaxSize, "cacheObjectMaxSize");
+		return self();
+	}
+
+	/// Set the time (in milliseconds) a cached resource stays valid before being revalidated
+	/// against the file system.
+	///
+	/// @param cacheTtl Cache TTL, in milliseconds.
+	/// @return this.
+	/// @throws IllegalArgumentException If `cacheTtl` is negative.
+	public SELF withCacheTtl(long cacheTtl) {
+		this.cacheTtl = positive(cacheTtl, "cacheTtl");
+		return self();
+	}
+
 	/// Update JNDI naming directory flag:
 	/// - Use `true` to enable JNDI naming.
 	/// - Use `false` to disable JNDI naming.
@@ -176,4 +864,483 @@ abstract class AbstractEmbeddedTomcatConfigurationBuilder<
 		this.forceMetaInf = forceMetaInf;
 		return self();
 	}
+
+	/// Update HTTP/2 flag:
+	/// - Use `true` to enable `h2c`.
+	/// - Use `false` to disable `h2c`.
+	///
+	/// @param http2 The flag value.
+	/// @return this.
+	private SELF toggleHttp2(boolean http2) {
+		this.http2 = http2;
+		return self();
+	}
+
+	/// Update lightweight flag:
+	/// - Use `true` to create the context with `Tomcat#addContext`.
+	/// - Use `false` to create the context with `Tomcat#addWebapp`.
+	///
+	/// @param lightweight The flag value.
+	/// @return this.
+	private SELF toggleLightweight(boolean lightweight) {
+		this.lightweight = lightweight;
+		return self();
+	}
+
+	/// Update sendfile flag:
+	/// - Use `true` to allow static files to be served with `sendfile`.
+	/// - Use `false` otherwise.
+	///
+	/// @param sendfile The flag value.
+	/// @return this.
+	private SELF toggleSendfile(boolean sendfile) {
+		this.sendfile = sendfile;
+		return self();
+	}
+
+	/// Enable response compression (gzip) on the connector with given settings.
+	///
+	/// Note that tomcat does not support custom compression level: [Compression#getLevel()] is ignored.
+	///
+	/// @param compression Compression settings.
+	/// @return this
+	/// @throws NullPointerException If `compression` is `null`.
+	public SELF withCompression(Compression compression) {
+		this.compression = notNull(compression, "compression");
+		return self();
+	}
+
+	/// Enable response compression (gzip) on the connector with default settings.
+	///
+	/// @return this
+	/// @see Compression#defaultCompression()
+	public SELF enableCompression() {
+		return withCompression(Compression.defaultCompression());
+	}
+
+	/// Disable response compression (default).
+	///
+	/// @return this
+	public SELF disableCompression() {
+		this.compression = null;
+		return self();
+	}
+
+	/// Update caching allowed flag:
+	/// - Use `true` to allow context resources to be cached.
+	/// - Use `false` otherwise.
+	///
+	/// @param cachingAllowed The flag value.
+	/// @return this.
+	private SELF toggleCaching(boolean cachingAllowed) {
+		this.cachingAllowed = cachingAllowed;
+		return self();
+	}
+
+	/// Enable request latency recording: a filter, mapped first on `/*`, records the time spent by the server
+	/// to handle each request, grouped by servlet mapping, so that
+	/// [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getRequestLatencies()] can report latency percentiles.
+	///
+	/// @return this.
+	public SELF enableRequestLatency() {
+		return toggleRequestLatency(true);
+	}
+
+	/// Disable request latency recording (default).
+	///
+	/// @return this.
+	public SELF disableRequestLatency() {
+		return toggleRequestLatency(false);
+	}
+
+	/// Toggle `requestLatency`.
+	///
+	/// @param requestLatency New [#requestLatency] value.
+	/// @return this.
+	private SELF toggleRequestLatency(boolean requestLatency) {
+		this.requestLatency = requestLatency;
+		return self();
+	}
+
+	/// Deploy an additional web application context on the server: contexts share the server
+	/// connector and its thread pool, which is cheaper than starting one server per application.
+	///
+	/// Note that servlets, filters and listeners registered programmatically are only registered
+	/// on the main application context.
+	///
+	/// @param context Context definition.
+	/// @return this.
+	/// @throws NullPointerException If `context` is `null`.
+	public SELF withContext(ContextDefinition context) {
+		this.contexts.add(notNull(context, "context"));
+		return self();
+	}
+
+	/// Deploy an additional web application context on the server, with default classpath
+	/// and descriptor.
+	///
+	/// @param path Context path.
+	/// @param webapp Webapp directory.
+	/// @return this.
+	/// @throws NullPointerException If one of the parameters is `null`.
+	/// @throws IllegalArgumentException If one of the parameters is blank.
+	/// @see #withContext(ContextDefinition)
+	public SELF withContext(String path, String webapp) {
+		return withContext(ContextDefinition.context(path, webapp));
+	}
+
+	/// Set the number of threads used by the engine and by the host to start and stop their
+	/// child containers: with several contexts (see [#withContext(ContextDefinition)]) or heavy
+	/// listeners, contexts are started in parallel.
+	///
+	/// As with tomcat, `0` means the number of available processors, and a negative value means
+	/// the number of available processors plus this value (with a minimum of one thread).
+	///
+	/// @param startStopThreads Number of threads.
+	/// @return this.
+	public SELF withStartStopThreads(int startStopThreads) {
+		this.startStopThreads = startStopThreads;
+		return self();
+	}
+
+	/// Set the delay (in seconds) between invocations of the engine background processing, which
+	/// is also run on the host and on the contexts (sessions expiration, resources cache eviction,
+	/// webapp reloading, etc.).
+	///
+	/// A negative value disables background processing, which is often not needed by a short-lived
+	/// test server.
+	///
+	/// @param backgroundProcessorDelay Delay, in seconds.
+	/// @return this.
+	public SELF withBackgroundProcessorDelay(int backgroundProcessorDelay) {
+		this.backgroundProcessorDelay = backgroundProcessorDelay;
+		return self();
+	}
+
+	/// Enable JSP precompilation: when the server starts, JSP pages of the webapp are compiled in parallel
+	/// (using the `jsp_precompile` request parameter), so that the first request of a test does not pay for
+	/// the JSP compilation.
+	///
+	/// Note that pages in `WEB-INF` cannot be requested, so they are still compiled on first use: use a JSP
+	/// cache directory (see [#withJspCacheDirectory(String)]) to reuse them across runs.
+	///
+	/// @return this.
+	public SELF enableJspPrecompile() {
+		return toggleJspPrecompile(true);
+	}
+
+	/// Disable JSP precompilation (default).
+	///
+	/// @return this.
+	public SELF disableJspPrecompile() {
+		return toggleJspPrecompile(false);
+	}
+
+	/// Toggle `jspPrecompile`.
+	///
+	/// @param jspPrecompile New [#jspPrecompile] value.
+	/// @return this.
+	private SELF toggleJspPrecompile(boolean jspPrecompile) {
+		this.jspPrecompile = jspPrecompile;
+		return self();
+	}
+
+	/// Set the directory where compiled JSP are kept across runs (and restarts): the work directory of the context is set to
+	/// a sub-directory named after a hash of the JSP sources (and of the server implementation), so that
+	/// compiled classes are reused as long as JSP sources do not change, and never reused once they do.
+	///
+	/// @param jspCacheDirectory JSP cache directory.
+	/// @return this.
+	/// @throws NullPointerException If `jspCacheDirectory` is `null`.
+	/// @throws IllegalArgumentException If `jspCacheDirectory` is blank.
+	public SELF withJspCacheDirectory(String jspCacheDirectory) {
+		this.jspCacheDirectory = notBlank(jspCacheDirectory, "jspCacheDirectory");
+		return self();
+	}
+
+	/// Set the directory where compiled JSP are kept across runs (and restarts).
+	///
+	/// @param jspCacheDirectory JSP cache directory.
+	/// @return this.
+	/// @throws NullPointerException If `jspCacheDirectory` is `null`.
+	/// @see #withJspCacheDirectory(String)
+	public SELF withJspCacheDirectory(File jspCacheDirectory) {
+		return withJspCacheDirectory(notNull(jspCacheDirectory, "jspCacheDirectory").getAbsolutePath());
+	}
+
+	/// Set the strategy used to create and delete the tomcat base directory, such as a RAM-backed directory reused
+	/// across restarts: when set, it takes precedence over the `baseDir` (and `keepBaseDir`) setting.
+	///
+	/// @param workDirectory The work directory strategy.
+	/// @return this.
+	/// @throws NullPointerException If `workDirectory` is `null`.
+	public SELF withWorkDirectory(WorkDirectory workDirectory) {
+		this.workDirectory = notNull(workDirectory, "workDirectory");
+		return self();
+	}
+
+	/// Use purely in-memory HTTP sessions, without any persistence: the default session manager is replaced by a manager without any pathname, so sessions are not
+	/// serialized to `SESSIONS.ser` on stop (and not restored on start).
+	///
+	/// @return this.
+	public SELF enableInMemorySessions() {
+		return toggleInMemorySessions(true);
+	}
+
+	/// Use the default tomcat session management (default).
+	///
+	/// @return this.
+	public SELF disableInMemorySessions() {
+		return toggleInMemorySessions(false);
+	}
+
+	private SELF toggleInMemorySessions(boolean inMemorySessions) {
+		this.inMemorySessions = inMemorySessions;
+		return self();
+	}
+
+	/// Set the interval (in seconds) between two scans for expired HTTP sessions, run by a background processor dedicated to the web application context.
+	/// `0` disables the scan: expired sessions are then only removed when they are accessed.
+	///
+	/// @param sessionScavengeInterval Interval, in seconds.
+	/// @return this.
+	/// @throws IllegalArgumentException If `sessionScavengeInterval` is negative.
+	public SELF withSessionScavengeInterval(int sessionScavengeInterval) {
+		this.sessionScavengeInterval = positive(sessionScavengeInterval, "sessionScavengeInterval");
+		return self();
+	}
+
+	/// Enable HTTP session statistics (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getSessionStatistics()]).
+	///
+	/// @return this.
+	public SELF enableSessionStatistics() {
+		return toggleSessionStatistics(true);
+	}
+
+	/// Disable HTTP session statistics (default).
+	///
+	/// @return this.
+	public SELF disableSessionStatistics() {
+		return toggleSessionStatistics(false);
+	}
+
+	private SELF toggleSessionStatistics(boolean sessionStatistics) {
+		this.sessionStatistics = sessionStatistics;
+		return self();
+	}
+
+	/// Unpack WAR archives before serving them (default): tomcat unpacks the archive into the app base on each start.
+	///
+	/// @return this.
+	public SELF enableWarExtraction() {
+		return toggleWarExtraction(true);
+	}
+
+	/// Serve WAR archives directly, without unpacking them: resources are read from the archive (`unpackWAR` is set to `false`),
+	/// which saves the extraction on each start.
+	///
+	/// @return this.
+	public SELF disableWarExtraction() {
+		return toggleWarExtraction(false);
+	}
+
+	private SELF toggleWarExtraction(boolean warExtraction) {
+		this.warExtraction = warExtraction;
+		return self();
+	}
+
+	/// Extract WAR archives once into given cache directory, and serve the extracted directory: the archive is extracted
+	/// into a sub-directory named after a hash of its content, so that the extraction is reused by next runs as long as the
+	/// archive does not change. This option takes precedence over [#disableWarExtraction()].
+	///
+	/// @param warCacheDirectory WAR cache directory.
+	/// @return this.
+	/// @throws NullPointerException If `warCacheDirectory` is `null`.
+	/// @throws IllegalArgumentException If `warCacheDirectory` is blank.
+	public SELF withWarCacheDirectory(String warCacheDirectory) {
+		this.warCacheDirectory = notBlank(warCacheDirectory, "warCacheDirectory");
+		return self();
+	}
+
+	/// Extract WAR archives once into given cache directory.
+	///
+	/// @param warCacheDirectory WAR cache directory.
+	/// @return this.
+	/// @throws NullPointerException If `warCacheDirectory` is `null`.
+	/// @see #withWarCacheDirectory(String)
+	public SELF withWarCacheDirectory(File warCacheDirectory) {
+		return withWarCacheDirectory(notNull(warCacheDirectory, "warCacheDirectory").getAbsolutePath());
+	}
+
+	/// Serve webapp resources from given classpath location (such as `webapp` or `META-INF/resources`), instead of the
+	/// webapp directory: each classpath entry containing this location, directory or jar, is mounted as a webapp root,
+	/// in classpath order. Resources are read in place: nothing is copied to the disk, and no default directory is probed.
+	///
+	/// @param classpathWebapp Classpath location.
+	/// @return this.
+	/// @throws NullPointerException If `classpathWebapp` is `null`.
+	/// @throws IllegalArgumentException If `classpathWebapp` is blank.
+	public SELF withClasspathWebapp(String classpathWebapp) {
+		this.classpathWebapp = notBlank(classpathWebapp, "classpathWebapp");
+		return self();
+	}
+
+	/// Serve HTTPS instead of plain HTTP: the connector is configured with an `SSLHostConfig` using an ephemeral
+	/// self-signed certificate (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getCertificate()]),
+	/// generated in memory when the server is created. TLS 1.3 is preferred, TLS 1.2 is kept for older clients.
+	///
+	/// Http clients created with the server trust this certificate automatically.
+	///
+	/// @return this.
+	public SELF enableHttps() {
+		return toggleHttps(true);
+	}
+
+	/// Serve plain HTTP (default).
+	///
+	/// @return this.
+	public SELF disableHttps() {
+		return toggleHttps(false);
+	}
+
+	private SELF toggleHttps(boolean https) {
+		this.https = https;
+		return self();
+	}
+
+	/// Set the maximum number of TLS sessions kept in the server session cache, so that clients can resume a session
+	/// instead of running a full handshake: `0` means no limit. If not set, the JDK default is used.
+	///
+	/// @param sslSessionCacheSize Size of the TLS session cache.
+	/// @return this.
+	/// @throws IllegalArgumentException If `sslSessionCacheSize` is negative.
+	public SELF withSslSessionCacheSize(int sslSessionCacheSize) {
+		this.sslSessionCacheSize = positive(sslSessionCacheSize, "sslSessionCacheSize");
+		return self();
+	}
+
+	/// Set the timeout (in seconds) of TLS sessions kept in the server session cache: `0` means no limit. If not set,
+	/// the JDK default is used.
+	///
+	/// @param sslSessionTimeout Timeout of cached TLS sessions, in seconds.
+	/// @return this.
+	/// @throws IllegalArgumentException If `sslSessionTimeout` is negative.
+	public SELF withSslSessionTimeout(int sslSessionTimeout) {
+		this.sslSessionTimeout = positive(sslSessionTimeout, "sslSessionTimeout");
+		return self();
+	}
+
+	/// Record the count and the durations of TLS handshakes (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getHandshakeStatistics()]):
+	/// this option has no effect if HTTPS is not enabled.
+	///
+	/// @return this.
+	public SELF enableHandshakeStatistics() {
+		return toggleHandshakeStatistics(true);
+	}
+
+	/// Do not record TLS handshakes (default).
+	///
+	/// @return this.
+	public SELF disableHandshakeStatistics() {
+		return toggleHandshakeStatistics(false);
+	}
+
+	private SELF toggleHandshakeStatistics(boolean handshakeStatistics) {
+		this.handshakeStatistics = handshakeStatistics;
+		return self();
+	}
+
+	/// Keep the most recent requests in an in-memory access log (see [com.github.mjeanroy.junit.servers.servers.EmbeddedServer#getAccessLog()]),
+	/// fed by a tomcat `AccessLog` valve: once the access log is full, the oldest records are overwritten. Nothing is written to disk,
+	/// and recording a request never blocks, so the access log can be kept under load. `0` disables the access log (default).
+	///
+	/// @param accessLogCapacity Maximum number of records kept in the access log.
+	/// @return this.
+	/// @throws IllegalArgumentException If `accessLogCapacity` is negative.
+	public SELF withAccessLogCapacity(int accessLogCapacity) {
+		this.accessLogCapacity = positive(accessLogCapacity, "accessLogCapacity");
+		return self();
+	}
+
+	/// Enable tracing: a filter, mapped first on `/*`, records a server span for each request carrying the `traceparent`
+	/// header of a running test, so that the spans of a test can be read with
+	/// [com.github.mjeanroy.junit.servers.servers.TraceContext#getSpans()]. The header is added by the HTTP clients
+	/// created with the server.
+	///
+	/// @return this.
+	public SELF enableTracing() {
+		return toggleTracing(true);
+	}
+
+	/// Disable tracing (default).
+	///
+	/// @return this.
+	public SELF disableTracing() {
+		return toggleTracing(false);
+	}
+
+	private SELF toggleTracing(boolean tracing) {
+		this.tracing = tracing;
+		return self();
+	}
+
+	/// Limit the number of connections established with the server (the `maxConnections` attribute of the connector):
+	/// once the limit is reached, the connector stops accepting new connections until an established connection is
+	/// closed. `0` keeps the container default (default).
+	///
+	/// @param maxConnections Maximum number of connections.
+	/// @return this.
+	/// @throws IllegalArgumentException If `maxConnections` is negative.
+	public SELF withMaxConnections(int maxConnections) {
+		this.maxConnections = positive(maxConnections, "maxConnections");
+		return self();
+	}
+
+	/// Set the size of the accept queue (i.e. the backlog of the server socket, the `acceptCount` attribute of the
+	/// connector): connections not yet accepted by the server are queued by the operating system, up to this size.
+	/// `0` keeps the container default (default).
+	///
+	/// @param acceptQueueSize Size of the accept queue.
+	/// @return this.
+	/// @throws IllegalArgumentException If `acceptQueueSize` is negative.
+	public SELF withAcceptQueueSize(int acceptQueueSize) {
+		this.acceptQueueSize = positive(acceptQueueSize, "acceptQueueSize");
+		return self();
+	}
+
+	/// Set the idle timeout, in milliseconds, of the connections (the `connectionTimeout` attribute of the connector, also
+	/// used as the keep-alive timeout): an idle connection is closed once this timeout is elapsed. `0` keeps the container
+	/// default (default).
+	///
+	/// @param idleTimeout Idle timeout, in milliseconds.
+	/// @return this.
+	/// @throws IllegalArgumentException If `idleTimeout` is negative.
+	public SELF withIdleTimeout(int idleTimeout) {
+		this.idleTimeout = positive(idleTimeout, "idleTimeout");
+		return self();
+	}
+
+	/// Limit the number of requests served on a keep-alive connection (the `maxKeepAliveRequests` attribute of the
+	/// connector): the connection is closed once the last response is sent. `1` disables keep-alive, `0` keeps the
+	/// container default (default).
+	///
+	/// @param maxKeepAliveRequests Maximum number of requests served on a connection.
+	/// @return this.
+	/// @throws IllegalArgumentException If `maxKeepAliveRequests` is negative.
+	public SELF withMaxKeepAliveRequests(int maxKeepAliveRequests) {
+		this.maxKeepAliveRequests = positive(maxKeepAliveRequests, "maxKeepAliveRequests");
+		return self();
+	}
+
+	/// Emulate given network conditions between the HTTP clients and the server: the server is started behind an
+	/// in-process TCP proxy adding latency, jitter, a bandwidth cap and connection resets, and the port (and URL) of
+	/// the server is the port of the proxy.
+	///
+	/// @param networkConditions Network conditions.
+	/// @return this.
+	/// @throws NullPointerException If `networkConditions` is `null`.
+	public SELF withNetworkConditions(NetworkConditions networkConditions) {
+		this.networkConditions = notNull(networkConditions, "networkConditions");
+		return self();
+	}
 }
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import org.apache.tomcat.JarScanType;
+import org.apache.tomcat.JarScannerCallback;
+import org.apache.tomcat.util.scan.StandardJarScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Deque;
+
+/// A [StandardJarScanner] that use a [JarScanIndex] to avoid opening jars that does not
+/// contain any TLD file during a TLD scan.
+///
+/// Other scans (such as the pluggability scan) are never skipped: any jar may contain classes
+/// matching a `@HandlesTypes` declaration, or annotated classes (such as `@WebServlet`), even
+/// without any `web-fragment.xml`, so skipping it could silently break the application.
+///
+/// Directories, and jars that are not stored on the file system, are always scanned.
+class CachingJarScanner extends StandardJarScanner {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(CachingJarScanner.class);
+
+	private static final String FILE_PROTOCOL = "file";
+	private static final String JAR_EXTENSION = ".jar";
+
+	/// The index.
+	private final JarScanIndex index;
+
+	/// Create the jar scanner.
+	///
+	/// @param index The jar scan index.
+	CachingJarScanner(JarScanIndex index) {
+		this.index = index;
+	}
+
+	@Override
+	protected void process(
+		JarScanType scanType,
+		JarScannerCallback callback,
+		URL url,
+		String webappPath,
+		boolean isWebapp,
+		Deque<URL> classPathUrlsToProcess
+	) throws IOException {
+		File jar = scanType == JarScanType.TLD ? toJarFile(url) : null;
+		if (jar != null && canSkip(index.lookup(jar))) {
+			log.trace("Skipping jar {}", jar);
+			return;
+		}
+
+		super.process(scanType, callback, url, webappPath, isWebapp, classPathUrlsToProcess);
+	}
+
+	private boolean canSkip(int flags) {
+		if ((flags & JarScanIndex.MANIFEST_CLASS_PATH) != 0 && isScanManifest()) {
+			return false;
+		}
+
+		return (flags & JarScanIndex.TLD) == 0;
+	}
+
+	private static File toJarFile(URL url) {
+		if (!FILE_PROTOCOL.equals(url.getProtocol()) || !url.getPath().endsWith(JAR_EXTENSION)) {
+			return null;
+		}
+
+		try {
+			File file = new File(url.toURI());
+			return file.isFile() ? file : null;
+		}
+		catch (URISyntaxException | IllegalArgumentException ex) {
+			return null;
+		}
+	}
+}
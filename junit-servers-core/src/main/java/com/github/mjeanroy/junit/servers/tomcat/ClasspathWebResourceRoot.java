@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import org.apache.catalina.Context;
+import org.apache.catalina.WebResourceRoot;
+import org.apache.catalina.WebResourceSet;
+import org.apache.catalina.webresources.EmptyResourceSet;
+import org.apache.catalina.webresources.StandardRoot;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+/// A [StandardRoot] serving webapp resources from classpath entries, instead of the
+/// document base of the context:
+///
+/// - A directory is mounted with a `DirResourceSet`.
+/// - A location inside a jar is mounted with a `JarResourceSet`, read in place.
+///
+/// Roots are added in classpath order, so that the first entry containing a resource wins.
+class ClasspathWebResourceRoot extends StandardRoot {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(ClasspathWebResourceRoot.class);
+
+	private static final String JAR_PROTOCOL = "jar";
+	private static final String JAR_SEPARATOR = "!/";
+
+	/// Create the resource root.
+	///
+	/// @param context Tomcat context.
+	ClasspathWebResourceRoot(Context context) {
+		super(context);
+	}
+
+	/// Mount given classpath location as a root of the webapp.
+	///
+	/// @param url URL of the location, inside a directory or a jar.
+	void addRoot(URL url) {
+		try {
+			final String externalForm = url.toExternalForm();
+			final String base;
+			final String internalPath;
+
+			if (JAR_PROTOCOL.equals(url.getProtocol())) {
+				final int separator = externalForm.indexOf(JAR_SEPARATOR);
+				base = new File(new URL(externalForm.substring(JAR_PROTOCOL.length() + 1, separator)).toURI()).getAbsolutePath();
+				internalPath = stripTrailingSlash("/" + externalForm.substring(separator + JAR_SEPARATOR.length()));
+			}
+			else {
+				base = new File(url.toURI()).getAbsolutePath();
+				internalPath = "/";
+			}
+
+			log.debug("Creating tomcat web resource set using base={} and internalPath={}", base, internalPath);
+			createWebResourceSet(WebResourceRoot.ResourceSetType.PRE, "/", base, null, internalPath);
+		}
+		catch (MalformedURLException | URISyntaxException ex) {
+			throw new IllegalArgumentException(ex);
+		}
+	}
+
+	@Override
+	protected WebResourceSet createMainResourceSet() {
+		// Resources are only served from classpath entries.
+		return new EmptyResourceSet(this);
+	}
+
+	private static String stripTrailingSlash(String path) {
+		return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+	}
+}
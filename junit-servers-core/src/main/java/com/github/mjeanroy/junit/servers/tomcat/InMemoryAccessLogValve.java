@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import com.github.mjeanroy.junit.servers.servers.AccessRecord;
+import org.apache.catalina.AccessLog;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/// Tomcat access log valve, appending a record to an in-memory access log once each request is completed.
+///
+/// The valve tracks the request start time with a nanosecond precision: requests that never reach the valve (for example
+/// requests rejected by the connector) are timed from the coyote request start time, with a millisecond precision.
+final class InMemoryAccessLogValve extends ValveBase implements AccessLog {
+
+	/// Name of the request note holding the start time of the request, in nanoseconds.
+	private static final String START_TIME_NOTE = InMemoryAccessLogValve.class.getName() + ".startTime";
+
+	/// The in-memory access log.
+	private final Consumer<AccessRecord> accessLog;
+
+	/// Whether request attributes are used: this flag is ignored, since records are built from the request itself.
+	private boolean requestAttributesEnabled;
+
+	/// Create the valve.
+	///
+	/// @param accessLog The in-memory access log.
+	InMemoryAccessLogValve(Consumer<AccessRecord> accessLog) {
+		super(true);
+		this.accessLog = accessLog;
+	}
+
+	// The servlet exception thrown by the next valve depends on the tomcat version (`javax.servlet` or `jakarta.servlet`),
+	// so it cannot be declared here: it is rethrown as is, without being wrapped.
+	@Override
+	public void invoke(Request request, Response response) throws IOException {
+		request.setNote(START_TIME_NOTE, System.nanoTime());
+
+		try {
+			getNext().invoke(request, response);
+		}
+		catch (IOException | RuntimeException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw InMemoryAccessLogValve.<RuntimeException>rethrow(ex);
+		}
+	}
+
+	@Override
+	public void log(Request request, Response response, long time) {
+		String query = request.getQueryString();
+		accessLog.accept(AccessRecord.of(
+			request.getMethod(),
+			query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query,
+			response.getStatus(),
+			response.getBytesWritten(false),
+			durationOf(request),
+			Thread.currentThread().getName()
+		));
+	}
+
+	@Override
+	public void setRequestAttributesEnabled(boolean requestAttributesEnabled) {
+		this.requestAttributesEnabled = requestAttributesEnabled;
+	}
+
+	@Override
+	public boolean getRequestAttributesEnabled() {
+		return requestAttributesEnabled;
+	}
+
+	private static long durationOf(Request request) {
+		Object startTime = request.getNote(START_TIME_NOTE);
+		if (startTime != null) {
+			return System.nanoTime() - (Long) startTime;
+		}
+
+		return MILLISECONDS.toNanos(System.currentTimeMillis() - request.getCoyoteRequest().getStartTime());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Exception> T rethrow(Exception ex) throws T {
+		throw (T) ex;
+	}
+}
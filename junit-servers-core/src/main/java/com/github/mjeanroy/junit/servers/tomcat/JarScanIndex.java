@@ -0,0 +1,294 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/// A persistent index of jar scan results.
+///
+/// Each entry is keyed by the absolute path of the jar, and is considered valid as long as the size
+/// and the last modification date of the jar did not change: in that case the jar does not need to be
+/// opened again to know what it contains.
+///
+/// The index is stored on disk as a simple properties file, so that it can be reused across
+/// different JVM (i.e different test runs).
+final class JarScanIndex {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(JarScanIndex.class);
+
+	/// Flag set when the jar contains at least one TLD file in `META-INF`.
+	static final int TLD = 1;
+
+	/// Flag set when the jar contains a `META-INF/web-fragment.xml` file.
+	static final int WEB_FRAGMENT = 1 << 1;
+
+	/// Flag set when the jar contains static resources in `META-INF/resources`.
+	static final int STATIC_RESOURCES = 1 << 2;
+
+	/// Flag set when the jar declares a `ServletContainerInitializer` service.
+	static final int INITIALIZER = 1 << 3;
+
+	/// Flag set when the jar manifest contains a `Class-Path` attribute.
+	static final int MANIFEST_CLASS_PATH = 1 << 4;
+
+	private static final String META_INF = "META-INF/";
+	private static final String TLD_EXTENSION = ".tld";
+	private static final String WEB_FRAGMENT_XML = "META-INF/web-fragment.xml";
+	private static final String RESOURCES_PREFIX = "META-INF/resources/";
+	private static final String JAVAX_INITIALIZER = "META-INF/services/javax.servlet.ServletContainerInitializer";
+	private static final String JAKARTA_INITIALIZER = "META-INF/services/jakarta.servlet.ServletContainerInitializer";
+
+	private static final char SEPARATOR = ',';
+
+	/// Load index stored in given file, an empty index is returned if the file does not exist or
+	/// cannot be read.
+	///
+	/// @param file The index file.
+	/// @return The index.
+	static JarScanIndex load(File file) {
+		JarScanIndex index = new JarScanIndex(file);
+
+		if (!file.exists()) {
+			log.debug("Jar scan index {} does not exist, starting with an empty index", file);
+			return index;
+		}
+
+		Properties properties = new Properties();
+
+		try (InputStream is = Files.newInputStream(file.toPath())) {
+			properties.load(is);
+		}
+		catch (IOException ex) {
+			log.warn("Cannot read jar scan index {}, starting with an empty index", file);
+			return index;
+		}
+
+		Enumeration<?> names = properties.propertyNames();
+		while (names.hasMoreElements()) {
+			String path = (String) names.nextElement();
+			Entry entry = Entry.parse(properties.getProperty(path));
+			if (entry != null) {
+				index.entries.put(path, entry);
+			}
+		}
+
+		log.debug("Jar scan index {} loaded with {} entries", file, index.entries.size());
+		return index;
+	}
+
+	/// The index file.
+	private final File file;
+
+	/// The index entries, keyed by jar absolute path.
+	private final ConcurrentMap<String, Entry> entries;
+
+	/// Flag set when the index has been updated since it has been loaded or stored.
+	private final AtomicBoolean dirty;
+
+	/// Number of lookups that have been resolved with the index.
+	private final AtomicLong hits;
+
+	/// Number of lookups that have required to open the jar.
+	private final AtomicLong misses;
+
+	private JarScanIndex(File file) {
+		this.file = file;
+		this.entries = new ConcurrentHashMap<>();
+		this.dirty = new AtomicBoolean(false);
+		this.hits = new AtomicLong(0);
+		this.misses = new AtomicLong(0);
+	}
+
+	/// Get the index file.
+	///
+	/// @return The index file.
+	File getFile() {
+		return file;
+	}
+
+	/// Get the number of lookups resolved without opening the jar.
+	///
+	/// @return Number of hits.
+	long getHits() {
+		return hits.get();
+	}
+
+	/// Get the number of lookups that have required to open the jar.
+	///
+	/// @return Number of misses.
+	long getMisses() {
+		return misses.get();
+	}
+
+	/// Get the flags of given jar: if the jar is known and did not change since it has been indexed,
+	/// the flags are returned immediately, otherwise the jar is opened and inspected.
+	///
+	/// @param jar The jar file.
+	/// @return The jar flags.
+	/// @throws IOException If the jar cannot be read.
+	int lookup(File jar) throws IOException {
+		String path = jar.getAbsolutePath();
+		long size = jar.length();
+		long lastModified = jar.lastModified();
+
+		Entry entry = entries.get(path);
+		if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+			hits.incrementAndGet();
+			return entry.flags;
+		}
+
+		misses.incrementAndGet();
+
+		log.debug("Indexing jar file: {}", path);
+		int flags = inspect(jar);
+		entries.put(path, new Entry(size, lastModified, flags));
+		dirty.set(true);
+		return flags;
+	}
+
+	/// Store the index on disk, if it has been updated.
+	///
+	/// The index is first written in a temporary file that is then moved to the final destination, so that
+	/// concurrent readers never see a partially written index.
+	void store() {
+		if (!dirty.compareAndSet(true, false)) {
+			log.debug("Jar scan index {} is up to date", file);
+			return;
+		}
+
+		Properties properties = new Properties();
+		for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+			properties.setProperty(entry.getKey(), entry.getValue().serialize());
+		}
+
+		File absoluteFile = file.getAbsoluteFile();
+		File parent = absoluteFile.getParentFile();
+
+		try {
+			if (parent != null) {
+				Files.createDirectories(parent.toPath());
+			}
+
+			Path tmp = Files.createTempFile(parent == null ? null : parent.toPath(), absoluteFile.getName(), ".tmp");
+			try (OutputStream os = Files.newOutputStream(tmp)) {
+				properties.store(os, "junit-servers jar scan index");
+			}
+
+			Files.move(tmp, absoluteFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			log.debug("Jar scan index {} stored with {} entries", file, properties.size());
+		}
+		catch (IOException ex) {
+			log.warn("Cannot store jar scan index {}: {}", file, ex.getMessage());
+			dirty.set(true);
+		}
+	}
+
+	private static int inspect(File jar) throws IOException {
+		int flags = 0;
+
+		try (JarFile jarFile = new JarFile(jar)) {
+			Enumeration<JarEntry> jarEntries = jarFile.entries();
+			while (jarEntries.hasMoreElements()) {
+				String name = jarEntries.nextElement().getName();
+				if (!name.startsWith(META_INF)) {
+					continue;
+				}
+
+				if (name.endsWith(TLD_EXTENSION)) {
+					flags |= TLD;
+				}
+				else if (name.equals(WEB_FRAGMENT_XML)) {
+					flags |= WEB_FRAGMENT;
+				}
+				else if (name.startsWith(RESOURCES_PREFIX)) {
+					flags |= STATIC_RESOURCES;
+				}
+				else if (name.equals(JAVAX_INITIALIZER) || name.equals(JAKARTA_INITIALIZER)) {
+					flags |= INITIALIZER;
+				}
+			}
+
+			Manifest manifest = jarFile.getManifest();
+			if (manifest != null && manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) != null) {
+				flags |= MANIFEST_CLASS_PATH;
+			}
+		}
+
+		return flags;
+	}
+
+	/// An index entry.
+	private static final class Entry {
+		private final long size;
+		private final long lastModified;
+		private final int flags;
+
+		private Entry(long size, long lastModified, int flags) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.flags = flags;
+		}
+
+		private String serialize() {
+			return String.valueOf(size) + SEPARATOR + lastModified + SEPARATOR + flags;
+		}
+
+		private static Entry parse(String value) {
+			String[] parts = value.split(String.valueOf(SEPARATOR));
+			if (parts.length != 3) {
+				return null;
+			}
+
+			try {
+				return new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Integer.parseInt(parts[2]));
+			}
+			catch (NumberFormatException ex) {
+				return null;
+			}
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import org.apache.tomcat.util.net.SSLContext;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.TrustManager;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+
+/// Adapt an initialized JSSE [javax.net.ssl.SSLContext] to the tomcat [SSLContext] API, so that the
+/// context can be set on a tomcat certificate: tomcat then uses it as is, instead of loading a key store.
+final class JsseSslContext implements SSLContext {
+
+	/// The JSSE context.
+	private final javax.net.ssl.SSLContext sslContext;
+
+	/// The server certificate.
+	private final X509Certificate certificate;
+
+	/// Create the adapter.
+	///
+	/// @param sslContext The JSSE context, already initialized.
+	/// @param certificate The server certificate.
+	JsseSslContext(javax.net.ssl.SSLContext sslContext, X509Certificate certificate) {
+		this.sslContext = sslContext;
+		this.certificate = certificate;
+	}
+
+	@Override
+	public void init(KeyManager[] kms, TrustManager[] tms, SecureRandom sr) {
+		// Already initialized.
+	}
+
+	@Override
+	public void destroy() {
+	}
+
+	@Override
+	public SSLSessionContext getServerSessionContext() {
+		return sslContext.getServerSessionContext();
+	}
+
+	@Override
+	public SSLEngine createSSLEngine() {
+		return sslContext.createSSLEngine();
+	}
+
+	@Override
+	public SSLServerSocketFactory getServerSocketFactory() {
+		return sslContext.getServerSocketFactory();
+	}
+
+	@Override
+	public SSLParameters getSupportedSSLParameters() {
+		return sslContext.getSupportedSSLParameters();
+	}
+
+	@Override
+	public X509Certificate[] getCertificateChain(String alias) {
+		return new X509Certificate[]{certificate};
+	}
+
+	@Override
+	public X509Certificate[] getAcceptedIssuers() {
+		return new X509Certificate[0];
+	}
+}
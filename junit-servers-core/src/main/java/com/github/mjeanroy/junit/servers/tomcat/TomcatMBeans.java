@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import com.github.mjeanroy.junit.servers.loggers.Logger;
+import com.github.mjeanroy.junit.servers.loggers.LoggerFactory;
+import com.github.mjeanroy.junit.servers.servers.ProcessorStatistics;
+import com.github.mjeanroy.junit.servers.servers.ResourceCacheStatistics;
+import com.github.mjeanroy.junit.servers.servers.ServerStatistics;
+import org.apache.catalina.webresources.StandardRoot;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.tomcat.util.modeler.Registry;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/// Read tomcat statistics from the MBeans registered by tomcat: these MBeans are the only public
+/// API exposing some of the tomcat internal counters (such as the static resources cache).
+///
+/// Note that MBeans are not registered when the tomcat registry has been disabled: in this case,
+/// statistics are not available.
+final class TomcatMBeans {
+
+	/// Class Logger.
+	private static final Logger log = LoggerFactory.getLogger(TomcatMBeans.class);
+
+	// Ensure non instantiation.
+	private TomcatMBeans() {
+	}
+
+	/// Read the statistics of the static resources cache of given resources root.
+	///
+	/// @param root The resources root.
+	/// @return The cache statistics, `null` if they cannot be read.
+	static ResourceCacheStatistics readResourceCacheStatistics(StandardRoot root) {
+		final ObjectName rootName = root.getObjectName();
+		if (rootName == null) {
+			log.debug("Cannot read resource cache statistics, tomcat resources root is not registered: {}", root);
+			return null;
+		}
+
+		try {
+			// The cache is registered with the key properties of its resources root.
+			final ObjectName cacheName = new ObjectName(rootName + ",name=Cache");
+			final MBeanServer mBeanServer = mBeanServer();
+
+			// Cache sizes are returned in KB.
+			return ResourceCacheStatistics.of(
+				readLong(mBeanServer, cacheName, "hitCount"),
+				readLong(mBeanServer, cacheName, "lookupCount"),
+				readLong(mBeanServer, cacheName, "size") * 1024,
+				readLong(mBeanServer, cacheName, "maxSize") * 1024
+			);
+		}
+		catch (JMException ex) {
+			log.warn("Cannot read tomcat resource cache statistics: {}", ex.getMessage());
+			return null;
+		}
+	}
+
+	/// Read the request statistics of given protocol handler (i.e the `GlobalRequestProcessor` MBean), and
+	/// the statistics of each of its request processors (i.e the `RequestProcessor` MBeans).
+	///
+	/// @param protocol The protocol handler.
+	/// @param builder The statistics builder.
+	static void readRequestStatistics(AbstractProtocol<?> protocol, ServerStatistics.Builder builder) {
+		final ObjectName globalName = protocol.getGlobalRequestProcessorMBeanName();
+		if (globalName == null) {
+			log.debug("Cannot read request statistics, tomcat protocol handler is not registered: {}", protocol);
+			return;
+		}
+
+		final MBeanServer mBeanServer = mBeanServer();
+
+		try {
+			// Processing times are tracked in milliseconds.
+			final long requestCount = readLong(mBeanServer, globalName, "requestCount");
+			final long processingTime = MILLISECONDS.toNanos(readLong(mBeanServer, globalName, "processingTime"));
+			builder.withRequestCount(requestCount)
+				.withErrorCount(readLong(mBeanServer, globalName, "errorCount"))
+				.withBytesReceived(readLong(mBeanServer, globalName, "bytesReceived"))
+				.withBytesSent(readLong(mBeanServer, globalName, "bytesSent"))
+				.withDispatchTimeMean(requestCount == 0 ? 0 : (double) processingTime / requestCount)
+				.withDispatchTimeMax(MILLISECONDS.toNanos(readLong(mBeanServer, globalName, "maxTime")))
+				.withProcessors(readProcessorStatistics(mBeanServer, protocol));
+		}
+		catch (JMException ex) {
+			log.warn("Cannot read tomcat request statistics: {}", ex.getMessage());
+		}
+	}
+
+	/// Reset the request statistics of given protocol handler.
+	///
+	/// @param protocol The protocol handler.
+	static void resetRequestStatistics(AbstractProtocol<?> protocol) {
+		final ObjectName globalName = protocol.getGlobalRequestProcessorMBeanName();
+		if (globalName == null) {
+			log.debug("Cannot reset request statistics, tomcat protocol handler is not registered: {}", protocol);
+			return;
+		}
+
+		try {
+			mBeanServer().invoke(globalName, "resetCounters", null, null);
+		}
+		catch (JMException ex) {
+			log.warn("Cannot reset tomcat request statistics: {}", ex.getMessage());
+		}
+	}
+
+	private static List<ProcessorStatistics> readProcessorStatistics(MBeanServer mBeanServer, AbstractProtocol<?> protocol) throws JMException {
+		// Request processors are registered with the (quoted) name of their protocol handler.
+		final ObjectName query = new ObjectName(protocol.getDomain() + ":type=RequestProcessor,worker=" + protocol.getName() + ",*");
+		final Set<ObjectName> names = new TreeSet<>(mBeanServer.queryNames(query, null));
+
+		final List<ProcessorStatistics> statistics = new ArrayList<>(names.size());
+		for (ObjectName name : names) {
+			try {
+				statistics.add(ProcessorStatistics.of(
+					(String) mBeanServer.getAttribute(name, "workerThreadName"),
+					readLong(mBeanServer, name, "requestCount"),
+					readLong(mBeanServer, name, "errorCount"),
+					MILLISECONDS.toNanos(readLong(mBeanServer, name, "lastRequestProcessingTime")),
+					MILLISECONDS.toNanos(readLong(mBeanServer, name, "maxTime"))
+				));
+			}
+			catch (InstanceNotFoundException ex) {
+				// The processor has been released (and unregistered) in the meantime.
+				log.trace("Tomcat request processor {} has been unregistered", name);
+			}
+		}
+
+		return statistics;
+	}
+
+	private static MBeanServer mBeanServer() {
+		return Registry.getRegistry(null, null).getMBeanServer();
+	}
+
+	private static long readLong(MBeanServer mBeanServer, ObjectName name, String attribute) throws JMException {
+		return ((Number) mBeanServer.getAttribute(name, attribute)).longValue();
+	}
+}
@@ -44,6 +44,7 @@ class HttpClientConfigurationTest {
 		HttpClientConfiguration configuration = HttpClientConfiguration.defaultConfiguration();
 		assertThat(configuration).isNotNull();
 		assertThat(configuration.isFollowRedirect()).isTrue();
+		assertThat(configuration.isHttp2PriorKnowledge()).isFalse();
 		assertThat(configuration.getDefaultCookies()).isNotNull().isEmpty();
 		assertThat(configuration.getDefaultHeaders()).isNotNull().isEmpty();
 	}
@@ -90,6 +91,27 @@ class HttpClientConfigurationTest {
 		assertThat(configuration.isFollowRedirect()).isFalse();
 	}
 
+	@Test
+	void it_should_create_custom_configuration_with_http2_prior_knowledge() {
+		HttpClientConfiguration configuration = new HttpClientConfiguration.Builder()
+			.enableHttp2PriorKnowledge()
+			.build();
+
+		assertThat(configuration).isNotNull();
+		assertThat(configuration.isHttp2PriorKnowledge()).isTrue();
+	}
+
+	@Test
+	void it_should_create_custom_configuration_without_http2_prior_knowledge() {
+		HttpClientConfiguration configuration = new HttpClientConfiguration.Builder()
+			.enableHttp2PriorKnowledge()
+			.disableHttp2PriorKnowledge()
+			.build();
+
+		assertThat(configuration).isNotNull();
+		assertThat(configuration.isHttp2PriorKnowledge()).isFalse();
+	}
+
 	@Test
 	void it_should_create_custom_configuration_with_cookie_name_value() {
 		String jsessionId = UUID.randomUUID().toString();
@@ -191,6 +213,7 @@ class HttpClientConfigurationTest {
 		assertThat(configuration.toString()).isEqualTo(
 			"HttpClientConfiguration{" +
 				"followRedirect: false, " +
+				"http2PriorKnowledge: false, " +
 				"defaultHeaders: {" +
 					"User-Agent: HttpHeader{name: \"User-Agent\", values: [\"" + ua + "\"]}" +
 				"}, " +
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class HttpClientStrategyTest {
 
@@ -64,6 +65,40 @@ class HttpClientStrategyTest {
 		testHttpClient(HttpClientStrategy.OK_HTTP3, OkHttpClient.class);
 	}
 
+	@Test
+	void it_should_create_ok_http_client_with_http2_prior_knowledge() {
+		HttpClientConfiguration configuration = new HttpClientConfiguration.Builder()
+			.enableHttp2PriorKnowledge()
+			.build();
+
+		HttpClient client = HttpClientStrategy.OK_HTTP3.build(configuration, server);
+
+		assertThat(client).isExactlyInstanceOf(OkHttpClient.class);
+		assertThat(client.getConfiguration()).isSameAs(configuration);
+	}
+
+	@Test
+	void it_should_select_ok_http_client_with_http2_prior_knowledge() {
+		HttpClientConfiguration configuration = new HttpClientConfiguration.Builder()
+			.enableHttp2PriorKnowledge()
+			.build();
+
+		HttpClient client = HttpClientStrategy.AUTO.build(configuration, server);
+
+		assertThat(client).isExactlyInstanceOf(OkHttpClient.class);
+	}
+
+	@Test
+	void it_should_fail_to_create_apache_http_client_with_http2_prior_knowledge() {
+		HttpClientConfiguration configuration = new HttpClientConfiguration.Builder()
+			.enableHttp2PriorKnowledge()
+			.build();
+
+		assertThatThrownBy(() -> HttpClientStrategy.APACHE_HTTP_CLIENT.build(configuration, server))
+			.isExactlyInstanceOf(UnsupportedOperationException.class)
+			.hasMessage("HTTP Client cannot be created because HTTP/2 prior knowledge mode is not supported by Apache HttpComponent");
+	}
+
 	private void testHttpClient(HttpClientStrategy strategy, Class<?> expectedImpl) {
 		assertThat(strategy.support()).isTrue();
 
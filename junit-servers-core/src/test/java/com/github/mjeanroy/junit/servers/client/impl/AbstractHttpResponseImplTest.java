@@ -80,6 +80,18 @@ public abstract class AbstractHttpResponseImplTest<T extends AbstractHttpRespons
 		assertThat(response.body()).isEqualTo(body);
 	}
 
+	@Test
+	void it_should_get_response_body_sizes() {
+		long duration = 1000L;
+		String body = "Hello World";
+		U delegate = getBuilder().withBody(body).build();
+
+		V response = createHttpResponse(delegate, duration);
+
+		assertThat(response.getDecodedBodySize()).isEqualTo(11);
+		assertThat(response.getEncodedBodySize()).isEqualTo(-1);
+	}
+
 	@Test
 	void it_should_get_all_headers() {
 		HttpHeader h1 = HttpHeader.header("Content-Type", "text/html; charset=utf-8");
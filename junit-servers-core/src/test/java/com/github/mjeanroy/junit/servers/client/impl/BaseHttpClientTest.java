@@ -26,13 +26,16 @@ package com.github.mjeanroy.junit.servers.client.impl;
 
 import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.client.HttpHeader;
 import com.github.mjeanroy.junit.servers.client.HttpMethod;
 import com.github.mjeanroy.junit.servers.client.HttpRequest;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.TraceContext;
 import com.github.mjeanroy.junit.servers.utils.builders.EmbeddedServerMockBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static com.github.mjeanroy.junit.servers.testing.HttpTestUtils.localhost;
@@ -221,6 +224,65 @@ public abstract class BaseHttpClientTest {
 		});
 	}
 
+	@Test
+	void it_should_create_request_with_traceparent_of_running_test() {
+		server = new EmbeddedServerMockBuilder().withTracing(true).build();
+		TraceContext trace = TraceContext.start("FooTest#test1");
+
+		try {
+			useHttpClient((client) -> {
+				HttpRequest httpRequest = client.prepareGet("/foo");
+				Map<String, HttpHeader> headers = readPrivate(httpRequest, "headers");
+				assertThat(headers.get(TraceContext.TRACEPARENT).getFirstValue()).matches("00-" + trace.getTraceId() + "-[0-9a-f]{16}-01");
+			});
+		}
+		finally {
+			TraceContext.end();
+		}
+	}
+
+	@Test
+	void it_should_create_request_without_traceparent_if_server_tracing_is_disabled() {
+		TraceContext.start("FooTest#test1");
+
+		try {
+			useHttpClient((client) -> {
+				HttpRequest httpRequest = client.prepareGet("/foo");
+				Map<String, HttpHeader> headers = readPrivate(httpRequest, "headers");
+				assertThat(headers).doesNotContainKey(TraceContext.TRACEPARENT);
+			});
+		}
+		finally {
+			TraceContext.end();
+		}
+	}
+
+	@Test
+	void it_should_create_request_to_another_host_without_traceparent() {
+		server = new EmbeddedServerMockBuilder().withTracing(true).build();
+		TraceContext.start("FooTest#test1");
+
+		try {
+			useHttpClient((client) -> {
+				HttpRequest httpRequest = client.prepareGet("http://www.google.com/foo");
+				Map<String, HttpHeader> headers = readPrivate(httpRequest, "headers");
+				assertThat(headers).doesNotContainKey(TraceContext.TRACEPARENT);
+			});
+		}
+		finally {
+			TraceContext.end();
+		}
+	}
+
+	@Test
+	void it_should_create_request_without_traceparent_outside_of_test() {
+		useHttpClient((client) -> {
+			HttpRequest httpRequest = client.prepareGet("/foo");
+			Map<String, HttpHeader> headers = readPrivate(httpRequest, "headers");
+			assertThat(headers).doesNotContainKey(TraceContext.TRACEPARENT);
+		});
+	}
+
 	private void useHttpClient(Consumer<HttpClient> testFn) {
 		try (HttpClient client = createDefaultClient(server)) {
 			testFn.accept(client);
@@ -98,7 +98,8 @@ class DefaultHttpResponseTest {
 				"body: \"The response body\", " +
 				"headers: {" +
 					"content-type: HttpHeader{name: \"Content-Type\", values: [\"text/plain\"]}" +
-				"}" +
+				"}, " +
+				"encodedBodySize: -1" +
 			"}"
 		);
 	}
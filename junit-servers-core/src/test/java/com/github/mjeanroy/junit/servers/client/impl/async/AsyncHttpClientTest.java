@@ -71,6 +71,7 @@ class AsyncHttpClientTest extends BaseHttpClientTest {
 			"AsyncHttpClient{" +
 				"configuration: HttpClientConfiguration{" +
 					"followRedirect: true, " +
+					"http2PriorKnowledge: false, " +
 					"defaultHeaders: {}, " +
 					"defaultCookies: []" +
 				"}, " +
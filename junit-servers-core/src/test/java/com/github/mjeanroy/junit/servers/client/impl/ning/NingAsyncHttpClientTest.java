@@ -73,6 +73,7 @@ class NingAsyncHttpClientTest extends BaseHttpClientTest {
 			"NingAsyncHttpClient{" +
 				"configuration: HttpClientConfiguration{" +
 					"followRedirect: true, " +
+					"http2PriorKnowledge: false, " +
 					"defaultHeaders: {}, " +
 					"defaultCookies: []" +
 				"}, " +
@@ -70,6 +70,7 @@ class OkHttpClientTest extends BaseHttpClientTest {
 			"OkHttpClient{" +
 				"configuration: HttpClientConfiguration{" +
 					"followRedirect: true, " +
+					"http2PriorKnowledge: false, " +
 					"defaultHeaders: {}, " +
 					"defaultCookies: []" +
 				"}, " +
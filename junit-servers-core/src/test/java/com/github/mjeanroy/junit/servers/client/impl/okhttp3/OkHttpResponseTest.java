@@ -48,7 +48,8 @@ class OkHttpResponseTest extends AbstractHttpResponseImplTest<OkHttpResponseBuil
 				delegate.code(),
 				readResponseBody(delegate),
 				delegate.headers(),
-				duration
+				duration,
+				-1
 		);
 	}
 
@@ -60,7 +61,8 @@ class OkHttpResponseTest extends AbstractHttpResponseImplTest<OkHttpResponseBuil
 				delegate.code(),
 				readResponseBody(delegate),
 				delegate.headers(),
-				duration
+				duration,
+				-1
 		);
 
 		assertThat(response.toString()).isEqualTo(
@@ -68,7 +70,8 @@ class OkHttpResponseTest extends AbstractHttpResponseImplTest<OkHttpResponseBuil
 				"duration: 1000, " +
 				"code: 200, " +
 				"body: \"\", " +
-				"headers: []" +
+				"headers: [], " +
+				"encodedBodySize: -1" +
 			"}"
 		);
 	}
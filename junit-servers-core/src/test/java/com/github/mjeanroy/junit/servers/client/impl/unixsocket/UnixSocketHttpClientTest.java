@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.client.impl.unixsocket;
+
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.HttpClientConfiguration;
+import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.utils.builders.EmbeddedServerMockBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+
+import static com.github.mjeanroy.junit.servers.client.impl.unixsocket.UnixSocketHttpClient.defaultUnixSocketHttpClient;
+import static com.github.mjeanroy.junit.servers.client.impl.unixsocket.UnixSocketHttpClient.newUnixSocketHttpClient;
+import static com.github.mjeanroy.junit.servers.testing.ReflectionTestUtils.readPrivate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UnixSocketHttpClientTest {
+
+	@Test
+	void it_should_create_default_client() {
+		EmbeddedServer<?> server = new EmbeddedServerMockBuilder().withSocketPath("/tmp/jetty.sock").build();
+		HttpClient client = defaultUnixSocketHttpClient(server);
+
+		assertThat(client.getConfiguration()).isEqualTo(HttpClientConfiguration.defaultConfiguration());
+		assertThat((Object) readPrivate(client, "socketPath")).isEqualTo(Paths.get("/tmp/jetty.sock"));
+		assertThat(client.isDestroyed()).isFalse();
+	}
+
+	@Test
+	void it_should_create_custom_client() {
+		EmbeddedServer<?> server = new EmbeddedServerMockBuilder().withSocketPath("/tmp/jetty.sock").build();
+		HttpClientConfiguration configuration = new HttpClientConfiguration.Builder().disableFollowRedirect().build();
+		HttpClient client = newUnixSocketHttpClient(configuration, server);
+
+		assertThat(client.getConfiguration()).isSameAs(configuration);
+	}
+
+	@Test
+	void it_should_fail_if_server_does_not_listen_on_unix_socket() {
+		EmbeddedServer<?> server = new EmbeddedServerMockBuilder().build();
+
+		assertThatThrownBy(() -> defaultUnixSocketHttpClient(server))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Embedded server MockEmbeddedServer does not listen on a unix domain socket");
+	}
+
+	@Test
+	void it_should_destroy_client() {
+		EmbeddedServer<?> server = new EmbeddedServerMockBuilder().withSocketPath("/tmp/jetty.sock").build();
+		HttpClient client = defaultUnixSocketHttpClient(server);
+
+		client.destroy();
+
+		assertThat(client.isDestroyed()).isTrue();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		EmbeddedServer<?> server = new EmbeddedServerMockBuilder().withSocketPath("/tmp/jetty.sock").build();
+		HttpClient client = defaultUnixSocketHttpClient(server);
+
+		assertThat(client).hasToString(
+			"UnixSocketHttpClient{" +
+				"configuration: HttpClientConfiguration{" +
+					"followRedirect: true, " +
+					"http2PriorKnowledge: false, " +
+					"defaultHeaders: {}, " +
+					"defaultCookies: []" +
+				"}, " +
+				"server: MockEmbeddedServer, " +
+				"socketPath: /tmp/jetty.sock, " +
+				"destroyed: false" +
+			"}"
+		);
+	}
+}
@@ -24,13 +24,23 @@
 
 package com.github.mjeanroy.junit.servers.jetty;
 
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import com.github.mjeanroy.junit.servers.servers.ContextDefinition;
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.NetworkConditions;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
+import org.eclipse.jetty.server.Handler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.util.EventListener;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
 
 class EmbeddedJettyConfigurationBuilderTest {
 
@@ -46,6 +56,17 @@ class EmbeddedJettyConfigurationBuilderTest {
 		assertThat(builder.getPath()).isEqualTo("/");
 		assertThat(builder.getPort()).isZero();
 		assertThat(builder.getClasspath()).isEqualTo(".");
+		assertThat(builder.isHttp2()).isFalse();
+		assertThat(builder.getUnixSocketPath()).isNull();
+		assertThat(builder.isLightweight()).isFalse();
+		assertThat(builder.getServlets()).isEmpty();
+		assertThat(builder.getFilters()).isEmpty();
+		assertThat(builder.getListeners()).isEmpty();
+		assertThat(builder.getHandler()).isNull();
+		assertThat(builder.isFileMappedBuffer()).isFalse();
+		assertThat(builder.getMaxCacheSize()).isNull();
+		assertThat(builder.getMaxCachedFileSize()).isNull();
+		assertThat(builder.getMaxCachedFiles()).isNull();
 	}
 
 	@Test
@@ -137,4 +158,401 @@ class EmbeddedJettyConfigurationBuilderTest {
 		assertThat(result).isSameAs(builder);
 		assertThat(result.isDirAllowed()).isFalse();
 	}
+
+	@Test
+	void it_should_enable_http2() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableHttp2();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isHttp2()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_http2() {
+		EmbeddedJettyConfiguration.Builder result = builder.disableHttp2();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isHttp2()).isFalse();
+	}
+
+	@Test
+	void it_should_change_unix_socket_path() {
+		EmbeddedJettyConfiguration.Builder result = builder.withUnixSocketPath("/tmp/jetty.sock");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getUnixSocketPath()).isEqualTo("/tmp/jetty.sock");
+	}
+
+	@Test
+	void it_should_change_unix_socket_path_with_file(@TempDir File dir) {
+		File socket = new File(dir, "jetty.sock");
+		EmbeddedJettyConfiguration.Builder result = builder.withUnixSocketPath(socket);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getUnixSocketPath()).isEqualTo(socket.getAbsolutePath());
+	}
+
+	@Test
+	void it_should_enable_lightweight() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableLightweight();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isLightweight()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_lightweight() {
+		EmbeddedJettyConfiguration.Builder result = builder.disableLightweight();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isLightweight()).isFalse();
+	}
+
+	@Test
+	void it_should_add_servlet() {
+		ServletDefinition servlet = ServletDefinition.servlet(Object.class, "/foo");
+		EmbeddedJettyConfiguration.Builder result = builder.withServlet(servlet).withServlet(Object.class, "/bar", "/baz");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getServlets()).containsExactly(
+			servlet,
+			ServletDefinition.servlet(Object.class, "/bar", "/baz")
+		);
+	}
+
+	@Test
+	void it_should_add_filter() {
+		FilterDefinition filter = FilterDefinition.filter(Object.class, "/*");
+		EmbeddedJettyConfiguration.Builder result = builder.withFilter(filter).withFilter(Object.class, "/foo", "/bar");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getFilters()).containsExactly(
+			filter,
+			FilterDefinition.filter(Object.class, "/foo", "/bar")
+		);
+	}
+
+	@Test
+	void it_should_add_context() {
+		ContextDefinition context = ContextDefinition.builder("/foo", "/path/to/foo").withClasspath("/path/to/classes").build();
+		EmbeddedJettyConfiguration.Builder result = builder.withContext(context).withContext("/bar", "/path/to/bar");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getContexts()).containsExactly(
+			context,
+			ContextDefinition.context("/bar", "/path/to/bar")
+		);
+	}
+
+	@Test
+	void it_should_enable_jsp_precompile() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableJspPrecompile();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isJspPrecompile()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_jsp_precompile() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableJspPrecompile().disableJspPrecompile();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isJspPrecompile()).isFalse();
+	}
+
+	@Test
+	void it_should_set_jsp_cache_directory() {
+		EmbeddedJettyConfiguration.Builder result = builder.withJspCacheDirectory("/tmp/jsp");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJspCacheDirectory()).isEqualTo("/tmp/jsp");
+	}
+
+	@Test
+	void it_should_set_work_directory() {
+		WorkDirectory workDirectory = WorkDirectory.builder().inMemory().enableReuse().build();
+		EmbeddedJettyConfiguration.Builder result = builder.withWorkDirectory(workDirectory);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getWorkDirectory()).isSameAs(workDirectory);
+	}
+
+	@Test
+	void it_should_enable_in_memory_sessions() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableInMemorySessions();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isInMemorySessions()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_in_memory_sessions() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableInMemorySessions().disableInMemorySessions();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isInMemorySessions()).isFalse();
+	}
+
+	@Test
+	void it_should_set_session_scavenge_interval() {
+		EmbeddedJettyConfiguration.Builder result = builder.withSessionScavengeInterval(5);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getSessionScavengeInterval()).isEqualTo(5);
+	}
+
+	@Test
+	void it_should_fail_with_negative_session_scavenge_interval() {
+		assertThatThrownBy(() -> builder.withSessionScavengeInterval(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("sessionScavengeInterval must be positive");
+	}
+
+	@Test
+	void it_should_enable_session_statistics() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableSessionStatistics();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isSessionStatistics()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_session_statistics() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableSessionStatistics().disableSessionStatistics();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isSessionStatistics()).isFalse();
+	}
+
+	@Test
+	void it_should_disable_war_extraction() {
+		EmbeddedJettyConfiguration.Builder result = builder.disableWarExtraction();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isWarExtraction()).isFalse();
+	}
+
+	@Test
+	void it_should_enable_war_extraction() {
+		EmbeddedJettyConfiguration.Builder result = builder.disableWarExtraction().enableWarExtraction();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isWarExtraction()).isTrue();
+	}
+
+	@Test
+	void it_should_set_war_cache_directory() {
+		EmbeddedJettyConfiguration.Builder result = builder.withWarCacheDirectory("/tmp/war");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getWarCacheDirectory()).isEqualTo("/tmp/war");
+	}
+
+	@Test
+	void it_should_set_war_cache_directory_from_file() {
+		File directory = new File("/tmp/war");
+		EmbeddedJettyConfiguration.Builder result = builder.withWarCacheDirectory(directory);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getWarCacheDirectory()).isEqualTo(directory.getAbsolutePath());
+	}
+
+	@Test
+	void it_should_set_classpath_webapp() {
+		EmbeddedJettyConfiguration.Builder result = builder.withClasspathWebapp("webapp");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getClasspathWebapp()).isEqualTo("webapp");
+	}
+
+	@Test
+	void it_should_enable_https() {
+		EmbeddedJettyConfiguration.Builder result = builder.withSslSessionCacheSize(100).withSslSessionTimeout(60).enableHandshakeStatistics().enableHttps();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isHttps()).isTrue();
+		assertThat(result.getSslSessionCacheSize()).isEqualTo(100);
+		assertThat(result.getSslSessionTimeout()).isEqualTo(60);
+		assertThat(result.isHandshakeStatistics()).isTrue();
+	}
+
+	@Test
+	void it_should_set_access_log_capacity() {
+		EmbeddedJettyConfiguration.Builder result = builder.withAccessLogCapacity(100);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getAccessLogCapacity()).isEqualTo(100);
+	}
+
+	@Test
+	void it_should_fail_with_negative_access_log_capacity() {
+		assertThatThrownBy(() -> builder.withAccessLogCapacity(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("accessLogCapacity must be positive");
+	}
+
+	@Test
+	void it_should_enable_tracing() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableTracing();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isTracing()).isTrue();
+	}
+
+	@Test
+	void it_should_set_connection_settings() {
+		EmbeddedJettyConfiguration.Builder result = builder
+			.withMaxConnections(100)
+			.withAcceptQueueSize(50)
+			.withIdleTimeout(30000)
+			.withMaxKeepAliveRequests(10);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getMaxConnections()).isEqualTo(100);
+		assertThat(result.getAcceptQueueSize()).isEqualTo(50);
+		assertThat(result.getIdleTimeout()).isEqualTo(30000);
+		assertThat(result.getMaxKeepAliveRequests()).isEqualTo(10);
+	}
+
+	@Test
+	void it_should_fail_with_negative_max_connections() {
+		assertThatThrownBy(() -> builder.withMaxConnections(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("maxConnections must be positive");
+	}
+
+	@Test
+	void it_should_fail_with_negative_idle_timeout() {
+		assertThatThrownBy(() -> builder.withIdleTimeout(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("idleTimeout must be positive");
+	}
+
+	@Test
+	void it_should_set_network_conditions() {
+		NetworkConditions networkConditions = NetworkConditions.builder().withLatency(50).build();
+		EmbeddedJettyConfiguration.Builder result = builder.withNetworkConditions(networkConditions);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getNetworkConditions()).isSameAs(networkConditions);
+	}
+
+	@Test
+	void it_should_set_jsp_cache_directory_from_file() {
+		File directory = new File("/tmp/jsp");
+		EmbeddedJettyConfiguration.Builder result = builder.withJspCacheDirectory(directory);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJspCacheDirectory()).isEqualTo(directory.getAbsolutePath());
+	}
+
+	@Test
+	void it_should_add_listener() {
+		EmbeddedJettyConfiguration.Builder result = builder.withListener(EventListener.class);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getListeners()).containsExactly(EventListener.class);
+	}
+
+	@Test
+	void it_should_set_handler() {
+		Handler handler = mock(Handler.class);
+		EmbeddedJettyConfiguration.Builder result = builder.withHandler(handler);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getHandler()).isSameAs(handler);
+	}
+
+	@Test
+	void it_should_enable_file_mapped_buffer() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableFileMappedBuffer();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isFileMappedBuffer()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_file_mapped_buffer() {
+		EmbeddedJettyConfiguration.Builder result = builder.disableFileMappedBuffer();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isFileMappedBuffer()).isFalse();
+	}
+
+	@Test
+	void it_should_set_content_cache_sizes() {
+		EmbeddedJettyConfiguration.Builder result = builder
+			.withMaxCacheSize(1024)
+			.withMaxCachedFileSize(512)
+			.withMaxCachedFiles(10);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getMaxCacheSize()).isEqualTo(1024);
+		assertThat(result.getMaxCachedFileSize()).isEqualTo(512);
+		assertThat(result.getMaxCachedFiles()).isEqualTo(10);
+	}
+
+	@Test
+	void it_should_fail_with_negative_cache_size() {
+		assertThatThrownBy(() -> builder.withMaxCacheSize(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("maxCacheSize must be positive");
+	}
+
+	@Test
+	void it_should_enable_compression() {
+		Compression compression = Compression.builder().withMinSize(1024).withMimeType("application/json").build();
+		EmbeddedJettyConfiguration.Builder result = builder.withCompression(compression);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getCompression()).isEqualTo(compression);
+	}
+
+	@Test
+	void it_should_enable_default_compression() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableCompression();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getCompression()).isEqualTo(Compression.defaultCompression());
+	}
+
+	@Test
+	void it_should_disable_compression() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableCompression().disableCompression();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getCompression()).isNull();
+	}
+
+	@Test
+	void it_should_enable_statistics() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableStatistics();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isStatistics()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_statistics() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableStatistics().disableStatistics();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isStatistics()).isFalse();
+	}
+
+	@Test
+	void it_should_enable_request_latency() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableRequestLatency();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isRequestLatency()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_request_latency() {
+		EmbeddedJettyConfiguration.Builder result = builder.enableRequestLatency().disableRequestLatency();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isRequestLatency()).isFalse();
+	}
 }
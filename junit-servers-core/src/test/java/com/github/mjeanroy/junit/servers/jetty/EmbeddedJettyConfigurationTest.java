@@ -24,17 +24,23 @@
 
 package com.github.mjeanroy.junit.servers.jetty;
 
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
+import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.util.resource.Resource;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.EventListener;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
 class EmbeddedJettyConfigurationTest {
@@ -50,6 +56,30 @@ class EmbeddedJettyConfigurationTest {
 			String.join(File.separator, asList("src", "main", "webapp"))
 		);
 		assertThat(result.isDirAllowed()).isTrue();
+		assertThat(result.isHttp2()).isFalse();
+		assertThat(result.getUnixSocketPath()).isNull();
+		assertThat(result.isLightweight()).isFalse();
+		assertThat(result.getServlets()).isEmpty();
+		assertThat(result.getFilters()).isEmpty();
+		assertThat(result.getListeners()).isEmpty();
+		assertThat(result.getHandler()).isNull();
+		assertThat(result.isFileMappedBuffer()).isFalse();
+		assertThat(result.getMaxCacheSize()).isNull();
+		assertThat(result.getMaxCachedFileSize()).isNull();
+		assertThat(result.getMaxCachedFiles()).isNull();
+		assertThat(result.isJspPrecompile()).isFalse();
+		assertThat(result.getJspCacheDirectory()).isNull();
+		assertThat(result.getWorkDirectory()).isNull();
+		assertThat(result.isInMemorySessions()).isFalse();
+		assertThat(result.getSessionScavengeInterval()).isNull();
+		assertThat(result.isSessionStatistics()).isFalse();
+		assertThat(result.isWarExtraction()).isTrue();
+		assertThat(result.getWarCacheDirectory()).isNull();
+		assertThat(result.getClasspathWebapp()).isNull();
+		assertThat(result.isHttps()).isFalse();
+		assertThat(result.getSslSessionCacheSize()).isNull();
+		assertThat(result.getSslSessionTimeout()).isNull();
+		assertThat(result.isHandshakeStatistics()).isFalse();
 	}
 
 	@Test
@@ -60,9 +90,12 @@ class EmbeddedJettyConfigurationTest {
 		String classpath = "/target/classes";
 		int stopTimeout = 50;
 		Resource resource = mock(Resource.class);
+		Handler handler = mock(Handler.class);
 		String containerJarPattern = ".*\\.jar";
 		String webInfJarPattern = ".*";
 		boolean dirAllowed = false;
+		ServletDefinition servlet = ServletDefinition.servlet(Object.class, "/foo");
+		FilterDefinition filter = FilterDefinition.filter(Object.class, "/*");
 
 		EmbeddedJettyConfiguration result = EmbeddedJettyConfiguration.builder()
 			.withPort(port)
@@ -75,6 +108,29 @@ class EmbeddedJettyConfigurationTest {
 			.withContainerJarPattern(containerJarPattern)
 			.withWebInfJarPattern(webInfJarPattern)
 			.withDirAllowed(dirAllowed)
+			.enableHttp2()
+			.enableLightweight()
+			.withServlet(servlet)
+			.withFilter(filter)
+			.withListener(EventListener.class)
+			.withHandler(handler)
+			.enableFileMappedBuffer()
+			.withMaxCacheSize(1024)
+			.withMaxCachedFileSize(512)
+			.withMaxCachedFiles(10)
+			.enableJspPrecompile()
+			.withJspCacheDirectory("/tmp/jsp")
+			.withWorkDirectory(WorkDirectory.inMemory())
+			.enableInMemorySessions()
+			.withSessionScavengeInterval(5)
+			.enableSessionStatistics()
+			.disableWarExtraction()
+			.withWarCacheDirectory("/tmp/war")
+			.withClasspathWebapp("webapp")
+			.enableHttps()
+			.withSslSessionCacheSize(100)
+			.withSslSessionTimeout(60)
+			.enableHandshakeStatistics()
 			.build();
 
 		assertThat(result.getPort()).isEqualTo(port);
@@ -87,6 +143,39 @@ class EmbeddedJettyConfigurationTest {
 		assertThat(result.getContainerJarPattern()).isEqualTo(containerJarPattern);
 		assertThat(result.getWebInfJarPattern()).isEqualTo(webInfJarPattern);
 		assertThat(result.isDirAllowed()).isEqualTo(dirAllowed);
+		assertThat(result.isHttp2()).isTrue();
+		assertThat(result.getUnixSocketPath()).isNull();
+		assertThat(result.isLightweight()).isTrue();
+		assertThat(result.getServlets()).containsExactly(servlet);
+		assertThat(result.getFilters()).containsExactly(filter);
+		assertThat(result.getListeners()).containsExactly(EventListener.class);
+		assertThat(result.getHandler()).isSameAs(handler);
+		assertThat(result.isFileMappedBuffer()).isTrue();
+		assertThat(result.getMaxCacheSize()).isEqualTo(1024);
+		assertThat(result.getMaxCachedFileSize()).isEqualTo(512);
+		assertThat(result.getMaxCachedFiles()).isEqualTo(10);
+		assertThat(result.isJspPrecompile()).isTrue();
+		assertThat(result.getJspCacheDirectory()).isEqualTo("/tmp/jsp");
+		assertThat(result.getWorkDirectory()).isEqualTo(WorkDirectory.inMemory());
+		assertThat(result.isInMemorySessions()).isTrue();
+		assertThat(result.getSessionScavengeInterval()).isEqualTo(5);
+		assertThat(result.isSessionStatistics()).isTrue();
+		assertThat(result.isWarExtraction()).isFalse();
+		assertThat(result.getWarCacheDirectory()).isEqualTo("/tmp/war");
+		assertThat(result.getClasspathWebapp()).isEqualTo("webapp");
+		assertThat(result.isHttps()).isTrue();
+		assertThat(result.getSslSessionCacheSize()).isEqualTo(100);
+		assertThat(result.getSslSessionTimeout()).isEqualTo(60);
+		assertThat(result.isHandshakeStatistics()).isTrue();
+	}
+
+	@Test
+	void it_should_reject_unix_socket_path_before_jetty_12() {
+		EmbeddedJettyConfiguration.Builder builder = EmbeddedJettyConfiguration.builder().withUnixSocketPath("/tmp/jetty.sock");
+
+		assertThatThrownBy(builder::build)
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Unix domain socket requires jetty >= 12, cannot listen on: /tmp/jetty.sock");
 	}
 
 	@Test
@@ -117,7 +206,42 @@ class EmbeddedJettyConfigurationTest {
 				"containerJarPattern: null, " +
 				"webInfJarPattern: null, " +
 				"dirAllowed: true, " +
-				"tempDirectory: \"" + new File("jsp").getAbsolutePath() + "\"" +
+				"tempDirectory: \"" + new File("jsp").getAbsolutePath() + "\", " +
+				"http2: false, " +
+				"unixSocketPath: null, " +
+				"lightweight: false, " +
+				"servlets: [], " +
+				"filters: [], " +
+				"listeners: [], " +
+				"handler: null, " +
+				"fileMappedBuffer: false, " +
+				"maxCacheSize: null, " +
+				"maxCachedFileSize: null, " +
+				"maxCachedFiles: null, " +
+				"compression: null, " +
+				"statistics: false, " +
+				"requestLatency: false, " +
+				"contexts: [], " +
+				"jspPrecompile: false, " +
+				"jspCacheDirectory: null, " +
+				"workDirectory: null, " +
+				"inMemorySessions: false, " +
+				"sessionScavengeInterval: null, " +
+				"sessionStatistics: false, " +
+				"warExtraction: true, " +
+				"warCacheDirectory: null, " +
+				"classpathWebapp: null, " +
+				"https: false, " +
+				"sslSessionCacheSize: null, " +
+				"sslSessionTimeout: null, " +
+				"handshakeStatistics: false, " +
+				"accessLogCapacity: null, " +
+				"tracing: false, " +
+				"maxConnections: null, " +
+				"acceptQueueSize: null, " +
+				"idleTimeout: null, " +
+				"maxKeepAliveRequests: null, " +
+				"networkConditions: null" +
 			"}"
 		);
 	}
@@ -26,12 +26,16 @@ package com.github.mjeanroy.junit.servers.junit4;
 
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.TraceContext;
 import com.github.mjeanroy.junit.servers.utils.builders.AbstractConfigurationMockBuilder;
 import com.github.mjeanroy.junit.servers.utils.builders.EmbeddedServerMockBuilder;
 import com.github.mjeanroy.junit.servers.utils.fixtures.FixtureClass;
 import org.junit.jupiter.api.Test;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 class AnnotationsHandlerRuleTest {
 
@@ -46,6 +50,37 @@ class AnnotationsHandlerRuleTest {
 		verifyAfterTest(configuration, embeddedServer, target, rule);
 	}
 
+	@Test
+	void it_should_start_trace_of_test() {
+		AbstractConfiguration configuration = new AbstractConfigurationMockBuilder().build();
+		EmbeddedServer<?> embeddedServer = new EmbeddedServerMockBuilder().withTracing(true).build();
+		FixtureClass target = new FixtureClass();
+		AnnotationsHandlerRule rule = new AnnotationsHandlerRule(target, embeddedServer, configuration);
+		rule.apply(mock(Statement.class), Description.createTestDescription(FixtureClass.class, "test1"));
+
+		rule.before();
+		assertThat(TraceContext.current()).isNotNull();
+		assertThat(TraceContext.current().getTestName()).isEqualTo(FixtureClass.class.getName() + "#test1");
+
+		rule.after();
+		assertThat(TraceContext.current()).isNull();
+	}
+
+	@Test
+	void it_should_not_start_trace_of_test_without_tracing() {
+		AbstractConfiguration configuration = new AbstractConfigurationMockBuilder().build();
+		EmbeddedServer<?> embeddedServer = new EmbeddedServerMockBuilder().build();
+		FixtureClass target = new FixtureClass();
+		AnnotationsHandlerRule rule = new AnnotationsHandlerRule(target, embeddedServer, configuration);
+		rule.apply(mock(Statement.class), Description.createTestDescription(FixtureClass.class, "test1"));
+
+		rule.before();
+		assertThat(TraceContext.current()).isNull();
+
+		rule.after();
+		assertThat(TraceContext.current()).isNull();
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		AbstractConfiguration configuration = new AbstractConfigurationMockBuilder().build();
@@ -31,6 +31,7 @@ import com.github.mjeanroy.junit.servers.client.HttpClient;
 import com.github.mjeanroy.junit.servers.client.impl.ning.NingAsyncHttpClient;
 import com.github.mjeanroy.junit.servers.servers.AbstractConfiguration;
 import com.github.mjeanroy.junit.servers.servers.EmbeddedServer;
+import com.github.mjeanroy.junit.servers.servers.TraceContext;
 import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServer;
 import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServerConfiguration;
 import org.assertj.core.api.Condition;
@@ -148,6 +149,22 @@ class JunitServerExtensionTest {
 		);
 	}
 
+	@Test
+	void it_should_start_trace_before_each_test() {
+		runTests(
+			ItShouldStartTraceBeforeEachTest.class
+		);
+
+		assertThat(TraceContext.current()).isNull();
+	}
+
+	@Test
+	void it_should_not_start_trace_without_tracing() {
+		runTests(
+			ItShouldNotStartTraceWithoutTracing.class
+		);
+	}
+
 	@Test
 	void it_should_resolve_parameters() {
 		runTests(
@@ -309,6 +326,33 @@ class JunitServerExtensionTest {
 		}
 	}
 
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class ItShouldStartTraceBeforeEachTest {
+		@RegisterExtension
+		static JunitServerExtension extension = new JunitServerExtension(new FakeEmbeddedServer() {
+			@Override
+			public boolean isTracing() {
+				return true;
+			}
+		});
+
+		@Test
+		void test1() {
+			TraceContext trace = TraceContext.current();
+			assertThat(trace).isNotNull();
+			assertThat(trace.getTestName()).isEqualTo(ItShouldStartTraceBeforeEachTest.class.getName() + "#test1");
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@ExtendWith(JunitServerExtension.class)
+	static class ItShouldNotStartTraceWithoutTracing {
+		@Test
+		void test1() {
+			assertThat(TraceContext.current()).isNull();
+		}
+	}
+
 	@SuppressWarnings({"JUnitMalformedDeclaration", "NewClassNamingConvention"})
 	@ExtendWith(JunitServerExtension.class)
 	static class ItShouldSupportResolutionOfParameters {
@@ -24,21 +24,27 @@
 
 package com.github.mjeanroy.junit.servers.servers;
 
+import com.github.mjeanroy.junit.servers.exceptions.ServerStartException;
 import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServer;
 import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServerConfiguration;
 import com.github.mjeanroy.junit.servers.utils.impl.FakeEmbeddedServerConfigurationBuilder;
 import com.github.mjeanroy.junit.servers.utils.impl.FakeServer;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.stubbing.Answer;
 
+import java.net.URL;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import static com.github.mjeanroy.junit.servers.servers.FakeWorker.startWorker;
 import static com.github.mjeanroy.junit.servers.servers.FakeWorker.stopWorker;
 import static com.github.mjeanroy.junit.servers.testing.HttpTestUtils.localhost;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -160,6 +166,32 @@ class AbstractEmbeddedServerTest {
 		assertThat(server.getNbStop()).isOne();
 	}
 
+	@Test
+	void it_should_redeploy_server() {
+		server.start();
+
+		assertThat(server.isStarted()).isTrue();
+		assertThat(server.getNbStart()).isOne();
+		assertThat(server.getNbStop()).isZero();
+
+		server.redeploy();
+
+		assertThat(server.isStarted()).isTrue();
+		assertThat(server.getNbStart()).isEqualTo(2);
+		assertThat(server.getNbStop()).isOne();
+	}
+
+	@Test
+	void it_should_start_server_on_redeploy_if_not_started() {
+		assertThat(server.isStarted()).isFalse();
+
+		server.redeploy();
+
+		assertThat(server.isStarted()).isTrue();
+		assertThat(server.getNbStart()).isOne();
+		assertThat(server.getNbStop()).isZero();
+	}
+
 	@Test
 	void it_should_block_until_server_is_started() throws Exception {
 		assertThat(server.isStarted()).isFalse();
@@ -263,6 +295,26 @@ class AbstractEmbeddedServerTest {
 		System.clearProperty(name2);
 	}
 
+	@Test
+	void it_should_stop_server_if_network_proxy_cannot_be_started() {
+		server = new FakeEmbeddedServer() {
+			@Override
+			public String getHost() {
+				return "unknown-host.invalid";
+			}
+
+			@Override
+			protected NetworkConditions getNetworkConditions() {
+				return NetworkConditions.builder().withLatency(10).build();
+			}
+		};
+
+		assertThatThrownBy(server::start).isInstanceOf(ServerStartException.class);
+		assertThat(server.isStarted()).isFalse();
+		assertThat(server.getNbStart()).isEqualTo(1);
+		assertThat(server.getNbStop()).isEqualTo(1);
+	}
+
 	@Test
 	void it_should_execute_hook() {
 		Hook hook = mock(Hook.class);
@@ -283,6 +335,24 @@ class AbstractEmbeddedServerTest {
 		verify(hook, times(1)).pre(server);
 	}
 
+	@Test
+	void it_should_execute_hook_on_redeploy() {
+		Hook hook = mock(Hook.class);
+		FakeEmbeddedServerConfiguration configuration = new FakeEmbeddedServerConfigurationBuilder().withHook(hook).build();
+
+		server = new FakeEmbeddedServer(configuration);
+		server.start();
+		server.redeploy();
+
+		InOrder inOrder = inOrder(hook);
+		inOrder.verify(hook).pre(server);
+		inOrder.verify(hook).onStarted(server, server.getServletContext());
+		inOrder.verify(hook).post(server);
+		inOrder.verify(hook).pre(server);
+		inOrder.verify(hook).onStarted(server, server.getServletContext());
+		inOrder.verifyNoMoreInteractions();
+	}
+
 	@Test
 	void it_should_execute_hook_before_doStop() {
 		Hook hook = mock(Hook.class);
@@ -351,4 +421,39 @@ class AbstractEmbeddedServerTest {
 		FakeServer delegate = server.getDelegate();
 		assertThat(delegate).isNotNull();
 	}
+
+	@Test
+	void it_should_not_have_statistics_by_default() {
+		server.start();
+		server.resetStatistics();
+		assertThat(server.getStatistics()).isNull();
+	}
+
+	@Test
+	void it_should_not_have_session_statistics_by_default() {
+		server.start();
+		assertThat(server.getSessionStatistics()).isNull();
+	}
+
+	@Test
+	void it_should_find_classpath_webapp() {
+		List<URL> roots = server.findClasspathWebapp("/META-INF");
+
+		assertThat(roots).isNotEmpty().allMatch((url) -> url.toExternalForm().endsWith("META-INF/"));
+		assertThat(roots).anyMatch((url) -> url.getProtocol().equals("file"));
+		assertThat(roots).anyMatch((url) -> url.getProtocol().equals("jar"));
+		assertThat(server.findClasspathWebapp("META-INF/")).isEqualTo(roots);
+	}
+
+	@Test
+	void it_should_not_find_missing_classpath_webapp() {
+		assertThat(server.findClasspathWebapp("missing-webapp")).isEmpty();
+	}
+
+	@Test
+	void it_should_not_record_request_latencies_by_default() {
+		server.start();
+		server.resetRequestLatencies();
+		assertThat(server.getRequestLatencies()).isNull();
+	}
 }
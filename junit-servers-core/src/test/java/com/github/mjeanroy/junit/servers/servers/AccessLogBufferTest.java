@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogBufferTest {
+
+	@Test
+	void it_should_be_empty() {
+		AccessLogBuffer buffer = new AccessLogBuffer(3);
+		assertThat(buffer.getRecords()).isEmpty();
+	}
+
+	@Test
+	void it_should_return_records_in_order() {
+		AccessLogBuffer buffer = new AccessLogBuffer(3);
+		buffer.append(record("/1"));
+		buffer.append(record("/2"));
+
+		assertThat(buffer.getRecords()).containsExactly(record("/1"), record("/2"));
+	}
+
+	@Test
+	void it_should_overwrite_oldest_records() {
+		AccessLogBuffer buffer = new AccessLogBuffer(3);
+		for (int i = 1; i <= 5; i++) {
+			buffer.append(record("/" + i));
+		}
+
+		assertThat(buffer.getRecords()).containsExactly(record("/3"), record("/4"), record("/5"));
+	}
+
+	@Test
+	void it_should_clear_records() {
+		AccessLogBuffer buffer = new AccessLogBuffer(3);
+		buffer.append(record("/1"));
+		buffer.append(record("/2"));
+
+		buffer.clear();
+		assertThat(buffer.getRecords()).isEmpty();
+
+		buffer.append(record("/3"));
+		assertThat(buffer.getRecords()).containsExactly(record("/3"));
+	}
+
+	@Test
+	void it_should_append_records_concurrently() throws Exception {
+		int threads = 4;
+		int count = 1000;
+		AccessLogBuffer buffer = new AccessLogBuffer(threads * count);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+
+		try {
+			for (int i = 0; i < threads; i++) {
+				executor.execute(() -> {
+					awaitQuietly(start);
+					for (int j = 0; j < count; j++) {
+						buffer.append(record("/" + j));
+					}
+				});
+			}
+
+			start.countDown();
+		}
+		finally {
+			executor.shutdown();
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		}
+
+		assertThat(buffer.getRecords()).hasSize(threads * count);
+	}
+
+	private static AccessRecord record(String uri) {
+		return AccessRecord.of("GET", uri, 200, 0, 0, "main");
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessRecordTest {
+
+	@Test
+	void it_should_create_record() {
+		AccessRecord record = AccessRecord.of("GET", "/index?q=1", 200, 128, 1500, "worker-1");
+
+		assertThat(record.getMethod()).isEqualTo("GET");
+		assertThat(record.getUri()).isEqualTo("/index?q=1");
+		assertThat(record.getStatus()).isEqualTo(200);
+		assertThat(record.getBytes()).isEqualTo(128);
+		assertThat(record.getDuration()).isEqualTo(1500);
+		assertThat(record.getThread()).isEqualTo("worker-1");
+	}
+
+	@Test
+	void it_should_implement_equals_hashCode() {
+		EqualsVerifier.forClass(AccessRecord.class).verify();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		AccessRecord record = AccessRecord.of("GET", "/index?q=1", 200, 128, 1500, "worker-1");
+
+		assertThat(record).hasToString(
+			"AccessRecord{" +
+				"method: \"GET\", " +
+				"uri: \"/index?q=1\", " +
+				"status: 200, " +
+				"bytes: 128, " +
+				"duration: 1500, " +
+				"thread: \"worker-1\"" +
+			"}"
+		);
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClasspathWebappsTest {
+
+	@Test
+	void it_should_find_classpath_webapp() {
+		ClassLoader classLoader = getClass().getClassLoader();
+		List<URL> roots = ClasspathWebapps.find("/META-INF", classLoader);
+
+		assertThat(roots).isNotEmpty().allMatch((url) -> url.toExternalForm().endsWith("META-INF/"));
+		assertThat(roots).anyMatch((url) -> url.getProtocol().equals("file"));
+		assertThat(roots).anyMatch((url) -> url.getProtocol().equals("jar"));
+		assertThat(ClasspathWebapps.find("META-INF/", classLoader)).isEqualTo(roots);
+	}
+
+	@Test
+	void it_should_find_classpath_webapp_with_given_class_loader(@TempDir File dir) throws Exception {
+		Files.createDirectories(dir.toPath().resolve("public"));
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[]{dir.toURI().toURL()}, null)) {
+			assertThat(ClasspathWebapps.find("public", classLoader)).containsExactly(
+				new File(dir, "public").toURI().toURL()
+			);
+		}
+	}
+
+	@Test
+	void it_should_not_find_missing_classpath_webapp() {
+		assertThat(ClasspathWebapps.find("missing-webapp", getClass().getClassLoader())).isEmpty();
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressionTest {
+
+	@Test
+	void it_should_create_default_compression() {
+		Compression compression = Compression.defaultCompression();
+
+		assertThat(compression.getMinSize()).isEqualTo(Compression.DEFAULT_MIN_SIZE);
+		assertThat(compression.getMimeTypes()).isEqualTo(emptyList());
+		assertThat(compression.getLevel()).isEqualTo(Compression.DEFAULT_LEVEL);
+	}
+
+	@Test
+	void it_should_create_compression_with_builder() {
+		Compression compression = Compression.builder()
+			.withMinSize(512)
+			.withMimeType("application/json")
+			.withMimeType("text/html")
+			.withLevel(9)
+			.build();
+
+		assertThat(compression.getMinSize()).isEqualTo(512);
+		assertThat(compression.getMimeTypes()).isEqualTo(asList("application/json", "text/html"));
+		assertThat(compression.getLevel()).isEqualTo(9);
+	}
+
+	@Test
+	void it_should_fail_with_negative_min_size() {
+		assertThatThrownBy(() -> Compression.builder().withMinSize(-1))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("minSize must be positive");
+	}
+
+	@Test
+	void it_should_fail_with_invalid_level() {
+		assertThatThrownBy(() -> Compression.builder().withLevel(10))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("level must be between -1 and 9");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		Compression compression = Compression.builder().withMimeType("application/json").build();
+
+		assertThat(compression).hasToString(
+			"Compression{" +
+				"minSize: 2048, " +
+				"mimeTypes: [\"application/json\"], " +
+				"level: -1" +
+			"}"
+		);
+	}
+
+	@Test
+	void it_should_implement_equals() {
+		EqualsVerifier.forClass(Compression.class).withNonnullFields("mimeTypes").verify();
+	}
+}
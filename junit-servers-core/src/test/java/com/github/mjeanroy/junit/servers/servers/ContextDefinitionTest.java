@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContextDefinitionTest {
+
+	@Test
+	void it_should_create_context_definition() {
+		ContextDefinition context = ContextDefinition.context("/foo", "/path/to/webapp");
+
+		assertThat(context.getPath()).isEqualTo("/foo");
+		assertThat(context.getWebapp()).isEqualTo("/path/to/webapp");
+		assertThat(context.getClasspath()).isNull();
+		assertThat(context.getOverrideDescriptor()).isNull();
+	}
+
+	@Test
+	void it_should_create_context_definition_with_builder() {
+		ContextDefinition context = ContextDefinition.builder("/foo", "/path/to/webapp")
+			.withClasspath("/path/to/classes")
+			.withOverrideDescriptor("/path/to/web.xml")
+			.build();
+
+		assertThat(context.getPath()).isEqualTo("/foo");
+		assertThat(context.getWebapp()).isEqualTo("/path/to/webapp");
+		assertThat(context.getClasspath()).isEqualTo("/path/to/classes");
+		assertThat(context.getOverrideDescriptor()).isEqualTo("/path/to/web.xml");
+	}
+
+	@Test
+	void it_should_fail_with_blank_path() {
+		assertThatThrownBy(() -> ContextDefinition.context(" ", "/path/to/webapp"))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("path must not be blank");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		ContextDefinition context = ContextDefinition.context("/foo", "/path/to/webapp");
+
+		assertThat(context).hasToString(
+			"ContextDefinition{" +
+				"path: \"/foo\", " +
+				"webapp: \"/path/to/webapp\", " +
+				"classpath: null, " +
+				"overrideDescriptor: null" +
+			"}"
+		);
+	}
+
+	@Test
+	void it_should_implement_equals() {
+		EqualsVerifier.forClass(ContextDefinition.class).verify();
+	}
+}
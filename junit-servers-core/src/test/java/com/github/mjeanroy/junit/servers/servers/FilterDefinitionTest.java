@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FilterDefinitionTest {
+
+	@Test
+	void it_should_create_filter_definition() {
+		FilterDefinition filter = FilterDefinition.filter(Object.class, "/foo", "/bar");
+
+		assertThat(filter.getName()).isEqualTo("java.lang.Object");
+		assertThat(filter.getFilterClass()).isEqualTo(Object.class);
+		assertThat(filter.getUrlPatterns()).isEqualTo(asList("/foo", "/bar"));
+		assertThat(filter.getInitParameters()).isEqualTo(emptyMap());
+	}
+
+	@Test
+	void it_should_create_filter_definition_with_builder() {
+		FilterDefinition filter = FilterDefinition.builder(Object.class)
+			.withName("foo")
+			.withUrlPattern("/*")
+			.withInitParameter("key", "value")
+			.build();
+
+		assertThat(filter.getName()).isEqualTo("foo");
+		assertThat(filter.getFilterClass()).isEqualTo(Object.class);
+		assertThat(filter.getUrlPatterns()).isEqualTo(asList("/*"));
+		assertThat(filter.getInitParameters()).isEqualTo(singletonMap("key", "value"));
+	}
+
+	@Test
+	void it_should_fail_without_url_pattern() {
+		assertThatThrownBy(() -> FilterDefinition.builder(Object.class).build())
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("urlPatterns must not be empty");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		FilterDefinition filter = FilterDefinition.filter(Object.class, "/*");
+
+		assertThat(filter).hasToString(
+			"FilterDefinition{" +
+				"name: \"java.lang.Object\", " +
+				"filterClass: class java.lang.Object, " +
+				"urlPatterns: [\"/*\"], " +
+				"initParameters: {}" +
+			"}"
+		);
+	}
+
+	@Test
+	void it_should_implement_equals() {
+		EqualsVerifier.forClass(FilterDefinition.class).withNonnullFields("filterClass").verify();
+	}
+}
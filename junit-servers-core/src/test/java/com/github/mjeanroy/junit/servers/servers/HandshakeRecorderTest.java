@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.client.impl.TrustedCertificates;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandshakeRecorderTest {
+
+	@Test
+	void it_should_record_handshakes() throws Exception {
+		SelfSignedCertificate certificate = SelfSignedCertificate.generate();
+		HandshakeRecorder recorder = new HandshakeRecorder();
+		SSLContext server = recorder.wrap(serverContext(certificate));
+		SSLContext client = TrustedCertificates.sslContext(certificate.getCertificate());
+
+		assertThat(recorder.getStatistics().getCount()).isZero();
+
+		handshake(client, server);
+		handshake(client, server);
+
+		LatencyStatistics statistics = recorder.getStatistics();
+		assertThat(statistics.getCount()).isEqualTo(2);
+		assertThat(statistics.getMax()).isPositive();
+
+		recorder.reset();
+		assertThat(recorder.getStatistics().getCount()).isZero();
+	}
+
+	@Test
+	void it_should_delegate_to_ssl_context() throws Exception {
+		SSLContext delegate = serverContext(SelfSignedCertificate.generate());
+		SSLContext sslContext = new HandshakeRecorder().wrap(delegate);
+
+		assertThat(sslContext.getProtocol()).isEqualTo(delegate.getProtocol());
+		assertThat(sslContext.getServerSessionContext()).isSameAs(delegate.getServerSessionContext());
+		assertThat(sslContext.getSupportedSSLParameters().getProtocols()).isEqualTo(delegate.getSupportedSSLParameters().getProtocols());
+
+		SSLEngine engine = sslContext.createSSLEngine("localhost", 443);
+		assertThat(engine.getPeerHost()).isEqualTo("localhost");
+		assertThat(engine.getPeerPort()).isEqualTo(443);
+	}
+
+	private static SSLContext serverContext(SelfSignedCertificate certificate) throws Exception {
+		KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		keyManagerFactory.init(certificate.newKeyStore(), certificate.getKeyPassword());
+		SSLContext sslContext = SSLContext.getInstance("TLS");
+		sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+		return sslContext;
+	}
+
+	private static void handshake(SSLContext clientContext, SSLContext serverContext) throws Exception {
+		SSLEngine client = clientContext.createSSLEngine("localhost", 443);
+		client.setUseClientMode(true);
+		SSLEngine server = serverContext.createSSLEngine();
+		server.setUseClientMode(false);
+
+		ByteBuffer clientToServer = ByteBuffer.allocate(client.getSession().getPacketBufferSize());
+		ByteBuffer serverToClient = ByteBuffer.allocate(server.getSession().getPacketBufferSize());
+		ByteBuffer clientApp = ByteBuffer.allocate(client.getSession().getApplicationBufferSize());
+		ByteBuffer serverApp = ByteBuffer.allocate(server.getSession().getApplicationBufferSize());
+		ByteBuffer empty = ByteBuffer.allocate(0);
+
+		client.beginHandshake();
+		server.beginHandshake();
+
+		for (int i = 0; i < 100 && !(isDone(client) && isDone(server)); i++) {
+			client.wrap(empty, clientToServer);
+			server.wrap(empty, serverToClient);
+			runTasks(client);
+			runTasks(server);
+
+			clientToServer.flip();
+			serverToClient.flip();
+			client.unwrap(serverToClient, clientApp);
+			server.unwrap(clientToServer, serverApp);
+			clientToServer.compact();
+			serverToClient.compact();
+			runTasks(client);
+			runTasks(server);
+		}
+
+		assertThat(isDone(client)).isTrue();
+		assertThat(isDone(server)).isTrue();
+	}
+
+	private static boolean isDone(SSLEngine engine) {
+		return engine.getHandshakeStatus() == HandshakeStatus.NOT_HANDSHAKING;
+	}
+
+	private static void runTasks(SSLEngine engine) {
+		Runnable task;
+		while ((task = engine.getDelegatedTask()) != null) {
+			task.run();
+		}
+	}
+}
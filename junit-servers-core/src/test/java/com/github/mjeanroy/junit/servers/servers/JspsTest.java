@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JspsTest {
+
+	@Test
+	void it_should_compute_key(@TempDir File webapp) throws Exception {
+		write(webapp, "index.jsp", "<p>index</p>");
+		write(webapp, "WEB-INF/tags/foo.tag", "<p>foo</p>");
+
+		String key = Jsps.key(webapp, "tomcat");
+
+		assertThat(key).hasSize(16).matches("[0-9a-f]+");
+		assertThat(Jsps.key(webapp, "tomcat")).isEqualTo(key);
+		assertThat(Jsps.key(webapp, "jetty")).isNotEqualTo(key);
+	}
+
+	@Test
+	void it_should_not_depend_on_last_modified_time(@TempDir File webapp) throws Exception {
+		File index = write(webapp, "index.jsp", "<p>index</p>");
+		String key = Jsps.key(webapp, "tomcat");
+
+		assertThat(index.setLastModified(index.lastModified() - 60000)).isTrue();
+		assertThat(Jsps.key(webapp, "tomcat")).isEqualTo(key);
+	}
+
+	@Test
+	void it_should_change_key_when_jsp_sources_change(@TempDir File webapp) throws Exception {
+		write(webapp, "index.jsp", "<p>index</p>");
+		write(webapp, "index.html", "<p>index</p>");
+		String key = Jsps.key(webapp, "tomcat");
+
+		write(webapp, "index.html", "<p>updated</p>");
+		assertThat(Jsps.key(webapp, "tomcat")).isEqualTo(key);
+
+		write(webapp, "index.jsp", "<p>updated</p>");
+		String updated = Jsps.key(webapp, "tomcat");
+		assertThat(updated).isNotEqualTo(key);
+
+		write(webapp, "WEB-INF/taglib.tld", "<taglib></taglib>");
+		assertThat(Jsps.key(webapp, "tomcat")).isNotEqualTo(updated);
+	}
+
+	@Test
+	void it_should_acquire_cache_directory(@TempDir File tmp) throws Exception {
+		File webapp = new File(tmp, "webapp");
+		File cache = new File(tmp, "jsp-cache");
+		write(webapp, "index.jsp", "<p>index</p>");
+
+		File directory = Jsps.acquireCacheDirectory(cache, webapp, "tomcat");
+		try {
+			assertThat(directory).isEqualTo(new File(cache, Jsps.key(webapp, "tomcat")));
+			assertThat(new File(cache, directory.getName() + ".lock")).isFile();
+		}
+		finally {
+			Jsps.releaseCacheDirectory(directory);
+		}
+
+		File reused = Jsps.acquireCacheDirectory(cache, webapp, "tomcat");
+		try {
+			assertThat(reused).isEqualTo(directory);
+		}
+		finally {
+			Jsps.releaseCacheDirectory(reused);
+		}
+	}
+
+	@Test
+	void it_should_use_private_directory_if_cache_directory_is_leased(@TempDir File tmp) throws Exception {
+		File webapp = new File(tmp, "webapp");
+		File cache = new File(tmp, "jsp-cache");
+		write(webapp, "index.jsp", "<p>index</p>");
+
+		File directory = Jsps.acquireCacheDirectory(cache, webapp, "tomcat");
+
+		try {
+			File privateDirectory = Jsps.acquireCacheDirectory(cache, webapp, "tomcat");
+			assertThat(privateDirectory).isNotEqualTo(directory).isDirectory();
+			assertThat(privateDirectory.getName()).startsWith(directory.getName() + "-");
+
+			write(privateDirectory, "org/apache/jsp/index_jsp.class", "");
+			Jsps.releaseCacheDirectory(privateDirectory);
+			assertThat(privateDirectory).doesNotExist();
+		}
+		finally {
+			Jsps.releaseCacheDirectory(directory);
+		}
+	}
+
+	@Test
+	void it_should_find_pages(@TempDir File webapp) throws Exception {
+		write(webapp, "index.jsp", "<p>index</p>");
+		write(webapp, "admin/users.jspx", "<p>users</p>");
+		write(webapp, "includes/header.jspf", "<p>header</p>");
+		write(webapp, "WEB-INF/views/private.jsp", "<p>private</p>");
+		write(webapp, "META-INF/resources/resource.jsp", "<p>resource</p>");
+		write(webapp, "index.html", "<p>index</p>");
+
+		assertThat(Jsps.findPages(webapp)).containsExactly(
+			"admin/users.jspx",
+			"index.jsp"
+		);
+	}
+
+	@Test
+	void it_should_not_find_pages_in_missing_directory(@TempDir File dir) {
+		assertThat(Jsps.findPages(new File(dir, "missing"))).isEmpty();
+	}
+
+	@Test
+	void it_should_not_precompile_webapp_without_pages(@TempDir File webapp) throws Exception {
+		write(webapp, "index.html", "<p>index</p>");
+		write(webapp, "WEB-INF/views/private.jsp", "<p>private</p>");
+		assertThat(Jsps.precompile(webapp, "http://localhost:8080", "/", null)).isZero();
+	}
+
+	@Test
+	void it_should_not_precompile_without_pages() {
+		assertThat(Jsps.precompile(emptyList(), 4, null)).isZero();
+	}
+
+	private static File write(File webapp, String path, String content) throws IOException {
+		File file = new File(webapp, path);
+		Files.createDirectories(file.getParentFile().toPath());
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+	@Test
+	void it_should_compute_bucket_of_values() {
+		assertThat(LatencyHistogram.indexOf(0)).isZero();
+		assertThat(LatencyHistogram.indexOf(127)).isEqualTo(127);
+		assertThat(LatencyHistogram.indexOf(128)).isEqualTo(128);
+		assertThat(LatencyHistogram.indexOf(129)).isEqualTo(128);
+		assertThat(LatencyHistogram.indexOf(255)).isEqualTo(191);
+		assertThat(LatencyHistogram.indexOf(256)).isEqualTo(192);
+		assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(3711);
+	}
+
+	@Test
+	void it_should_compute_highest_equivalent_value_of_buckets() {
+		assertThat(LatencyHistogram.highestEquivalentValue(0)).isZero();
+		assertThat(LatencyHistogram.highestEquivalentValue(127)).isEqualTo(127);
+		assertThat(LatencyHistogram.highestEquivalentValue(128)).isEqualTo(129);
+		assertThat(LatencyHistogram.highestEquivalentValue(191)).isEqualTo(255);
+		assertThat(LatencyHistogram.highestEquivalentValue(192)).isEqualTo(259);
+		assertThat(LatencyHistogram.highestEquivalentValue(3711)).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	void it_should_keep_relative_precision() {
+		for (long value = 1; value < Long.MAX_VALUE / 3; value *= 3) {
+			long highest = LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value));
+			assertThat(highest).isGreaterThanOrEqualTo(value);
+			assertThat((double) (highest - value) / value).isLessThan(0.016);
+		}
+	}
+
+	@Test
+	void it_should_compute_statistics() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 1000; value++) {
+			histogram.record(value * 1000);
+		}
+
+		LatencyStatistics statistics = histogram.getStatistics();
+
+		assertThat(statistics.getCount()).isEqualTo(1000);
+		assertThat(statistics.getMean()).isEqualTo(500500.0);
+		assertThat(statistics.getMax()).isEqualTo(1000000);
+		assertThat((double) statistics.getP50()).isCloseTo(500000, within(500000 * 0.016));
+		assertThat((double) statistics.getP99()).isCloseTo(990000, within(990000 * 0.016));
+		assertThat((double) statistics.getP999()).isCloseTo(999000, within(999000 * 0.016));
+		assertThat(statistics.getP999()).isLessThanOrEqualTo(statistics.getMax());
+	}
+
+	@Test
+	void it_should_record_negative_values_as_zero() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-10);
+
+		LatencyStatistics statistics = histogram.getStatistics();
+
+		assertThat(statistics.getCount()).isEqualTo(1);
+		assertThat(statistics.getMax()).isZero();
+		assertThat(statistics.getP50()).isZero();
+	}
+
+	@Test
+	void it_should_reset_histogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(1000);
+		histogram.reset();
+
+		assertThat(histogram.getStatistics()).isEqualTo(LatencyStatistics.of(0, 0, 0, 0, 0, 0));
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyStatisticsTest {
+
+	@Test
+	void it_should_create_statistics() {
+		LatencyStatistics statistics = LatencyStatistics.of(10, 1.5, 1, 2, 3, 4);
+
+		assertThat(statistics.getCount()).isEqualTo(10);
+		assertThat(statistics.getMean()).isEqualTo(1.5);
+		assertThat(statistics.getP50()).isEqualTo(1);
+		assertThat(statistics.getP99()).isEqualTo(2);
+		assertThat(statistics.getP999()).isEqualTo(3);
+		assertThat(statistics.getMax()).isEqualTo(4);
+	}
+
+	@Test
+	void it_should_implement_equals_hashCode() {
+		EqualsVerifier.forClass(LatencyStatistics.class).verify();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		LatencyStatistics statistics = LatencyStatistics.of(10, 1.5, 1, 2, 3, 4);
+
+		assertThat(statistics).hasToString(
+			"LatencyStatistics{" +
+				"count: 10, " +
+				"mean: 1.5, " +
+				"p50: 1, " +
+				"p99: 2, " +
+				"p999: 3, " +
+				"max: 4" +
+			"}"
+		);
+	}
+}
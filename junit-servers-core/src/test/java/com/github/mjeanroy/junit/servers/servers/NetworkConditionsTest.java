@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NetworkConditionsTest {
+
+	@Test
+	void it_should_create_network_conditions_with_default_values() {
+		NetworkConditions networkConditions = NetworkConditions.builder().build();
+
+		assertThat(networkConditions.getLatency()).isZero();
+		assertThat(networkConditions.getJitter()).isZero();
+		assertThat(networkConditions.getBandwidth()).isZero();
+		assertThat(networkConditions.getResetRate()).isZero();
+	}
+
+	@Test
+	void it_should_create_network_conditions_with_builder() {
+		NetworkConditions networkConditions = NetworkConditions.builder()
+			.withLatency(50)
+			.withJitter(10)
+			.withBandwidth(1024)
+			.withResetRate(0.1)
+			.build();
+
+		assertThat(networkConditions.getLatency()).isEqualTo(50);
+		assertThat(networkConditions.getJitter()).isEqualTo(10);
+		assertThat(networkConditions.getBandwidth()).isEqualTo(1024);
+		assertThat(networkConditions.getResetRate()).isEqualTo(0.1);
+	}
+
+	@Test
+	void it_should_fail_with_negative_latency() {
+		assertThatThrownBy(() -> NetworkConditions.builder().withLatency(-1))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("latency must be positive");
+	}
+
+	@Test
+	void it_should_fail_with_negative_bandwidth() {
+		assertThatThrownBy(() -> NetworkConditions.builder().withBandwidth(-1))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("bandwidth must be positive");
+	}
+
+	@Test
+	void it_should_fail_with_invalid_reset_rate() {
+		assertThatThrownBy(() -> NetworkConditions.builder().withResetRate(1.5))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("resetRate must be between 0 and 1");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		NetworkConditions networkConditions = NetworkConditions.builder().withLatency(50).build();
+
+		assertThat(networkConditions).hasToString(
+			"NetworkConditions{" +
+				"latency: 50, " +
+				"jitter: 0, " +
+				"bandwidth: 0, " +
+				"resetRate: 0.0" +
+			"}"
+		);
+	}
+
+	@Test
+	void it_should_implement_equals() {
+		EqualsVerifier.forClass(NetworkConditions.class).verify();
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import com.github.mjeanroy.junit.servers.exceptions.ServerStartException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NetworkProxyTest {
+
+	private ServerSocket echoServer;
+	private Thread echoThread;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		echoServer = new ServerSocket(0);
+		echoThread = new Thread(this::echo, "echo-server");
+		echoThread.setDaemon(true);
+		echoThread.start();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		echoServer.close();
+		echoThread.join(1000);
+	}
+
+	@Test
+	void it_should_listen_on_target_address() throws IOException {
+		try (NetworkProxy proxy = NetworkProxy.start(NetworkConditions.builder().build(), "localhost", echoServer.getLocalPort())) {
+			assertThat(proxy.getAddress()).isEqualTo(InetAddress.getByName("localhost"));
+			assertThat(proxy.getAddress().isLoopbackAddress()).isTrue();
+			assertThat(proxy.getAddress().isAnyLocalAddress()).isFalse();
+		}
+	}
+
+	@Test
+	void it_should_fail_to_start_with_unknown_host() {
+		assertThatThrownBy(() -> NetworkProxy.start(NetworkConditions.builder().build(), "unknown-host.invalid", echoServer.getLocalPort()))
+			.isInstanceOf(ServerStartException.class)
+			.hasCauseInstanceOf(UnknownHostException.class);
+	}
+
+	@Test
+	void it_should_forward_data_with_latency() throws IOException {
+		NetworkConditions networkConditions = NetworkConditions.builder().withLatency(50).build();
+
+		try (NetworkProxy proxy = NetworkProxy.start(networkConditions, "localhost", echoServer.getLocalPort())) {
+			assertThat(proxy.getPort()).isNotEqualTo(echoServer.getLocalPort());
+
+			long start = System.nanoTime();
+			String response = exchange(proxy.getPort(), "Hello World");
+			long duration = System.nanoTime() - start;
+
+			assertThat(response).isEqualTo("Hello World");
+			assertThat(duration).isGreaterThanOrEqualTo(MILLISECONDS.toNanos(100));
+		}
+	}
+
+	@Test
+	void it_should_throttle_data_to_bandwidth() throws IOException {
+		NetworkConditions networkConditions = NetworkConditions.builder().withBandwidth(20000).build();
+
+		try (NetworkProxy proxy = NetworkProxy.start(networkConditions, "localhost", echoServer.getLocalPort())) {
+			String message = repeat('x', 4000);
+
+			long start = System.nanoTime();
+			String response = exchange(proxy.getPort(), message);
+			long duration = System.nanoTime() - start;
+
+			// 4000 bytes at 20000 bytes/s take 200ms (the echo is streamed back while data is still sent).
+			assertThat(response).isEqualTo(message);
+			assertThat(duration).isGreaterThanOrEqualTo(MILLISECONDS.toNanos(200));
+		}
+	}
+
+	@Test
+	void it_should_reset_connections() throws IOException {
+		NetworkConditions networkConditions = NetworkConditions.builder().withResetRate(1).build();
+
+		try (NetworkProxy proxy = NetworkProxy.start(networkConditions, "localhost", echoServer.getLocalPort())) {
+			assertThatThrownBy(() -> exchange(proxy.getPort(), "Hello World")).isInstanceOf(SocketException.class);
+		}
+	}
+
+	@Test
+	void it_should_stop_accepting_connections_once_closed() throws IOException {
+		NetworkProxy proxy = NetworkProxy.start(NetworkConditions.builder().build(), "localhost", echoServer.getLocalPort());
+		int port = proxy.getPort();
+
+		assertThat(exchange(port, "Hello World")).isEqualTo("Hello World");
+
+		proxy.close();
+
+		assertThatThrownBy(() -> exchange(port, "Hello World")).isInstanceOf(IOException.class);
+	}
+
+	private void echo() {
+		while (!echoServer.isClosed()) {
+			try (Socket socket = echoServer.accept()) {
+				InputStream in = socket.getInputStream();
+				OutputStream out = socket.getOutputStream();
+				byte[] buffer = new byte[1024];
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					out.write(buffer, 0, read);
+				}
+			}
+			catch (IOException ex) {
+				// Connection reset, or echo server closed.
+			}
+		}
+	}
+
+	private static String exchange(int port, String message) throws IOException {
+		try (Socket socket = new Socket("localhost", port)) {
+			socket.setSoTimeout(5000);
+			socket.getOutputStream().write(message.getBytes(StandardCharsets.UTF_8));
+			socket.shutdownOutput();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int read;
+			while ((read = socket.getInputStream().read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+
+			return new String(out.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static String repeat(char c, int count) {
+		StringBuilder sb = new StringBuilder(count);
+		for (int i = 0; i < count; i++) {
+			sb.append(c);
+		}
+
+		return sb.toString();
+	}
+}
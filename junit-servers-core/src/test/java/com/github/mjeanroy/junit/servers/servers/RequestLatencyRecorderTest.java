@@ -0,0 +1,58 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLatencyRecorderTest {
+
+	@Test
+	void it_should_record_latencies_by_group() {
+		RequestLatencyRecorder recorder = new RequestLatencyRecorder();
+		recorder.record("/api/*", 100);
+		recorder.record("/api/*", 50);
+		recorder.record("/", 10);
+
+		Map<String, LatencyStatistics> statistics = recorder.getStatistics();
+
+		assertThat(statistics).containsOnlyKeys("/", "/api/*");
+		assertThat(statistics.get("/api/*")).isEqualTo(LatencyStatistics.of(2, 75, 50, 100, 100, 100));
+		assertThat(statistics.get("/")).isEqualTo(LatencyStatistics.of(1, 10, 10, 10, 10, 10));
+	}
+
+	@Test
+	void it_should_reset_latencies() {
+		RequestLatencyRecorder recorder = new RequestLatencyRecorder();
+		recorder.record("/", 10);
+		recorder.reset();
+
+		assertThat(recorder.getStatistics()).isEmpty();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestRecordersTest {
+
+	@Test
+	void it_should_not_have_request_latencies_before_filter_is_created() {
+		RequestRecorders recorders = new RequestRecorders();
+		assertThat(recorders.getRequestLatencies()).isNull();
+
+		recorders.resetRequestLatencies();
+		assertThat(recorders.getRequestLatencies()).isNull();
+	}
+
+	@Test
+	void it_should_get_and_reset_request_latencies() {
+		RequestRecorders recorders = new RequestRecorders();
+		RequestLatencyRecorder recorder = recorders.requestLatencyRecorder();
+		assertThat(recorders.requestLatencyRecorder()).isSameAs(recorder);
+
+		recorder.record("/api/*", 1000);
+		assertThat(recorders.getRequestLatencies()).containsOnlyKeys("/api/*");
+
+		recorders.resetRequestLatencies();
+		assertThat(recorders.getRequestLatencies()).isEmpty();
+	}
+
+	@Test
+	void it_should_not_have_access_log_before_it_is_created() {
+		RequestRecorders recorders = new RequestRecorders();
+		assertThat(recorders.getAccessLog()).isNull();
+
+		recorders.clearAccessLog();
+		assertThat(recorders.getAccessLog()).isNull();
+	}
+
+	@Test
+	void it_should_append_to_and_clear_access_log() {
+		RequestRecorders recorders = new RequestRecorders();
+		Consumer<AccessRecord> accessLog = recorders.newAccessLog(10);
+		Consumer<AccessRecord> sameAccessLog = recorders.newAccessLog(10);
+
+		AccessRecord record1 = AccessRecord.of("GET", "/index.html", 200, 0, 0, "main");
+		AccessRecord record2 = AccessRecord.of("POST", "/api", 201, 0, 0, "main");
+		accessLog.accept(record1);
+		sameAccessLog.accept(record2);
+		assertThat(recorders.getAccessLog()).containsExactly(record1, record2);
+
+		recorders.clearAccessLog();
+		assertThat(recorders.getAccessLog()).isEmpty();
+	}
+}
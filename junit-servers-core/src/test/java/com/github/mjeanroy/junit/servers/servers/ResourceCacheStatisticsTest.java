@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceCacheStatisticsTest {
+
+	@Test
+	void it_should_create_statistics() {
+		ResourceCacheStatistics statistics = ResourceCacheStatistics.of(3, 4, 1024, 2048);
+
+		assertThat(statistics.getHitCount()).isEqualTo(3);
+		assertThat(statistics.getLookupCount()).isEqualTo(4);
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getHitRate()).isEqualTo(0.75);
+		assertThat(statistics.getSize()).isEqualTo(1024);
+		assertThat(statistics.getMaxSize()).isEqualTo(2048);
+	}
+
+	@Test
+	void it_should_have_zero_hit_rate_without_lookups() {
+		ResourceCacheStatistics statistics = ResourceCacheStatistics.of(0, 0, 0, 2048);
+		assertThat(statistics.getHitRate()).isZero();
+	}
+
+	@Test
+	void it_should_implement_equals_hashCode() {
+		EqualsVerifier.forClass(ResourceCacheStatistics.class).verify();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		ResourceCacheStatistics statistics = ResourceCacheStatistics.of(3, 4, 1024, 2048);
+
+		assertThat(statistics).hasToString(
+			"ResourceCacheStatistics{" +
+				"hitCount: 3, " +
+				"lookupCount: 4, " +
+				"size: 1024, " +
+				"maxSize: 2048" +
+			"}"
+		);
+	}
+}
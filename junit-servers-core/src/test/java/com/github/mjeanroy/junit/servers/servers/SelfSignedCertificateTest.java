@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SelfSignedCertificateTest {
+
+	@Test
+	void it_should_generate_certificate() throws Exception {
+		SelfSignedCertificate certificate = SelfSignedCertificate.generate();
+		X509Certificate x509 = certificate.getCertificate();
+
+		x509.checkValidity();
+		x509.verify(x509.getPublicKey());
+
+		assertThat(x509.getSubjectX500Principal().getName()).isEqualTo("CN=localhost");
+		assertThat(x509.getIssuerX500Principal()).isEqualTo(x509.getSubjectX500Principal());
+		assertThat(x509.getSigAlgName()).isEqualTo("SHA256withECDSA");
+
+		List<Object> names = new ArrayList<>();
+		x509.getSubjectAlternativeNames().forEach((name) -> names.add(name.get(1)));
+		assertThat(names).contains("localhost", "127.0.0.1");
+	}
+
+	@Test
+	void it_should_generate_distinct_certificates() {
+		X509Certificate c1 = SelfSignedCertificate.generate().getCertificate();
+		X509Certificate c2 = SelfSignedCertificate.generate().getCertificate();
+
+		assertThat(c1.getSerialNumber()).isNotEqualTo(c2.getSerialNumber());
+		assertThat(c1.getPublicKey()).isNotEqualTo(c2.getPublicKey());
+	}
+
+	@Test
+	void it_should_create_key_store() throws Exception {
+		SelfSignedCertificate certificate = SelfSignedCertificate.generate();
+		KeyStore keyStore = certificate.newKeyStore();
+
+		assertThat(keyStore.size()).isEqualTo(1);
+
+		String alias = keyStore.aliases().nextElement();
+		assertThat(keyStore.isKeyEntry(alias)).isTrue();
+		assertThat(keyStore.getCertificate(alias)).isEqualTo(certificate.getCertificate());
+		assertThat(keyStore.getKey(alias, certificate.getKeyPassword())).isNotNull();
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerStatisticsTest {
+
+	@Test
+	void it_should_create_empty_statistics() {
+		ServerStatistics statistics = ServerStatistics.builder().build();
+
+		assertThat(statistics.getRequestCount()).isEqualTo(-1);
+		assertThat(statistics.getActiveRequests()).isEqualTo(-1);
+		assertThat(statistics.getMaxActiveRequests()).isEqualTo(-1);
+		assertThat(statistics.getErrorCount()).isEqualTo(-1);
+		assertThat(statistics.getConnections()).isEqualTo(-1);
+		assertThat(statistics.getMaxConnections()).isEqualTo(-1);
+		assertThat(statistics.getBytesReceived()).isEqualTo(-1);
+		assertThat(statistics.getBytesSent()).isEqualTo(-1);
+		assertThat(statistics.getDispatchTimeMean()).isEqualTo(-1);
+		assertThat(statistics.getDispatchTimeStdDev()).isEqualTo(-1);
+		assertThat(statistics.getDispatchTimeMax()).isEqualTo(-1);
+		assertThat(statistics.getHeapBufferCount()).isEqualTo(-1);
+		assertThat(statistics.getHeapBufferMemory()).isEqualTo(-1);
+		assertThat(statistics.getDirectBufferCount()).isEqualTo(-1);
+		assertThat(statistics.getDirectBufferMemory()).isEqualTo(-1);
+		assertThat(statistics.getBusyThreads()).isEqualTo(-1);
+		assertThat(statistics.getThreads()).isEqualTo(-1);
+		assertThat(statistics.getMaxThreads()).isEqualTo(-1);
+		assertThat(statistics.getQueueSize()).isEqualTo(-1);
+		assertThat(statistics.getProcessors()).isEmpty();
+	}
+
+	@Test
+	void it_should_create_statistics() {
+		ServerStatistics statistics = createStatistics();
+
+		assertThat(statistics.getRequestCount()).isEqualTo(10);
+		assertThat(statistics.getActiveRequests()).isEqualTo(1);
+		assertThat(statistics.getMaxActiveRequests()).isEqualTo(2);
+		assertThat(statistics.getErrorCount()).isEqualTo(3);
+		assertThat(statistics.getConnections()).isEqualTo(4);
+		assertThat(statistics.getMaxConnections()).isEqualTo(5);
+		assertThat(statistics.getBytesReceived()).isEqualTo(1024);
+		assertThat(statistics.getBytesSent()).isEqualTo(2048);
+		assertThat(statistics.getDispatchTimeMean()).isEqualTo(1.5);
+		assertThat(statistics.getDispatchTimeStdDev()).isEqualTo(0.5);
+		assertThat(statistics.getDispatchTimeMax()).isEqualTo(3);
+		assertThat(statistics.getHeapBufferCount()).isEqualTo(6);
+		assertThat(statistics.getHeapBufferMemory()).isEqualTo(4096);
+		assertThat(statistics.getDirectBufferCount()).isEqualTo(7);
+		assertThat(statistics.getDirectBufferMemory()).isEqualTo(8192);
+		assertThat(statistics.getBusyThreads()).isEqualTo(9);
+		assertThat(statistics.getThreads()).isEqualTo(11);
+		assertThat(statistics.getMaxThreads()).isEqualTo(12);
+		assertThat(statistics.getQueueSize()).isEqualTo(13);
+		assertThat(statistics.getProcessors()).containsExactly(ProcessorStatistics.of("http-nio-exec-1", 1, 2, 3, 4));
+	}
+
+	@Test
+	void it_should_implement_equals_hashCode() {
+		EqualsVerifier.forClass(ServerStatistics.class).verify();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		ServerStatistics statistics = createStatistics();
+
+		assertThat(statistics).hasToString(
+			"ServerStatistics{" +
+				"requestCount: 10, " +
+				"activeRequests: 1, " +
+				"maxActiveRequests: 2, " +
+				"errorCount: 3, " +
+				"connections: 4, " +
+				"maxConnections: 5, " +
+				"bytesReceived: 1024, " +
+				"bytesSent: 2048, " +
+				"dispatchTimeMean: 1.5, " +
+				"dispatchTimeStdDev: 0.5, " +
+				"dispatchTimeMax: 3, " +
+				"heapBufferCount: 6, " +
+				"heapBufferMemory: 4096, " +
+				"directBufferCount: 7, " +
+				"directBufferMemory: 8192, " +
+				"busyThreads: 9, " +
+				"threads: 11, " +
+				"maxThreads: 12, " +
+				"queueSize: 13, " +
+				"processors: [" +
+					"ProcessorStatistics{" +
+						"workerThreadName: \"http-nio-exec-1\", " +
+						"requestCount: 1, " +
+						"errorCount: 2, " +
+						"lastProcessingTime: 3, " +
+						"maxProcessingTime: 4" +
+					"}" +
+				"]" +
+			"}"
+		);
+	}
+
+	private static ServerStatistics createStatistics() {
+		return ServerStatistics.builder()
+			.withRequestCount(10)
+			.withActiveRequests(1)
+			.withMaxActiveRequests(2)
+			.withErrorCount(3)
+			.withConnections(4)
+			.withMaxConnections(5)
+			.withBytesReceived(1024)
+			.withBytesSent(2048)
+			.withDispatchTimeMean(1.5)
+			.withDispatchTimeStdDev(0.5)
+			.withDispatchTimeMax(3)
+			.withHeapBufferCount(6)
+			.withHeapBufferMemory(4096)
+			.withDirectBufferCount(7)
+			.withDirectBufferMemory(8192)
+			.withBusyThreads(9)
+			.withThreads(11)
+			.withMaxThreads(12)
+			.withQueueSize(13)
+			.withProcessors(singletonList(ProcessorStatistics.of("http-nio-exec-1", 1, 2, 3, 4)))
+			.build();
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLContext;
+import java.security.cert.X509Certificate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTlsTest {
+
+	@Test
+	void it_should_not_have_certificate_before_ssl_context_is_created() {
+		ServerTls tls = new ServerTls();
+		assertThat(tls.getCertificate()).isNull();
+		assertThat(tls.getHandshakeStatistics()).isNull();
+	}
+
+	@Test
+	void it_should_keep_certificate_across_ssl_contexts() {
+		ServerTls tls = new ServerTls();
+
+		SSLContext sslContext = tls.newSslContext(100, 60, false);
+		X509Certificate certificate = tls.getCertificate();
+		assertThat(certificate).isNotNull();
+		assertThat(sslContext.getServerSessionContext().getSessionCacheSize()).isEqualTo(100);
+		assertThat(sslContext.getServerSessionContext().getSessionTimeout()).isEqualTo(60);
+
+		tls.newSslContext(null, null, false);
+		assertThat(tls.getCertificate()).isSameAs(certificate);
+		assertThat(tls.getHandshakeStatistics()).isNull();
+	}
+
+	@Test
+	void it_should_record_handshakes() {
+		ServerTls tls = new ServerTls();
+		tls.newSslContext(null, null, true);
+
+		assertThat(tls.getHandshakeStatistics()).isNotNull();
+		assertThat(tls.getHandshakeStatistics().getCount()).isZero();
+
+		tls.resetHandshakeStatistics();
+		assertThat(tls.getHandshakeStatistics().getCount()).isZero();
+	}
+
+	@Test
+	void it_should_get_supported_protocols() {
+		ServerTls tls = new ServerTls();
+		SSLContext sslContext = tls.newSslContext(null, null, false);
+		assertThat(ServerTls.protocols(sslContext)).isNotEmpty().isSubsetOf("TLSv1.3", "TLSv1.2");
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServletDefinitionTest {
+
+	@Test
+	void it_should_create_servlet_definition() {
+		ServletDefinition servlet = ServletDefinition.servlet(Object.class, "/foo", "/bar");
+
+		assertThat(servlet.getName()).isEqualTo("java.lang.Object");
+		assertThat(servlet.getServletClass()).isEqualTo(Object.class);
+		assertThat(servlet.getMappings()).isEqualTo(asList("/foo", "/bar"));
+		assertThat(servlet.getInitParameters()).isEqualTo(emptyMap());
+		assertThat(servlet.getLoadOnStartup()).isEqualTo(-1);
+	}
+
+	@Test
+	void it_should_create_servlet_definition_with_builder() {
+		ServletDefinition servlet = ServletDefinition.builder(Object.class)
+			.withName("foo")
+			.withMapping("/foo")
+			.withInitParameter("key", "value")
+			.withLoadOnStartup(1)
+			.build();
+
+		assertThat(servlet.getName()).isEqualTo("foo");
+		assertThat(servlet.getServletClass()).isEqualTo(Object.class);
+		assertThat(servlet.getMappings()).isEqualTo(asList("/foo"));
+		assertThat(servlet.getInitParameters()).isEqualTo(singletonMap("key", "value"));
+		assertThat(servlet.getLoadOnStartup()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_fail_without_mapping() {
+		assertThatThrownBy(() -> ServletDefinition.builder(Object.class).build())
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("mappings must not be empty");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		ServletDefinition servlet = ServletDefinition.servlet(Object.class, "/foo");
+
+		assertThat(servlet).hasToString(
+			"ServletDefinition{" +
+				"name: \"java.lang.Object\", " +
+				"servletClass: class java.lang.Object, " +
+				"mappings: [\"/foo\"], " +
+				"initParameters: {}, " +
+				"loadOnStartup: -1" +
+			"}"
+		);
+	}
+
+	@Test
+	void it_should_implement_equals() {
+		EqualsVerifier.forClass(ServletDefinition.class).withNonnullFields("servletClass").verify();
+	}
+}
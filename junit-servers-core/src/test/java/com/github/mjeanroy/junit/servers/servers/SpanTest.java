@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpanTest {
+
+	@Test
+	void it_should_create_span() {
+		Span span = Span.of("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", null, Span.Kind.CLIENT, "GET /index", 10, 20);
+
+		assertThat(span.getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+		assertThat(span.getSpanId()).isEqualTo("b7ad6b7169203331");
+		assertThat(span.getParentId()).isNull();
+		assertThat(span.getKind()).isEqualTo(Span.Kind.CLIENT);
+		assertThat(span.getName()).isEqualTo("GET /index");
+		assertThat(span.getStart()).isEqualTo(10);
+		assertThat(span.getDuration()).isEqualTo(20);
+	}
+
+	@Test
+	void it_should_implement_equals_hashCode() {
+		EqualsVerifier.forClass(Span.class).verify();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		Span span = Span.of("0af7651916cd43dd8448eb211c80319c", "00f067aa0ba902b7", "b7ad6b7169203331", Span.Kind.SERVER, "GET /index", 10, 20);
+
+		assertThat(span).hasToString(
+			"Span{" +
+				"traceId: \"0af7651916cd43dd8448eb211c80319c\", " +
+				"spanId: \"00f067aa0ba902b7\", " +
+				"parentId: \"b7ad6b7169203331\", " +
+				"kind: SERVER, " +
+				"name: \"GET /index\", " +
+				"start: 10, " +
+				"duration: 20" +
+			"}"
+		);
+	}
+}
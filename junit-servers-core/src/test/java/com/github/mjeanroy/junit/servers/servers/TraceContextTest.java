@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TraceContextTest {
+
+	@AfterEach
+	void tearDown() {
+		TraceContext.end();
+	}
+
+	@Test
+	void it_should_start_trace_on_current_thread() {
+		TraceContext trace = TraceContext.start("FooTest#test1");
+
+		assertThat(TraceContext.current()).isSameAs(trace);
+		assertThat(trace.getTestName()).isEqualTo("FooTest#test1");
+		assertThat(trace.getTraceId()).matches("[0-9a-f]{32}");
+		assertThat(trace.getSpans()).isEmpty();
+	}
+
+	@Test
+	void it_should_end_trace() {
+		TraceContext.start("FooTest#test1");
+		TraceContext.end();
+
+		assertThat(TraceContext.current()).isNull();
+	}
+
+	@Test
+	void it_should_start_new_trace_for_each_test() {
+		TraceContext trace1 = TraceContext.start("FooTest#test1");
+		TraceContext trace2 = TraceContext.start("FooTest#test2");
+
+		assertThat(TraceContext.current()).isSameAs(trace2);
+		assertThat(trace2.getTraceId()).isNotEqualTo(trace1.getTraceId());
+	}
+
+	@Test
+	void it_should_fail_to_start_trace_without_test_name() {
+		assertThatThrownBy(() -> TraceContext.start(" "))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("testName must not be blank");
+	}
+
+	@Test
+	void it_should_create_traceparent() {
+		TraceContext trace = TraceContext.start("FooTest#test1");
+
+		String traceparent1 = trace.newTraceparent();
+		String traceparent2 = trace.newTraceparent();
+
+		assertThat(traceparent1).matches("00-" + trace.getTraceId() + "-[0-9a-f]{16}-01");
+		assertThat(traceparent2).matches("00-" + trace.getTraceId() + "-[0-9a-f]{16}-01");
+		assertThat(traceparent1).isNotEqualTo(traceparent2);
+	}
+
+	@Test
+	void it_should_record_client_and_server_spans() {
+		TraceContext trace = TraceContext.start("FooTest#test1");
+		String traceparent = trace.newTraceparent();
+		String clientSpanId = traceparent.substring(36, 52);
+
+		TraceContext.record(traceparent, Span.Kind.SERVER, "GET /foo", 20, 5);
+		TraceContext.record(traceparent, Span.Kind.CLIENT, "GET /foo", 10, 30);
+
+		List<Span> spans = trace.getSpans();
+		assertThat(spans).hasSize(2);
+
+		Span client = spans.get(0);
+		assertThat(client.getKind()).isEqualTo(Span.Kind.CLIENT);
+		assertThat(client.getTraceId()).isEqualTo(trace.getTraceId());
+		assertThat(client.getSpanId()).isEqualTo(clientSpanId);
+		assertThat(client.getParentId()).isNull();
+		assertThat(client.getStart()).isEqualTo(10);
+		assertThat(client.getDuration()).isEqualTo(30);
+
+		Span server = spans.get(1);
+		assertThat(server.getKind()).isEqualTo(Span.Kind.SERVER);
+		assertThat(server.getTraceId()).isEqualTo(trace.getTraceId());
+		assertThat(server.getSpanId()).matches("[0-9a-f]{16}").isNotEqualTo(clientSpanId);
+		assertThat(server.getParentId()).isEqualTo(clientSpanId);
+		assertThat(server.getName()).isEqualTo("GET /foo");
+	}
+
+	@Test
+	void it_should_ignore_spans_of_malformed_traceparent() {
+		TraceContext trace = TraceContext.start("FooTest#test1");
+
+		TraceContext.record(null, Span.Kind.SERVER, "GET /foo", 20, 5);
+		TraceContext.record("01-" + trace.getTraceId(), Span.Kind.SERVER, "GET /foo", 20, 5);
+
+		assertThat(trace.getSpans()).isEmpty();
+	}
+
+	@Test
+	void it_should_ignore_spans_of_ended_trace() {
+		TraceContext trace = TraceContext.start("FooTest#test1");
+		String traceparent = trace.newTraceparent();
+		TraceContext.end();
+
+		TraceContext.record(traceparent, Span.Kind.SERVER, "GET /foo", 20, 5);
+
+		assertThat(trace.getSpans()).isEmpty();
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WarsTest {
+
+	@Test
+	void it_should_detect_war(@TempDir File dir) throws Exception {
+		File war = war(new File(dir, "app.war"), "index.html", "<p>index</p>");
+
+		assertThat(Wars.isWar(war)).isTrue();
+		assertThat(Wars.isWar(dir)).isFalse();
+		assertThat(Wars.isWar(new File(dir, "missing.war"))).isFalse();
+		assertThat(Wars.isWar(war.getAbsolutePath())).isTrue();
+		assertThat(Wars.isWar((String) null)).isFalse();
+	}
+
+	@Test
+	void it_should_detect_war_with_uppercase_extension(@TempDir File dir) throws Exception {
+		File war = war(new File(dir, "APP.WAR"), "index.html", "<p>index</p>");
+		assertThat(Wars.isWar(war)).isTrue();
+	}
+
+	@Test
+	void it_should_extract_webapp_path(@TempDir File dir) throws Exception {
+		File war = war(new File(dir, "app.war"), "index.html", "<p>index</p>");
+		File cache = new File(dir, "cache");
+
+		String extracted = Wars.extract(war.getAbsolutePath(), cache.getAbsolutePath());
+		assertThat(new File(extracted, "index.html")).isFile();
+		assertThat(Wars.extract(war.getAbsolutePath(), null)).isEqualTo(war.getAbsolutePath());
+		assertThat(Wars.extract(dir.getAbsolutePath(), cache.getAbsolutePath())).isEqualTo(dir.getAbsolutePath());
+	}
+
+	@Test
+	void it_should_compute_key(@TempDir File dir) throws Exception {
+		File war = war(new File(dir, "app.war"), "index.html", "<p>index</p>");
+		String key = Wars.key(war);
+
+		assertThat(key).hasSize(16).matches("[0-9a-f]+");
+		assertThat(war.setLastModified(war.lastModified() - 60000)).isTrue();
+		assertThat(Wars.key(war)).isEqualTo(key);
+
+		war(war, "index.html", "<p>updated</p>");
+		assertThat(Wars.key(war)).isNotEqualTo(key);
+	}
+
+	@Test
+	void it_should_extract_war_once(@TempDir File dir) throws Exception {
+		File war = war(new File(dir, "app.war"), "WEB-INF/index.html", "<p>index</p>");
+		File cache = new File(dir, "cache");
+
+		File directory = Wars.extract(war, cache);
+
+		assertThat(directory).isDirectory().hasName("app-" + Wars.key(war));
+		assertThat(new File(directory, "WEB-INF/index.html")).hasContent("<p>index</p>");
+		assertThat(cache.list()).containsExactly(directory.getName());
+
+		File marker = new File(directory, "marker");
+		assertThat(marker.createNewFile()).isTrue();
+		assertThat(Wars.extract(war, cache)).isEqualTo(directory);
+		assertThat(marker).exists();
+	}
+
+	@Test
+	void it_should_extract_updated_war_into_new_directory(@TempDir File dir) throws Exception {
+		File war = war(new File(dir, "app.war"), "index.html", "<p>index</p>");
+		File cache = new File(dir, "cache");
+		File directory = Wars.extract(war, cache);
+
+		war(war, "index.html", "<p>updated</p>");
+		File updated = Wars.extract(war, cache);
+
+		assertThat(updated).isNotEqualTo(directory);
+		assertThat(new File(updated, "index.html")).hasContent("<p>updated</p>");
+	}
+
+	@Test
+	void it_should_not_extract_entries_outside_of_target_directory(@TempDir File dir) throws Exception {
+		File war = war(new File(dir, "app.war"), "../evil.html", "<p>evil</p>");
+		File cache = new File(dir, "cache");
+
+		assertThatThrownBy(() -> Wars.extract(war, cache)).hasMessageContaining("../evil.html");
+		assertThat(new File(dir, "evil.html")).doesNotExist();
+		assertThat(cache.list()).isEmpty();
+	}
+
+	private static File war(File war, String path, String content) throws IOException {
+		try (OutputStream output = Files.newOutputStream(war.toPath()); ZipOutputStream zip = new ZipOutputStream(output)) {
+			zip.putNextEntry(new ZipEntry(path));
+			zip.write(content.getBytes(StandardCharsets.UTF_8));
+			zip.closeEntry();
+		}
+
+		return war;
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.servers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkDirectoryTest {
+
+	@Test
+	void it_should_create_temporary_strategy() {
+		WorkDirectory workDirectory = WorkDirectory.temporary();
+
+		assertThat(workDirectory.getRoot()).isNull();
+		assertThat(workDirectory.isReuse()).isFalse();
+		assertThat(workDirectory.isAsyncCleanup()).isTrue();
+	}
+
+	@Test
+	void it_should_create_in_memory_strategy() {
+		WorkDirectory workDirectory = WorkDirectory.inMemory();
+
+		assertThat(workDirectory.getRoot()).isEqualTo("/dev/shm");
+		assertThat(workDirectory.isReuse()).isFalse();
+		assertThat(workDirectory.isAsyncCleanup()).isTrue();
+	}
+
+	@Test
+	void it_should_acquire_in_memory_directory() {
+		WorkDirectory workDirectory = WorkDirectory.inMemory();
+		File directory = workDirectory.acquire("test", "key");
+
+		try {
+			assertThat(directory).isDirectory();
+			assertThat(directory.getParentFile()).isIn(
+				new File("/dev/shm").getAbsoluteFile(),
+				new File(System.getProperty("java.io.tmpdir")).getAbsoluteFile()
+			);
+		}
+		finally {
+			workDirectory.release(directory);
+		}
+	}
+
+	@Test
+	void it_should_acquire_and_delete_fresh_directory(@TempDir File root) throws IOException {
+		WorkDirectory workDirectory = WorkDirectory.builder().withRoot(root).build();
+
+		File first = workDirectory.acquire("test", "key");
+		File second = workDirectory.acquire("test", "key");
+		assertThat(first).isDirectory().isNotEqualTo(second);
+
+		write(first, "work/file.txt");
+		workDirectory.release(first);
+		workDirectory.release(second);
+
+		assertThat(first).doesNotExist();
+		assertThat(awaitEmpty(root)).isTrue();
+	}
+
+	@Test
+	void it_should_delete_directory_synchronously(@TempDir File root) throws IOException {
+		WorkDirectory workDirectory = WorkDirectory.builder().withRoot(root).disableAsyncCleanup().build();
+
+		File directory = workDirectory.acquire("test", "key");
+		write(directory, "work/file.txt");
+		workDirectory.release(directory);
+
+		assertThat(isEmpty(root)).isTrue();
+	}
+
+	@Test
+	void it_should_reuse_warm_directory(@TempDir File root) throws IOException {
+		WorkDirectory workDirectory = WorkDirectory.builder().withRoot(root).enableReuse().build();
+
+		File directory = workDirectory.acquire("test", "key");
+		assertThat(directory.getParentFile()).isEqualTo(root.getAbsoluteFile());
+		assertThat(directory.getName()).startsWith("test-").endsWith("-" + Integer.toHexString("key".hashCode()));
+		write(directory, "work/file.txt");
+
+		// Directory is leased, so another one is used.
+		File other = workDirectory.acquire("test", "key");
+		assertThat(other).isEqualTo(new File(root, directory.getName() + "-1").getAbsoluteFile());
+
+		workDirectory.release(directory);
+		workDirectory.release(other);
+		assertThat(new File(directory, "work/file.txt")).exists();
+
+		assertThat(workDirectory.acquire("test", "key")).isEqualTo(directory);
+		workDirectory.release(directory);
+	}
+
+	@Test
+	void it_should_not_reuse_warm_directory_of_configuration_with_same_hash_code(@TempDir File root) {
+		WorkDirectory workDirectory = WorkDirectory.builder().withRoot(root).enableReuse().build();
+
+		// "Aa" and "BB" have the same hash code.
+		File directory = workDirectory.acquire("test", "Aa");
+		workDirectory.release(directory);
+
+		File other = workDirectory.acquire("test", "BB");
+		assertThat(other).isNotEqualTo(directory);
+		workDirectory.release(other);
+
+		assertThat(workDirectory.acquire("test", "Aa")).isEqualTo(directory);
+		workDirectory.release(directory);
+	}
+
+	@Test
+	void it_should_not_follow_symbolic_links_when_deleting_directory(@TempDir File root, @TempDir File outside) throws IOException {
+		WorkDirectory workDirectory = WorkDirectory.builder().withRoot(root).disableAsyncCleanup().build();
+		write(outside, "file.txt");
+
+		File directory = workDirectory.acquire("test", "key");
+		Files.createSymbolicLink(new File(directory, "link").toPath(), outside.toPath());
+		workDirectory.release(directory);
+
+		assertThat(directory).doesNotExist();
+		assertThat(new File(outside, "file.txt")).exists();
+	}
+
+	@Test
+	void it_should_implement_equals_hashCode() {
+		EqualsVerifier.forClass(WorkDirectory.class).verify();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		WorkDirectory workDirectory = WorkDirectory.builder().withRoot("/tmp").enableReuse().disableAsyncCleanup().build();
+
+		assertThat(workDirectory).hasToString(
+			"WorkDirectory{" +
+				"root: \"/tmp\", " +
+				"reuse: true, " +
+				"asyncCleanup: false" +
+			"}"
+		);
+	}
+
+	private static void write(File directory, String path) throws IOException {
+		File file = new File(directory, path);
+		Files.createDirectories(file.getParentFile().toPath());
+		Files.write(file.toPath(), "test".getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static boolean awaitEmpty(File directory) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!isEmpty(directory) && System.nanoTime() < deadline) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+		}
+
+		return isEmpty(directory);
+	}
+
+	private static boolean isEmpty(File directory) {
+		String[] files = directory.list();
+		return files != null && files.length == 0;
+	}
+}
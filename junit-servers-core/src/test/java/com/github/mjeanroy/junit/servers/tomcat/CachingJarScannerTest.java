@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import org.apache.tomcat.Jar;
+import org.apache.tomcat.JarScanType;
+import org.apache.tomcat.JarScannerCallback;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingJarScannerTest {
+
+	@Test
+	void it_should_skip_jar_without_tld_during_tld_scan(@TempDir File dir) throws Exception {
+		File jar = createJar(new File(dir, "handles-types.jar"));
+		JarScanIndex index = JarScanIndex.load(new File(dir, "jar-scan.index"));
+		CachingJarScanner scanner = new CachingJarScanner(index);
+		RecordingCallback callback = new RecordingCallback();
+
+		scanner.process(JarScanType.TLD, callback, jar.toURI().toURL(), null, false, new ArrayDeque<>());
+
+		assertThat(callback.scanned).isEmpty();
+		assertThat(index.getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_not_skip_jar_without_web_fragment_during_pluggability_scan(@TempDir File dir) throws Exception {
+		File jar = createJar(new File(dir, "handles-types.jar"));
+		JarScanIndex index = JarScanIndex.load(new File(dir, "jar-scan.index"));
+		CachingJarScanner scanner = new CachingJarScanner(index);
+		RecordingCallback callback = new RecordingCallback();
+
+		scanner.process(JarScanType.PLUGGABILITY, callback, jar.toURI().toURL(), null, false, new ArrayDeque<>());
+
+		assertThat(callback.scanned).hasSize(1);
+		assertThat(callback.scanned.get(0)).endsWith("handles-types.jar");
+		assertThat(index.getHits()).isZero();
+		assertThat(index.getMisses()).isZero();
+	}
+
+	/// Create a jar containing only a class implementing [HandlesTypesTarget], without any
+	/// `web-fragment.xml`, TLD, static resources or `ServletContainerInitializer`.
+	private static File createJar(File jar) throws IOException {
+		String entry = HandlesTypesImpl.class.getName().replace('.', '/') + ".class";
+
+		try (OutputStream os = Files.newOutputStream(jar.toPath()); JarOutputStream jos = new JarOutputStream(os)) {
+			jos.putNextEntry(new JarEntry(entry));
+			try (InputStream is = CachingJarScannerTest.class.getClassLoader().getResourceAsStream(entry)) {
+				assertThat(is).isNotNull();
+				byte[] buffer = new byte[4096];
+				int read;
+				while ((read = is.read(buffer)) != -1) {
+					jos.write(buffer, 0, read);
+				}
+			}
+			jos.closeEntry();
+		}
+
+		return jar;
+	}
+
+	/// A type that would be declared in a `@HandlesTypes` annotation.
+	interface HandlesTypesTarget {
+	}
+
+	/// A class that should be found by the pluggability scan.
+	static class HandlesTypesImpl implements HandlesTypesTarget {
+	}
+
+	private static final class RecordingCallback implements JarScannerCallback {
+		private final List<String> scanned = new ArrayList<>();
+
+		@Override
+		public void scan(Jar jar, String webappPath, boolean isWebapp) {
+			scanned.add(jar.getJarFileURL().toString());
+		}
+
+		@Override
+		public void scan(File file, String webappPath, boolean isWebapp) {
+			scanned.add(file.getAbsolutePath());
+		}
+
+		@Override
+		public void scanWebInfClasses() {
+		}
+	}
+}
@@ -24,14 +24,22 @@
 
 package com.github.mjeanroy.junit.servers.tomcat;
 
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import com.github.mjeanroy.junit.servers.servers.ContextDefinition;
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.NetworkConditions;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.nio.file.Files;
+import java.util.EventListener;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class EmbeddedTomcatConfigurationBuilderTest {
 
@@ -51,6 +59,21 @@ class EmbeddedTomcatConfigurationBuilderTest {
 		assertThat(builder.getClasspath()).isEqualTo("./target/classes");
 		assertThat(builder.getBaseDir()).isEqualTo("./tomcat-work");
 		assertThat(builder.isKeepBaseDir()).isFalse();
+		assertThat(builder.getJarScanIndex()).isNull();
+		assertThat(builder.getJarsToSkip()).isEmpty();
+		assertThat(builder.getJarsToScan()).isEmpty();
+		assertThat(builder.isHttp2()).isFalse();
+		assertThat(builder.isLightweight()).isFalse();
+		assertThat(builder.getServlets()).isEmpty();
+		assertThat(builder.getFilters()).isEmpty();
+		assertThat(builder.getListeners()).isEmpty();
+		assertThat(builder.getInitializers()).isEmpty();
+		assertThat(builder.isSendfile()).isTrue();
+		assertThat(builder.getSendfileSize()).isNull();
+		assertThat(builder.isCachingAllowed()).isTrue();
+		assertThat(builder.getCacheMaxSize()).isNull();
+		assertThat(builder.getCacheObjectMaxSize()).isNull();
+		assertThat(builder.getCacheTtl()).isNull();
 	}
 
 	@Test
@@ -167,4 +190,434 @@ class EmbeddedTomcatConfigurationBuilderTest {
 		assertThat(result).isSameAs(builder);
 		assertThat(result.isForceMetaInf()).isFalse();
 	}
+
+	@Test
+	void it_should_change_jar_scan_index() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withJarScanIndex("/tmp/jar-scan.index");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJarScanIndex()).isEqualTo("/tmp/jar-scan.index");
+	}
+
+	@Test
+	void it_should_change_jar_scan_index_with_file(@TempDir File dir) {
+		File file = new File(dir, "jar-scan.index");
+
+		EmbeddedTomcatConfiguration.Builder result = builder.withJarScanIndex(file);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJarScanIndex()).isEqualTo(file.getAbsolutePath());
+	}
+
+	@Test
+	void it_should_add_jars_to_skip() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withJarToSkip("foo-*.jar").withJarToSkip("bar-*.jar");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJarsToSkip()).containsExactly("foo-*.jar", "bar-*.jar");
+	}
+
+	@Test
+	void it_should_add_jars_to_scan() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withJarToScan("foo-*.jar").withJarToScan("bar-*.jar");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJarsToScan()).containsExactly("foo-*.jar", "bar-*.jar");
+	}
+
+	@Test
+	void it_should_enable_http2() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableHttp2();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isHttp2()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_http2() {
+		EmbeddedTomcatConfiguration.Builder result = builder.disableHttp2();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isHttp2()).isFalse();
+	}
+
+	@Test
+	void it_should_enable_lightweight() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableLightweight();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isLightweight()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_lightweight() {
+		EmbeddedTomcatConfiguration.Builder result = builder.disableLightweight();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isLightweight()).isFalse();
+	}
+
+	@Test
+	void it_should_add_servlet() {
+		ServletDefinition servlet = ServletDefinition.servlet(Object.class, "/foo");
+		EmbeddedTomcatConfiguration.Builder result = builder.withServlet(servlet).withServlet(Object.class, "/bar", "/baz");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getServlets()).containsExactly(
+			servlet,
+			ServletDefinition.servlet(Object.class, "/bar", "/baz")
+		);
+	}
+
+	@Test
+	void it_should_add_filter() {
+		FilterDefinition filter = FilterDefinition.filter(Object.class, "/*");
+		EmbeddedTomcatConfiguration.Builder result = builder.withFilter(filter).withFilter(Object.class, "/foo", "/bar");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getFilters()).containsExactly(
+			filter,
+			FilterDefinition.filter(Object.class, "/foo", "/bar")
+		);
+	}
+
+	@Test
+	void it_should_add_context() {
+		ContextDefinition context = ContextDefinition.builder("/foo", "/path/to/foo").withClasspath("/path/to/classes").build();
+		EmbeddedTomcatConfiguration.Builder result = builder.withContext(context).withContext("/bar", "/path/to/bar");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getContexts()).containsExactly(
+			context,
+			ContextDefinition.context("/bar", "/path/to/bar")
+		);
+	}
+
+	@Test
+	void it_should_add_listener() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withListener(EventListener.class);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getListeners()).containsExactly(EventListener.class);
+	}
+
+	@Test
+	void it_should_add_initializer() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withInitializer(Object.class);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getInitializers()).containsExactly(Object.class);
+	}
+
+	@Test
+	void it_should_enable_sendfile() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableSendfile();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isSendfile()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_sendfile() {
+		EmbeddedTomcatConfiguration.Builder result = builder.disableSendfile();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isSendfile()).isFalse();
+	}
+
+	@Test
+	void it_should_set_sendfile_size() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withSendfileSize(64);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getSendfileSize()).isEqualTo(64);
+	}
+
+	@Test
+	void it_should_enable_caching() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableCaching();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isCachingAllowed()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_caching() {
+		EmbeddedTomcatConfiguration.Builder result = builder.disableCaching();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isCachingAllowed()).isFalse();
+	}
+
+	@Test
+	void it_should_set_cache_sizes() {
+		EmbeddedTomcatConfiguration.Builder result = builder
+			.withCacheMaxSize(20480)
+			.withCacheObjectMaxSize(1024)
+			.withCacheTtl(10000);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getCacheMaxSize()).isEqualTo(20480);
+		assertThat(result.getCacheObjectMaxSize()).isEqualTo(1024);
+		assertThat(result.getCacheTtl()).isEqualTo(10000);
+	}
+
+	@Test
+	void it_should_set_start_stop_threads() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withStartStopThreads(4);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getStartStopThreads()).isEqualTo(4);
+	}
+
+	@Test
+	void it_should_set_background_processor_delay() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withBackgroundProcessorDelay(-1);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getBackgroundProcessorDelay()).isEqualTo(-1);
+	}
+
+	@Test
+	void it_should_enable_jsp_precompile() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableJspPrecompile();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isJspPrecompile()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_jsp_precompile() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableJspPrecompile().disableJspPrecompile();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isJspPrecompile()).isFalse();
+	}
+
+	@Test
+	void it_should_set_jsp_cache_directory() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withJspCacheDirectory("/tmp/jsp");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJspCacheDirectory()).isEqualTo("/tmp/jsp");
+	}
+
+	@Test
+	void it_should_set_work_directory() {
+		WorkDirectory workDirectory = WorkDirectory.builder().inMemory().enableReuse().build();
+		EmbeddedTomcatConfiguration.Builder result = builder.withWorkDirectory(workDirectory);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getWorkDirectory()).isSameAs(workDirectory);
+	}
+
+	@Test
+	void it_should_enable_in_memory_sessions() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableInMemorySessions();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isInMemorySessions()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_in_memory_sessions() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableInMemorySessions().disableInMemorySessions();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isInMemorySessions()).isFalse();
+	}
+
+	@Test
+	void it_should_set_session_scavenge_interval() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withSessionScavengeInterval(5);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getSessionScavengeInterval()).isEqualTo(5);
+	}
+
+	@Test
+	void it_should_fail_with_negative_session_scavenge_interval() {
+		assertThatThrownBy(() -> builder.withSessionScavengeInterval(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("sessionScavengeInterval must be positive");
+	}
+
+	@Test
+	void it_should_enable_session_statistics() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableSessionStatistics();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isSessionStatistics()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_session_statistics() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableSessionStatistics().disableSessionStatistics();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isSessionStatistics()).isFalse();
+	}
+
+	@Test
+	void it_should_disable_war_extraction() {
+		EmbeddedTomcatConfiguration.Builder result = builder.disableWarExtraction();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isWarExtraction()).isFalse();
+	}
+
+	@Test
+	void it_should_enable_war_extraction() {
+		EmbeddedTomcatConfiguration.Builder result = builder.disableWarExtraction().enableWarExtraction();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isWarExtraction()).isTrue();
+	}
+
+	@Test
+	void it_should_set_war_cache_directory() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withWarCacheDirectory("/tmp/war");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getWarCacheDirectory()).isEqualTo("/tmp/war");
+	}
+
+	@Test
+	void it_should_set_war_cache_directory_from_file() {
+		File directory = new File("/tmp/war");
+		EmbeddedTomcatConfiguration.Builder result = builder.withWarCacheDirectory(directory);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getWarCacheDirectory()).isEqualTo(directory.getAbsolutePath());
+	}
+
+	@Test
+	void it_should_set_classpath_webapp() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withClasspathWebapp("webapp");
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getClasspathWebapp()).isEqualTo("webapp");
+	}
+
+	@Test
+	void it_should_enable_https() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withSslSessionCacheSize(100).withSslSessionTimeout(60).enableHandshakeStatistics().enableHttps();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isHttps()).isTrue();
+		assertThat(result.getSslSessionCacheSize()).isEqualTo(100);
+		assertThat(result.getSslSessionTimeout()).isEqualTo(60);
+		assertThat(result.isHandshakeStatistics()).isTrue();
+	}
+
+	@Test
+	void it_should_set_access_log_capacity() {
+		EmbeddedTomcatConfiguration.Builder result = builder.withAccessLogCapacity(100);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getAccessLogCapacity()).isEqualTo(100);
+	}
+
+	@Test
+	void it_should_fail_with_negative_access_log_capacity() {
+		assertThatThrownBy(() -> builder.withAccessLogCapacity(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("accessLogCapacity must be positive");
+	}
+
+	@Test
+	void it_should_enable_tracing() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableTracing();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isTracing()).isTrue();
+	}
+
+	@Test
+	void it_should_set_connection_settings() {
+		EmbeddedTomcatConfiguration.Builder result = builder
+			.withMaxConnections(100)
+			.withAcceptQueueSize(50)
+			.withIdleTimeout(30000)
+			.withMaxKeepAliveRequests(10);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getMaxConnections()).isEqualTo(100);
+		assertThat(result.getAcceptQueueSize()).isEqualTo(50);
+		assertThat(result.getIdleTimeout()).isEqualTo(30000);
+		assertThat(result.getMaxKeepAliveRequests()).isEqualTo(10);
+	}
+
+	@Test
+	void it_should_fail_with_negative_max_connections() {
+		assertThatThrownBy(() -> builder.withMaxConnections(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("maxConnections must be positive");
+	}
+
+	@Test
+	void it_should_fail_with_negative_idle_timeout() {
+		assertThatThrownBy(() -> builder.withIdleTimeout(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("idleTimeout must be positive");
+	}
+
+	@Test
+	void it_should_set_network_conditions() {
+		NetworkConditions networkConditions = NetworkConditions.builder().withLatency(50).build();
+		EmbeddedTomcatConfiguration.Builder result = builder.withNetworkConditions(networkConditions);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getNetworkConditions()).isSameAs(networkConditions);
+	}
+
+	@Test
+	void it_should_set_jsp_cache_directory_from_file() {
+		File directory = new File("/tmp/jsp");
+		EmbeddedTomcatConfiguration.Builder result = builder.withJspCacheDirectory(directory);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getJspCacheDirectory()).isEqualTo(directory.getAbsolutePath());
+	}
+
+	@Test
+	void it_should_enable_compression() {
+		Compression compression = Compression.builder().withMinSize(1024).withMimeType("application/json").build();
+		EmbeddedTomcatConfiguration.Builder result = builder.withCompression(compression);
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getCompression()).isEqualTo(compression);
+	}
+
+	@Test
+	void it_should_enable_default_compression() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableCompression();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getCompression()).isEqualTo(Compression.defaultCompression());
+	}
+
+	@Test
+	void it_should_disable_compression() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableCompression().disableCompression();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.getCompression()).isNull();
+	}
+
+	@Test
+	void it_should_enable_request_latency() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableRequestLatency();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isRequestLatency()).isTrue();
+	}
+
+	@Test
+	void it_should_disable_request_latency() {
+		EmbeddedTomcatConfiguration.Builder result = builder.enableRequestLatency().disableRequestLatency();
+
+		assertThat(result).isSameAs(builder);
+		assertThat(result.isRequestLatency()).isFalse();
+	}
 }
@@ -24,6 +24,9 @@
 
 package com.github.mjeanroy.junit.servers.tomcat;
 
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.junit.jupiter.api.Test;
@@ -31,6 +34,7 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.EventListener;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,6 +54,36 @@ class EmbeddedTomcatConfigurationTest {
 		assertThat(result.isForceMetaInf()).isTrue();
 		assertThat(result.isEnableNaming()).isTrue();
 		assertThat(result.isKeepBaseDir()).isFalse();
+		assertThat(result.getJarScanIndex()).isNull();
+		assertThat(result.getJarsToSkip()).isEmpty();
+		assertThat(result.getJarsToScan()).isEmpty();
+		assertThat(result.isHttp2()).isFalse();
+		assertThat(result.isLightweight()).isFalse();
+		assertThat(result.getServlets()).isEmpty();
+		assertThat(result.getFilters()).isEmpty();
+		assertThat(result.getListeners()).isEmpty();
+		assertThat(result.getInitializers()).isEmpty();
+		assertThat(result.isSendfile()).isTrue();
+		assertThat(result.getSendfileSize()).isNull();
+		assertThat(result.isCachingAllowed()).isTrue();
+		assertThat(result.getCacheMaxSize()).isNull();
+		assertThat(result.getCacheObjectMaxSize()).isNull();
+		assertThat(result.getCacheTtl()).isNull();
+		assertThat(result.getStartStopThreads()).isNull();
+		assertThat(result.getBackgroundProcessorDelay()).isNull();
+		assertThat(result.isJspPrecompile()).isFalse();
+		assertThat(result.getJspCacheDirectory()).isNull();
+		assertThat(result.getWorkDirectory()).isNull();
+		assertThat(result.isInMemorySessions()).isFalse();
+		assertThat(result.getSessionScavengeInterval()).isNull();
+		assertThat(result.isSessionStatistics()).isFalse();
+		assertThat(result.isWarExtraction()).isTrue();
+		assertThat(result.getWarCacheDirectory()).isNull();
+		assertThat(result.getClasspathWebapp()).isNull();
+		assertThat(result.isHttps()).isFalse();
+		assertThat(result.getSslSessionCacheSize()).isNull();
+		assertThat(result.getSslSessionTimeout()).isNull();
+		assertThat(result.isHandshakeStatistics()).isFalse();
 	}
 
 	@Test
@@ -58,6 +92,8 @@ class EmbeddedTomcatConfigurationTest {
 		String path = "/foo";
 		String webapp = "foo";
 		String classpath = "/target/classes";
+		ServletDefinition servlet = ServletDefinition.servlet(Object.class, "/foo");
+		FilterDefinition filter = FilterDefinition.filter(Object.class, "/*");
 
 		EmbeddedTomcatConfiguration result = EmbeddedTomcatConfiguration.builder()
 			.withPort(port)
@@ -67,6 +103,36 @@ class EmbeddedTomcatConfigurationTest {
 			.disableNaming()
 			.disableForceMetaInf()
 			.keepBaseDir()
+			.withJarScanIndex("/tmp/jar-scan.index")
+			.withJarToSkip("foo-*.jar")
+			.withJarToScan("bar-*.jar")
+			.enableHttp2()
+			.enableLightweight()
+			.withServlet(servlet)
+			.withFilter(filter)
+			.withListener(EventListener.class)
+			.withInitializer(Object.class)
+			.disableSendfile()
+			.withSendfileSize(64)
+			.disableCaching()
+			.withCacheMaxSize(20480)
+			.withCacheObjectMaxSize(1024)
+			.withCacheTtl(10000)
+			.withStartStopThreads(0)
+			.withBackgroundProcessorDelay(-1)
+			.enableJspPrecompile()
+			.withJspCacheDirectory("/tmp/jsp")
+			.withWorkDirectory(WorkDirectory.inMemory())
+			.enableInMemorySessions()
+			.withSessionScavengeInterval(5)
+			.enableSessionStatistics()
+			.disableWarExtraction()
+			.withWarCacheDirectory("/tmp/war")
+			.withClasspathWebapp("webapp")
+			.enableHttps()
+			.withSslSessionCacheSize(100)
+			.withSslSessionTimeout(60)
+			.enableHandshakeStatistics()
 			.build();
 
 		assertThat(result.getPort()).isEqualTo(port);
@@ -76,6 +142,36 @@ class EmbeddedTomcatConfigurationTest {
 		assertThat(result.isForceMetaInf()).isFalse();
 		assertThat(result.isEnableNaming()).isFalse();
 		assertThat(result.isKeepBaseDir()).isTrue();
+		assertThat(result.getJarScanIndex()).isEqualTo("/tmp/jar-scan.index");
+		assertThat(result.getJarsToSkip()).containsExactly("foo-*.jar");
+		assertThat(result.getJarsToScan()).containsExactly("bar-*.jar");
+		assertThat(result.isHttp2()).isTrue();
+		assertThat(result.isLightweight()).isTrue();
+		assertThat(result.getServlets()).containsExactly(servlet);
+		assertThat(result.getFilters()).containsExactly(filter);
+		assertThat(result.getListeners()).containsExactly(EventListener.class);
+		assertThat(result.getInitializers()).containsExactly(Object.class);
+		assertThat(result.isSendfile()).isFalse();
+		assertThat(result.getSendfileSize()).isEqualTo(64);
+		assertThat(result.isCachingAllowed()).isFalse();
+		assertThat(result.getCacheMaxSize()).isEqualTo(20480);
+		assertThat(result.getCacheObjectMaxSize()).isEqualTo(1024);
+		assertThat(result.getCacheTtl()).isEqualTo(10000);
+		assertThat(result.getStartStopThreads()).isZero();
+		assertThat(result.getBackgroundProcessorDelay()).isEqualTo(-1);
+		assertThat(result.isJspPrecompile()).isTrue();
+		assertThat(result.getJspCacheDirectory()).isEqualTo("/tmp/jsp");
+		assertThat(result.getWorkDirectory()).isEqualTo(WorkDirectory.inMemory());
+		assertThat(result.isInMemorySessions()).isTrue();
+		assertThat(result.getSessionScavengeInterval()).isEqualTo(5);
+		assertThat(result.isSessionStatistics()).isTrue();
+		assertThat(result.isWarExtraction()).isFalse();
+		assertThat(result.getWarCacheDirectory()).isEqualTo("/tmp/war");
+		assertThat(result.getClasspathWebapp()).isEqualTo("webapp");
+		assertThat(result.isHttps()).isTrue();
+		assertThat(result.getSslSessionCacheSize()).isEqualTo(100);
+		assertThat(result.getSslSessionTimeout()).isEqualTo(60);
+		assertThat(result.isHandshakeStatistics()).isTrue();
 	}
 
 	@Test
@@ -103,7 +199,47 @@ class EmbeddedTomcatConfigurationTest {
 				"baseDir: \"./tomcat-work\", " +
 				"keepBaseDir: false, " +
 				"enableNaming: true, " +
-				"forceMetaInf: true" +
+				"forceMetaInf: true, " +
+				"jarScanIndex: null, " +
+				"jarsToSkip: [], " +
+				"jarsToScan: [], " +
+				"http2: false, " +
+				"lightweight: false, " +
+				"servlets: [], " +
+				"filters: [], " +
+				"listeners: [], " +
+				"initializers: [], " +
+				"sendfile: true, " +
+				"sendfileSize: null, " +
+				"cachingAllowed: true, " +
+				"cacheMaxSize: null, " +
+				"cacheObjectMaxSize: null, " +
+				"cacheTtl: null, " +
+				"compression: null, " +
+				"requestLatency: false, " +
+				"contexts: [], " +
+				"startStopThreads: null, " +
+				"backgroundProcessorDelay: null, " +
+				"jspPrecompile: false, " +
+				"jspCacheDirectory: null, " +
+				"workDirectory: null, " +
+				"inMemorySessions: false, " +
+				"sessionScavengeInterval: null, " +
+				"sessionStatistics: false, " +
+				"warExtraction: true, " +
+				"warCacheDirectory: null, " +
+				"classpathWebapp: null, " +
+				"https: false, " +
+				"sslSessionCacheSize: null, " +
+				"sslSessionTimeout: null, " +
+				"handshakeStatistics: false, " +
+				"accessLogCapacity: null, " +
+				"tracing: false, " +
+				"maxConnections: null, " +
+				"acceptQueueSize: null, " +
+				"idleTimeout: null, " +
+				"maxKeepAliveRequests: null, " +
+				"networkConditions: null" +
 			"}"
 		);
 	}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.tomcat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JarScanIndexTest {
+
+	@Test
+	void it_should_inspect_jar_content(@TempDir File dir) throws Exception {
+		File empty = createJar(new File(dir, "empty.jar"), null);
+		File tld = createJar(new File(dir, "tld.jar"), null, "META-INF/tags/foo.tld");
+		File fragment = createJar(new File(dir, "fragment.jar"), null, "META-INF/web-fragment.xml");
+		File resources = createJar(new File(dir, "resources.jar"), null, "META-INF/resources/index.html");
+		File initializer = createJar(new File(dir, "initializer.jar"), null, "META-INF/services/jakarta.servlet.ServletContainerInitializer");
+		File classPath = createJar(new File(dir, "class-path.jar"), "empty.jar");
+
+		JarScanIndex index = JarScanIndex.load(new File(dir, "jar-scan.index"));
+
+		assertThat(index.lookup(empty)).isZero();
+		assertThat(index.lookup(tld)).isEqualTo(JarScanIndex.TLD);
+		assertThat(index.lookup(fragment)).isEqualTo(JarScanIndex.WEB_FRAGMENT);
+		assertThat(index.lookup(resources)).isEqualTo(JarScanIndex.STATIC_RESOURCES);
+		assertThat(index.lookup(initializer)).isEqualTo(JarScanIndex.INITIALIZER);
+		assertThat(index.lookup(classPath)).isEqualTo(JarScanIndex.MANIFEST_CLASS_PATH);
+		assertThat(index.getHits()).isZero();
+		assertThat(index.getMisses()).isEqualTo(6);
+	}
+
+	@Test
+	void it_should_reuse_stored_index(@TempDir File dir) throws Exception {
+		File jar = createJar(new File(dir, "tld.jar"), null, "META-INF/foo.tld");
+		File file = new File(dir, "jar-scan.index");
+
+		JarScanIndex index = JarScanIndex.load(file);
+		assertThat(index.lookup(jar)).isEqualTo(JarScanIndex.TLD);
+		index.store();
+		assertThat(file).exists();
+
+		JarScanIndex reloaded = JarScanIndex.load(file);
+		assertThat(reloaded.lookup(jar)).isEqualTo(JarScanIndex.TLD);
+		assertThat(reloaded.getHits()).isEqualTo(1);
+		assertThat(reloaded.getMisses()).isZero();
+	}
+
+	@Test
+	void it_should_inspect_again_modified_jar(@TempDir File dir) throws Exception {
+		File jar = createJar(new File(dir, "foo.jar"), null);
+		File file = new File(dir, "jar-scan.index");
+
+		JarScanIndex index = JarScanIndex.load(file);
+		assertThat(index.lookup(jar)).isZero();
+		index.store();
+
+		createJar(jar, null, "META-INF/web-fragment.xml");
+
+		JarScanIndex reloaded = JarScanIndex.load(file);
+		assertThat(reloaded.lookup(jar)).isEqualTo(JarScanIndex.WEB_FRAGMENT);
+		assertThat(reloaded.getHits()).isZero();
+		assertThat(reloaded.getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_ignore_corrupted_index(@TempDir File dir) throws Exception {
+		File file = new File(dir, "jar-scan.index");
+		Files.write(file.toPath(), "foo.jar=bar\n".getBytes());
+
+		JarScanIndex index = JarScanIndex.load(file);
+		File jar = createJar(new File(dir, "foo.jar"), null);
+
+		assertThat(index.lookup(jar)).isZero();
+		assertThat(index.getMisses()).isEqualTo(1);
+	}
+
+	private static File createJar(File jar, String classPath, String... entries) throws IOException {
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		if (classPath != null) {
+			manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath);
+		}
+
+		try (OutputStream os = Files.newOutputStream(jar.toPath()); JarOutputStream jos = new JarOutputStream(os, manifest)) {
+			for (String entry : entries) {
+				jos.putNextEntry(new JarEntry(entry));
+				jos.closeEntry();
+			}
+		}
+
+		// Ensure modification is detected, even on file systems with a low timestamp resolution.
+		if (!jar.setLastModified(jar.lastModified() + 2000)) {
+			throw new IOException("Cannot update last modification date of " + jar);
+		}
+
+		return jar;
+	}
+}
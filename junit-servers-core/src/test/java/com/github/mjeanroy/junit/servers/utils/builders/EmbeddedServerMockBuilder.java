@@ -52,6 +52,12 @@ public class EmbeddedServerMockBuilder {
 	/// Server path.
 	private String path;
 
+	/// Server unix domain socket path.
+	private String socketPath;
+
+	/// Server tracing flag.
+	private boolean tracing;
+
 	/// Create new builder.
 	public EmbeddedServerMockBuilder() {
 		this.configuration = new AbstractConfigurationMockBuilder().build();
@@ -106,6 +112,24 @@ public class EmbeddedServerMockBuilder {
 		return this;
 	}
 
+	/// Update [#socketPath].
+	///
+	/// @param socketPath New [#socketPath]
+	/// @return The builder.
+	public EmbeddedServerMockBuilder withSocketPath(String socketPath) {
+		this.socketPath = socketPath;
+		return this;
+	}
+
+	/// Update [#tracing].
+	///
+	/// @param tracing New [#tracing]
+	/// @return The builder.
+	public EmbeddedServerMockBuilder withTracing(boolean tracing) {
+		this.tracing = tracing;
+		return this;
+	}
+
 	/// Create new mock instance of [EmbeddedServer].
 	///
 	/// @return The mock instance.
@@ -118,7 +142,9 @@ public class EmbeddedServerMockBuilder {
 		when(server.getHost()).thenReturn(host);
 		when(server.getPort()).thenReturn(port);
 		when(server.getPath()).thenReturn(path);
+		when(server.getSocketPath()).thenReturn(socketPath);
 		when(server.getUrl()).thenReturn(url(scheme, host, port, path));
+		when(server.isTracing()).thenReturn(tracing);
 
 		doAnswer(new IsStartedAnswer(server, true)).when(server).start();
 		doAnswer(new IsStartedAnswer(server, false)).when(server).stop();
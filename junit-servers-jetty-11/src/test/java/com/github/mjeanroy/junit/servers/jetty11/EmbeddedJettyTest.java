@@ -24,16 +24,60 @@
 
 package com.github.mjeanroy.junit.servers.jetty11;
 
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.impl.okhttp3.OkHttpClient;
 import com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration;
+import com.github.mjeanroy.junit.servers.servers.AccessRecord;
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import com.github.mjeanroy.junit.servers.servers.LatencyStatistics;
+import com.github.mjeanroy.junit.servers.servers.NetworkConditions;
+import com.github.mjeanroy.junit.servers.servers.ServerStatistics;
+import com.github.mjeanroy.junit.servers.servers.SessionStatistics;
+import com.github.mjeanroy.junit.servers.servers.Span;
+import com.github.mjeanroy.junit.servers.servers.TraceContext;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
 import com.github.mjeanroy.junit.servers.testing.HttpTestUtils.HttpResponse;
 import com.github.mjeanroy.junit.servers.testing.IoTestUtils.TempFile;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.ConnectionLimit;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.session.DefaultSessionIdManager;
 import org.eclipse.jetty.webapp.WebAppContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static com.github.mjeanroy.junit.servers.testing.HttpTestUtils.get;
 import static com.github.mjeanroy.junit.servers.testing.HttpTestUtils.localhost;
@@ -142,6 +186,609 @@ class EmbeddedJettyTest {
 		});
 	}
 
+	@Test
+	void it_should_enable_h2c() {
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.enableHttp2()
+			.build();
+
+		run(configuration, (jetty) -> {
+			List<String> protocols = jetty.getDelegate().getConnectors()[0].getProtocols();
+			assertThat(protocols).contains("http/1.1", "h2c");
+
+			HttpResponse rsp = get(jetty.getUrl());
+			assertThat(rsp.getStatusCode()).isEqualTo(200);
+		});
+	}
+
+	@Test
+	void it_should_start_lightweight_servlet_context() {
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.enableLightweight()
+			.withListener(TestListener.class)
+			.withFilter(TestFilter.class, "/*")
+			.withServlet(TestServlet.class, "/test")
+			.build();
+
+		run(configuration, (jetty) -> {
+			assertThat(jetty.getDelegate().getHandler()).isNotInstanceOf(WebAppContext.class);
+			assertThat(jetty.getServletContext()).isNotNull();
+
+			HttpResponse rsp = get(jetty.getUrl() + "test");
+			assertThat(rsp.getStatusCode()).isEqualTo(200);
+			assertThat(rsp.getResponseBody()).isEqualTo("filter:listener");
+		});
+	}
+
+	@Test
+	void it_should_serve_static_files_with_file_mapped_buffers(@TempDir Path tmp) throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			content.append("Hello World ").append(i).append("\n");
+		}
+
+		Files.write(tmp.resolve("static.txt"), content.toString().getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(tmp.toFile())
+			.enableFileMappedBuffer()
+			.withMaxCacheSize(1024 * 1024)
+			.withMaxCachedFileSize(512 * 1024)
+			.withMaxCachedFiles(10)
+			.build();
+
+		run(configuration, (jetty) -> {
+			WebAppContext ctx = (WebAppContext) jetty.getDelegate().getHandler();
+			assertThat(ctx.getInitParameter("org.eclipse.jetty.servlet.Default.useFileMappedBuffer")).isEqualTo("true");
+			assertThat(ctx.getInitParameter("org.eclipse.jetty.servlet.Default.maxCacheSize")).isEqualTo("1048576");
+			assertThat(ctx.getInitParameter("org.eclipse.jetty.servlet.Default.maxCachedFileSize")).isEqualTo("524288");
+			assertThat(ctx.getInitParameter("org.eclipse.jetty.servlet.Default.maxCachedFiles")).isEqualTo("10");
+
+			for (int i = 0; i < 2; i++) {
+				HttpResponse rsp = get(jetty.getUrl() + "static.txt");
+				assertThat(rsp.getStatusCode()).isEqualTo(200);
+				assertThat(rsp.getResponseBody()).isEqualTo(content.toString());
+			}
+		});
+	}
+
+	@Test
+	void it_should_compress_responses(@TempDir Path tmp) throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			content.append("Hello World ").append(i).append("\n");
+		}
+
+		Files.write(tmp.resolve("static.txt"), content.toString().getBytes(StandardCharsets.UTF_8));
+
+		Compression compression = Compression.builder()
+			.withMinSize(1024)
+			.withMimeType("text/plain")
+			.withLevel(9)
+			.build();
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(tmp.toFile())
+			.withCompression(compression)
+			.build();
+
+		run(configuration, (jetty) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				com.github.mjeanroy.junit.servers.client.HttpResponse rsp = client.prepareGet("/static.txt").execute();
+				assertThat(rsp.status()).isEqualTo(200);
+				assertThat(rsp.body()).isEqualTo(content.toString());
+				assertThat(rsp.getDecodedBodySize()).isEqualTo(content.length());
+				assertThat(rsp.getEncodedBodySize()).isPositive().isLessThan(rsp.getDecodedBodySize());
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_collect_statistics(@TempDir Path tmp) throws IOException {
+		Files.write(tmp.resolve("static.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(tmp.toFile())
+			.enableStatistics()
+			.build();
+
+		run(configuration, (jetty) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+				assertThat(client.prepareGet("/missing.txt").execute().status()).isEqualTo(404);
+
+				// Statistics of a request may be updated once the response has been sent, so wait for active requests to complete.
+				ServerStatistics statistics = await(jetty::getStatistics, (snapshot) -> snapshot.getActiveRequests() == 0);
+				assertThat(statistics.getRequestCount()).isEqualTo(3);
+				assertThat(statistics.getActiveRequests()).isZero();
+				assertThat(statistics.getMaxActiveRequests()).isPositive();
+				assertThat(statistics.getErrorCount()).isEqualTo(1);
+				assertThat(statistics.getMaxConnections()).isPositive();
+				assertThat(statistics.getBytesReceived()).isNotNegative();
+				assertThat(statistics.getBytesSent()).isNotNegative();
+				assertThat(statistics.getDispatchTimeMean()).isNotNegative();
+				assertThat(statistics.getDispatchTimeMax()).isNotNegative();
+				assertThat(statistics.getHeapBufferMemory()).isNotNegative();
+				assertThat(statistics.getDirectBufferMemory()).isNotNegative();
+
+				jetty.resetStatistics();
+
+				ServerStatistics resetStatistics = jetty.getStatistics();
+				assertThat(resetStatistics.getRequestCount()).isZero();
+				assertThat(resetStatistics.getErrorCount()).isZero();
+				assertThat(resetStatistics.getBytesReceived()).isZero();
+				assertThat(resetStatistics.getBytesSent()).isZero();
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_not_collect_statistics_by_default() {
+		run(EmbeddedJettyConfiguration.defaultConfiguration(), (jetty) -> {
+			assertThat(jetty.getStatistics()).isNull();
+		});
+	}
+
+	@Test
+	void it_should_record_request_latencies(@TempDir Path tmp) throws IOException {
+		Files.write(tmp.resolve("static.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(tmp.toFile())
+			.enableRequestLatency()
+			.build();
+
+		run(configuration, (jetty) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+				assertThat(client.prepareGet("/missing.txt").execute().status()).isEqualTo(404);
+
+				// Latency of a request is recorded once the filter chain returns, which may be after the response has been received.
+				Map<String, LatencyStatistics> latencies = await(jetty::getRequestLatencies, (snapshot) -> snapshot.values().stream().mapToLong(LatencyStatistics::getCount).sum() >= 3);
+				assertThat(latencies).isNotEmpty();
+				assertThat(latencies.values()).allSatisfy((statistics) -> {
+					assertThat(statistics.getCount()).isPositive();
+					assertThat(statistics.getP50()).isPositive().isLessThanOrEqualTo(statistics.getP99());
+					assertThat(statistics.getP99()).isLessThanOrEqualTo(statistics.getP999());
+					assertThat(statistics.getP999()).isLessThanOrEqualTo(statistics.getMax());
+				});
+
+				jetty.resetRequestLatencies();
+				assertThat(jetty.getRequestLatencies()).isEmpty();
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_not_record_request_latencies_by_default() {
+		run((jetty) -> {
+			assertThat(jetty.getRequestLatencies()).isNull();
+		});
+	}
+
+	@Test
+	void it_should_redeploy(@TempDir Path tmp) {
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(tmp.toFile())
+			.withListener(TestListener.class)
+			.withFilter(TestFilter.class, "/*")
+			.withServlet(TestServlet.class, "/test")
+			.enableRequestLatency()
+			.build();
+
+		run(configuration, (jetty) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				int port = jetty.getPort();
+				((ServletContext) jetty.getServletContext()).setAttribute("redeploy", "redeploy");
+				assertThat(client.prepareGet("/test").execute().body()).isEqualTo("filter:listener");
+
+				jetty.redeploy();
+
+				assertThat(jetty.isStarted()).isTrue();
+				assertThat(jetty.getPort()).isEqualTo(port);
+				assertThat(((ServletContext) jetty.getServletContext()).getAttribute("redeploy")).isNull();
+				assertThat(client.prepareGet("/test").execute().body()).isEqualTo("filter:listener");
+				// Latency of a request is recorded once the filter chain returns, which may be after the response has been received.
+				Map<String, LatencyStatistics> latencies = await(jetty::getRequestLatencies, (snapshot) -> snapshot.values().stream().mapToLong(LatencyStatistics::getCount).sum() >= 2);
+				assertThat(latencies).containsKey("/test");
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_deploy_additional_contexts(@TempDir Path tmp) throws IOException {
+		Path main = Files.createDirectory(tmp.resolve("main"));
+		Path other = Files.createDirectory(tmp.resolve("other"));
+		Files.write(other.resolve("static.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(main.toFile())
+			.withListener(TestListener.class)
+			.withFilter(TestFilter.class, "/*")
+			.withServlet(TestServlet.class, "/test")
+			.withContext("/other", other.toString())
+			.build();
+
+		run(configuration, (jetty) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				assertThat(client.prepareGet("/test").execute().body()).isEqualTo("filter:listener");
+				assertThat(client.prepareGet("/other/static.txt").execute().body()).isEqualTo("Hello World");
+				assertThat(client.prepareGet("/other/test").execute().status()).isEqualTo(404);
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_precompile_jsp(@TempDir Path tmp) throws IOException {
+		Path webapp = Files.createDirectory(tmp.resolve("webapp"));
+		Path cache = tmp.resolve("jsp-cache");
+		Files.write(webapp.resolve("index.jsp"), "<%= 1 + 1 %>".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(webapp.toFile())
+			.enableJspPrecompile()
+			.withJspCacheDirectory(cache.toFile())
+			.build();
+
+		run(configuration, (jetty) -> {
+			assertThat(containsFile(cache, "index_jsp.class")).isTrue();
+
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				assertThat(client.prepareGet("/index.jsp").execute().body()).contains("2");
+			}
+			finally {
+				client.destroy();
+			}
+		});
+
+		assertThat(containsFile(cache, "index_jsp.class")).isTrue();
+	}
+
+	@Test
+	void it_should_precompile_jsp_over_https(@TempDir Path tmp) throws IOException {
+		Path webapp = Files.createDirectory(tmp.resolve("webapp"));
+		Path cache = tmp.resolve("jsp-cache");
+		Files.write(webapp.resolve("index.jsp"), "<%= 1 + 1 %>".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(webapp.toFile())
+			.enableHttps()
+			.enableJspPrecompile()
+			.withJspCacheDirectory(cache.toFile())
+			.build();
+
+		run(configuration, (jetty) -> {
+			assertThat(containsFile(cache, "index_jsp.class")).isTrue();
+
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				assertThat(client.prepareGet("/index.jsp").execute().body()).contains("2");
+			}
+			finally {
+				client.destroy();
+			}
+		});
+
+		assertThat(containsFile(cache, "index_jsp.class")).isTrue();
+	}
+
+	@Test
+	void it_should_reuse_warm_work_directory(@TempDir Path tmp) throws IOException {
+		Path webapp = Files.createDirectory(tmp.resolve("webapp"));
+		File root = Files.createDirectory(tmp.resolve("work")).toFile();
+		Files.write(webapp.resolve("static.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(webapp.toFile())
+			.withWorkDirectory(WorkDirectory.builder().withRoot(root).enableReuse().build())
+			.build();
+
+		run(configuration, (jetty) -> {
+			assertThat(root.list()).hasSize(1);
+			assertThat(get(jetty.getUrl() + "static.txt").getStatusCode()).isEqualTo(200);
+		});
+
+		String[] directories = root.list();
+		assertThat(directories).hasSize(1);
+
+		run(configuration, (jetty) -> {
+			assertThat(root.list()).containsExactly(directories);
+			assertThat(get(jetty.getUrl() + "static.txt").getStatusCode()).isEqualTo(200);
+		});
+	}
+
+	@Test
+	void it_should_use_in_memory_sessions(@TempDir Path tmp) throws IOException {
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(Files.createDirectory(tmp.resolve("webapp")).toFile())
+			.withServlet(SessionServlet.class, "/session")
+			.enableInMemorySessions()
+			.withSessionScavengeInterval(5)
+			.enableSessionStatistics()
+			.build();
+
+		run(configuration, (jetty) -> {
+			assertThat(jetty.getSessionStatistics()).isEqualTo(SessionStatistics.of(0, 0, 0));
+
+			assertThat(get(jetty.getUrl() + "session").getStatusCode()).isEqualTo(200);
+			assertThat(get(jetty.getUrl() + "session").getStatusCode()).isEqualTo(200);
+			assertThat(jetty.getSessionStatistics()).isEqualTo(SessionStatistics.of(2, 2, 2));
+
+			DefaultSessionIdManager sessionIdManager = jetty.getDelegate().getBean(DefaultSessionIdManager.class);
+			assertThat(sessionIdManager.getSessionHouseKeeper().getIntervalSec()).isEqualTo(5);
+		});
+	}
+
+	@Test
+	void it_should_serve_war_without_extraction(@TempDir Path tmp) throws IOException {
+		Path tempDirectory = Files.createDirectory(tmp.resolve("tmp"));
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(createWar(tmp.resolve("app.war")))
+			.withTempDirectory(tempDirectory.toString())
+			.disableWarExtraction()
+			.build();
+
+		run(configuration, (jetty) -> {
+			assertThat(get(jetty.getUrl() + "index.html").getStatusCode()).isEqualTo(200);
+			assertThat(containsFile(tempDirectory, "index.html")).isFalse();
+		});
+	}
+
+	@Test
+	void it_should_serve_war_from_cache(@TempDir Path tmp) throws IOException {
+		Path cache = tmp.resolve("cache");
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(createWar(tmp.resolve("app.war")))
+			.withWarCacheDirectory(cache.toFile())
+			.build();
+
+		run(configuration, (jetty) -> assertThat(get(jetty.getUrl() + "index.html").getStatusCode()).isEqualTo(200));
+		run(configuration, (jetty) -> assertThat(get(jetty.getUrl() + "index.html").getStatusCode()).isEqualTo(200));
+
+		try (Stream<Path> directories = Files.list(cache)) {
+			assertThat(directories).hasSize(1);
+		}
+	}
+
+	@Test
+	void it_should_serve_classpath_webapp(@TempDir Path tmp) throws IOException {
+		Path classes = tmp.resolve("classes");
+		Path directory = Files.createDirectories(classes.resolve("fixtures"));
+		Files.write(directory.resolve("directory.html"), "<p>Hello World</p>".getBytes(StandardCharsets.UTF_8));
+		File jar = createArchive(tmp.resolve("fixtures.jar"), "fixtures/", "fixtures/jar.html");
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withClasspathWebapp("fixtures")
+			.build();
+
+		URL[] urls = {classes.toUri().toURL(), jar.toURI().toURL()};
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		try (URLClassLoader classLoader = new URLClassLoader(urls, contextClassLoader)) {
+			Thread.currentThread().setContextClassLoader(classLoader);
+			run(configuration, (jetty) -> {
+				assertThat(get(jetty.getUrl() + "directory.html").getStatusCode()).isEqualTo(200);
+				assertThat(get(jetty.getUrl() + "jar.html").getStatusCode()).isEqualTo(200);
+			});
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(contextClassLoader);
+		}
+	}
+
+	@Test
+	void it_should_serve_https(@TempDir Path tmp) throws IOException {
+		Files.write(tmp.resolve("static.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(tmp.toFile())
+			.enableHttps()
+			.withSslSessionCacheSize(100)
+			.enableHandshakeStatistics()
+			.build();
+
+		run(configuration, (jetty) -> {
+			assertThat(jetty.getScheme()).isEqualTo("https");
+			assertThat(jetty.getUrl()).startsWith("https://");
+			assertThat(jetty.getCertificate()).isNotNull();
+
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				com.github.mjeanroy.junit.servers.client.HttpResponse rsp = client.prepareGet("/static.txt").execute();
+				assertThat(rsp.status()).isEqualTo(200);
+				assertThat(rsp.body()).isEqualTo("Hello World");
+
+				LatencyStatistics handshakes = jetty.getHandshakeStatistics();
+				assertThat(handshakes.getCount()).isEqualTo(1);
+				assertThat(handshakes.getMax()).isPositive();
+
+				jetty.resetHandshakeStatistics();
+				assertThat(jetty.getHandshakeStatistics().getCount()).isZero();
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_record_access_log(@TempDir Path tmp) throws IOException {
+		Files.write(tmp.resolve("static.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(tmp.toFile())
+			.withAccessLogCapacity(2)
+			.build();
+
+		run(configuration, (jetty) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				for (int i = 0; i < 3; i++) {
+					assertThat(client.prepareGet("/static.txt").addQueryParam("i", String.valueOf(i)).execute().status()).isEqualTo(200);
+				}
+
+				// A request is added to the access log once it is completed, which may be after the response has been received.
+				List<AccessRecord> accessLog = await(jetty::getAccessLog, (snapshot) -> snapshot.stream().anyMatch((record) -> record.getUri().equals("/static.txt?i=2")));
+				assertThat(accessLog).hasSize(2);
+				assertThat(accessLog).extracting(AccessRecord::getUri).containsExactly("/static.txt?i=1", "/static.txt?i=2");
+				assertThat(accessLog).allSatisfy((record) -> {
+					assertThat(record.getMethod()).isEqualTo("GET");
+					assertThat(record.getStatus()).isEqualTo(200);
+					assertThat(record.getBytes()).isEqualTo(11);
+					assertThat(record.getDuration()).isNotNegative();
+					assertThat(record.getThread()).isNotEmpty();
+				});
+
+				jetty.clearAccessLog();
+				assertThat(jetty.getAccessLog()).isEmpty();
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_record_trace_spans(@TempDir Path tmp) throws IOException {
+		Files.write(tmp.resolve("static.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(tmp.toFile())
+			.enableTracing()
+			.build();
+
+		run(configuration, (jetty) -> {
+			TraceContext trace = TraceContext.start("EmbeddedJettyTest#it_should_record_trace_spans");
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+
+				// A server span is recorded once the request has been handled, which may be after the response has been received.
+				List<Span> spans = await(trace::getSpans, (snapshot) -> snapshot.size() >= 2);
+				assertThat(spans).extracting(Span::getKind).containsExactly(Span.Kind.CLIENT, Span.Kind.SERVER);
+
+				Span clientSpan = spans.get(0);
+				Span serverSpan = spans.get(1);
+				assertThat(serverSpan.getTraceId()).isEqualTo(trace.getTraceId());
+				assertThat(serverSpan.getParentId()).isEqualTo(clientSpan.getSpanId());
+				assertThat(serverSpan.getName()).isEqualTo("GET /static.txt");
+				assertThat(serverSpan.getStart()).isGreaterThanOrEqualTo(clientSpan.getStart());
+				assertThat(serverSpan.getDuration()).isPositive();
+			}
+			finally {
+				client.destroy();
+				TraceContext.end();
+			}
+		});
+	}
+
+	@Test
+	void it_should_close_connection_after_max_keep_alive_requests(@TempDir Path tmp) throws IOException {
+		Files.write(tmp.resolve("static.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(tmp.toFile())
+			.withMaxConnections(10)
+			.withAcceptQueueSize(10)
+			.withIdleTimeout(5000)
+			.withMaxKeepAliveRequests(2)
+			.build();
+
+		run(configuration, (jetty) -> {
+			Server server = jetty.getDelegate();
+			assertThat(server.getBean(ConnectionLimit.class).getMaxConnections()).isEqualTo(10);
+			assertThat(server.getBean(ServerConnector.class).getAcceptQueueSize()).isEqualTo(10);
+			assertThat(server.getBean(ServerConnector.class).getIdleTimeout()).isEqualTo(5000);
+
+			// Three pipelined requests: the connection is closed once the second response is sent.
+			String request = "GET /static.txt HTTP/1.1\r\nHost: localhost\r\n\r\n";
+			String responses = sendAndReadUntilClosed(jetty.getPort(), request + request + request);
+			assertThat(responses.split("HTTP/1.1 200", -1)).hasSize(3);
+			assertThat(responses.toLowerCase()).contains("connection: close");
+		});
+	}
+
+	@Test
+	void it_should_emulate_network_conditions(@TempDir Path tmp) throws IOException {
+		Files.write(tmp.resolve("static.txt"), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedJettyConfiguration configuration = EmbeddedJettyConfiguration.builder()
+			.withWebapp(tmp.toFile())
+			.withNetworkConditions(NetworkConditions.builder().withLatency(50).build())
+			.build();
+
+		run(configuration, (jetty) -> {
+			int serverPort = jetty.getDelegate().getBean(ServerConnector.class).getLocalPort();
+			assertThat(jetty.getPort()).isNotEqualTo(serverPort);
+			assertThat(jetty.getUrl()).isEqualTo(localhost(jetty.getPort()));
+
+			HttpClient client = OkHttpClient.defaultOkHttpClient(jetty);
+
+			try {
+				long start = System.nanoTime();
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+
+				// Both the request and the response are delayed by the latency.
+				assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	private static String sendAndReadUntilClosed(int port, String requests) {
+		try (Socket socket = new Socket("localhost", port)) {
+			socket.setSoTimeout(5000);
+			socket.getOutputStream().write(requests.getBytes(StandardCharsets.US_ASCII));
+			socket.getOutputStream().flush();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int read;
+			while ((read = socket.getInputStream().read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+
+			return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
 	private static void run(Consumer<EmbeddedJetty> testFn) {
 		EmbeddedJetty jetty = new EmbeddedJetty();
 		doRun(jetty, () -> testFn.accept(jetty));
@@ -162,4 +809,86 @@ class EmbeddedJettyTest {
 			jetty.stop();
 		}
 	}
+
+	public static class TestListener implements ServletContextListener {
+		@Override
+		public void contextInitialized(ServletContextEvent event) {
+			event.getServletContext().setAttribute("listener", "listener");
+		}
+
+		@Override
+		public void contextDestroyed(ServletContextEvent event) {
+		}
+	}
+
+	public static class TestFilter implements Filter {
+		@Override
+		public void init(FilterConfig filterConfig) {
+		}
+
+		@Override
+		public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+			request.setAttribute("filter", "filter");
+			chain.doFilter(request, response);
+		}
+
+		@Override
+		public void destroy() {
+		}
+	}
+
+	public static class TestServlet extends HttpServlet {
+		@Override
+		protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+			resp.getWriter().print(req.getAttribute("filter") + ":" + getServletContext().getAttribute("listener"));
+		}
+	}
+
+	public static class SessionServlet extends HttpServlet {
+		@Override
+		protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+			resp.getWriter().print(req.getSession(true).getId());
+		}
+	}
+
+	private static boolean containsFile(Path directory, String name) {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			return paths.anyMatch((path) -> path.getFileName().toString().equals(name));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static File createWar(Path war) throws IOException {
+		return createArchive(war, "index.html");
+	}
+
+	private static File createArchive(Path archive, String... entries) throws IOException {
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+			for (String entry : entries) {
+				zip.putNextEntry(new ZipEntry(entry));
+				if (!entry.endsWith("/")) {
+					zip.write("<p>Hello World</p>".getBytes(StandardCharsets.UTF_8));
+				}
+
+				zip.closeEntry();
+			}
+		}
+
+		return archive.toFile();
+	}
+
+	// Poll given supplier until its result matches given predicate, or until a 5 seconds timeout: some statistics
+	// are only updated once the response has been sent, i.e possibly after the client received it.
+	private static <T> T await(Supplier<T> supplier, Predicate<T> predicate) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		T result = supplier.get();
+		while (!predicate.test(result) && System.nanoTime() < deadline) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+			result = supplier.get();
+		}
+
+		return result;
+	}
 }
@@ -0,0 +1,222 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.jetty12core;
+
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notBlank;
+import static com.github.mjeanroy.junit.servers.commons.lang.Preconditions.notNull;
+
+/// A small route DSL, built on top of the jetty core handler API (i.e without any servlet):
+/// the created handler can be mounted directly on the server to start a fast stub server.
+///
+/// For example:
+///
+/// ```java
+/// Handler handler = JettyRoutes.builder()
+///   .get("/ping", "pong")
+///   .route("POST", "/users", (request, response, callback) -> {
+///     response.setStatus(201);
+///     callback.succeeded();
+///     return true;
+///   })
+///   .build();
+///
+/// EmbeddedJetty jetty = new EmbeddedJetty(
+///   EmbeddedJettyConfiguration.builder().withHandler(handler).build()
+/// );
+/// ```
+///
+/// Requests are matched on the exact request method and path (relative to the context):
+/// - If no route matches the request path, a `404` is returned.
+/// - If a route matches the request path, but not the request method, a `405` is returned, with an `Allow`
+///   header listing the methods handled on this path.
+public final class JettyRoutes {
+
+	/// Default content type of static responses.
+	private static final String DEFAULT_CONTENT_TYPE = "text/plain;charset=utf-8";
+
+	// Ensure non instantiation.
+	private JettyRoutes() {
+	}
+
+	/// Create new routes builder.
+	///
+	/// @return The builder.
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/// Routes builder.
+	public static final class Builder {
+
+		/// Routes, indexed by path, then by method.
+		private final Map<String, Map<String, Request.Handler>> routes;
+
+		private Builder() {
+			this.routes = new LinkedHashMap<>();
+		}
+
+		/// Add a route handling given method and path.
+		///
+		/// @param method Request method.
+		/// @param path Request path.
+		/// @param handler Request handler.
+		/// @return this
+		/// @throws NullPointerException If one of the parameters is `null`.
+		/// @throws IllegalArgumentException If `method` or `path` are blank.
+		public Builder route(String method, String path, Request.Handler handler) {
+			notBlank(method, "method");
+			notBlank(path, "path");
+			notNull(handler, "handler");
+			routes.computeIfAbsent(path, (key) -> new LinkedHashMap<>()).put(method.toUpperCase(Locale.ROOT), handler);
+			return this;
+		}
+
+		/// Add a route returning a static response.
+		///
+		/// @param method Request method.
+		/// @param path Request path.
+		/// @param status Response status.
+		/// @param contentType Response content type.
+		/// @param body Response body.
+		/// @return this
+		/// @throws NullPointerException If one of the parameters is `null`.
+		/// @throws IllegalArgumentException If `method` or `path` are blank.
+		public Builder route(String method, String path, int status, String contentType, String body) {
+			notBlank(contentType, "contentType");
+			notNull(body, "body");
+			return route(method, path, (request, response, callback) -> {
+				response.setStatus(status);
+				response.getHeaders().put(HttpHeader.CONTENT_TYPE, contentType);
+				Content.Sink.write(response, true, body, callback);
+				return true;
+			});
+		}
+
+		/// Add a `GET` route.
+		///
+		/// @param path Request path.
+		/// @param handler Request handler.
+		/// @return this
+		/// @see #route(String, String, Request.Handler)
+		public Builder get(String path, Request.Handler handler) {
+			return route("GET", path, handler);
+		}
+
+		/// Add a `GET` route returning a `200` plain text response.
+		///
+		/// @param path Request path.
+		/// @param body Response body.
+		/// @return this
+		/// @see #route(String, String, int, String, String)
+		public Builder get(String path, String body) {
+			return route("GET", path, HttpStatus.OK_200, DEFAULT_CONTENT_TYPE, body);
+		}
+
+		/// Add a `POST` route.
+		///
+		/// @param path Request path.
+		/// @param handler Request handler.
+		/// @return this
+		/// @see #route(String, String, Request.Handler)
+		public Builder post(String path, Request.Handler handler) {
+			return route("POST", path, handler);
+		}
+
+		/// Add a `PUT` route.
+		///
+		/// @param path Request path.
+		/// @param handler Request handler.
+		/// @return this
+		/// @see #route(String, String, Request.Handler)
+		public Builder put(String path, Request.Handler handler) {
+			return route("PUT", path, handler);
+		}
+
+		/// Add a `DELETE` route.
+		///
+		/// @param path Request path.
+		/// @param handler Request handler.
+		/// @return this
+		/// @see #route(String, String, Request.Handler)
+		public Builder delete(String path, Request.Handler handler) {
+			return route("DELETE", path, handler);
+		}
+
+		/// Build the jetty handler.
+		///
+		/// @return The handler.
+		public Handler build() {
+			Map<String, Map<String, Request.Handler>> copy = new LinkedHashMap<>();
+			routes.forEach((path, handlers) -> copy.put(path, new LinkedHashMap<>(handlers)));
+			return new RoutesHandler(copy);
+		}
+	}
+
+	/// The jetty handler dispatching requests to routes.
+	private static final class RoutesHandler extends Handler.Abstract {
+
+		/// Routes, indexed by path, then by method.
+		private final Map<String, Map<String, Request.Handler>> routes;
+
+		private RoutesHandler(Map<String, Map<String, Request.Handler>> routes) {
+			this.routes = routes;
+		}
+
+		@Override
+		public boolean handle(Request request, Response response, Callback callback) throws Exception {
+			Map<String, Request.Handler> handlers = routes.get(Request.getPathInContext(request));
+			if (handlers == null) {
+				return false;
+			}
+
+			Request.Handler handler = handlers.get(request.getMethod());
+			if (handler == null) {
+				response.getHeaders().put(HttpHeader.ALLOW, String.join(", ", handlers.keySet()));
+				Response.writeError(request, response, callback, HttpStatus.METHOD_NOT_ALLOWED_405);
+				return true;
+			}
+
+			return handler.handle(request, response, callback);
+		}
+
+		@Override
+		public String toString() {
+			return "JettyRoutes" + routes.keySet();
+		}
+	}
+}
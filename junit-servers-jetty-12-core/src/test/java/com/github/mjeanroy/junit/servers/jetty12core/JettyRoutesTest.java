@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.github.mjeanroy.junit.servers.jetty12core;
+
+import com.github.mjeanroy.junit.servers.testing.HttpTestUtils.HttpResponse;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import static com.github.mjeanroy.junit.servers.testing.HttpTestUtils.get;
+import static com.github.mjeanroy.junit.servers.testing.HttpTestUtils.localhost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JettyRoutesTest {
+
+	@Test
+	void it_should_dispatch_requests_to_routes() throws Exception {
+		Handler handler = JettyRoutes.builder()
+			.get("/ping", "pong")
+			.build();
+
+		run(handler, (port) -> {
+			HttpResponse ping = get(localhost(port, "/ping"));
+			assertThat(ping.getStatusCode()).isEqualTo(200);
+			assertThat(ping.getResponseBody()).isEqualTo("pong");
+
+			HttpResponse notFound = get(localhost(port, "/missing"));
+			assertThat(notFound.getStatusCode()).isEqualTo(404);
+		});
+	}
+
+	@Test
+	void it_should_return_allowed_methods_with_method_not_allowed() throws Exception {
+		Handler handler = JettyRoutes.builder()
+			.get("/users", "[]")
+			.post("/users", (request, response, callback) -> {
+				response.setStatus(201);
+				callback.succeeded();
+				return true;
+			})
+			.build();
+
+		run(handler, (port) -> {
+			HttpURLConnection connection = (HttpURLConnection) new URL(localhost(port, "/users")).openConnection();
+			try {
+				connection.setRequestMethod("DELETE");
+				assertThat(connection.getResponseCode()).isEqualTo(405);
+				assertThat(connection.getHeaderField("Allow")).isEqualTo("GET, POST");
+			}
+			finally {
+				connection.disconnect();
+			}
+		});
+	}
+
+	private static void run(Handler handler, PortConsumer consumer) throws Exception {
+		Server server = new Server(0);
+		server.setHandler(handler);
+		server.start();
+
+		try {
+			consumer.accept(((ServerConnector) server.getConnectors()[0]).getLocalPort());
+		}
+		finally {
+			server.stop();
+		}
+	}
+
+	@FunctionalInterface
+	private interface PortConsumer {
+		void accept(int port) throws IOException;
+	}
+}
@@ -26,18 +26,58 @@ package com.github.mjeanroy.junit.servers.jetty12ee11;
 
 import com.github.mjeanroy.junit.servers.jetty.AbstractBaseEmbeddedJetty;
 import com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration;
+import com.github.mjeanroy.junit.servers.servers.AccessRecord;
+import com.github.mjeanroy.junit.servers.servers.FilterDefinition;
+import com.github.mjeanroy.junit.servers.servers.ServerStatistics;
+import com.github.mjeanroy.junit.servers.servers.ServletDefinition;
+import com.github.mjeanroy.junit.servers.servers.SessionStatistics;
+import jakarta.servlet.Filter;
 import org.eclipse.jetty.ee11.annotations.AnnotationConfiguration;
+import org.eclipse.jetty.ee11.servlet.FilterHolder;
+import org.eclipse.jetty.ee11.servlet.FilterMapping;
+import org.eclipse.jetty.ee11.servlet.ListenerHolder;
+import org.eclipse.jetty.ee11.servlet.ServletContextHandler;
+import org.eclipse.jetty.ee11.servlet.ServletHandler;
+import org.eclipse.jetty.ee11.servlet.ServletHolder;
+import org.eclipse.jetty.ee11.servlet.ServletMapping;
 import org.eclipse.jetty.ee11.webapp.FragmentConfiguration;
 import org.eclipse.jetty.ee11.webapp.JettyWebXmlConfiguration;
 import org.eclipse.jetty.ee11.webapp.MetaInfConfiguration;
 import org.eclipse.jetty.ee11.webapp.WebAppContext;
 import org.eclipse.jetty.ee11.webapp.WebInfConfiguration;
 import org.eclipse.jetty.ee11.webapp.WebXmlConfiguration;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpHeaderValue;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.server.ConnectionMetaData;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.NetworkConnectionLimit;
+import org.eclipse.jetty.server.RequestLog;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.ContextHandler;
+import org.eclipse.jetty.server.handler.StatisticsHandler;
+import org.eclipse.jetty.session.AbstractSessionManager;
+import org.eclipse.jetty.session.DefaultSessionCache;
+import org.eclipse.jetty.session.DefaultSessionIdManager;
+import org.eclipse.jetty.session.HouseKeeper;
+import org.eclipse.jetty.session.NullSessionDataStore;
+import org.eclipse.jetty.session.SessionCache;
+import org.eclipse.jetty.session.SessionIdManager;
+import org.eclipse.jetty.unixdomain.server.UnixDomainServerConnector;
+import org.eclipse.jetty.util.component.LifeCycle;
 import org.eclipse.jetty.util.resource.Resource;
 import org.eclipse.jetty.util.resource.ResourceFactory;
 
 import java.io.File;
 import java.net.URI;
+import java.nio.file.Path;
+import java.util.EventListener;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static com.github.mjeanroy.junit.servers.jetty.EmbeddedJettyConfiguration.defaultConfiguration;
 
@@ -81,6 +121,49 @@ public class EmbeddedJetty extends AbstractBaseEmbeddedJetty<WebAppContext, Embe
 		webAppContext.setTempDirectory(new File(tempDirectory));
 	}
 
+	@Override
+	protected final void setPersistTempDirectory(WebAppContext webAppContext, boolean persistTempDirectory) {
+		webAppContext.setTempDirectoryPersistent(persistTempDirectory);
+	}
+
+	@Override
+	protected final void useInMemorySessions(WebAppContext webAppContext) {
+		final AbstractSessionManager sessionManager = webAppContext.getSessionHandler();
+		final DefaultSessionCache sessionCache = new DefaultSessionCache(sessionManager);
+		sessionCache.setSessionDataStore(new NullSessionDataStore());
+		sessionCache.setEvictionPolicy(SessionCache.NEVER_EVICT);
+		sessionCache.setInvalidateOnShutdown(false);
+		sessionManager.setSessionCache(sessionCache);
+	}
+
+	@Override
+	protected final void setSessionScavengeInterval(WebAppContext webAppContext, int interval) throws Exception {
+		final SessionIdManager sessionIdManager = webAppContext.getSessionHandler().getSessionIdManager();
+		final HouseKeeper houseKeeper = sessionIdManager instanceof DefaultSessionIdManager ?
+			((DefaultSessionIdManager) sessionIdManager).getSessionHouseKeeper() :
+			null;
+
+		if (houseKeeper != null) {
+			houseKeeper.setIntervalSec(interval);
+		}
+	}
+
+	@Override
+	protected final SessionStatistics readSessionStatistics(WebAppContext webAppContext) {
+		final AbstractSessionManager sessionManager = webAppContext.getSessionHandler();
+		final SessionCache sessionCache = sessionManager.getSessionCache();
+		if (!(sessionCache instanceof DefaultSessionCache)) {
+			return SessionStatistics.of(0, 0, sessionManager.getSessionsCreated());
+		}
+
+		final DefaultSessionCache defaultSessionCache = (DefaultSessionCache) sessionCache;
+		return SessionStatistics.of(
+			defaultSessionCache.getSessionsCurrent(),
+			defaultSessionCache.getSessionsMax(),
+			sessionManager.getSessionsCreated()
+		);
+	}
+
 	@Override
 	protected final void configure(WebAppContext webAppContext) {
 		webAppContext.addConfiguration(new WebInfConfiguration());
@@ -90,7 +173,8 @@ public class EmbeddedJetty extends AbstractBaseEmbeddedJetty<WebAppContext, Embe
 		webAppContext.addConfiguration(new MetaInfConfiguration());
 		webAppContext.addConfiguration(new FragmentConfiguration());
 
-		if (webAppContext.getBaseResource() == null) {
+		// A WAR archive is resolved (and extracted) by the WebInfConfiguration.
+		if (webAppContext.getBaseResource() == null && webAppContext.getWar() == null) {
 			webAppContext.removeConfiguration(WebInfConfiguration.class);
 		}
 	}
@@ -105,6 +189,11 @@ public class EmbeddedJetty extends AbstractBaseEmbeddedJetty<WebAppContext, Embe
 		webAppContext.setWarResource(war);
 	}
 
+	@Override
+	protected final void setExtractWar(WebAppContext webAppContext, boolean extractWar) {
+		webAppContext.setExtractWAR(extractWar);
+	}
+
 	@Override
 	protected final void addContainerResources(WebAppContext webAppContext, Resource containerResources) {
 		webAppContext.getMetaData().addContainerResource(containerResources);
@@ -112,8 +201,67 @@ public class EmbeddedJetty extends AbstractBaseEmbeddedJetty<WebAppContext, Embe
 
 	@Override
 	public final Object getServletContext() {
-		WebAppContext webAppContext = getWebAppContext();
-		return webAppContext == null ? null : webAppContext.getServletContext();
+		ServletContextHandler servletContextHandler = (ServletContextHandler) getContextHandler();
+		return servletContextHandler == null ? null : servletContextHandler.getServletContext();
+	}
+
+	@Override
+	protected final ContextHandler newServletContextHandler() {
+		return new ServletContextHandler(ServletContextHandler.SESSIONS);
+	}
+
+	@Override
+	protected final void addServlet(ContextHandler context, ServletDefinition servlet) {
+		ServletHolder holder = new ServletHolder();
+		holder.setName(servlet.getName());
+		holder.setClassName(servlet.getServletClass().getName());
+		holder.setInitParameters(servlet.getInitParameters());
+		holder.setInitOrder(servlet.getLoadOnStartup());
+
+		ServletMapping mapping = new ServletMapping();
+		mapping.setServletName(servlet.getName());
+		mapping.setPathSpecs(servlet.getMappings().toArray(new String[0]));
+
+		ServletHandler servletHandler = ((ServletContextHandler) context).getServletHandler();
+		servletHandler.addServlet(holder);
+		servletHandler.addServletMapping(mapping);
+	}
+
+	@Override
+	protected final void addFilter(ContextHandler context, FilterDefinition filter) {
+		FilterHolder holder = new FilterHolder();
+		holder.setName(filter.getName());
+		holder.setClassName(filter.getFilterClass().getName());
+		holder.setInitParameters(filter.getInitParameters());
+
+		FilterMapping mapping = new FilterMapping();
+		mapping.setFilterName(filter.getName());
+		mapping.setPathSpecs(filter.getUrlPatterns().toArray(new String[0]));
+
+		ServletHandler servletHandler = ((ServletContextHandler) context).getServletHandler();
+		servletHandler.addFilter(holder);
+		servletHandler.addFilterMapping(mapping);
+	}
+
+	@Override
+	protected final void prependFilter(ContextHandler context, String name, Function<Class<?>, Object> filterFactory) {
+		FilterHolder holder = new FilterHolder((Filter) filterFactory.apply(Filter.class));
+		holder.setName(name);
+
+		FilterMapping mapping = new FilterMapping();
+		mapping.setFilterName(name);
+		mapping.setPathSpec("/*");
+
+		ServletHandler servletHandler = ((ServletContextHandler) context).getServletHandler();
+		servletHandler.addFilter(holder);
+		servletHandler.prependFilterMapping(mapping);
+	}
+
+	@Override
+	protected final void addListener(ContextHandler context, Class<? extends EventListener> listener) {
+		ListenerHolder holder = new ListenerHolder();
+		holder.setClassName(listener.getName());
+		((ServletContextHandler) context).getServletHandler().addListener(holder);
 	}
 
 	@Override
@@ -131,8 +279,74 @@ public class EmbeddedJetty extends AbstractBaseEmbeddedJetty<WebAppContext, Embe
 		return ResourceFactory.of(webAppContext).newResource(resource);
 	}
 
+	@Override
+	protected final Resource combine(List<Resource> resources) {
+		return ResourceFactory.combine(resources);
+	}
+
+	@Override
+	protected final void addUnixDomainConnector(Server server, HttpConfiguration httpConfiguration, Path path) {
+		UnixDomainServerConnector connector = new UnixDomainServerConnector(server, new HttpConnectionFactory(httpConfiguration));
+		connector.setUnixDomainPath(path);
+		server.addConnector(connector);
+	}
+
 	@Override
 	protected final void setInitParameter(WebAppContext webAppContext, String name, Object value) {
 		webAppContext.setInitParameter(name, String.valueOf(value));
 	}
+
+	@Override
+	protected final Handler newStatisticsHandler(Handler handler) {
+		return new StatisticsHandler(handler);
+	}
+
+	@Override
+	protected final void readStatistics(Handler statisticsHandler, ServerStatistics.Builder builder) {
+		StatisticsHandler handler = (StatisticsHandler) statisticsHandler;
+		builder.withRequestCount(handler.getRequestTotal())
+			.withActiveRequests(handler.getRequestsActive())
+			.withMaxActiveRequests(handler.getRequestsActiveMax())
+			.withErrorCount(handler.getResponses4xx() + handler.getResponses5xx())
+			.withDispatchTimeMean(handler.getHandleTimeMean())
+			.withDispatchTimeStdDev(handler.getHandleTimeStdDev())
+			.withDispatchTimeMax(handler.getHandleTimeMax())
+			.withBytesReceived(handler.getBytesRead())
+			.withBytesSent(handler.getBytesWritten());
+	}
+
+	@Override
+	protected final void resetStatistics(Handler statisticsHandler) {
+		((StatisticsHandler) statisticsHandler).reset();
+	}
+
+	@Override
+	protected final RequestLog newRequestLog(Consumer<AccessRecord> accessLog) {
+		return (request, response) -> accessLog.accept(AccessRecord.of(
+			request.getMethod(),
+			request.getHttpURI().getPathQuery(),
+			response.getStatus(),
+			Response.getContentBytesWritten(response),
+			System.nanoTime() - request.getBeginNanoTime(),
+			Thread.currentThread().getName()
+		));
+	}
+
+	@Override
+	protected final LifeCycle newConnectionLimit(Server server, int maxConnections) {
+		// ConnectionLimit is deprecated for removal since jetty 12.1.
+		return new NetworkConnectionLimit(maxConnections, server);
+	}
+
+	@Override
+	protected final HttpConfiguration.Customizer newKeepAliveLimit(int maxKeepAliveRequests) {
+		return (request, responseHeaders) -> {
+			ConnectionMetaData connectionMetaData = request.getConnectionMetaData();
+			if (connectionMetaData.getHttpVersion() == HttpVersion.HTTP_1_1 && connectionMetaData.getConnection().getMessagesIn() >= maxKeepAliveRequests) {
+				responseHeaders.put(HttpHeader.CONNECTION, HttpHeaderValue.CLOSE);
+			}
+
+			return request;
+		};
+	}
 }
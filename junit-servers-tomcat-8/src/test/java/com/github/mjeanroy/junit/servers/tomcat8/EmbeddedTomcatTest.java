@@ -24,18 +24,68 @@
 
 package com.github.mjeanroy.junit.servers.tomcat8;
 
+import com.github.mjeanroy.junit.servers.client.HttpClient;
+import com.github.mjeanroy.junit.servers.client.impl.okhttp3.OkHttpClient;
+import com.github.mjeanroy.junit.servers.servers.AccessRecord;
+import com.github.mjeanroy.junit.servers.servers.Compression;
+import com.github.mjeanroy.junit.servers.servers.LatencyStatistics;
+import com.github.mjeanroy.junit.servers.servers.NetworkConditions;
+import com.github.mjeanroy.junit.servers.servers.ProcessorStatistics;
+import com.github.mjeanroy.junit.servers.servers.ResourceCacheStatistics;
+import com.github.mjeanroy.junit.servers.servers.ServerStatistics;
+import com.github.mjeanroy.junit.servers.servers.SessionStatistics;
+import com.github.mjeanroy.junit.servers.servers.Span;
+import com.github.mjeanroy.junit.servers.servers.TraceContext;
+import com.github.mjeanroy.junit.servers.servers.WorkDirectory;
 import com.github.mjeanroy.junit.servers.testing.HttpTestUtils.HttpResponse;
 import com.github.mjeanroy.junit.servers.testing.IoTestUtils.TempFile;
 import com.github.mjeanroy.junit.servers.tomcat.EmbeddedTomcatConfiguration;
 import org.apache.catalina.Container;
 import org.apache.catalina.Context;
 import org.apache.catalina.LifecycleState;
+import org.apache.catalina.WebResourceRoot;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletContainerInitializer;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static com.github.mjeanroy.junit.servers.testing.HttpTestUtils.get;
 import static com.github.mjeanroy.junit.servers.testing.HttpTestUtils.localhost;
@@ -185,6 +235,694 @@ class EmbeddedTomcatTest {
 		});
 	}
 
+	@Test
+	void it_should_enable_h2c() {
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.enableHttp2()
+			.build();
+
+		run(configuration, (tomcat) -> {
+			UpgradeProtocol[] upgradeProtocols = tomcat.getDelegate().getConnector().findUpgradeProtocols();
+			assertThat(upgradeProtocols).hasSize(1);
+			assertThat(upgradeProtocols[0]).isInstanceOf(Http2Protocol.class);
+
+			HttpResponse rsp = get(tomcat.getUrl() + "hello-world.html");
+			assertThat(rsp.getStatusCode()).isEqualTo(200);
+		});
+	}
+
+	@Test
+	void it_should_start_lightweight_context() {
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp("does-not-exist")
+			.enableLightweight()
+			.withListener(TestListener.class)
+			.withFilter(TestFilter.class, "/*")
+			.withServlet(TestServlet.class, "/test")
+			.withInitializer(TestInitializer.class)
+			.build();
+
+		run(configuration, (tomcat) -> {
+			Context ctx = readPrivate(tomcat, "context");
+			assertThat(ctx).isNotNull();
+			assertThat(ctx.findChild("default")).isNull();
+			assertThat(ctx.findChild("jsp")).isNull();
+
+			HttpResponse rsp = get(tomcat.getUrl() + "test");
+			assertThat(rsp.getStatusCode()).isEqualTo(200);
+			assertThat(rsp.getResponseBody()).isEqualTo("filter:listener:initializer");
+		});
+	}
+
+	@Test
+	void it_should_serve_static_files_with_sendfile() {
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.enableSendfile()
+			.withSendfileSize(1)
+			.build();
+
+		run(configuration, (tomcat) -> {
+			assertThat(tomcat.getDelegate().getConnector().getProperty("useSendfile")).isEqualTo(true);
+
+			Context ctx = readPrivate(tomcat, "context");
+			Wrapper defaultServlet = (Wrapper) ctx.findChild("default");
+			assertThat(defaultServlet.findInitParameter("sendfileSize")).isEqualTo("1");
+
+			for (int i = 0; i < 2; i++) {
+				HttpResponse rsp = get(tomcat.getUrl() + "hello-world.html");
+				assertThat(rsp.getStatusCode()).isEqualTo(200);
+				assertThat(rsp.getResponseBody()).contains("Hello World");
+			}
+
+			ResourceCacheStatistics statistics = tomcat.getResourceCacheStatistics();
+			assertThat(statistics).isNotNull();
+			assertThat(statistics.getLookupCount()).isPositive();
+			assertThat(statistics.getHitCount()).isPositive();
+			assertThat(statistics.getHitRate()).isBetween(0.0, 1.0);
+			assertThat(statistics.getMaxSize()).isPositive();
+		});
+	}
+
+	@Test
+	void it_should_configure_resources_cache() {
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withCacheMaxSize(20480)
+			.withCacheObjectMaxSize(256)
+			.withCacheTtl(10000)
+			.build();
+
+		run(configuration, (tomcat) -> {
+			Context ctx = readPrivate(tomcat, "context");
+			WebResourceRoot resources = ctx.getResources();
+			assertThat(resources.isCachingAllowed()).isTrue();
+			assertThat(resources.getCacheMaxSize()).isEqualTo(20480);
+			assertThat(resources.getCacheObjectMaxSize()).isEqualTo(256);
+			assertThat(resources.getCacheTtl()).isEqualTo(10000);
+
+			ResourceCacheStatistics before = tomcat.getResourceCacheStatistics();
+			for (int i = 0; i < 2; i++) {
+				assertThat(get(tomcat.getUrl() + "hello-world.html").getStatusCode()).isEqualTo(200);
+			}
+
+			ResourceCacheStatistics after = tomcat.getResourceCacheStatistics();
+			assertThat(after.getMaxSize()).isEqualTo(20480 * 1024);
+			assertThat(after.getLookupCount()).isGreaterThan(before.getLookupCount());
+			assertThat(after.getHitCount()).isGreaterThan(before.getHitCount());
+			assertThat(after.getMissCount()).isGreaterThanOrEqualTo(before.getMissCount());
+		});
+	}
+
+	@Test
+	void it_should_configure_resources_cache_without_classpath(@TempDir File webapp) {
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.enableLightweight()
+			.disableCaching()
+			.build();
+
+		run(configuration, (tomcat) -> {
+			Context ctx = readPrivate(tomcat, "context");
+			assertThat(ctx.getResources().isCachingAllowed()).isFalse();
+			assertThat(tomcat.getResourceCacheStatistics()).isNotNull();
+		});
+	}
+
+	@Test
+	void it_should_compress_responses(@TempDir File webapp) throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			content.append("Hello World ").append(i).append("\n");
+		}
+
+		Files.write(new File(webapp, "static.txt").toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+		Compression compression = Compression.builder()
+			.withMinSize(1024)
+			.withMimeType("text/plain")
+			.build();
+
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.withCompression(compression)
+			.build();
+
+		run(configuration, (tomcat) -> {
+			assertThat(tomcat.getDelegate().getConnector().getProperty("compression")).isEqualTo("on");
+			assertThat(tomcat.getDelegate().getConnector().getProperty("compressionMinSize")).isEqualTo(1024);
+
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				com.github.mjeanroy.junit.servers.client.HttpResponse rsp = client.prepareGet("/static.txt").execute();
+				assertThat(rsp.status()).isEqualTo(200);
+				assertThat(rsp.body()).isEqualTo(content.toString());
+				assertThat(rsp.getDecodedBodySize()).isEqualTo(content.length());
+				assertThat(rsp.getEncodedBodySize()).isPositive().isLessThan(rsp.getDecodedBodySize());
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_collect_statistics(@TempDir File webapp) throws IOException {
+		Files.write(new File(webapp, "static.txt").toPath(), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.build();
+
+		run(configuration, (tomcat) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+				assertThat(client.prepareGet("/missing.txt").execute().status()).isEqualTo(404);
+
+				// Statistics of a request are updated once the response has been sent, so wait for busy threads to complete.
+				ServerStatistics statistics = await(tomcat::getStatistics, (snapshot) -> snapshot.getBusyThreads() == 0);
+				assertThat(statistics.getRequestCount()).isEqualTo(3);
+				assertThat(statistics.getErrorCount()).isEqualTo(1);
+				assertThat(statistics.getBytesReceived()).isNotNegative();
+				assertThat(statistics.getBytesSent()).isPositive();
+				assertThat(statistics.getDispatchTimeMean()).isNotNegative();
+				assertThat(statistics.getDispatchTimeMax()).isNotNegative();
+				assertThat(statistics.getBusyThreads()).isZero();
+				assertThat(statistics.getThreads()).isPositive();
+				assertThat(statistics.getMaxThreads()).isGreaterThanOrEqualTo(statistics.getThreads());
+				assertThat(statistics.getQueueSize()).isZero();
+				assertThat(statistics.getProcessors()).isNotEmpty().allSatisfy((processor) ->
+					assertThat(processor.getMaxProcessingTime()).isGreaterThanOrEqualTo(processor.getLastProcessingTime())
+				);
+				assertThat(statistics.getProcessors().stream().mapToLong(ProcessorStatistics::getRequestCount).sum()).isBetween(1L, 3L);
+
+				tomcat.resetStatistics();
+
+				ServerStatistics resetStatistics = tomcat.getStatistics();
+				assertThat(resetStatistics.getRequestCount()).isZero();
+				assertThat(resetStatistics.getErrorCount()).isZero();
+				assertThat(resetStatistics.getBytesSent()).isZero();
+				assertThat(resetStatistics.getProcessors()).allSatisfy((processor) ->
+					assertThat(processor.getRequestCount()).isZero()
+				);
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_not_collect_statistics_before_start() {
+		EmbeddedTomcat tomcat = new EmbeddedTomcat(defaultConfiguration());
+		assertThat(tomcat.getStatistics()).isNull();
+	}
+
+	@Test
+	void it_should_record_request_latencies(@TempDir File webapp) throws IOException {
+		Files.write(new File(webapp, "static.txt").toPath(), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.enableRequestLatency()
+			.build();
+
+		run(configuration, (tomcat) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+				assertThat(client.prepareGet("/missing.txt").execute().status()).isEqualTo(404);
+
+				// Latency of a request is recorded once the filter chain returns, which may be after the response has been received.
+				Map<String, LatencyStatistics> latencies = await(tomcat::getRequestLatencies, (snapshot) -> snapshot.values().stream().mapToLong(LatencyStatistics::getCount).sum() >= 3);
+				assertThat(latencies).isNotEmpty();
+				assertThat(latencies.values()).allSatisfy((statistics) -> {
+					assertThat(statistics.getCount()).isPositive();
+					assertThat(statistics.getP50()).isPositive().isLessThanOrEqualTo(statistics.getP99());
+					assertThat(statistics.getP99()).isLessThanOrEqualTo(statistics.getP999());
+					assertThat(statistics.getP999()).isLessThanOrEqualTo(statistics.getMax());
+				});
+
+				tomcat.resetRequestLatencies();
+				assertThat(tomcat.getRequestLatencies()).isEmpty();
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_not_record_request_latencies_by_default() {
+		run((tomcat) -> {
+			assertThat(tomcat.getRequestLatencies()).isNull();
+		});
+	}
+
+	@Test
+	void it_should_redeploy() {
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withListener(TestListener.class)
+			.withFilter(TestFilter.class, "/*")
+			.withServlet(TestServlet.class, "/test")
+			.withInitializer(TestInitializer.class)
+			.enableRequestLatency()
+			.build();
+
+		run(configuration, (tomcat) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				int port = tomcat.getPort();
+				tomcat.getServletContext().setAttribute("redeploy", "redeploy");
+				assertThat(client.prepareGet("/test").execute().body()).isEqualTo("filter:listener:initializer");
+
+				tomcat.redeploy();
+
+				assertThat(tomcat.isStarted()).isTrue();
+				assertThat(tomcat.getPort()).isEqualTo(port);
+				assertThat(tomcat.getServletContext().getAttribute("redeploy")).isNull();
+				assertThat(client.prepareGet("/test").execute().body()).isEqualTo("filter:listener:initializer");
+				// Latency of a request is recorded once the filter chain returns, which may be after the response has been received.
+				Map<String, LatencyStatistics> latencies = await(tomcat::getRequestLatencies, (snapshot) -> snapshot.values().stream().mapToLong(LatencyStatistics::getCount).sum() >= 2);
+				assertThat(latencies).containsKey("/test");
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_deploy_additional_contexts(@TempDir File webapp) throws IOException {
+		Files.write(new File(webapp, "static.txt").toPath(), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withListener(TestListener.class)
+			.withFilter(TestFilter.class, "/*")
+			.withServlet(TestServlet.class, "/test")
+			.withInitializer(TestInitializer.class)
+			.withContext("/other", webapp.getAbsolutePath())
+			.build();
+
+		run(configuration, (tomcat) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				assertThat(client.prepareGet("/test").execute().body()).isEqualTo("filter:listener:initializer");
+				assertThat(client.prepareGet("/other/static.txt").execute().body()).isEqualTo("Hello World");
+				assertThat(client.prepareGet("/other/test").execute().status()).isEqualTo(404);
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_configure_start_stop_threads_and_background_processing() {
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withStartStopThreads(2)
+			.withBackgroundProcessorDelay(-1)
+			.build();
+
+		run(configuration, (tomcat) -> {
+			Tomcat delegate = tomcat.getDelegate();
+			assertThat(delegate.getEngine().getStartStopThreads()).isEqualTo(2);
+			assertThat(delegate.getHost().getStartStopThreads()).isEqualTo(2);
+			assertThat(delegate.getEngine().getBackgroundProcessorDelay()).isEqualTo(-1);
+
+			HttpResponse rsp = get(tomcat.getUrl() + "hello-world.html");
+			assertThat(rsp.getStatusCode()).isEqualTo(200);
+		});
+	}
+
+	@Test
+	void it_should_precompile_jsp(@TempDir File tmp) throws IOException {
+		File webapp = new File(tmp, "webapp");
+		File cache = new File(tmp, "jsp-cache");
+		Files.createDirectory(webapp.toPath());
+		Files.write(new File(webapp, "index.jsp").toPath(), "<%= 1 + 1 %>".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.enableJspPrecompile()
+			.withJspCacheDirectory(cache)
+			.build();
+
+		run(configuration, (tomcat) -> {
+			assertThat(containsFile(cache.toPath(), "index_jsp.class")).isTrue();
+
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				assertThat(client.prepareGet("/index.jsp").execute().body()).contains("2");
+			}
+			finally {
+				client.destroy();
+			}
+		});
+
+		assertThat(containsFile(cache.toPath(), "index_jsp.class")).isTrue();
+	}
+
+	@Test
+	void it_should_precompile_jsp_over_https(@TempDir File tmp) throws IOException {
+		File webapp = new File(tmp, "webapp");
+		File cache = new File(tmp, "jsp-cache");
+		Files.createDirectory(webapp.toPath());
+		Files.write(new File(webapp, "index.jsp").toPath(), "<%= 1 + 1 %>".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.enableHttps()
+			.enableJspPrecompile()
+			.withJspCacheDirectory(cache)
+			.build();
+
+		run(configuration, (tomcat) -> {
+			assertThat(containsFile(cache.toPath(), "index_jsp.class")).isTrue();
+
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				assertThat(client.prepareGet("/index.jsp").execute().body()).contains("2");
+			}
+			finally {
+				client.destroy();
+			}
+		});
+
+		assertThat(containsFile(cache.toPath(), "index_jsp.class")).isTrue();
+	}
+
+	@Test
+	void it_should_acquire_work_directory_on_startup(@TempDir File root) {
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withWorkDirectory(WorkDirectory.builder().withRoot(root).enableReuse().build())
+			.build();
+
+		EmbeddedTomcat notStarted = new EmbeddedTomcat(configuration);
+		assertThat(notStarted.isStarted()).isFalse();
+		assertThat(root.list()).isEmpty();
+
+		run(configuration, (tomcat) -> {
+			assertThat(root.list()).hasSize(1);
+			assertThat(new File(root, root.list()[0])).isEqualTo(tomcat.getDelegate().getServer().getCatalinaBase());
+		});
+	}
+
+	@Test
+	void it_should_reuse_warm_work_directory(@TempDir File root) {
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withWorkDirectory(WorkDirectory.builder().withRoot(root).enableReuse().build())
+			.build();
+
+		run(configuration, (tomcat) -> {
+			assertThat(root.list()).hasSize(1);
+			assertThat(get(tomcat.getUrl() + "hello-world.html").getStatusCode()).isEqualTo(200);
+		});
+
+		String[] directories = root.list();
+		assertThat(directories).hasSize(1);
+
+		run(configuration, (tomcat) -> {
+			assertThat(root.list()).containsExactly(directories);
+			assertThat(get(tomcat.getUrl() + "hello-world.html").getStatusCode()).isEqualTo(200);
+		});
+	}
+
+	@Test
+	void it_should_use_in_memory_sessions(@TempDir File baseDir) {
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withBaseDir(baseDir.getAbsolutePath())
+			.keepBaseDir()
+			.withServlet(SessionServlet.class, "/session")
+			.enableInMemorySessions()
+			.withSessionScavengeInterval(5)
+			.enableSessionStatistics()
+			.build();
+
+		run(configuration, (tomcat) -> {
+			assertThat(tomcat.getSessionStatistics()).isEqualTo(SessionStatistics.of(0, 0, 0));
+
+			assertThat(get(tomcat.getUrl() + "session").getStatusCode()).isEqualTo(200);
+			assertThat(get(tomcat.getUrl() + "session").getStatusCode()).isEqualTo(200);
+			assertThat(tomcat.getSessionStatistics()).isEqualTo(SessionStatistics.of(2, 2, 2));
+
+			Container context = tomcat.getDelegate().getHost().findChildren()[0];
+			assertThat(context.getBackgroundProcessorDelay()).isEqualTo(5);
+		});
+
+		// Sessions are not persisted on stop.
+		assertThat(containsFile(baseDir.toPath(), "SESSIONS.ser")).isFalse();
+	}
+
+	@Test
+	void it_should_serve_war_without_extraction(@TempDir Path tmp) throws IOException {
+		File baseDir = tmp.resolve("tomcat").toFile();
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withWebapp(createWar(tmp.resolve("app.war")))
+			.withBaseDir(baseDir.getAbsolutePath())
+			.keepBaseDir()
+			.disableWarExtraction()
+			.build();
+
+		run(configuration, (tomcat) -> {
+			assertThat(get(tomcat.getUrl() + "index.html").getStatusCode()).isEqualTo(200);
+			assertThat(containsFile(baseDir.toPath(), "index.html")).isFalse();
+		});
+	}
+
+	@Test
+	void it_should_serve_war_from_cache(@TempDir Path tmp) throws IOException {
+		Path cache = tmp.resolve("cache");
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withWebapp(createWar(tmp.resolve("app.war")))
+			.withWarCacheDirectory(cache.toFile())
+			.build();
+
+		run(configuration, (tomcat) -> assertThat(get(tomcat.getUrl() + "index.html").getStatusCode()).isEqualTo(200));
+		run(configuration, (tomcat) -> assertThat(get(tomcat.getUrl() + "index.html").getStatusCode()).isEqualTo(200));
+
+		try (Stream<Path> directories = Files.list(cache)) {
+			assertThat(directories).hasSize(1);
+		}
+	}
+
+	@Test
+	void it_should_serve_classpath_webapp(@TempDir Path tmp) throws IOException {
+		Path classes = tmp.resolve("classes");
+		Path directory = Files.createDirectories(classes.resolve("fixtures"));
+		Files.write(directory.resolve("directory.html"), "<p>Hello World</p>".getBytes(StandardCharsets.UTF_8));
+		File jar = createArchive(tmp.resolve("fixtures.jar"), "fixtures/", "fixtures/jar.html");
+
+		EmbeddedTomcatConfiguration configuration = defaultConfigurationBuilder()
+			.withClasspathWebapp("fixtures")
+			.build();
+
+		URL[] urls = {classes.toUri().toURL(), jar.toURI().toURL()};
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		try (URLClassLoader classLoader = new URLClassLoader(urls, contextClassLoader)) {
+			Thread.currentThread().setContextClassLoader(classLoader);
+			run(configuration, (tomcat) -> {
+				assertThat(get(tomcat.getUrl() + "directory.html").getStatusCode()).isEqualTo(200);
+				assertThat(get(tomcat.getUrl() + "jar.html").getStatusCode()).isEqualTo(200);
+			});
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(contextClassLoader);
+		}
+	}
+
+	@Test
+	void it_should_serve_https(@TempDir File webapp) throws IOException {
+		Files.write(new File(webapp, "static.txt").toPath(), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.enableHttps()
+			.withSslSessionCacheSize(100)
+			.enableHandshakeStatistics()
+			.build();
+
+		run(configuration, (tomcat) -> {
+			assertThat(tomcat.getScheme()).isEqualTo("https");
+			assertThat(tomcat.getUrl()).startsWith("https://");
+			assertThat(tomcat.getCertificate()).isNotNull();
+
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				com.github.mjeanroy.junit.servers.client.HttpResponse rsp = client.prepareGet("/static.txt").execute();
+				assertThat(rsp.status()).isEqualTo(200);
+				assertThat(rsp.body()).isEqualTo("Hello World");
+
+				LatencyStatistics handshakes = tomcat.getHandshakeStatistics();
+				assertThat(handshakes.getCount()).isEqualTo(1);
+				assertThat(handshakes.getMax()).isPositive();
+
+				tomcat.resetHandshakeStatistics();
+				assertThat(tomcat.getHandshakeStatistics().getCount()).isZero();
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_record_access_log(@TempDir File webapp) throws IOException {
+		Files.write(new File(webapp, "static.txt").toPath(), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.withAccessLogCapacity(2)
+			.build();
+
+		run(configuration, (tomcat) -> {
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				for (int i = 0; i < 3; i++) {
+					assertThat(client.prepareGet("/static.txt").addQueryParam("i", String.valueOf(i)).execute().status()).isEqualTo(200);
+				}
+
+				// A request is added to the access log once it is completed, which may be after the response has been received.
+				List<AccessRecord> accessLog = await(tomcat::getAccessLog, (snapshot) -> snapshot.stream().anyMatch((record) -> record.getUri().equals("/static.txt?i=2")));
+				assertThat(accessLog).hasSize(2);
+				assertThat(accessLog).extracting(AccessRecord::getUri).containsExactly("/static.txt?i=1", "/static.txt?i=2");
+				assertThat(accessLog).allSatisfy((record) -> {
+					assertThat(record.getMethod()).isEqualTo("GET");
+					assertThat(record.getStatus()).isEqualTo(200);
+					assertThat(record.getBytes()).isEqualTo(11);
+					assertThat(record.getDuration()).isNotNegative();
+					assertThat(record.getThread()).isNotEmpty();
+				});
+
+				tomcat.clearAccessLog();
+				assertThat(tomcat.getAccessLog()).isEmpty();
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	@Test
+	void it_should_record_trace_spans(@TempDir File webapp) throws IOException {
+		Files.write(new File(webapp, "static.txt").toPath(), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.enableTracing()
+			.build();
+
+		run(configuration, (tomcat) -> {
+			TraceContext trace = TraceContext.start("EmbeddedTomcatTest#it_should_record_trace_spans");
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+
+				// A server span is recorded once the request has been handled, which may be after the response has been received.
+				List<Span> spans = await(trace::getSpans, (snapshot) -> snapshot.size() >= 2);
+				assertThat(spans).extracting(Span::getKind).containsExactly(Span.Kind.CLIENT, Span.Kind.SERVER);
+
+				Span clientSpan = spans.get(0);
+				Span serverSpan = spans.get(1);
+				assertThat(serverSpan.getTraceId()).isEqualTo(trace.getTraceId());
+				assertThat(serverSpan.getParentId()).isEqualTo(clientSpan.getSpanId());
+				assertThat(serverSpan.getName()).isEqualTo("GET /static.txt");
+				assertThat(serverSpan.getStart()).isGreaterThanOrEqualTo(clientSpan.getStart());
+				assertThat(serverSpan.getDuration()).isPositive();
+			}
+			finally {
+				client.destroy();
+				TraceContext.end();
+			}
+		});
+	}
+
+	@Test
+	void it_should_close_connection_after_max_keep_alive_requests(@TempDir File webapp) throws IOException {
+		Files.write(new File(webapp, "static.txt").toPath(), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.withMaxConnections(10)
+			.withAcceptQueueSize(10)
+			.withIdleTimeout(5000)
+			.withMaxKeepAliveRequests(2)
+			.build();
+
+		run(configuration, (tomcat) -> {
+			Connector connector = tomcat.getDelegate().getConnector();
+			assertThat(connector.getProperty("maxConnections")).isEqualTo(10);
+			assertThat(connector.getProperty("acceptCount")).isEqualTo(10);
+			assertThat(connector.getProperty("connectionTimeout")).isEqualTo(5000);
+
+			// Three pipelined requests: the connection is closed once the second response is sent.
+			String request = "GET /static.txt HTTP/1.1\r\nHost: localhost\r\n\r\n";
+			String responses = sendAndReadUntilClosed(tomcat.getPort(), request + request + request);
+			assertThat(responses.split("HTTP/1.1 200", -1)).hasSize(3);
+			assertThat(responses.toLowerCase()).contains("connection: close");
+		});
+	}
+
+	@Test
+	void it_should_emulate_network_conditions(@TempDir File webapp) throws IOException {
+		Files.write(new File(webapp, "static.txt").toPath(), "Hello World".getBytes(StandardCharsets.UTF_8));
+
+		EmbeddedTomcatConfiguration configuration = EmbeddedTomcatConfiguration.builder()
+			.withWebapp(webapp)
+			.withNetworkConditions(NetworkConditions.builder().withLatency(50).build())
+			.build();
+
+		run(configuration, (tomcat) -> {
+			int serverPort = tomcat.getDelegate().getConnector().getLocalPort();
+			assertThat(tomcat.getPort()).isNotEqualTo(serverPort);
+			assertThat(tomcat.getUrl()).isEqualTo(localhost(tomcat.getPort()));
+
+			HttpClient client = OkHttpClient.defaultOkHttpClient(tomcat);
+
+			try {
+				long start = System.nanoTime();
+				assertThat(client.prepareGet("/static.txt").execute().status()).isEqualTo(200);
+
+				// Both the request and the response are delayed by the latency.
+				assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+			}
+			finally {
+				client.destroy();
+			}
+		});
+	}
+
+	private static String sendAndReadUntilClosed(int port, String requests) {
+		try (Socket socket = new Socket("localhost", port)) {
+			socket.setSoTimeout(5000);
+			socket.getOutputStream().write(requests.getBytes(StandardCharsets.US_ASCII));
+			socket.getOutputStream().flush();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int read;
+			while ((read = socket.getInputStream().read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+
+			return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
 	private static EmbeddedTomcatConfiguration defaultConfiguration() {
 		return defaultConfigurationBuilder().build();
 	}
@@ -231,7 +969,97 @@ class EmbeddedTomcatTest {
 		}
 	}
 
+	private static boolean containsFile(Path directory, String name) {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			return paths.anyMatch((path) -> path.getFileName().toString().equals(name));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static File createWar(Path war) throws IOException {
+		return createArchive(war, "index.html");
+	}
+
+	private static File createArchive(Path archive, String... entries) throws IOException {
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+			for (String entry : entries) {
+				zip.putNextEntry(new ZipEntry(entry));
+				if (!entry.endsWith("/")) {
+					zip.write("<p>Hello World</p>".getBytes(StandardCharsets.UTF_8));
+				}
+
+				zip.closeEntry();
+			}
+		}
+
+		return archive.toFile();
+	}
+
+	// Poll given supplier until its result matches given predicate, or until a 5 seconds timeout: some statistics
+	// are only updated once the response has been sent, i.e possibly after the client received it.
+	private static <T> T await(Supplier<T> supplier, Predicate<T> predicate) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		T result = supplier.get();
+		while (!predicate.test(result) && System.nanoTime() < deadline) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+			result = supplier.get();
+		}
+
+		return result;
+	}
+
 	private static final class WrappedContext {
 		Context ctx = null;
 	}
+
+	public static class TestInitializer implements ServletContainerInitializer {
+		@Override
+		public void onStartup(Set<Class<?>> classes, ServletContext ctx) {
+			ctx.setAttribute("initializer", "initializer");
+		}
+	}
+
+	public static class TestListener implements ServletContextListener {
+		@Override
+		public void contextInitialized(ServletContextEvent event) {
+			event.getServletContext().setAttribute("listener", "listener");
+		}
+
+		@Override
+		public void contextDestroyed(ServletContextEvent event) {
+		}
+	}
+
+	public static class TestFilter implements Filter {
+		@Override
+		public void init(FilterConfig filterConfig) {
+		}
+
+		@Override
+		public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+			request.setAttribute("filter", "filter");
+			chain.doFilter(request, response);
+		}
+
+		@Override
+		public void destroy() {
+		}
+	}
+
+	public static class TestServlet extends HttpServlet {
+		@Override
+		protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+			ServletContext ctx = getServletContext();
+			resp.getWriter().print(req.getAttribute("filter") + ":" + ctx.getAttribute("listener") + ":" + ctx.getAttribute("initializer"));
+		}
+	}
+
+	public static class SessionServlet extends HttpServlet {
+		@Override
+		protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+			resp.getWriter().print(req.getSession(true).getId());
+		}
+	}
 }